@@ -0,0 +1,386 @@
+package com.releasetracker.analytics;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * Set of non-negative ints split into 65536-wide chunks, each stored as a sorted array
+ * while sparse and as a plain bitset once it holds more than 4096 values.
+ */
+public final class CompressedBitmap {
+    
+    private static final int ARRAY_LIMIT = 4096;
+    private static final int BITMAP_WORDS = 1024;
+    
+    private char[] keys;
+    private Container[] containers;
+    private int size;
+    
+    public CompressedBitmap() {
+        this(4);
+    }
+    
+    private CompressedBitmap(int capacity) {
+        keys = new char[capacity];
+        containers = new Container[capacity];
+    }
+    
+    public static CompressedBitmap range(int end) {
+        CompressedBitmap bitmap = new CompressedBitmap(Math.max(1, (end + 0xFFFF) >>> 16));
+        for (int start = 0; start < end; start += 1 << 16) {
+            int count = Math.min(1 << 16, end - start);
+            Container container = new Container();
+            container.words = new long[BITMAP_WORDS];
+            Arrays.fill(container.words, 0, count >>> 6, -1L);
+            if ((count & 63) != 0) {
+                container.words[count >>> 6] = (1L << count) - 1;
+            }
+            container.cardinality = count;
+            bitmap.append((char) (start >>> 16), container);
+        }
+        return bitmap;
+    }
+    
+    public void add(int value) {
+        char key = (char) (value >>> 16);
+        int index = size > 0 && keys[size - 1] == key ? size - 1 : search(key);
+        if (index < 0) {
+            index = -index - 1;
+            insert(index, key, new Container());
+        }
+        containers[index].add((char) value);
+    }
+    
+    public boolean contains(int value) {
+        int index = search((char) (value >>> 16));
+        return index >= 0 && containers[index].contains((char) value);
+    }
+    
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality;
+        }
+        return cardinality;
+    }
+    
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    public CompressedBitmap and(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap(Math.max(1, Math.min(size, other.size)));
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.appendIfNotEmpty(keys[i], Container.and(containers[i], other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+    
+    public CompressedBitmap or(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap(Math.max(1, size + other.size));
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            if (j == other.size || (i < size && keys[i] < other.keys[j])) {
+                result.append(keys[i], containers[i].copy());
+                i++;
+            } else if (i == size || keys[i] > other.keys[j]) {
+                result.append(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.append(keys[i], Container.or(containers[i], other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+    
+    public CompressedBitmap andNot(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap(Math.max(1, size));
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            while (j < other.size && other.keys[j] < keys[i]) {
+                j++;
+            }
+            if (j < other.size && other.keys[j] == keys[i]) {
+                result.appendIfNotEmpty(keys[i], Container.andNot(containers[i], other.containers[j]));
+            } else {
+                result.append(keys[i], containers[i].copy());
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Returns up to limit values in descending order after skipping the offset largest ones.
+     */
+    public int[] toArrayDescending(int offset, int limit) {
+        int total = cardinality();
+        int count = Math.max(0, Math.min(limit, total - offset));
+        int[] values = new int[count];
+        int skipped = 0;
+        int filled = 0;
+        for (int i = size - 1; i >= 0 && filled < count; i--) {
+            Container container = containers[i];
+            if (skipped + container.cardinality <= offset) {
+                skipped += container.cardinality;
+                continue;
+            }
+            int high = keys[i] << 16;
+            if (container.words == null) {
+                for (int v = container.cardinality - 1; v >= 0 && filled < count; v--) {
+                    if (skipped++ >= offset) {
+                        values[filled++] = high | container.values[v];
+                    }
+                }
+            } else {
+                for (int w = BITMAP_WORDS - 1; w >= 0 && filled < count; w--) {
+                    long word = container.words[w];
+                    while (word != 0 && filled < count) {
+                        int bit = 63 - Long.numberOfLeadingZeros(word);
+                        word &= ~(1L << bit);
+                        if (skipped++ >= offset) {
+                            values[filled++] = high | (w << 6) | bit;
+                        }
+                    }
+                }
+            }
+        }
+        return values;
+    }
+    
+    /**
+     * Visits values from the largest down until the visitor returns false.
+     */
+    public void forEachDescending(IntPredicate visitor) {
+        for (int i = size - 1; i >= 0; i--) {
+            Container container = containers[i];
+            int high = keys[i] << 16;
+            if (container.words == null) {
+                for (int v = container.cardinality - 1; v >= 0; v--) {
+                    if (!visitor.test(high | container.values[v])) {
+                        return;
+                    }
+                }
+            } else {
+                for (int w = BITMAP_WORDS - 1; w >= 0; w--) {
+                    long word = container.words[w];
+                    while (word != 0) {
+                        int bit = 63 - Long.numberOfLeadingZeros(word);
+                        word &= ~(1L << bit);
+                        if (!visitor.test(high | (w << 6) | bit)) {
+                            return;
+                        }
+                    }
+                }
+            }
+        }
+    }
+    
+    public long sizeInBytes() {
+        long bytes = size * 3L;
+        for (int i = 0; i < size; i++) {
+            bytes += containers[i].words != null ? BITMAP_WORDS * 8L : containers[i].cardinality * 2L;
+        }
+        return bytes;
+    }
+    
+    private int search(char key) {
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+    
+    private void insert(int index, char key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+    
+    private void append(char key, Container container) {
+        insert(size, key, container);
+    }
+    
+    private void appendIfNotEmpty(char key, Container container) {
+        if (container.cardinality > 0) {
+            append(key, container);
+        }
+    }
+    
+    private static final class Container {
+        char[] values = new char[4];
+        long[] words;
+        int cardinality;
+        
+        void add(char value) {
+            if (words != null) {
+                long bit = 1L << value;
+                if ((words[value >>> 6] & bit) == 0) {
+                    words[value >>> 6] |= bit;
+                    cardinality++;
+                }
+                return;
+            }
+            int position;
+            if (cardinality == 0 || values[cardinality - 1] < value) {
+                position = cardinality;
+            } else {
+                int found = Arrays.binarySearch(values, 0, cardinality, value);
+                if (found >= 0) {
+                    return;
+                }
+                position = -found - 1;
+            }
+            if (cardinality == ARRAY_LIMIT) {
+                toBitmap();
+                add(value);
+                return;
+            }
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_LIMIT, values.length * 2));
+            }
+            System.arraycopy(values, position, values, position + 1, cardinality - position);
+            values[position] = value;
+            cardinality++;
+        }
+        
+        boolean contains(char value) {
+            if (words != null) {
+                return (words[value >>> 6] & (1L << value)) != 0;
+            }
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+        
+        Container copy() {
+            Container copy = new Container();
+            copy.cardinality = cardinality;
+            if (words != null) {
+                copy.words = words.clone();
+                copy.values = null;
+            } else {
+                copy.values = Arrays.copyOf(values, Math.max(cardinality, 1));
+            }
+            return copy;
+        }
+        
+        static Container and(Container a, Container b) {
+            if (a.words != null && b.words != null) {
+                Container result = new Container();
+                result.words = new long[BITMAP_WORDS];
+                result.values = null;
+                for (int w = 0; w < BITMAP_WORDS; w++) {
+                    long word = a.words[w] & b.words[w];
+                    result.words[w] = word;
+                    result.cardinality += Long.bitCount(word);
+                }
+                result.compact();
+                return result;
+            }
+            Container sparse = a.words == null ? a : b;
+            Container other = sparse == a ? b : a;
+            return filter(sparse, other, true);
+        }
+        
+        static Container or(Container a, Container b) {
+            Container result;
+            Container other;
+            if (a.words != null) {
+                result = a.copy();
+                other = b;
+            } else {
+                result = b.copy();
+                other = a;
+            }
+            if (other.words != null) {
+                if (result.words == null) {
+                    result.toBitmap();
+                }
+                result.cardinality = 0;
+                for (int w = 0; w < BITMAP_WORDS; w++) {
+                    result.words[w] |= other.words[w];
+                    result.cardinality += Long.bitCount(result.words[w]);
+                }
+            } else {
+                for (int v = 0; v < other.cardinality; v++) {
+                    result.add(other.values[v]);
+                }
+            }
+            return result;
+        }
+        
+        static Container andNot(Container a, Container b) {
+            if (a.words != null) {
+                Container result = a.copy();
+                result.cardinality = 0;
+                for (int w = 0; w < BITMAP_WORDS; w++) {
+                    long mask = b.words != null ? b.words[w] : 0L;
+                    result.words[w] &= ~mask;
+                }
+                if (b.words == null) {
+                    for (int v = 0; v < b.cardinality; v++) {
+                        char value = b.values[v];
+                        result.words[value >>> 6] &= ~(1L << value);
+                    }
+                }
+                for (int w = 0; w < BITMAP_WORDS; w++) {
+                    result.cardinality += Long.bitCount(result.words[w]);
+                }
+                result.compact();
+                return result;
+            }
+            return filter(a, b, false);
+        }
+        
+        private static Container filter(Container sparse, Container other, boolean keepContained) {
+            Container result = new Container();
+            result.values = new char[Math.max(sparse.cardinality, 1)];
+            for (int v = 0; v < sparse.cardinality; v++) {
+                char value = sparse.values[v];
+                if (other.contains(value) == keepContained) {
+                    result.values[result.cardinality++] = value;
+                }
+            }
+            return result;
+        }
+        
+        private void toBitmap() {
+            words = new long[BITMAP_WORDS];
+            for (int v = 0; v < cardinality; v++) {
+                words[values[v] >>> 6] |= 1L << values[v];
+            }
+            values = null;
+        }
+        
+        private void compact() {
+            if (cardinality > ARRAY_LIMIT) {
+                return;
+            }
+            values = new char[Math.max(cardinality, 1)];
+            int filled = 0;
+            for (int w = 0; w < BITMAP_WORDS; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    int bit = Long.numberOfTrailingZeros(word);
+                    values[filled++] = (char) ((w << 6) | bit);
+                    word &= word - 1;
+                }
+            }
+            words = null;
+        }
+    }
+}
\ No newline at end of file
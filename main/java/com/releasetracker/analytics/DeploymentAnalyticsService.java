@@ -0,0 +1,69 @@
+package com.releasetracker.analytics;
+
+import com.releasetracker.model.Environment;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class DeploymentAnalyticsService {
+    
+    private static final long WEEK_MILLIS = Duration.ofDays(7).toMillis();
+    private static final Environment[] ENVIRONMENTS = Environment.values();
+    
+    private final DeploymentLogColumnStore columnStore;
+    
+    @Autowired
+    public DeploymentAnalyticsService(DeploymentLogColumnStore columnStore) {
+        this.columnStore = columnStore;
+    }
+    
+    public Map<Environment, Long> getFailuresByEnvironment(int days) {
+        return countByEnvironment(days, true);
+    }
+    
+    public Map<Environment, Long> getDeploymentsByEnvironment(int days) {
+        return countByEnvironment(days, false);
+    }
+    
+    public List<UserDeploymentCounts> getDeploymentsByUserPerWeek(int weeks) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime windowStart = now.minusWeeks(weeks);
+        long from = DeploymentLogColumnStore.toEpochMillis(windowStart);
+        long to = from + weeks * WEEK_MILLIS;
+        Map<Long, long[]> counts = DeploymentLogScans.countByDeployerPerBucket(columnStore.snapshot(), from, to, WEEK_MILLIS);
+        
+        List<UserDeploymentCounts> result = new ArrayList<>(counts.size());
+        for (Map.Entry<Long, long[]> entry : counts.entrySet()) {
+            List<Long> weeklyCounts = new ArrayList<>(weeks);
+            long total = 0;
+            for (long count : entry.getValue()) {
+                weeklyCounts.add(count);
+                total += count;
+            }
+            result.add(new UserDeploymentCounts(entry.getKey(), windowStart.toLocalDate(), weeklyCounts, total));
+        }
+        result.sort(Comparator.comparingLong(UserDeploymentCounts::getTotal).reversed());
+        return result;
+    }
+    
+    private Map<Environment, Long> countByEnvironment(int days, boolean failuresOnly) {
+        LocalDateTime now = LocalDateTime.now();
+        long from = DeploymentLogColumnStore.toEpochMillis(now.minusDays(days));
+        long to = DeploymentLogColumnStore.toEpochMillis(now) + 1;
+        long[] counts = DeploymentLogScans.countByEnvironment(columnStore.snapshot(), from, to, failuresOnly);
+        
+        Map<Environment, Long> result = new EnumMap<>(Environment.class);
+        for (Environment environment : ENVIRONMENTS) {
+            result.put(environment, counts[environment.ordinal()]);
+        }
+        return result;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.releasetracker.analytics;
+
+import com.releasetracker.model.Environment;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Bitmap indexes over column store ordinals. Filters OR within a dimension and AND across dimensions.
+ */
+class DeploymentLogBitmapIndex {
+    
+    private static final Environment[] ENVIRONMENTS = Environment.values();
+    
+    private final CompressedBitmap[] byEnvironment = new CompressedBitmap[ENVIRONMENTS.length];
+    private final Map<Long, CompressedBitmap> byDeployer = new HashMap<>();
+    private CompressedBitmap succeeded;
+    private CompressedBitmap failed;
+    private CompressedBitmap removed;
+    
+    DeploymentLogBitmapIndex() {
+        clear();
+    }
+    
+    void clear() {
+        for (int i = 0; i < byEnvironment.length; i++) {
+            byEnvironment[i] = new CompressedBitmap();
+        }
+        byDeployer.clear();
+        succeeded = new CompressedBitmap();
+        failed = new CompressedBitmap();
+        removed = new CompressedBitmap();
+    }
+    
+    void add(int ordinal, int environment, boolean success, long deployerId) {
+        byEnvironment[environment].add(ordinal);
+        (success ? succeeded : failed).add(ordinal);
+        byDeployer.computeIfAbsent(deployerId, id -> new CompressedBitmap()).add(ordinal);
+    }
+    
+    void remove(int ordinal) {
+        removed.add(ordinal);
+    }
+    
+    CompressedBitmap select(DeploymentLogFilter filter, int rowCount) {
+        CompressedBitmap result = CompressedBitmap.range(rowCount);
+        if (!filter.getEnvironments().isEmpty()) {
+            CompressedBitmap matching = new CompressedBitmap();
+            for (Environment environment : filter.getEnvironments()) {
+                matching = matching.or(byEnvironment[environment.ordinal()]);
+            }
+            result = result.and(matching);
+        }
+        if (filter.getSuccess() != null) {
+            result = result.and(filter.getSuccess() ? succeeded : failed);
+        }
+        if (!filter.getDeployerIds().isEmpty()) {
+            CompressedBitmap matching = new CompressedBitmap();
+            for (Long deployerId : filter.getDeployerIds()) {
+                CompressedBitmap deployer = byDeployer.get(deployerId);
+                if (deployer != null) {
+                    matching = matching.or(deployer);
+                }
+            }
+            result = result.and(matching);
+        }
+        return result.andNot(removed);
+    }
+    
+    long sizeInBytes() {
+        long bytes = succeeded.sizeInBytes() + failed.sizeInBytes() + removed.sizeInBytes();
+        for (CompressedBitmap bitmap : byEnvironment) {
+            bytes += bitmap.sizeInBytes();
+        }
+        for (CompressedBitmap bitmap : byDeployer.values()) {
+            bytes += bitmap.sizeInBytes();
+        }
+        return bytes;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,394 @@
+package com.releasetracker.analytics;
+
+import com.releasetracker.event.DeploymentLoggedEvent;
+import com.releasetracker.event.DeploymentLogsArchivedEvent;
+import com.releasetracker.event.DeploymentLogsImportedEvent;
+import com.releasetracker.event.ReleaseDeletedEvent;
+import com.releasetracker.model.DeploymentLog;
+import com.releasetracker.model.Environment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class DeploymentLogColumnStore {
+    
+    private static final Logger logger = LoggerFactory.getLogger(DeploymentLogColumnStore.class);
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final String LOAD_SQL = "SELECT id, deployment_timestamp, release_id, deployed_by, environment, success, notes " +
+            "FROM deployment_logs WHERE release_id NOT IN (SELECT id FROM releases WHERE deleted_at IS NOT NULL) ORDER BY id";
+    private static final String LOAD_AFTER_SQL = "SELECT id, deployment_timestamp, release_id, deployed_by, environment, success, notes " +
+            "FROM deployment_logs WHERE id > ? AND release_id NOT IN (SELECT id FROM releases WHERE deleted_at IS NOT NULL) ORDER BY id";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final DeploymentLogBitmapIndex bitmapIndex = new DeploymentLogBitmapIndex();
+    
+    private long[] ids;
+    private long[] timestamps;
+    private long[] releaseIds;
+    private long[] deployerIds;
+    private byte[] environments;
+    private byte[] success;
+    private int[] noteCodes;
+    private long[] removed;
+    private int size;
+    private int loadedCount;
+    // Ids past the loaded prefix, which is the only part kept in id order, as offsets from just below its first id.
+    // Rows commit out of id order, so a watermark alone would drop late commits; the bitmap costs about a bit per id
+    private CompressedBitmap appendedIds = new CompressedBitmap();
+    private long idBase;
+    private String[] noteDictionary = new String[INITIAL_CAPACITY];
+    private int noteCount;
+    private final Map<String, Integer> noteCodesByValue = new HashMap<>();
+    private volatile boolean ready;
+    // Whether every ordinal's timestamp is at least its predecessor's, so the newest rows are the highest ordinals
+    private boolean timestampOrdered = true;
+    
+    @Autowired
+    public DeploymentLogColumnStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        allocate(INITIAL_CAPACITY);
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        lock.writeLock().lock();
+        try {
+            allocate(INITIAL_CAPACITY);
+            noteDictionary = new String[INITIAL_CAPACITY];
+            noteCount = 0;
+            noteCodesByValue.clear();
+            bitmapIndex.clear();
+            appendedIds = new CompressedBitmap();
+            timestampOrdered = true;
+            size = 0;
+            jdbcTemplate.query(LOAD_SQL, this::appendRow);
+            loadedCount = size;
+            idBase = loadedCount > 0 ? ids[0] - 1 : 0L;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Loaded {} deployment logs into the column store", loadedCount);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeploymentLogged(DeploymentLoggedEvent event) {
+        append(event.getDeploymentLog());
+    }
+    
+    @EventListener
+    public void onDeploymentLogsArchived(DeploymentLogsArchivedEvent event) {
+        removeWhere(event.getMonth(), event.getMaxId());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReleaseDeleted(ReleaseDeletedEvent event) {
+        removeRelease(event.getReleaseId());
+    }
+    
+    // Bulk imports bypass the per-row events; their rows are read back off the request thread
+    @Async
+    @EventListener
+    public void onDeploymentLogsImported(DeploymentLogsImportedEvent event) {
+        loadNewRows();
+    }
+    
+    /**
+     * Appends rows with ids above the loaded prefix that are not in the store yet. Imports insert with fresh ids,
+     * so this reads only the imported rows and any live rows committed since, instead of the whole table.
+     */
+    public int loadNewRows() {
+        if (!ready) {
+            // The initial load has not finished and will read the rows itself
+            return 0;
+        }
+        int appended;
+        lock.writeLock().lock();
+        try {
+            int before = size;
+            jdbcTemplate.query(LOAD_AFTER_SQL, rs -> {
+                if (markAppended(rs.getLong("id"))) {
+                    appendRow(rs);
+                }
+            }, loadedCount > 0 ? ids[loadedCount - 1] : 0L);
+            appended = size - before;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Appended {} imported deployment logs to the column store", appended);
+        return appended;
+    }
+    
+    public int append(DeploymentLog log) {
+        lock.writeLock().lock();
+        try {
+            long id = log.getId();
+            // Rows committed while the initial load was running, or read back after an import, may already be present
+            if (!markAppended(id)) {
+                return -1;
+            }
+            return appendRow(id,
+                    toEpochMillis(log.getDeploymentTimestamp()),
+                    log.getRelease().getId(),
+                    log.getDeployedBy().getId(),
+                    log.getEnvironment(),
+                    log.isSuccess(),
+                    log.getNotes());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public int removeRelease(long releaseId) {
+        lock.writeLock().lock();
+        try {
+            int removedRows = 0;
+            for (int i = 0; i < size; i++) {
+                if (releaseIds[i] == releaseId && (removed[i >>> 6] & (1L << i)) == 0) {
+                    removed[i >>> 6] |= 1L << i;
+                    bitmapIndex.remove(i);
+                    removedRows++;
+                }
+            }
+            return removedRows;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public int removeWhere(int month, long maxId) {
+        lock.writeLock().lock();
+        try {
+            int removedRows = 0;
+            for (int i = 0; i < size; i++) {
+                if (ids[i] <= maxId && DeploymentLog.monthOf(toLocalDateTime(timestamps[i])) == month) {
+                    removed[i >>> 6] |= 1L << i;
+                    bitmapIndex.remove(i);
+                    removedRows++;
+                }
+            }
+            return removedRows;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public DeploymentLogColumns snapshot() {
+        lock.readLock().lock();
+        try {
+            return new DeploymentLogColumns(ids, timestamps, releaseIds, deployerIds, environments, success,
+                    noteCodes, removed, noteDictionary, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Resolves the filter through the bitmap indexes and returns matching ids, newest deployment first. Imported
+     * rows are appended out of timestamp order, so the page is cut only after ordering by timestamp.
+     */
+    public List<Long> findIds(DeploymentLogFilter filter, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            CompressedBitmap matches = bitmapIndex.select(filter, size);
+            int end = (int) Math.min(matches.cardinality(), (long) offset + limit);
+            List<Long> matchingIds = new ArrayList<>(Math.max(0, end - offset));
+            if (offset >= end) {
+                return matchingIds;
+            }
+            int[] newest = newestFirst(matches, end);
+            for (int i = offset; i < end; i++) {
+                matchingIds.add(ids[newest[i]]);
+            }
+            return matchingIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public int count(DeploymentLogFilter filter) {
+        lock.readLock().lock();
+        try {
+            return bitmapIndex.select(filter, size).cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    public static long toEpochMillis(LocalDateTime timestamp) {
+        return timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+    
+    public static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+    
+    // False when the row is already in the store, or older than every loaded row (archived or removed since)
+    private boolean markAppended(long id) {
+        if (id <= idBase || Arrays.binarySearch(ids, 0, loadedCount, id) >= 0) {
+            return false;
+        }
+        int offset = Math.toIntExact(id - idBase);
+        if (appendedIds.contains(offset)) {
+            return false;
+        }
+        appendedIds.add(offset);
+        return true;
+    }
+    
+    private void appendRow(ResultSet rs) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp("deployment_timestamp");
+        appendRow(rs.getLong("id"),
+                timestamp != null ? toEpochMillis(timestamp.toLocalDateTime()) : 0L,
+                rs.getLong("release_id"),
+                rs.getLong("deployed_by"),
+                Environment.valueOf(rs.getString("environment")),
+                rs.getBoolean("success"),
+                rs.getString("notes"));
+    }
+    
+    private int appendRow(long id, long timestamp, long releaseId, long deployerId, Environment environment,
+                          boolean succeeded, String notes) {
+        if (size == ids.length) {
+            grow(size * 2);
+        }
+        int ordinal = size;
+        if (ordinal > 0 && timestamp < timestamps[ordinal - 1]) {
+            timestampOrdered = false;
+        }
+        ids[ordinal] = id;
+        timestamps[ordinal] = timestamp;
+        releaseIds[ordinal] = releaseId;
+        deployerIds[ordinal] = deployerId;
+        environments[ordinal] = (byte) environment.ordinal();
+        success[ordinal] = (byte) (succeeded ? 1 : 0);
+        noteCodes[ordinal] = encodeNote(notes);
+        bitmapIndex.add(ordinal, environment.ordinal(), succeeded, deployerId);
+        size = ordinal + 1;
+        return ordinal;
+    }
+    
+    // The count newest matches. While ordinals follow timestamps that is the top of the bitmap; after an import it
+    // takes one pass over the matches with a bounded heap whose root is the oldest kept ordinal
+    private int[] newestFirst(CompressedBitmap matches, int count) {
+        int[] newest = new int[count];
+        int[] kept = new int[1];
+        if (timestampOrdered) {
+            matches.forEachDescending(ordinal -> {
+                newest[kept[0]++] = ordinal;
+                return kept[0] < count;
+            });
+            return newest;
+        }
+        matches.forEachDescending(ordinal -> {
+            if (kept[0] < count) {
+                siftUp(newest, kept[0]++, ordinal);
+            } else if (isNewer(ordinal, newest[0])) {
+                siftDown(newest, count, ordinal);
+            }
+            return true;
+        });
+        for (int end = count - 1; end > 0; end--) {
+            int oldest = newest[0];
+            siftDown(newest, end, newest[end]);
+            newest[end] = oldest;
+        }
+        return newest;
+    }
+    
+    // Equal timestamps keep the later insert first
+    private boolean isNewer(int a, int b) {
+        return timestamps[a] != timestamps[b] ? timestamps[a] > timestamps[b] : a > b;
+    }
+    
+    private void siftUp(int[] heap, int index, int ordinal) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!isNewer(heap[parent], ordinal)) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = ordinal;
+    }
+    
+    private void siftDown(int[] heap, int heapSize, int ordinal) {
+        int index = 0;
+        int child;
+        while ((child = 2 * index + 1) < heapSize) {
+            if (child + 1 < heapSize && isNewer(heap[child], heap[child + 1])) {
+                child++;
+            }
+            if (!isNewer(ordinal, heap[child])) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = ordinal;
+    }
+    
+    private int encodeNote(String notes) {
+        if (notes == null) {
+            return -1;
+        }
+        Integer code = noteCodesByValue.get(notes);
+        if (code == null) {
+            if (noteCount == noteDictionary.length) {
+                noteDictionary = Arrays.copyOf(noteDictionary, noteCount * 2);
+            }
+            code = noteCount++;
+            noteDictionary[code] = notes;
+            noteCodesByValue.put(notes, code);
+        }
+        return code;
+    }
+    
+    private void allocate(int capacity) {
+        ids = new long[capacity];
+        timestamps = new long[capacity];
+        releaseIds = new long[capacity];
+        deployerIds = new long[capacity];
+        environments = new byte[capacity];
+        success = new byte[capacity];
+        noteCodes = new int[capacity];
+        removed = new long[(capacity + 63) >>> 6];
+    }
+    
+    private void grow(int capacity) {
+        ids = Arrays.copyOf(ids, capacity);
+        timestamps = Arrays.copyOf(timestamps, capacity);
+        releaseIds = Arrays.copyOf(releaseIds, capacity);
+        deployerIds = Arrays.copyOf(deployerIds, capacity);
+        environments = Arrays.copyOf(environments, capacity);
+        success = Arrays.copyOf(success, capacity);
+        noteCodes = Arrays.copyOf(noteCodes, capacity);
+        removed = Arrays.copyOf(removed, (capacity + 63) >>> 6);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.releasetracker.analytics;
+
+public final class DeploymentLogColumns {
+    final long[] ids;
+    final long[] timestamps;
+    final long[] releaseIds;
+    final long[] deployerIds;
+    final byte[] environments;
+    final byte[] success;
+    final int[] noteCodes;
+    final long[] removed;
+    final String[] noteDictionary;
+    final int size;
+    
+    DeploymentLogColumns(long[] ids, long[] timestamps, long[] releaseIds, long[] deployerIds, byte[] environments,
+                         byte[] success, int[] noteCodes, long[] removed, String[] noteDictionary, int size) {
+        this.ids = ids;
+        this.timestamps = timestamps;
+        this.releaseIds = releaseIds;
+        this.deployerIds = deployerIds;
+        this.environments = environments;
+        this.success = success;
+        this.noteCodes = noteCodes;
+        this.removed = removed;
+        this.noteDictionary = noteDictionary;
+        this.size = size;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public long idAt(int ordinal) {
+        return ids[ordinal];
+    }
+    
+    public boolean isRemoved(int ordinal) {
+        return (removed[ordinal >>> 6] & (1L << ordinal)) != 0;
+    }
+    
+    public String noteAt(int ordinal) {
+        int code = noteCodes[ordinal];
+        return code < 0 ? null : noteDictionary[code];
+    }
+}
\ No newline at end of file
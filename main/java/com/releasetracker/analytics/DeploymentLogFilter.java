@@ -0,0 +1,47 @@
+package com.releasetracker.analytics;
+
+import com.releasetracker.model.DeploymentLog;
+import com.releasetracker.model.Environment;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
+public class DeploymentLogFilter {
+    private final Set<Environment> environments;
+    private final Boolean success;
+    private final Set<Long> deployerIds;
+    
+    public DeploymentLogFilter(Set<Environment> environments, Boolean success, Set<Long> deployerIds) {
+        this.environments = environments != null && !environments.isEmpty() ? EnumSet.copyOf(environments) : Collections.emptySet();
+        this.success = success;
+        this.deployerIds = deployerIds != null ? new HashSet<>(deployerIds) : Collections.emptySet();
+    }
+    
+    public static DeploymentLogFilter byEnvironment(Environment environment) {
+        return new DeploymentLogFilter(EnumSet.of(environment), null, null);
+    }
+    
+    public static DeploymentLogFilter bySuccess(boolean success) {
+        return new DeploymentLogFilter(null, success, null);
+    }
+    
+    public Set<Environment> getEnvironments() {
+        return environments;
+    }
+    
+    public Boolean getSuccess() {
+        return success;
+    }
+    
+    public Set<Long> getDeployerIds() {
+        return deployerIds;
+    }
+    
+    public boolean matches(DeploymentLog log) {
+        return (environments.isEmpty() || environments.contains(log.getEnvironment()))
+                && (success == null || success == log.isSuccess())
+                && (deployerIds.isEmpty() || deployerIds.contains(log.getDeployedBy().getId()));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.releasetracker.analytics;
+
+import com.releasetracker.model.Environment;
+
+import java.util.HashMap;
+import java.util.Map;
+
+final class DeploymentLogScans {
+    
+    static final int VECTOR_SIZE = 1024;
+    private static final int ENVIRONMENT_COUNT = Environment.values().length;
+    
+    private DeploymentLogScans() {
+    }
+    
+    static long[] countByEnvironment(DeploymentLogColumns columns, long from, long to, boolean failuresOnly) {
+        long[] counts = new long[ENVIRONMENT_COUNT];
+        int[] selection = new int[VECTOR_SIZE];
+        for (int start = 0; start < columns.size; start += VECTOR_SIZE) {
+            int end = Math.min(start + VECTOR_SIZE, columns.size);
+            int selected = selectTimeRange(columns, start, end, from, to, selection);
+            accumulateByEnvironment(columns, selection, selected, failuresOnly, counts);
+        }
+        return counts;
+    }
+    
+    static Map<Long, long[]> countByDeployerPerBucket(DeploymentLogColumns columns, long from, long to, long bucketMillis) {
+        int buckets = (int) ((to - from + bucketMillis - 1) / bucketMillis);
+        Map<Long, long[]> counts = new HashMap<>();
+        int[] selection = new int[VECTOR_SIZE];
+        long[] timestamps = columns.timestamps;
+        long[] deployerIds = columns.deployerIds;
+        long lastDeployer = Long.MIN_VALUE;
+        long[] lastCounts = null;
+        for (int start = 0; start < columns.size; start += VECTOR_SIZE) {
+            int end = Math.min(start + VECTOR_SIZE, columns.size);
+            int selected = selectTimeRange(columns, start, end, from, to, selection);
+            for (int s = 0; s < selected; s++) {
+                int i = selection[s];
+                long deployer = deployerIds[i];
+                if (deployer != lastDeployer) {
+                    lastDeployer = deployer;
+                    lastCounts = counts.computeIfAbsent(deployer, key -> new long[buckets]);
+                }
+                lastCounts[(int) ((timestamps[i] - from) / bucketMillis)]++;
+            }
+        }
+        return counts;
+    }
+    
+    // Writes the live ordinals of [start, end) whose timestamp lies in [from, to) into selection without branching
+    static int selectTimeRange(DeploymentLogColumns columns, int start, int end, long from, long to, int[] selection) {
+        long[] timestamps = columns.timestamps;
+        long[] removed = columns.removed;
+        int selected = 0;
+        for (int i = start; i < end; i++) {
+            long timestamp = timestamps[i];
+            long outside = ((timestamp - from) | (to - 1 - timestamp)) >>> 63;
+            long dead = (removed[i >>> 6] >>> i) & 1L;
+            selection[selected] = i;
+            selected += (int) (1L ^ (outside | dead));
+        }
+        return selected;
+    }
+    
+    private static void accumulateByEnvironment(DeploymentLogColumns columns, int[] selection, int selected,
+                                                boolean failuresOnly, long[] counts) {
+        byte[] environments = columns.environments;
+        byte[] success = columns.success;
+        int failureMask = failuresOnly ? 1 : 0;
+        for (int s = 0; s < selected; s++) {
+            int i = selection[s];
+            counts[environments[i]] += 1 ^ (success[i] & failureMask);
+        }
+    }
+}
\ No newline at end of file
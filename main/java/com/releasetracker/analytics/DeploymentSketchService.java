@@ -0,0 +1,282 @@
+package com.releasetracker.analytics;
+
+import com.releasetracker.event.DeploymentLogsImportedEvent;
+import com.releasetracker.event.ReleaseDeletedEvent;
+import com.releasetracker.model.DeploymentAction;
+import com.releasetracker.model.DeploymentLog;
+import com.releasetracker.model.DeploymentSketch;
+import com.releasetracker.model.Environment;
+import com.releasetracker.repository.DeploymentSketchRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+@Service
+public class DeploymentSketchService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(DeploymentSketchService.class);
+    private static final Environment[] ENVIRONMENTS = Environment.values();
+    private static final String REBUILD_LOGS_SQL = "SELECT dl.release_id, dl.deployed_by, dl.environment, dl.action, " +
+            "dl.deployment_timestamp, r.created_at FROM deployment_logs dl JOIN releases r ON r.id = dl.release_id " +
+            "WHERE dl.deployment_month BETWEEN ? AND ? AND dl.deployment_timestamp >= ? AND dl.deployment_timestamp < ? " +
+            "AND r.deleted_at IS NULL";
+    private static final String REBUILD_DWELLS_SQL = "SELECT d.environment, d.exited_at, d.dwell_millis " +
+            "FROM environment_dwells d JOIN releases r ON r.id = d.release_id " +
+            "WHERE d.exited_at >= ? AND d.exited_at < ? AND r.deleted_at IS NULL";
+    private static final String RELEASE_DAYS_SQL = "SELECT r.created_at, r.deleted_at, h.first_at, h.last_at " +
+            "FROM releases r, (SELECT MIN(first_at) AS first_at, MAX(last_at) AS last_at FROM (" +
+            "SELECT MIN(deployment_timestamp) AS first_at, MAX(deployment_timestamp) AS last_at " +
+            "FROM deployment_logs WHERE release_id = ? " +
+            "UNION ALL SELECT MIN(exited_at), MAX(exited_at) FROM environment_dwells WHERE release_id = ?) t) h " +
+            "WHERE r.id = ?";
+    
+    private final DeploymentSketchRepository deploymentSketchRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int retentionDays;
+    private final ConcurrentNavigableMap<LocalDate, AtomicReferenceArray<SketchBucket>> days = new ConcurrentSkipListMap<>();
+    private final Object rebuildLock = new Object();
+    // Buckets of the rebuild in progress; live deployments are recorded into them too so the swap does not drop them
+    private volatile NavigableMap<LocalDate, SketchBucket[]> rebuilding;
+    
+    @Autowired
+    public DeploymentSketchService(DeploymentSketchRepository deploymentSketchRepository,
+                                   JdbcTemplate jdbcTemplate,
+                                   @Value("${releasetracker.sketches.retention-days:400}") int retentionDays) {
+        this.deploymentSketchRepository = deploymentSketchRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.retentionDays = Math.max(1, retentionDays);
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        List<DeploymentSketch> sketches = deploymentSketchRepository.findByDayGreaterThanEqual(firstRetainedDay());
+        for (DeploymentSketch sketch : sketches) {
+            days.computeIfAbsent(sketch.getDay(), day -> new AtomicReferenceArray<>(ENVIRONMENTS.length))
+                    .set(sketch.getEnvironment().ordinal(), new SketchBucket(sketch));
+        }
+        logger.info("Loaded {} deployment sketch buckets", sketches.size());
+    }
+    
+    // Bulk imports bypass recordDeployment, so the days they touched are recounted from the table
+    @Async
+    @EventListener
+    public void onDeploymentLogsImported(DeploymentLogsImportedEvent event) {
+        rebuild(event.getFirstDay(), event.getLastDay());
+    }
+    
+    // Sketches cannot forget a single release, so the days it touched are recounted without it. Runs off the request
+    // thread; the purge may already be removing the release's history, so the span also covers the release's whole
+    // lifetime (its row goes last), and the whole retention window once the release is gone entirely.
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReleaseDeleted(ReleaseDeletedEvent event) {
+        LocalDate[] span = new LocalDate[2];
+        jdbcTemplate.query(RELEASE_DAYS_SQL, rs -> {
+            span[0] = earlier(earlier(null, rs.getTimestamp("created_at")), rs.getTimestamp("first_at"));
+            span[1] = later(later(null, rs.getTimestamp("deleted_at")), rs.getTimestamp("last_at"));
+        }, event.getReleaseId(), event.getReleaseId(), event.getReleaseId());
+        rebuild(span[0] != null ? span[0] : firstRetainedDay(), span[1] != null ? span[1] : LocalDate.now());
+    }
+    
+    public void recordDeployment(DeploymentLog log) {
+        if (log.getDeploymentTimestamp() == null || log.getEnvironment() == null) {
+            return;
+        }
+        record(log.getDeploymentTimestamp(), log.getEnvironment(), log.getAction(),
+                log.getRelease() != null ? log.getRelease().getId() : null,
+                log.getDeployedBy() != null ? log.getDeployedBy().getId() : null,
+                log.getRelease() != null ? log.getRelease().getCreatedAt() : null);
+    }
+    
+    public void recordDwell(Environment environment, LocalDateTime exitedAt, long millis) {
+        bucketFor(exitedAt, environment).recordDwell(millis);
+        SketchBucket pending = rebuildingBucket(exitedAt, environment);
+        if (pending != null) {
+            pending.recordDwell(millis);
+        }
+    }
+    
+    public SketchSummary summarize(Environment environment, LocalDate startDay, LocalDate endDay) {
+        HyperLogLog releases = new HyperLogLog();
+        HyperLogLog deployers = new HyperLogLog();
+        QuantileSketch dwell = new QuantileSketch();
+        QuantileSketch leadTime = new QuantileSketch();
+        long deployments = 0;
+        for (AtomicReferenceArray<SketchBucket> buckets : days.subMap(startDay, true, endDay, true).values()) {
+            for (int i = 0; i < buckets.length(); i++) {
+                SketchBucket bucket = buckets.get(i);
+                if (bucket != null && (environment == null || environment.ordinal() == i)) {
+                    deployments += bucket.mergeInto(releases, deployers, dwell, leadTime);
+                }
+            }
+        }
+        return new SketchSummary(startDay, endDay, environment, deployments, releases.estimate(), deployers.estimate(),
+                QuantileSummary.of(dwell), QuantileSummary.of(leadTime));
+    }
+    
+    /**
+     * Recounts the given days (clamped to the retention window) from deployment_logs and environment_dwells,
+     * skipping soft-deleted releases. The counts go into fresh buckets that replace the live ones only once the
+     * tables have been read, so summaries never see a half-rebuilt day. Deployments recorded while the rebuild reads
+     * the table may be counted twice; the sketches are estimates and the next rebuild of the day corrects it.
+     */
+    public void rebuild(LocalDate startDay, LocalDate endDay) {
+        LocalDate firstDay = startDay.isBefore(firstRetainedDay()) ? firstRetainedDay() : startDay;
+        if (firstDay.isAfter(endDay)) {
+            return;
+        }
+        synchronized (rebuildLock) {
+            NavigableMap<LocalDate, SketchBucket[]> fresh = new TreeMap<>();
+            for (LocalDate day = firstDay; !day.isAfter(endDay); day = day.plusDays(1)) {
+                SketchBucket[] buckets = new SketchBucket[ENVIRONMENTS.length];
+                for (Environment environment : ENVIRONMENTS) {
+                    buckets[environment.ordinal()] = new SketchBucket(new DeploymentSketch(day, environment));
+                }
+                fresh.put(day, buckets);
+            }
+            rebuilding = fresh;
+            try {
+                long[] rows = readInto(fresh, firstDay, endDay);
+                for (Map.Entry<LocalDate, SketchBucket[]> entry : fresh.entrySet()) {
+                    for (Environment environment : ENVIRONMENTS) {
+                        bucketFor(entry.getKey().atStartOfDay(), environment)
+                                .replaceWith(entry.getValue()[environment.ordinal()]);
+                    }
+                }
+                logger.info("Rebuilt deployment sketches for {}..{} from {} deployment logs and {} dwells", firstDay,
+                        endDay, rows[0], rows[1]);
+            } finally {
+                rebuilding = null;
+            }
+        }
+    }
+    
+    private long[] readInto(NavigableMap<LocalDate, SketchBucket[]> fresh, LocalDate firstDay, LocalDate endDay) {
+        LocalDateTime start = firstDay.atStartOfDay();
+        LocalDateTime end = endDay.plusDays(1).atStartOfDay();
+        long[] rows = new long[2];
+        jdbcTemplate.query(REBUILD_LOGS_SQL, rs -> {
+            long releaseId = rs.getLong("release_id");
+            long deployerId = rs.getLong("deployed_by");
+            String action = rs.getString("action");
+            Timestamp createdAt = rs.getTimestamp("created_at");
+            LocalDateTime timestamp = rs.getTimestamp("deployment_timestamp").toLocalDateTime();
+            fresh.get(timestamp.toLocalDate())[Environment.valueOf(rs.getString("environment")).ordinal()]
+                    .recordDeployment(releaseId, deployerId, leadTimeMillis(timestamp,
+                            action != null ? DeploymentAction.valueOf(action) : null,
+                            createdAt != null ? createdAt.toLocalDateTime() : null));
+            rows[0]++;
+        }, DeploymentLog.monthOf(start), DeploymentLog.monthOf(end), Timestamp.valueOf(start), Timestamp.valueOf(end));
+        jdbcTemplate.query(REBUILD_DWELLS_SQL, rs -> {
+            fresh.get(rs.getTimestamp("exited_at").toLocalDateTime().toLocalDate())[
+                    Environment.valueOf(rs.getString("environment")).ordinal()].recordDwell(rs.getLong("dwell_millis"));
+            rows[1]++;
+        }, Timestamp.valueOf(start), Timestamp.valueOf(end));
+        return rows;
+    }
+    
+    @Scheduled(fixedDelayString = "${releasetracker.sketches.flush-interval-ms:60000}")
+    public synchronized int flush() {
+        LocalDate firstDay = firstRetainedDay();
+        days.headMap(firstDay).clear();
+        int written = 0;
+        for (AtomicReferenceArray<SketchBucket> buckets : days.values()) {
+            for (int i = 0; i < buckets.length(); i++) {
+                SketchBucket bucket = buckets.get(i);
+                DeploymentSketch changes = bucket != null ? bucket.takeChanges() : null;
+                if (changes == null) {
+                    continue;
+                }
+                try {
+                    bucket.saved(deploymentSketchRepository.save(changes));
+                    written++;
+                } catch (DataAccessException e) {
+                    bucket.markDirty();
+                    logger.warn("Failed to persist deployment sketch for {} {}: {}",
+                            changes.getDay(), changes.getEnvironment(), e.getMessage());
+                }
+            }
+        }
+        try {
+            deploymentSketchRepository.deleteByDayBefore(firstDay);
+        } catch (DataAccessException e) {
+            logger.warn("Failed to remove deployment sketches before {}: {}", firstDay, e.getMessage());
+        }
+        return written;
+    }
+    
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+    
+    private void record(LocalDateTime timestamp, Environment environment, DeploymentAction action, Long releaseId,
+                        Long deployerId, LocalDateTime releaseCreatedAt) {
+        Long leadTimeMillis = leadTimeMillis(timestamp, action, releaseCreatedAt);
+        bucketFor(timestamp, environment).recordDeployment(releaseId, deployerId, leadTimeMillis);
+        SketchBucket pending = rebuildingBucket(timestamp, environment);
+        if (pending != null) {
+            pending.recordDeployment(releaseId, deployerId, leadTimeMillis);
+        }
+    }
+    
+    private SketchBucket rebuildingBucket(LocalDateTime timestamp, Environment environment) {
+        NavigableMap<LocalDate, SketchBucket[]> fresh = rebuilding;
+        SketchBucket[] buckets = fresh != null ? fresh.get(timestamp.toLocalDate()) : null;
+        return buckets != null ? buckets[environment.ordinal()] : null;
+    }
+    
+    private static Long leadTimeMillis(LocalDateTime timestamp, DeploymentAction action, LocalDateTime releaseCreatedAt) {
+        if (action != null && action != DeploymentAction.DEPLOYED && releaseCreatedAt != null) {
+            return Duration.between(releaseCreatedAt, timestamp).toMillis();
+        }
+        return null;
+    }
+    
+    private static LocalDate earlier(LocalDate day, Timestamp timestamp) {
+        LocalDate other = timestamp != null ? timestamp.toLocalDateTime().toLocalDate() : null;
+        return day == null || (other != null && other.isBefore(day)) ? other : day;
+    }
+    
+    private static LocalDate later(LocalDate day, Timestamp timestamp) {
+        LocalDate other = timestamp != null ? timestamp.toLocalDateTime().toLocalDate() : null;
+        return day == null || (other != null && other.isAfter(day)) ? other : day;
+    }
+    
+    private LocalDate firstRetainedDay() {
+        return LocalDate.now().minusDays(retentionDays - 1);
+    }
+    
+    private SketchBucket bucketFor(LocalDateTime timestamp, Environment environment) {
+        AtomicReferenceArray<SketchBucket> buckets = days.computeIfAbsent(timestamp.toLocalDate(),
+                day -> new AtomicReferenceArray<>(ENVIRONMENTS.length));
+        SketchBucket bucket = buckets.get(environment.ordinal());
+        if (bucket == null) {
+            SketchBucket created = new SketchBucket(new DeploymentSketch(timestamp.toLocalDate(), environment));
+            bucket = buckets.compareAndSet(environment.ordinal(), null, created) ? created : buckets.get(environment.ordinal());
+        }
+        return bucket;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+package com.releasetracker.analytics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class DurationHistogram {
+    
+    private static final long[] UPPER_BOUNDS_MILLIS = {
+            Duration.ofMinutes(5).toMillis(), Duration.ofMinutes(15).toMillis(), Duration.ofHours(1).toMillis(),
+            Duration.ofHours(4).toMillis(), Duration.ofHours(12).toMillis(), Duration.ofDays(1).toMillis(),
+            Duration.ofDays(3).toMillis(), Duration.ofDays(7).toMillis(), Duration.ofDays(30).toMillis()
+    };
+    
+    private final AtomicLongArray buckets = new AtomicLongArray(UPPER_BOUNDS_MILLIS.length + 1);
+    private final AtomicLong totalMillis = new AtomicLong();
+    
+    public void record(long millis) {
+        buckets.incrementAndGet(bucketOf(millis));
+        totalMillis.addAndGet(Math.max(0, millis));
+    }
+    
+    // Takes back an earlier record of the same value
+    public void remove(long millis) {
+        buckets.decrementAndGet(bucketOf(millis));
+        totalMillis.addAndGet(-Math.max(0, millis));
+    }
+    
+    public void merge(DurationHistogram other) {
+        for (int i = 0; i < buckets.length(); i++) {
+            buckets.addAndGet(i, other.buckets.get(i));
+        }
+        totalMillis.addAndGet(other.totalMillis.get());
+    }
+    
+    public LatencySummary summarize() {
+        long[] counts = new long[buckets.length()];
+        long observed = 0;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buckets.get(i);
+            observed += counts[i];
+        }
+        List<Long> upperBounds = new ArrayList<>(UPPER_BOUNDS_MILLIS.length);
+        for (long bound : UPPER_BOUNDS_MILLIS) {
+            upperBounds.add(bound);
+        }
+        List<Long> bucketCounts = new ArrayList<>(counts.length);
+        for (long bucketCount : counts) {
+            bucketCounts.add(bucketCount);
+        }
+        return new LatencySummary(observed,
+                observed > 0 ? totalMillis.get() / observed : 0,
+                percentile(counts, observed, 0.50),
+                percentile(counts, observed, 0.90),
+                percentile(counts, observed, 0.99),
+                upperBounds,
+                bucketCounts);
+    }
+    
+    private static int bucketOf(long millis) {
+        int bucket = 0;
+        while (bucket < UPPER_BOUNDS_MILLIS.length && millis > UPPER_BOUNDS_MILLIS[bucket]) {
+            bucket++;
+        }
+        return bucket;
+    }
+    
+    // Upper bound of the bucket holding the quantile; null when it falls in the overflow bucket
+    private static Long percentile(long[] counts, long observed, double quantile) {
+        if (observed == 0) {
+            return null;
+        }
+        long rank = (long) Math.ceil(quantile * observed);
+        long seen = 0;
+        for (int i = 0; i < UPPER_BOUNDS_MILLIS.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return UPPER_BOUNDS_MILLIS[i];
+            }
+        }
+        return null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,137 @@
+package com.releasetracker.analytics;
+
+import com.releasetracker.event.AfterCommit;
+import com.releasetracker.event.ReleaseDeletedEvent;
+import com.releasetracker.model.DeploymentAction;
+import com.releasetracker.model.Environment;
+import com.releasetracker.model.EnvironmentDwell;
+import com.releasetracker.repository.EnvironmentDwellRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class DwellTimeTracker {
+    
+    private static final Logger logger = LoggerFactory.getLogger(DwellTimeTracker.class);
+    private static final Environment[] ENVIRONMENTS = Environment.values();
+    
+    private final EnvironmentDwellRepository environmentDwellRepository;
+    private final DeploymentSketchService sketchService;
+    private final int retentionDays;
+    // One histogram per environment for each day, merged over the requested window at query time
+    private final Map<LocalDate, DurationHistogram[]> days = new ConcurrentHashMap<>();
+    
+    @Autowired
+    public DwellTimeTracker(EnvironmentDwellRepository environmentDwellRepository,
+                            DeploymentSketchService sketchService,
+                            @Value("${releasetracker.dwell.retention-days:90}") int retentionDays) {
+        this.environmentDwellRepository = environmentDwellRepository;
+        this.sketchService = sketchService;
+        this.retentionDays = Math.max(1, retentionDays);
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        days.clear();
+        LocalDateTime now = LocalDateTime.now();
+        List<EnvironmentDwell> dwells = environmentDwellRepository.findByExitedAtBetween(firstRetainedDay(now.toLocalDate()).atStartOfDay(), now);
+        for (EnvironmentDwell dwell : dwells) {
+            add(dwell);
+        }
+        logger.info("Loaded {} environment dwell records into the dwell histograms", dwells.size());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onReleaseDeleted(ReleaseDeletedEvent event) {
+        LocalDate firstDay = firstRetainedDay(LocalDate.now());
+        for (EnvironmentDwell dwell : environmentDwellRepository.findIncludingDeletedByReleaseId(event.getReleaseId(), firstDay.atStartOfDay())) {
+            DurationHistogram[] histograms = days.get(dwell.getExitedAt().toLocalDate());
+            if (histograms != null) {
+                histograms[dwell.getEnvironment().ordinal()].remove(dwell.getDwellMillis());
+            }
+        }
+    }
+    
+    public EnvironmentDwell recordExit(Long releaseId, Long ownerId, Environment environment, LocalDateTime enteredAt,
+                                       LocalDateTime exitedAt, DeploymentAction exitAction) {
+        if (enteredAt == null) {
+            // Releases created before entry times were tracked have no known start for their current stay
+            return null;
+        }
+        EnvironmentDwell dwell = environmentDwellRepository.save(
+                new EnvironmentDwell(releaseId, ownerId, environment, enteredAt, exitedAt, exitAction));
+        AfterCommit.run(() -> {
+            add(dwell);
+            sketchService.recordDwell(environment, exitedAt, dwell.getDwellMillis());
+        });
+        return dwell;
+    }
+    
+    public Map<Environment, LatencySummary> getDwellTimes(Long ownerId, LocalDateTime start, LocalDateTime end) {
+        DurationHistogram[] merged = newHistograms();
+        if (ownerId == null && !start.toLocalDate().isBefore(firstRetainedDay(LocalDate.now()))) {
+            // Whole days only: the in-memory histograms are not split below a day
+            for (LocalDate day = start.toLocalDate(); !day.isAfter(end.toLocalDate()); day = day.plusDays(1)) {
+                DurationHistogram[] histograms = days.get(day);
+                if (histograms != null) {
+                    for (int i = 0; i < ENVIRONMENTS.length; i++) {
+                        merged[i].merge(histograms[i]);
+                    }
+                }
+            }
+        } else {
+            List<EnvironmentDwell> dwells = ownerId != null
+                    ? environmentDwellRepository.findByOwnerIdAndExitedAtBetween(ownerId, start, end)
+                    : environmentDwellRepository.findByExitedAtBetween(start, end);
+            for (EnvironmentDwell dwell : dwells) {
+                merged[dwell.getEnvironment().ordinal()].record(dwell.getDwellMillis());
+            }
+        }
+        
+        Map<Environment, LatencySummary> result = new EnumMap<>(Environment.class);
+        for (Environment environment : ENVIRONMENTS) {
+            result.put(environment, merged[environment.ordinal()].summarize());
+        }
+        return result;
+    }
+    
+    public List<EnvironmentDwell> getReleaseDwells(Long releaseId) {
+        return environmentDwellRepository.findByReleaseIdOrderByExitedAtAsc(releaseId);
+    }
+    
+    private void add(EnvironmentDwell dwell) {
+        LocalDate day = dwell.getExitedAt().toLocalDate();
+        DurationHistogram[] histograms = days.get(day);
+        if (histograms == null) {
+            histograms = days.computeIfAbsent(day, d -> newHistograms());
+            LocalDate firstDay = firstRetainedDay(day);
+            days.keySet().removeIf(existing -> existing.isBefore(firstDay));
+        }
+        histograms[dwell.getEnvironment().ordinal()].record(dwell.getDwellMillis());
+    }
+    
+    private LocalDate firstRetainedDay(LocalDate today) {
+        return today.minusDays(retentionDays - 1);
+    }
+    
+    private static DurationHistogram[] newHistograms() {
+        DurationHistogram[] histograms = new DurationHistogram[ENVIRONMENTS.length];
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new DurationHistogram();
+        }
+        return histograms;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.releasetracker.analytics;
+
+public class HotspotCount<K> {
+    private final K key;
+    private final long count;
+    
+    public HotspotCount(K key, long count) {
+        this.key = key;
+        this.count = count;
+    }
+    
+    public K getKey() {
+        return key;
+    }
+    
+    public long getCount() {
+        return count;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.releasetracker.analytics;
+
+import java.util.List;
+
+public class LatencySummary {
+    private final long count;
+    private final long meanMillis;
+    private final Long p50Millis;
+    private final Long p90Millis;
+    private final Long p99Millis;
+    private final List<Long> bucketUpperBoundsMillis;
+    private final List<Long> bucketCounts;
+    
+    public LatencySummary(long count, long meanMillis, Long p50Millis, Long p90Millis, Long p99Millis,
+                          List<Long> bucketUpperBoundsMillis, List<Long> bucketCounts) {
+        this.count = count;
+        this.meanMillis = meanMillis;
+        this.p50Millis = p50Millis;
+        this.p90Millis = p90Millis;
+        this.p99Millis = p99Millis;
+        this.bucketUpperBoundsMillis = bucketUpperBoundsMillis;
+        this.bucketCounts = bucketCounts;
+    }
+    
+    public long getCount() {
+        return count;
+    }
+    
+    public long getMeanMillis() {
+        return meanMillis;
+    }
+    
+    public Long getP50Millis() {
+        return p50Millis;
+    }
+    
+    public Long getP90Millis() {
+        return p90Millis;
+    }
+    
+    public Long getP99Millis() {
+        return p99Millis;
+    }
+    
+    public List<Long> getBucketUpperBoundsMillis() {
+        return bucketUpperBoundsMillis;
+    }
+    
+    public List<Long> getBucketCounts() {
+        return bucketCounts;
+    }
+}
\ No newline at end of file
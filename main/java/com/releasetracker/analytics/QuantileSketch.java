@@ -0,0 +1,109 @@
+package com.releasetracker.analytics;
+
+import com.releasetracker.codec.BinaryReader;
+import com.releasetracker.codec.BinaryWriter;
+
+/**
+ * Mergeable quantile sketch for millisecond durations using logarithmic buckets, so every reported
+ * quantile is within 1% of a value that was actually recorded.
+ */
+public final class QuantileSketch {
+    
+    private static final double RELATIVE_ACCURACY = 0.01;
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+    
+    private long[] counts = new long[0];
+    private int offset;
+    private long zeroCount;
+    private long count;
+    
+    public void record(long millis) {
+        count++;
+        if (millis < 1) {
+            zeroCount++;
+            return;
+        }
+        int index = (int) Math.ceil(Math.log(millis) / LOG_GAMMA);
+        ensureRange(index, index);
+        counts[index - offset]++;
+    }
+    
+    public void merge(QuantileSketch other) {
+        if (other.counts.length > 0) {
+            ensureRange(other.offset, other.offset + other.counts.length - 1);
+            for (int i = 0; i < other.counts.length; i++) {
+                counts[other.offset + i - offset] += other.counts[i];
+            }
+        }
+        zeroCount += other.zeroCount;
+        count += other.count;
+    }
+    
+    public long getCount() {
+        return count;
+    }
+    
+    public Long quantile(double quantile) {
+        if (count == 0) {
+            return null;
+        }
+        long rank = (long) Math.floor(quantile * (count - 1));
+        long seen = zeroCount;
+        if (seen > rank) {
+            return 0L;
+        }
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen > rank) {
+                return Math.round(2 * Math.pow(GAMMA, offset + i) / (GAMMA + 1));
+            }
+        }
+        return null;
+    }
+    
+    public byte[] toBytes() {
+        BinaryWriter out = new BinaryWriter(16 + counts.length * 2);
+        out.writeVarLong(zeroCount);
+        out.writeSignedVarLong(offset);
+        out.writeVarLong(counts.length);
+        for (long bucketCount : counts) {
+            out.writeVarLong(bucketCount);
+        }
+        return out.toByteArray();
+    }
+    
+    public static QuantileSketch fromBytes(byte[] bytes) {
+        QuantileSketch sketch = new QuantileSketch();
+        if (bytes == null || bytes.length == 0) {
+            return sketch;
+        }
+        BinaryReader in = new BinaryReader(bytes);
+        sketch.zeroCount = in.readVarLong();
+        sketch.count = sketch.zeroCount;
+        sketch.offset = (int) in.readSignedVarLong();
+        sketch.counts = new long[(int) in.readVarLong()];
+        for (int i = 0; i < sketch.counts.length; i++) {
+            sketch.counts[i] = in.readVarLong();
+            sketch.count += sketch.counts[i];
+        }
+        return sketch;
+    }
+    
+    private void ensureRange(int low, int high) {
+        if (counts.length == 0) {
+            counts = new long[high - low + 1];
+            offset = low;
+            return;
+        }
+        int newOffset = Math.min(offset, low);
+        int newEnd = Math.max(offset + counts.length - 1, high);
+        if (newOffset == offset && newEnd == offset + counts.length - 1) {
+            return;
+        }
+        long[] grown = new long[newEnd - newOffset + 1];
+        System.arraycopy(counts, 0, grown, offset - newOffset, counts.length);
+        counts = grown;
+        offset = newOffset;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.releasetracker.analytics;
+
+public class QuantileSummary {
+    private final long count;
+    private final Long p50Millis;
+    private final Long p90Millis;
+    private final Long p99Millis;
+    
+    public QuantileSummary(long count, Long p50Millis, Long p90Millis, Long p99Millis) {
+        this.count = count;
+        this.p50Millis = p50Millis;
+        this.p90Millis = p90Millis;
+        this.p99Millis = p99Millis;
+    }
+    
+    public static QuantileSummary of(QuantileSketch sketch) {
+        return new QuantileSummary(sketch.getCount(), sketch.quantile(0.50), sketch.quantile(0.90), sketch.quantile(0.99));
+    }
+    
+    public long getCount() {
+        return count;
+    }
+    
+    public Long getP50Millis() {
+        return p50Millis;
+    }
+    
+    public Long getP90Millis() {
+        return p90Millis;
+    }
+    
+    public Long getP99Millis() {
+        return p99Millis;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,163 @@
+package com.releasetracker.analytics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Exact per-key counts kept in count-ordered buckets, so an increment moves a key one bucket up in O(1)
+ * and the top K keys are read from the highest bucket down without sorting.
+ */
+public class RankedCounter<K> {
+    
+    private final Map<K, Node<K>> nodes = new HashMap<>();
+    private Bucket<K> lowest;
+    private Bucket<K> highest;
+    private long total;
+    
+    public synchronized long increment(K key) {
+        Node<K> node = nodes.get(key);
+        Bucket<K> target;
+        if (node == null) {
+            node = new Node<>(key);
+            nodes.put(key, node);
+            if (lowest != null && lowest.count == 1) {
+                target = lowest;
+            } else {
+                target = new Bucket<>(1);
+                insertAfter(null, target);
+            }
+        } else {
+            Bucket<K> current = node.bucket;
+            long nextCount = current.count + 1;
+            if (current.higher != null && current.higher.count == nextCount) {
+                target = current.higher;
+            } else {
+                target = new Bucket<>(nextCount);
+                insertAfter(current, target);
+            }
+            detach(node);
+        }
+        attach(node, target);
+        total++;
+        return target.count;
+    }
+    
+    // Drops the key with its whole count; returns the count it had
+    public synchronized long remove(K key) {
+        Node<K> node = nodes.remove(key);
+        if (node == null) {
+            return 0;
+        }
+        long count = node.bucket.count;
+        detach(node);
+        total -= count;
+        return count;
+    }
+    
+    public synchronized long count(K key) {
+        Node<K> node = nodes.get(key);
+        return node != null ? node.bucket.count : 0;
+    }
+    
+    public synchronized long total() {
+        return total;
+    }
+    
+    public synchronized int size() {
+        return nodes.size();
+    }
+    
+    public synchronized List<HotspotCount<K>> top(int limit) {
+        List<HotspotCount<K>> result = new ArrayList<>(Math.min(limit, nodes.size()));
+        for (Bucket<K> bucket = highest; bucket != null && result.size() < limit; bucket = bucket.lower) {
+            for (Node<K> node = bucket.head; node != null && result.size() < limit; node = node.next) {
+                result.add(new HotspotCount<>(node.key, bucket.count));
+            }
+        }
+        return result;
+    }
+    
+    private void insertAfter(Bucket<K> anchor, Bucket<K> bucket) {
+        Bucket<K> higher = anchor != null ? anchor.higher : lowest;
+        bucket.lower = anchor;
+        bucket.higher = higher;
+        if (anchor != null) {
+            anchor.higher = bucket;
+        } else {
+            lowest = bucket;
+        }
+        if (higher != null) {
+            higher.lower = bucket;
+        } else {
+            highest = bucket;
+        }
+    }
+    
+    private void attach(Node<K> node, Bucket<K> bucket) {
+        // Appending keeps keys that reached a count first ahead of later ones
+        node.bucket = bucket;
+        node.prev = bucket.tail;
+        node.next = null;
+        if (bucket.tail != null) {
+            bucket.tail.next = node;
+        } else {
+            bucket.head = node;
+        }
+        bucket.tail = node;
+    }
+    
+    private void detach(Node<K> node) {
+        Bucket<K> bucket = node.bucket;
+        if (node.prev != null) {
+            node.prev.next = node.next;
+        } else {
+            bucket.head = node.next;
+        }
+        if (node.next != null) {
+            node.next.prev = node.prev;
+        } else {
+            bucket.tail = node.prev;
+        }
+        if (bucket.head == null) {
+            unlink(bucket);
+        }
+    }
+    
+    private void unlink(Bucket<K> bucket) {
+        if (bucket.lower != null) {
+            bucket.lower.higher = bucket.higher;
+        } else {
+            lowest = bucket.higher;
+        }
+        if (bucket.higher != null) {
+            bucket.higher.lower = bucket.lower;
+        } else {
+            highest = bucket.lower;
+        }
+    }
+    
+    private static final class Bucket<K> {
+        private final long count;
+        private Bucket<K> lower;
+        private Bucket<K> higher;
+        private Node<K> head;
+        private Node<K> tail;
+        
+        private Bucket(long count) {
+            this.count = count;
+        }
+    }
+    
+    private static final class Node<K> {
+        private final K key;
+        private Bucket<K> bucket;
+        private Node<K> prev;
+        private Node<K> next;
+        
+        private Node(K key) {
+            this.key = key;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,152 @@
+package com.releasetracker.analytics;
+
+import com.releasetracker.event.ReleaseDeletedEvent;
+import com.releasetracker.model.DeploymentAction;
+import com.releasetracker.model.DeploymentLog;
+import com.releasetracker.model.Environment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class RollbackHotspotTracker {
+    
+    private static final Logger logger = LoggerFactory.getLogger(RollbackHotspotTracker.class);
+    private static final int ENVIRONMENT_COUNT = Environment.values().length;
+    private static final String LOAD_SQL = "SELECT dl.release_id, r.owner_id, dl.action, dl.from_environment, " +
+            "dl.to_environment, dl.deployment_timestamp FROM deployment_logs dl JOIN releases r ON r.id = dl.release_id " +
+            "WHERE dl.action IN ('PROMOTED', 'ROLLED_BACK') AND dl.deployment_month >= ? AND r.deleted_at IS NULL " +
+            "ORDER BY dl.deployment_timestamp";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final int retentionMonths;
+    private final Map<Integer, MonthlyStats> months = new ConcurrentHashMap<>();
+    // Last promotion into each environment per release, as epoch millis indexed by environment ordinal
+    private final Map<Long, long[]> lastPromotions = new ConcurrentHashMap<>();
+    
+    @Autowired
+    public RollbackHotspotTracker(JdbcTemplate jdbcTemplate,
+                                  @Value("${releasetracker.rollback-analytics.retention-months:3}") int retentionMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.retentionMonths = Math.max(1, retentionMonths);
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        months.clear();
+        lastPromotions.clear();
+        int firstMonth = DeploymentLog.monthOf(LocalDateTime.now().minusMonths(retentionMonths - 1));
+        long[] loaded = new long[1];
+        jdbcTemplate.query(LOAD_SQL, rs -> {
+            long releaseId = rs.getLong("release_id");
+            Environment from = Environment.valueOf(rs.getString("from_environment"));
+            Environment to = Environment.valueOf(rs.getString("to_environment"));
+            LocalDateTime at = rs.getTimestamp("deployment_timestamp").toLocalDateTime();
+            if (DeploymentAction.valueOf(rs.getString("action")) == DeploymentAction.PROMOTED) {
+                recordPromotion(releaseId, from, to, at);
+            } else {
+                long ownerId = rs.getLong("owner_id");
+                recordRollback(releaseId, rs.wasNull() ? null : ownerId, from, to, at);
+            }
+            loaded[0]++;
+        }, firstMonth);
+        logger.info("Loaded {} promotions and rollbacks into the hotspot counters", loaded[0]);
+    }
+    
+    // Environment pair and owner counts are not split by release and keep its share until the month expires
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onReleaseDeleted(ReleaseDeletedEvent event) {
+        long releaseId = event.getReleaseId();
+        lastPromotions.remove(releaseId);
+        for (MonthlyStats stats : months.values()) {
+            stats.rollbacks.addAndGet(-stats.releases.remove(releaseId));
+        }
+    }
+    
+    public synchronized void recordPromotion(Long releaseId, Environment from, Environment to, LocalDateTime at) {
+        long[] promotedAt = lastPromotions.computeIfAbsent(releaseId, id -> new long[ENVIRONMENT_COUNT]);
+        promotedAt[to.ordinal()] = DeploymentLogColumnStore.toEpochMillis(at);
+        statsFor(at).promotions.incrementAndGet();
+    }
+    
+    public synchronized void recordRollback(Long releaseId, Long ownerId, Environment from, Environment to, LocalDateTime at) {
+        MonthlyStats stats = statsFor(at);
+        stats.rollbacks.incrementAndGet();
+        stats.releases.increment(releaseId);
+        stats.environmentPairs.increment(from + "->" + to);
+        if (ownerId != null) {
+            stats.owners.increment(ownerId);
+        }
+        long[] promotedAt = lastPromotions.get(releaseId);
+        if (promotedAt != null && promotedAt[from.ordinal()] > 0) {
+            stats.rollbackAfterPromote.record(DeploymentLogColumnStore.toEpochMillis(at) - promotedAt[from.ordinal()]);
+            promotedAt[from.ordinal()] = 0;
+        }
+    }
+    
+    public RollbackHotspots getHotspots(int month, int limit) {
+        MonthlyStats stats = months.get(month);
+        if (stats == null) {
+            return new RollbackHotspots(month, 0, 0, Collections.emptyList(), Collections.emptyList(),
+                    Collections.emptyList(), new DurationHistogram().summarize());
+        }
+        return new RollbackHotspots(month,
+                stats.promotions.get(),
+                stats.rollbacks.get(),
+                stats.releases.top(limit),
+                stats.environmentPairs.top(limit),
+                stats.owners.top(limit),
+                stats.rollbackAfterPromote.summarize());
+    }
+    
+    public List<HotspotCount<Long>> getTopRolledBackReleases(int month, int limit) {
+        MonthlyStats stats = months.get(month);
+        return stats != null ? stats.releases.top(limit) : Collections.emptyList();
+    }
+    
+    private MonthlyStats statsFor(LocalDateTime at) {
+        int month = DeploymentLog.monthOf(at);
+        MonthlyStats stats = months.get(month);
+        if (stats == null) {
+            stats = new MonthlyStats();
+            months.put(month, stats);
+            int firstMonth = DeploymentLog.monthOf(at.minusMonths(retentionMonths - 1));
+            months.keySet().removeIf(existing -> existing < firstMonth);
+            // A rollback can only be matched to a promotion inside the window, so older promotions are dropped with it
+            long firstRetained = DeploymentLogColumnStore.toEpochMillis(
+                    at.minusMonths(retentionMonths - 1).withDayOfMonth(1).toLocalDate().atStartOfDay());
+            lastPromotions.values().removeIf(promotedAt -> latest(promotedAt) < firstRetained);
+        }
+        return stats;
+    }
+    
+    private static long latest(long[] promotedAt) {
+        long latest = 0;
+        for (long millis : promotedAt) {
+            latest = Math.max(latest, millis);
+        }
+        return latest;
+    }
+    
+    private static final class MonthlyStats {
+        private final AtomicLong promotions = new AtomicLong();
+        private final AtomicLong rollbacks = new AtomicLong();
+        private final RankedCounter<Long> releases = new RankedCounter<>();
+        private final RankedCounter<String> environmentPairs = new RankedCounter<>();
+        private final RankedCounter<Long> owners = new RankedCounter<>();
+        private final DurationHistogram rollbackAfterPromote = new DurationHistogram();
+    }
+}
\ No newline at end of file
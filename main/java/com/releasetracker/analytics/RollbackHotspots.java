@@ -0,0 +1,55 @@
+package com.releasetracker.analytics;
+
+import java.util.List;
+
+public class RollbackHotspots {
+    private final int month;
+    private final long promotions;
+    private final long rollbacks;
+    private final List<HotspotCount<Long>> topReleases;
+    private final List<HotspotCount<String>> topEnvironmentPairs;
+    private final List<HotspotCount<Long>> topOwners;
+    private final LatencySummary rollbackAfterPromote;
+    
+    public RollbackHotspots(int month, long promotions, long rollbacks,
+                            List<HotspotCount<Long>> topReleases,
+                            List<HotspotCount<String>> topEnvironmentPairs,
+                            List<HotspotCount<Long>> topOwners,
+                            LatencySummary rollbackAfterPromote) {
+        this.month = month;
+        this.promotions = promotions;
+        this.rollbacks = rollbacks;
+        this.topReleases = topReleases;
+        this.topEnvironmentPairs = topEnvironmentPairs;
+        this.topOwners = topOwners;
+        this.rollbackAfterPromote = rollbackAfterPromote;
+    }
+    
+    public int getMonth() {
+        return month;
+    }
+    
+    public long getPromotions() {
+        return promotions;
+    }
+    
+    public long getRollbacks() {
+        return rollbacks;
+    }
+    
+    public List<HotspotCount<Long>> getTopReleases() {
+        return topReleases;
+    }
+    
+    public List<HotspotCount<String>> getTopEnvironmentPairs() {
+        return topEnvironmentPairs;
+    }
+    
+    public List<HotspotCount<Long>> getTopOwners() {
+        return topOwners;
+    }
+    
+    public LatencySummary getRollbackAfterPromote() {
+        return rollbackAfterPromote;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,89 @@
+package com.releasetracker.analytics;
+
+import com.releasetracker.model.DeploymentSketch;
+
+final class SketchBucket {
+    
+    private DeploymentSketch entity;
+    private HyperLogLog releases;
+    private HyperLogLog deployers;
+    private QuantileSketch dwell;
+    private QuantileSketch leadTime;
+    private long deployments;
+    private boolean dirty;
+    
+    SketchBucket(DeploymentSketch entity) {
+        this.entity = entity;
+        this.releases = HyperLogLog.fromBytes(entity.getDistinctReleases());
+        this.deployers = HyperLogLog.fromBytes(entity.getDistinctDeployers());
+        this.dwell = QuantileSketch.fromBytes(entity.getDwellMillis());
+        this.leadTime = QuantileSketch.fromBytes(entity.getLeadTimeMillis());
+        this.deployments = entity.getDeployments();
+    }
+    
+    synchronized void recordDeployment(Long releaseId, Long deployerId, Long leadTimeMillis) {
+        deployments++;
+        if (releaseId != null) {
+            releases.add(releaseId);
+        }
+        if (deployerId != null) {
+            deployers.add(deployerId);
+        }
+        if (leadTimeMillis != null) {
+            leadTime.record(leadTimeMillis);
+        }
+        dirty = true;
+    }
+    
+    synchronized void recordDwell(long millis) {
+        dwell.record(millis);
+        dirty = true;
+    }
+    
+    // Takes over the counts of a bucket rebuilt off to the side; the persisted row is overwritten on the next flush
+    void replaceWith(SketchBucket rebuilt) {
+        HyperLogLog releases = new HyperLogLog();
+        HyperLogLog deployers = new HyperLogLog();
+        QuantileSketch dwell = new QuantileSketch();
+        QuantileSketch leadTime = new QuantileSketch();
+        long deployments = rebuilt.mergeInto(releases, deployers, dwell, leadTime);
+        synchronized (this) {
+            this.releases = releases;
+            this.deployers = deployers;
+            this.dwell = dwell;
+            this.leadTime = leadTime;
+            this.deployments = deployments;
+            dirty = true;
+        }
+    }
+    
+    synchronized long mergeInto(HyperLogLog releases, HyperLogLog deployers, QuantileSketch dwell, QuantileSketch leadTime) {
+        releases.merge(this.releases);
+        deployers.merge(this.deployers);
+        dwell.merge(this.dwell);
+        leadTime.merge(this.leadTime);
+        return deployments;
+    }
+    
+    // Copies the sketches into the entity and clears the dirty flag; null when there is nothing to write
+    synchronized DeploymentSketch takeChanges() {
+        if (!dirty) {
+            return null;
+        }
+        entity.setDeployments(deployments);
+        entity.setDistinctReleases(releases.toBytes());
+        entity.setDistinctDeployers(deployers.toBytes());
+        entity.setDwellMillis(dwell.toBytes());
+        entity.setLeadTimeMillis(leadTime.toBytes());
+        dirty = false;
+        return entity;
+    }
+    
+    synchronized void saved(DeploymentSketch savedEntity) {
+        entity = savedEntity;
+    }
+    
+    synchronized void markDirty() {
+        dirty = true;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.releasetracker.analytics;
+
+import com.releasetracker.model.Environment;
+
+import java.time.LocalDate;
+
+public class SketchSummary {
+    private final LocalDate startDay;
+    private final LocalDate endDay;
+    private final Environment environment;
+    private final long deployments;
+    private final long distinctReleases;
+    private final long distinctDeployers;
+    private final QuantileSummary dwell;
+    private final QuantileSummary leadTime;
+    
+    public SketchSummary(LocalDate startDay, LocalDate endDay, Environment environment, long deployments,
+                         long distinctReleases, long distinctDeployers, QuantileSummary dwell, QuantileSummary leadTime) {
+        this.startDay = startDay;
+        this.endDay = endDay;
+        this.environment = environment;
+        this.deployments = deployments;
+        this.distinctReleases = distinctReleases;
+        this.distinctDeployers = distinctDeployers;
+        this.dwell = dwell;
+        this.leadTime = leadTime;
+    }
+    
+    public LocalDate getStartDay() {
+        return startDay;
+    }
+    
+    public LocalDate getEndDay() {
+        return endDay;
+    }
+    
+    public Environment getEnvironment() {
+        return environment;
+    }
+    
+    public long getDeployments() {
+        return deployments;
+    }
+    
+    public long getDistinctReleases() {
+        return distinctReleases;
+    }
+    
+    public long getDistinctDeployers() {
+        return distinctDeployers;
+    }
+    
+    public QuantileSummary getDwell() {
+        return dwell;
+    }
+    
+    public QuantileSummary getLeadTime() {
+        return leadTime;
+    }
+}
\ No newline at end of file
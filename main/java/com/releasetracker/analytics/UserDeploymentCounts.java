@@ -0,0 +1,34 @@
+package com.releasetracker.analytics;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class UserDeploymentCounts {
+    private final Long userId;
+    private final LocalDate firstWeekStart;
+    private final List<Long> weeklyCounts;
+    private final long total;
+    
+    public UserDeploymentCounts(Long userId, LocalDate firstWeekStart, List<Long> weeklyCounts, long total) {
+        this.userId = userId;
+        this.firstWeekStart = firstWeekStart;
+        this.weeklyCounts = weeklyCounts;
+        this.total = total;
+    }
+    
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public LocalDate getFirstWeekStart() {
+        return firstWeekStart;
+    }
+    
+    public List<Long> getWeeklyCounts() {
+        return weeklyCounts;
+    }
+    
+    public long getTotal() {
+        return total;
+    }
+}
\ No newline at end of file
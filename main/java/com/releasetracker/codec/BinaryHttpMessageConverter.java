@@ -0,0 +1,70 @@
+package com.releasetracker.codec;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.List;
+
+public class BinaryHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+    
+    private final ReleaseTrackerBinaryFormat format;
+    
+    public BinaryHttpMessageConverter(ReleaseTrackerBinaryFormat format) {
+        super(ReleaseTrackerBinaryFormat.MEDIA_TYPE);
+        this.format = format;
+    }
+    
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return List.class.isAssignableFrom(clazz) || format.supports(clazz);
+    }
+    
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+    
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        if (!canWrite(mediaType) || !supports(clazz)) {
+            return false;
+        }
+        if (!List.class.isAssignableFrom(clazz)) {
+            return true;
+        }
+        // ResponseEntity<?> bodies carry no element type; those are checked per element when written
+        Class<?> elementType = type != null ? ResolvableType.forType(type).asCollection().resolveGeneric(0) : null;
+        return elementType == null || elementType == Object.class || format.supports(elementType);
+    }
+    
+    @Override
+    protected void writeInternal(Object value, Type type, HttpOutputMessage outputMessage) throws IOException {
+        byte[] payload;
+        try {
+            // A single entity goes out as a one-element list, so clients decode every response the same way
+            payload = format.encodeList(value instanceof List ? (List<?>) value : Collections.singletonList(value));
+        } catch (IllegalArgumentException e) {
+            throw new HttpMessageNotWritableException(e.getMessage(), e);
+        }
+        outputMessage.getHeaders().setContentLength(payload.length);
+        outputMessage.getBody().write(payload);
+    }
+    
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Binary request bodies are not supported", inputMessage);
+    }
+    
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Binary request bodies are not supported", inputMessage);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,126 @@
+package com.releasetracker.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+public final class BinaryReader {
+    
+    private final byte[] buffer;
+    private int position;
+    private final int limit;
+    private final List<String> strings = new ArrayList<>();
+    private final Map<Class<?>, List<Object>> references = new HashMap<>();
+    private int version = ReleaseTrackerBinaryFormat.VERSION;
+    
+    public BinaryReader(byte[] buffer) {
+        this(buffer, 0, buffer.length);
+    }
+    
+    public BinaryReader(byte[] buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.position = offset;
+        this.limit = offset + length;
+    }
+    
+    // Format version of the payload being read; codecs skip fields that older versions did not write
+    public int getVersion() {
+        return version;
+    }
+    
+    void setVersion(int version) {
+        this.version = version;
+    }
+    
+    public int readByte() {
+        if (position >= limit) {
+            throw new IllegalArgumentException("Unexpected end of binary payload");
+        }
+        return buffer[position++] & 0xFF;
+    }
+    
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+    
+    public long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint in binary payload");
+    }
+    
+    public long readSignedVarLong() {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+    
+    public Long readNullableId() {
+        long value = readVarLong();
+        return value == 0 ? null : value - 1;
+    }
+    
+    public <E extends Enum<E>> E readEnum(E[] values) {
+        int ordinal = (int) readVarLong();
+        return ordinal == 0 ? null : values[ordinal - 1];
+    }
+    
+    public String readString() {
+        long tag = readVarLong();
+        if (tag == 0) {
+            return null;
+        }
+        if (tag > 1) {
+            return strings.get((int) (tag - 2));
+        }
+        int length = (int) readVarLong();
+        if (length < 0 || position + length > limit) {
+            throw new IllegalArgumentException("String length exceeds binary payload");
+        }
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        strings.add(value);
+        return value;
+    }
+    
+    public LocalDateTime readTimestamp() {
+        long value = readVarLong();
+        if (value == 0) {
+            return null;
+        }
+        value -= 1;
+        long micros = (value >>> 1) ^ -(value & 1);
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+    
+    public <T> T readReference(Class<T> type, Function<BinaryReader, T> bodyReader) {
+        long tag = readVarLong();
+        if (tag == 0) {
+            return null;
+        }
+        List<Object> seen = references.computeIfAbsent(type, key -> new ArrayList<>());
+        if (tag > 1) {
+            return type.cast(seen.get((int) (tag - 2)));
+        }
+        int slot = seen.size();
+        seen.add(null);
+        T value = bodyReader.apply(this);
+        seen.set(slot, value);
+        return value;
+    }
+    
+    public boolean hasRemaining() {
+        return position < limit;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,121 @@
+package com.releasetracker.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public final class BinaryWriter {
+    
+    private byte[] buffer;
+    private int size;
+    private final Map<String, Integer> strings = new HashMap<>();
+    private final Map<Class<?>, Map<Long, Integer>> references = new HashMap<>();
+    private final Map<Class<?>, Integer> referenceCounts = new HashMap<>();
+    
+    public BinaryWriter(int initialCapacity) {
+        buffer = new byte[Math.max(16, initialCapacity)];
+    }
+    
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) value;
+    }
+    
+    public void writeBoolean(boolean value) {
+        writeByte(value ? 1 : 0);
+    }
+    
+    public void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[size++] = (byte) value;
+    }
+    
+    public void writeSignedVarLong(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+    
+    public void writeNullableId(Long id) {
+        writeVarLong(id == null ? 0 : id + 1);
+    }
+    
+    public void writeEnum(Enum<?> value) {
+        writeVarLong(value == null ? 0 : value.ordinal() + 1);
+    }
+    
+    // 0 = null, 1 = literal that joins the string table, n = table entry n - 2
+    public void writeString(String value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        Integer index = strings.get(value);
+        if (index != null) {
+            writeVarLong(index + 2L);
+            return;
+        }
+        strings.put(value, strings.size());
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(1);
+        writeVarLong(bytes.length);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+    }
+    
+    public void writeTimestamp(LocalDateTime value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long micros = value.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + value.getNano() / 1_000;
+        writeVarLong(((micros << 1) ^ (micros >> 63)) + 1);
+    }
+    
+    /**
+     * Writes the reference tag for an entity and returns true when the caller
+     * must follow it with the entity body; repeated ids become back-references.
+     */
+    public boolean writeReference(Class<?> type, Long id, boolean present) {
+        if (!present) {
+            writeVarLong(0);
+            return false;
+        }
+        Map<Long, Integer> seen = references.computeIfAbsent(type, key -> new HashMap<>());
+        Integer index = id != null ? seen.get(id) : null;
+        if (index != null) {
+            writeVarLong(index + 2L);
+            return false;
+        }
+        int next = referenceCounts.merge(type, 1, Integer::sum) - 1;
+        if (id != null) {
+            seen.put(id, next);
+        }
+        writeVarLong(1);
+        return true;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+    
+    byte[] buffer() {
+        return buffer;
+    }
+    
+    private void ensureCapacity(int extra) {
+        if (size + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.releasetracker.codec;
+
+import com.releasetracker.model.DeploymentAction;
+import com.releasetracker.model.DeploymentLog;
+import com.releasetracker.model.Environment;
+
+public class DeploymentLogCodec implements EntityCodec<DeploymentLog> {
+    
+    private static final Environment[] ENVIRONMENTS = Environment.values();
+    private static final DeploymentAction[] ACTIONS = DeploymentAction.values();
+    
+    private final ReleaseCodec releaseCodec;
+    private final UserCodec userCodec;
+    
+    public DeploymentLogCodec(ReleaseCodec releaseCodec, UserCodec userCodec) {
+        this.releaseCodec = releaseCodec;
+        this.userCodec = userCodec;
+    }
+    
+    @Override
+    public Class<DeploymentLog> type() {
+        return DeploymentLog.class;
+    }
+    
+    @Override
+    public void write(BinaryWriter out, DeploymentLog log) {
+        out.writeNullableId(log.getId());
+        releaseCodec.writeReference(out, log.getRelease());
+        out.writeEnum(log.getEnvironment());
+        userCodec.writeReference(out, log.getDeployedBy());
+        out.writeTimestamp(log.getDeploymentTimestamp());
+        out.writeString(log.getNotes());
+        out.writeBoolean(log.isSuccess());
+        out.writeEnum(log.getAction());
+        out.writeEnum(log.getFromEnvironment());
+        out.writeEnum(log.getToEnvironment());
+    }
+    
+    @Override
+    public DeploymentLog read(BinaryReader in) {
+        DeploymentLog log = new DeploymentLog();
+        log.setId(in.readNullableId());
+        log.setRelease(releaseCodec.readReference(in));
+        log.setEnvironment(in.readEnum(ENVIRONMENTS));
+        log.setDeployedBy(userCodec.readReference(in));
+        log.setDeploymentTimestamp(in.readTimestamp());
+        log.setNotes(in.readString());
+        log.setSuccess(in.readBoolean());
+        if (in.getVersion() >= 2) {
+            log.setAction(in.readEnum(ACTIONS));
+            log.setFromEnvironment(in.readEnum(ENVIRONMENTS));
+            log.setToEnvironment(in.readEnum(ENVIRONMENTS));
+        }
+        return log;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.releasetracker.codec;
+
+public interface EntityCodec<T> {
+    Class<T> type();
+    void write(BinaryWriter out, T value);
+    T read(BinaryReader in);
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.releasetracker.codec;
+
+import com.releasetracker.model.Environment;
+import com.releasetracker.model.Release;
+
+public class ReleaseCodec implements EntityCodec<Release> {
+    
+    private static final Environment[] ENVIRONMENTS = Environment.values();
+    
+    private final UserCodec userCodec;
+    
+    public ReleaseCodec(UserCodec userCodec) {
+        this.userCodec = userCodec;
+    }
+    
+    @Override
+    public Class<Release> type() {
+        return Release.class;
+    }
+    
+    @Override
+    public void write(BinaryWriter out, Release release) {
+        out.writeNullableId(release.getId());
+        out.writeString(release.getVersionNumber());
+        out.writeString(release.getDescription());
+        userCodec.writeReference(out, release.getOwner());
+        out.writeEnum(release.getCurrentEnvironment());
+        out.writeTimestamp(release.getCreatedAt());
+        out.writeTimestamp(release.getUpdatedAt());
+        out.writeTimestamp(release.getEnvironmentEnteredAt());
+    }
+    
+    @Override
+    public Release read(BinaryReader in) {
+        Release release = new Release();
+        release.setId(in.readNullableId());
+        release.setVersionNumber(in.readString());
+        release.setDescription(in.readString());
+        release.setOwner(userCodec.readReference(in));
+        release.setCurrentEnvironment(in.readEnum(ENVIRONMENTS));
+        release.setCreatedAt(in.readTimestamp());
+        release.setUpdatedAt(in.readTimestamp());
+        if (in.getVersion() >= 3) {
+            release.setEnvironmentEnteredAt(in.readTimestamp());
+        }
+        return release;
+    }
+    
+    void writeReference(BinaryWriter out, Release release) {
+        if (out.writeReference(Release.class, release != null ? release.getId() : null, release != null)) {
+            write(out, release);
+        }
+    }
+    
+    Release readReference(BinaryReader in) {
+        return in.readReference(Release.class, this::read);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.releasetracker.codec;
+
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public final class ReleaseTrackerBinaryFormat {
+    
+    public static final String MEDIA_TYPE_VALUE = "application/x-releasetracker-binary";
+    public static final MediaType MEDIA_TYPE = MediaType.valueOf(MEDIA_TYPE_VALUE);
+    
+    private static final int MAGIC = 0xB7;
+    static final int VERSION = 3;
+    // v1 had no deployment log transition fields, v2 no release environment entry time
+    private static final int OLDEST_READABLE_VERSION = 1;
+    private static final int EMPTY = 0;
+    
+    // The position of each codec is its wire tag, so new types may only be appended
+    private final List<EntityCodec<?>> codecs;
+    
+    public ReleaseTrackerBinaryFormat() {
+        UserCodec userCodec = new UserCodec();
+        ReleaseCodec releaseCodec = new ReleaseCodec(userCodec);
+        codecs = Arrays.asList(userCodec, releaseCodec, new DeploymentLogCodec(releaseCodec, userCodec));
+    }
+    
+    public boolean supports(Class<?> type) {
+        return codecFor(type) != null;
+    }
+    
+    public byte[] encodeList(List<?> values) {
+        BinaryWriter out = new BinaryWriter(64 + values.size() * 48);
+        writeList(out, values);
+        return out.toByteArray();
+    }
+    
+    public void writeList(BinaryWriter out, List<?> values) {
+        out.writeByte(MAGIC);
+        out.writeByte(VERSION);
+        if (values.isEmpty()) {
+            out.writeByte(EMPTY);
+            return;
+        }
+        
+        EntityCodec<?> codec = codecFor(values.get(0).getClass());
+        if (codec == null) {
+            throw new IllegalArgumentException("No binary codec for " + values.get(0).getClass().getName());
+        }
+        out.writeByte(codecs.indexOf(codec) + 1);
+        out.writeVarLong(values.size());
+        writeAll(out, codec, values);
+    }
+    
+    public List<?> decodeList(byte[] payload) {
+        BinaryReader in = new BinaryReader(payload);
+        int version = in.readByte() == MAGIC ? in.readByte() : -1;
+        if (version < OLDEST_READABLE_VERSION || version > VERSION) {
+            throw new IllegalArgumentException("Not a " + MEDIA_TYPE_VALUE + " v" + OLDEST_READABLE_VERSION + "-v" + VERSION + " payload");
+        }
+        in.setVersion(version);
+        int tag = in.readByte();
+        if (tag == EMPTY) {
+            return Collections.emptyList();
+        }
+        if (tag > codecs.size()) {
+            throw new IllegalArgumentException("Unknown binary type tag: " + tag);
+        }
+        
+        EntityCodec<?> codec = codecs.get(tag - 1);
+        int count = (int) in.readVarLong();
+        List<Object> values = new ArrayList<>(Math.min(count, 1 << 16));
+        for (int i = 0; i < count; i++) {
+            values.add(codec.read(in));
+        }
+        return values;
+    }
+    
+    private <T> void writeAll(BinaryWriter out, EntityCodec<T> codec, List<?> values) {
+        Class<T> type = codec.type();
+        for (Object value : values) {
+            if (!type.isInstance(value)) {
+                throw new IllegalArgumentException("Mixed element types in binary list: " + value.getClass().getName());
+            }
+            codec.write(out, type.cast(value));
+        }
+    }
+    
+    private EntityCodec<?> codecFor(Class<?> type) {
+        for (EntityCodec<?> codec : codecs) {
+            if (codec.type().isAssignableFrom(type)) {
+                return codec;
+            }
+        }
+        return null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.releasetracker.codec;
+
+import com.releasetracker.model.User;
+import com.releasetracker.model.UserRole;
+
+public class UserCodec implements EntityCodec<User> {
+    
+    private static final UserRole[] ROLES = UserRole.values();
+    
+    @Override
+    public Class<User> type() {
+        return User.class;
+    }
+    
+    @Override
+    public void write(BinaryWriter out, User user) {
+        out.writeNullableId(user.getId());
+        out.writeString(user.getUsername());
+        out.writeString(user.getEmail());
+        out.writeString(user.getFullName());
+        out.writeEnum(user.getRole());
+    }
+    
+    @Override
+    public User read(BinaryReader in) {
+        User user = new User();
+        user.setId(in.readNullableId());
+        user.setUsername(in.readString());
+        user.setEmail(in.readString());
+        user.setFullName(in.readString());
+        user.setRole(in.readEnum(ROLES));
+        return user;
+    }
+    
+    void writeReference(BinaryWriter out, User user) {
+        if (out.writeReference(User.class, user != null ? user.getId() : null, user != null)) {
+            write(out, user);
+        }
+    }
+    
+    User readReference(BinaryReader in) {
+        return in.readReference(User.class, this::read);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,111 @@
+package com.releasetracker.config;
+
+import com.releasetracker.instrumentation.DataSourceMetrics;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resizes the connection pool to the measured demand. By Little's law the connections in use average
+ * acquisitions/s * hold time, so the pool aims for that plus headroom. When hold times climb well above the best
+ * seen recently while callers queue, the database itself is the bottleneck and more connections would only add
+ * contention, so the pool shrinks instead.
+ */
+@Component
+@ConditionalOnProperty(name = "releasetracker.datasource.adaptive-sizing.enabled", havingValue = "true")
+public class AdaptivePoolSizer {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AdaptivePoolSizer.class);
+    private static final double HEADROOM = 1.25;
+    private static final double BASELINE_DRIFT = 1.05;
+    private static final long QUEUEING_NANOS = 1_000_000;
+    
+    private final DataSourceMetrics metrics;
+    private final int minSize;
+    private final int maxSize;
+    private final double latencyTolerance;
+    private long lastNanos = System.nanoTime();
+    private long lastAcquisitions;
+    private long lastAcquireNanos;
+    private long lastReleases;
+    private long lastHoldMillis;
+    private long lastTimeouts;
+    private double baselineHoldMillis;
+    
+    @Autowired
+    public AdaptivePoolSizer(DataSourceMetrics metrics,
+                             @Value("${releasetracker.datasource.adaptive-sizing.min-size:2}") int minSize,
+                             @Value("${releasetracker.datasource.adaptive-sizing.max-size:20}") int maxSize,
+                             @Value("${releasetracker.datasource.adaptive-sizing.latency-tolerance:2.0}") double latencyTolerance) {
+        this.metrics = metrics;
+        this.minSize = Math.max(1, minSize);
+        this.maxSize = Math.max(this.minSize, maxSize);
+        this.latencyTolerance = latencyTolerance;
+    }
+    
+    @Scheduled(fixedDelayString = "${releasetracker.datasource.adaptive-sizing.interval-ms:10000}")
+    public synchronized void adjust() {
+        HikariConfigMXBean pool = metrics.getPoolConfig();
+        if (pool == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        long acquisitions = metrics.getAcquisitions();
+        long acquireNanos = metrics.getTotalAcquireNanos();
+        long releases = metrics.getReleases();
+        long holdMillis = metrics.getTotalHoldMillis();
+        long timeouts = metrics.getTimeouts();
+        
+        int current = pool.getMaximumPoolSize();
+        int next = nextSize(current, (now - lastNanos) / 1e9, acquisitions - lastAcquisitions,
+                acquireNanos - lastAcquireNanos, releases - lastReleases, holdMillis - lastHoldMillis,
+                timeouts - lastTimeouts);
+        lastNanos = now;
+        lastAcquisitions = acquisitions;
+        lastAcquireNanos = acquireNanos;
+        lastReleases = releases;
+        lastHoldMillis = holdMillis;
+        lastTimeouts = timeouts;
+        
+        if (next != current) {
+            if (pool.getMinimumIdle() > next) {
+                pool.setMinimumIdle(next);
+            }
+            pool.setMaximumPoolSize(next);
+            logger.info("Resized connection pool from {} to {} (baseline hold time {} ms)", current, next,
+                    String.format("%.1f", baselineHoldMillis));
+        }
+    }
+    
+    // Moves at most one connection down or two up per interval so a single noisy interval cannot swing the pool
+    int nextSize(int current, double intervalSeconds, long acquisitions, long acquireNanos, long releases,
+                 long holdMillis, long timeouts) {
+        if (releases == 0 || intervalSeconds <= 0) {
+            return clamp(acquisitions == 0 ? current - 1 : current);
+        }
+        double meanHoldMillis = (double) holdMillis / releases;
+        baselineHoldMillis = baselineHoldMillis == 0 ? meanHoldMillis
+                : Math.min(meanHoldMillis, baselineHoldMillis * BASELINE_DRIFT);
+        boolean queueing = timeouts > 0 || (acquisitions > 0 && acquireNanos / acquisitions > QUEUEING_NANOS);
+        
+        double busyConnections = releases / intervalSeconds * meanHoldMillis / 1000.0;
+        int target = (int) Math.ceil(busyConnections * HEADROOM) + (queueing ? 1 : 0);
+        if (queueing && meanHoldMillis > Math.max(baselineHoldMillis, 1) * latencyTolerance) {
+            target = current - 1;
+        }
+        return clamp(current + Math.max(-1, Math.min(2, target - current)));
+    }
+    
+    double getBaselineHoldMillis() {
+        return baselineHoldMillis;
+    }
+    
+    private int clamp(int size) {
+        return Math.max(minSize, Math.min(maxSize, size));
+    }
+}
\ No newline at end of file
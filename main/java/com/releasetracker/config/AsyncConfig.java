@@ -0,0 +1,29 @@
+package com.releasetracker.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+import java.util.concurrent.Executor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig implements AsyncConfigurer {
+    
+    private final ExecutionMode executionMode;
+    
+    @Autowired
+    public AsyncConfig(ExecutionMode executionMode) {
+        this.executionMode = executionMode;
+    }
+    
+    @Override
+    public Executor getAsyncExecutor() {
+        if (executionMode.isVirtual()) {
+            return new TaskExecutorAdapter(executionMode.getVirtualThreadExecutor());
+        }
+        return null;
+    }
+}
\ No newline at end of file
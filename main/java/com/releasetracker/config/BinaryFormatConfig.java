@@ -0,0 +1,19 @@
+package com.releasetracker.config;
+
+import com.releasetracker.codec.BinaryHttpMessageConverter;
+import com.releasetracker.codec.ReleaseTrackerBinaryFormat;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class BinaryFormatConfig implements WebMvcConfigurer {
+    
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Appended last so JSON stays the default for clients that accept */*
+        converters.add(new BinaryHttpMessageConverter(new ReleaseTrackerBinaryFormat()));
+    }
+}
\ No newline at end of file
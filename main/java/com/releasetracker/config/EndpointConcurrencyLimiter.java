@@ -0,0 +1,61 @@
+package com.releasetracker.config;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+public class EndpointConcurrencyLimiter implements HandlerInterceptor {
+    
+    private static final String PERMIT_ATTRIBUTE = EndpointConcurrencyLimiter.class.getName() + ".permit";
+    
+    private final int maxConcurrent;
+    private final long maxWaitMillis;
+    private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+    
+    public EndpointConcurrencyLimiter(int maxConcurrent, long maxWaitMillis) {
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaitMillis = maxWaitMillis;
+    }
+    
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        // Async requests are dispatched again once the result is ready; the first dispatch already holds the permit
+        if (!(handler instanceof HandlerMethod) || request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            return true;
+        }
+        
+        Semaphore permit = permits.computeIfAbsent(endpointOf((HandlerMethod) handler), endpoint -> new Semaphore(maxConcurrent));
+        if (!permit.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Too many concurrent requests for this endpoint");
+            return false;
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, permit);
+        return true;
+    }
+    
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Semaphore permit = (Semaphore) request.getAttribute(PERMIT_ATTRIBUTE);
+        if (permit != null) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            permit.release();
+        }
+    }
+    
+    public int availablePermits(String endpoint) {
+        Semaphore permit = permits.get(endpoint);
+        return permit != null ? permit.availablePermits() : maxConcurrent;
+    }
+    
+    static String endpointOf(HandlerMethod handlerMethod) {
+        return handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.releasetracker.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+@Component
+public class ExecutionMode {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ExecutionMode.class);
+    
+    private final ExecutorService virtualThreadExecutor;
+    
+    public ExecutionMode(@Value("${releasetracker.execution.mode:platform}") String mode) {
+        if ("virtual".equalsIgnoreCase(mode)) {
+            virtualThreadExecutor = VirtualThreads.newExecutor("vt-");
+            if (virtualThreadExecutor == null) {
+                logger.warn("Virtual threads need Java 21 or newer (running {}), using platform threads", Runtime.version());
+            }
+        } else {
+            virtualThreadExecutor = null;
+        }
+    }
+    
+    public boolean isVirtual() {
+        return virtualThreadExecutor != null;
+    }
+    
+    public Executor getVirtualThreadExecutor() {
+        return virtualThreadExecutor;
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        if (virtualThreadExecutor != null) {
+            virtualThreadExecutor.shutdown();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.releasetracker.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class ExecutionModeConfig implements WebMvcConfigurer {
+    
+    private final ExecutionMode executionMode;
+    private final int endpointMaxConcurrency;
+    private final long endpointMaxWaitMillis;
+    
+    @Autowired
+    public ExecutionModeConfig(ExecutionMode executionMode,
+                               @Value("${releasetracker.execution.endpoint-max-concurrency:20}") int endpointMaxConcurrency,
+                               @Value("${releasetracker.execution.endpoint-max-wait-ms:500}") long endpointMaxWaitMillis) {
+        this.executionMode = executionMode;
+        this.endpointMaxConcurrency = endpointMaxConcurrency;
+        this.endpointMaxWaitMillis = endpointMaxWaitMillis;
+    }
+    
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> virtualThreadTomcatCustomizer() {
+        return factory -> {
+            if (executionMode.isVirtual()) {
+                factory.addProtocolHandlerCustomizers(protocolHandler ->
+                        protocolHandler.setExecutor(executionMode.getVirtualThreadExecutor()));
+            }
+        };
+    }
+    
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Platform mode is already bounded by the Tomcat worker pool; virtual threads are not
+        if (executionMode.isVirtual()) {
+            registry.addInterceptor(new EndpointConcurrencyLimiter(endpointMaxConcurrency, endpointMaxWaitMillis))
+                    .addPathPatterns("/api/**");
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,135 @@
+package com.releasetracker.config;
+
+import com.releasetracker.instrumentation.DataSourceMetrics;
+import com.releasetracker.instrumentation.EndpointLatencyInterceptor;
+import com.releasetracker.instrumentation.EndpointLatencyRecorder;
+import com.releasetracker.instrumentation.InstrumentedDataSource;
+import com.releasetracker.instrumentation.InstrumentedJsonHttpMessageConverter;
+import com.releasetracker.instrumentation.RepositoryQueryRecorder;
+import com.releasetracker.instrumentation.ServerTimingFilter;
+import com.releasetracker.instrumentation.TransactionMetricsRecorder;
+import com.releasetracker.repository.DeploymentLogRepository;
+import com.releasetracker.repository.ReleaseRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(name = "releasetracker.instrumentation.enabled", havingValue = "true", matchIfMissing = true)
+public class InstrumentationConfig implements WebMvcConfigurer {
+    
+    private final EndpointLatencyRecorder endpointLatencyRecorder;
+    private final int serializationBufferBytes;
+    
+    @Autowired
+    public InstrumentationConfig(EndpointLatencyRecorder endpointLatencyRecorder,
+                                 @Value("${releasetracker.instrumentation.serialization-buffer-bytes:65536}") int serializationBufferBytes) {
+        this.endpointLatencyRecorder = endpointLatencyRecorder;
+        this.serializationBufferBytes = serializationBufferBytes;
+    }
+    
+    @Bean
+    public static BeanPostProcessor dataSourceInstrumenter(DataSourceMetrics dataSourceMetrics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource) {
+                    dataSourceMetrics.attach((HikariDataSource) bean);
+                }
+                return bean;
+            }
+            
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource && !(bean instanceof InstrumentedDataSource)) {
+                    return new InstrumentedDataSource((DataSource) bean);
+                }
+                return bean;
+            }
+        };
+    }
+    
+    @Bean
+    public static BeanPostProcessor transactionMetricsRecorder(DataSourceMetrics dataSourceMetrics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof PlatformTransactionManager) {
+                    ProxyFactory proxyFactory = new ProxyFactory(bean);
+                    proxyFactory.addAdvice(new TransactionMetricsRecorder(dataSourceMetrics));
+                    return proxyFactory.getProxy();
+                }
+                return bean;
+            }
+        };
+    }
+    
+    // JFR repository events; they cost a single isEnabled() check per call when no recording asks for them
+    @Bean
+    public static BeanPostProcessor repositoryQueryRecorder() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof ReleaseRepository) {
+                    return recordQueries(bean, ReleaseRepository.class, true);
+                }
+                if (bean instanceof DeploymentLogRepository) {
+                    return recordQueries(bean, DeploymentLogRepository.class, false);
+                }
+                return bean;
+            }
+        };
+    }
+    
+    private static Object recordQueries(Object repository, Class<?> repositoryInterface, boolean releaseRepository) {
+        ProxyFactory proxyFactory = new ProxyFactory();
+        proxyFactory.setTarget(repository);
+        proxyFactory.addInterface(repositoryInterface);
+        proxyFactory.addAdvice(new RepositoryQueryRecorder(repositoryInterface, releaseRepository));
+        return proxyFactory.getProxy();
+    }
+    
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(
+            @Value("${releasetracker.instrumentation.slow-request-ms:500}") long slowRequestMillis,
+            @Value("${releasetracker.instrumentation.slow-request-sample-rate:1.0}") double slowRequestSampleRate,
+            @Value("${releasetracker.instrumentation.max-logged-statements:50}") int maxStatements) {
+        FilterRegistrationBean<ServerTimingFilter> registration =
+                new FilterRegistrationBean<>(new ServerTimingFilter(slowRequestMillis, slowRequestSampleRate, maxStatements));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+    
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new EndpointLatencyInterceptor(endpointLatencyRecorder, "com.releasetracker.controller"))
+                .addPathPatterns("/api/**");
+    }
+    
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        for (int i = 0; i < converters.size(); i++) {
+            HttpMessageConverter<?> converter = converters.get(i);
+            if (converter.getClass() == MappingJackson2HttpMessageConverter.class) {
+                converters.set(i, new InstrumentedJsonHttpMessageConverter(
+                        ((MappingJackson2HttpMessageConverter) converter).getObjectMapper(), serializationBufferBytes));
+            }
+        }
+    }
+}
\ No newline at end of file
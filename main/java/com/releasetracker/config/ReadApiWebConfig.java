@@ -0,0 +1,31 @@
+package com.releasetracker.config;
+
+import com.releasetracker.reactive.StreamingResponseExecutor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class ReadApiWebConfig implements WebMvcConfigurer {
+    
+    private final StreamingResponseExecutor streamingResponseExecutor;
+    private final long streamingTimeoutMillis;
+    
+    @Autowired
+    public ReadApiWebConfig(StreamingResponseExecutor streamingResponseExecutor,
+                            @Value("${releasetracker.streaming.timeout-ms:0}") long streamingTimeoutMillis) {
+        this.streamingResponseExecutor = streamingResponseExecutor;
+        this.streamingTimeoutMillis = streamingTimeoutMillis;
+    }
+    
+    // Only StreamingResponseBody and Callable results run on the MVC executor; CompletableFuture endpoints already
+    // complete on the read-query pool through ReadQueryExecutor#submit, which applies the read-API timeout itself.
+    // The default timeout therefore only bounds streams, and 0 lets a large stream run to the end of its array.
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(streamingResponseExecutor.getTaskExecutor());
+        configurer.setDefaultTimeout(streamingTimeoutMillis);
+    }
+}
\ No newline at end of file
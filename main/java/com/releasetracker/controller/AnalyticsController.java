@@ -0,0 +1,110 @@
+package com.releasetracker.controller;
+
+import com.releasetracker.analytics.DeploymentAnalyticsService;
+import com.releasetracker.analytics.DeploymentSketchService;
+import com.releasetracker.analytics.DwellTimeTracker;
+import com.releasetracker.analytics.HotspotCount;
+import com.releasetracker.analytics.LatencySummary;
+import com.releasetracker.analytics.RollbackHotspotTracker;
+import com.releasetracker.analytics.RollbackHotspots;
+import com.releasetracker.analytics.SketchSummary;
+import com.releasetracker.analytics.UserDeploymentCounts;
+import com.releasetracker.model.DeploymentLog;
+import com.releasetracker.model.Environment;
+import com.releasetracker.model.EnvironmentDwell;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/analytics")
+@CrossOrigin(origins = "*")
+public class AnalyticsController {
+    
+    private final DeploymentAnalyticsService deploymentAnalyticsService;
+    private final RollbackHotspotTracker rollbackHotspotTracker;
+    private final DwellTimeTracker dwellTimeTracker;
+    private final DeploymentSketchService deploymentSketchService;
+    
+    @Autowired
+    public AnalyticsController(DeploymentAnalyticsService deploymentAnalyticsService,
+                               RollbackHotspotTracker rollbackHotspotTracker,
+                               DwellTimeTracker dwellTimeTracker,
+                               DeploymentSketchService deploymentSketchService) {
+        this.deploymentAnalyticsService = deploymentAnalyticsService;
+        this.rollbackHotspotTracker = rollbackHotspotTracker;
+        this.dwellTimeTracker = dwellTimeTracker;
+        this.deploymentSketchService = deploymentSketchService;
+    }
+    
+    @GetMapping("/failures-by-environment")
+    public ResponseEntity<Map<Environment, Long>> getFailuresByEnvironment(@RequestParam(defaultValue = "30") int days) {
+        Map<Environment, Long> failures = deploymentAnalyticsService.getFailuresByEnvironment(days);
+        return new ResponseEntity<>(failures, HttpStatus.OK);
+    }
+    
+    @GetMapping("/deployments-by-environment")
+    public ResponseEntity<Map<Environment, Long>> getDeploymentsByEnvironment(@RequestParam(defaultValue = "30") int days) {
+        Map<Environment, Long> deployments = deploymentAnalyticsService.getDeploymentsByEnvironment(days);
+        return new ResponseEntity<>(deployments, HttpStatus.OK);
+    }
+    
+    @GetMapping("/deployments-by-user")
+    public ResponseEntity<List<UserDeploymentCounts>> getDeploymentsByUserPerWeek(@RequestParam(defaultValue = "4") int weeks) {
+        List<UserDeploymentCounts> deployments = deploymentAnalyticsService.getDeploymentsByUserPerWeek(weeks);
+        return new ResponseEntity<>(deployments, HttpStatus.OK);
+    }
+    
+    @GetMapping("/rollbacks")
+    public ResponseEntity<RollbackHotspots> getRollbackHotspots(@RequestParam(required = false) Integer month,
+                                                                @RequestParam(defaultValue = "20") int limit) {
+        RollbackHotspots hotspots = rollbackHotspotTracker.getHotspots(monthOrCurrent(month), limit);
+        return new ResponseEntity<>(hotspots, HttpStatus.OK);
+    }
+    
+    @GetMapping("/rollbacks/releases")
+    public ResponseEntity<List<HotspotCount<Long>>> getTopRolledBackReleases(@RequestParam(required = false) Integer month,
+                                                                             @RequestParam(defaultValue = "20") int limit) {
+        List<HotspotCount<Long>> releases = rollbackHotspotTracker.getTopRolledBackReleases(monthOrCurrent(month), limit);
+        return new ResponseEntity<>(releases, HttpStatus.OK);
+    }
+    
+    @GetMapping("/dwell")
+    public ResponseEntity<Map<Environment, LatencySummary>> getDwellTimes(
+            @RequestParam(required = false) Long ownerId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
+        LocalDateTime end = endDate != null ? endDate : LocalDateTime.now();
+        LocalDateTime start = startDate != null ? startDate : end.minusDays(30);
+        Map<Environment, LatencySummary> dwellTimes = dwellTimeTracker.getDwellTimes(ownerId, start, end);
+        return new ResponseEntity<>(dwellTimes, HttpStatus.OK);
+    }
+    
+    @GetMapping("/dwell/release/{releaseId}")
+    public ResponseEntity<List<EnvironmentDwell>> getReleaseDwells(@PathVariable Long releaseId) {
+        List<EnvironmentDwell> dwells = dwellTimeTracker.getReleaseDwells(releaseId);
+        return new ResponseEntity<>(dwells, HttpStatus.OK);
+    }
+    
+    @GetMapping("/sketches")
+    public ResponseEntity<SketchSummary> getSketchSummary(
+            @RequestParam(required = false) Environment environment,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        LocalDate end = endDate != null ? endDate : LocalDate.now();
+        LocalDate start = startDate != null ? startDate : end.minusDays(29);
+        SketchSummary summary = deploymentSketchService.summarize(environment, start, end);
+        return new ResponseEntity<>(summary, HttpStatus.OK);
+    }
+    
+    private static int monthOrCurrent(Integer month) {
+        return month != null ? month : DeploymentLog.monthOf(LocalDateTime.now());
+    }
+}
\ No newline at end of file
@@ -1,20 +1,28 @@
 package com.releasetracker.controller;
 
+import com.releasetracker.analytics.DeploymentLogFilter;
+import com.releasetracker.model.ArchivedDeploymentLog;
+import com.releasetracker.model.DeploymentAction;
 import com.releasetracker.model.DeploymentLog;
 import com.releasetracker.model.Environment;
 import com.releasetracker.model.Release;
 import com.releasetracker.model.User;
+import com.releasetracker.service.DeploymentLogArchiveService;
 import com.releasetracker.service.DeploymentLogService;
+import com.releasetracker.service.JsonStreamingService;
 import com.releasetracker.service.ReleaseService;
 import com.releasetracker.service.UserService;
 import javax.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
 
 @RestController
@@ -22,17 +30,25 @@ import java.util.List;
 @CrossOrigin(origins = "*")
 public class DeploymentLogController {
     
+    private static final int MAX_FILTER_PAGE_SIZE = 500;
+    
     private final DeploymentLogService deploymentLogService;
     private final ReleaseService releaseService;
     private final UserService userService;
+    private final DeploymentLogArchiveService deploymentLogArchiveService;
+    private final JsonStreamingService jsonStreamingService;
     
     @Autowired
     public DeploymentLogController(DeploymentLogService deploymentLogService, 
                                    ReleaseService releaseService, 
-                                   UserService userService) {
+                                   UserService userService,
+                                   DeploymentLogArchiveService deploymentLogArchiveService,
+                                   JsonStreamingService jsonStreamingService) {
         this.deploymentLogService = deploymentLogService;
         this.releaseService = releaseService;
         this.userService = userService;
+        this.deploymentLogArchiveService = deploymentLogArchiveService;
+        this.jsonStreamingService = jsonStreamingService;
     }
     
     @PostMapping
@@ -74,11 +90,17 @@ public class DeploymentLogController {
         return new ResponseEntity<>(logs, HttpStatus.OK);
     }
     
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamAllDeploymentLogs() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(jsonStreamingService.streamDeploymentLogs());
+    }
+    
     @GetMapping("/release/{releaseId}")
     public ResponseEntity<?> getDeploymentLogsByRelease(@PathVariable Long releaseId) {
         try {
-            Release release = releaseService.getReleaseById(releaseId);
-            List<DeploymentLog> logs = deploymentLogService.getDeploymentLogsByRelease(release);
+            List<DeploymentLog> logs = deploymentLogService.getDeploymentLogsByReleaseId(releaseId);
             return new ResponseEntity<>(logs, HttpStatus.OK);
         } catch (Exception e) {
             return new ResponseEntity<>("Error retrieving deployment logs", HttpStatus.INTERNAL_SERVER_ERROR);
@@ -94,8 +116,7 @@ public class DeploymentLogController {
     @GetMapping("/user/{userId}")
     public ResponseEntity<?> getDeploymentLogsByUser(@PathVariable Long userId) {
         try {
-            User user = userService.getUserById(userId);
-            List<DeploymentLog> logs = deploymentLogService.getDeploymentLogsByUser(user);
+            List<DeploymentLog> logs = deploymentLogService.getDeploymentLogsByUserId(userId);
             return new ResponseEntity<>(logs, HttpStatus.OK);
         } catch (Exception e) {
             return new ResponseEntity<>("Error retrieving deployment logs", HttpStatus.INTERNAL_SERVER_ERROR);
@@ -110,6 +131,19 @@ public class DeploymentLogController {
         return new ResponseEntity<>(logs, HttpStatus.OK);
     }
     
+    @GetMapping("/action/{action}")
+    public ResponseEntity<List<DeploymentLog>> getDeploymentLogsByAction(@PathVariable DeploymentAction action) {
+        List<DeploymentLog> logs = deploymentLogService.getDeploymentLogsByAction(action);
+        return new ResponseEntity<>(logs, HttpStatus.OK);
+    }
+    
+    @GetMapping("/transitions")
+    public ResponseEntity<List<DeploymentLog>> getTransitions(@RequestParam Environment from,
+                                                              @RequestParam Environment to) {
+        List<DeploymentLog> logs = deploymentLogService.getTransitions(from, to);
+        return new ResponseEntity<>(logs, HttpStatus.OK);
+    }
+    
     @GetMapping("/failed")
     public ResponseEntity<List<DeploymentLog>> getFailedDeployments() {
         List<DeploymentLog> logs = deploymentLogService.getFailedDeployments();
@@ -122,6 +156,24 @@ public class DeploymentLogController {
         return new ResponseEntity<>(logs, HttpStatus.OK);
     }
     
+    @GetMapping("/filter")
+    public ResponseEntity<?> filterDeploymentLogs(
+            @RequestParam(required = false) List<Environment> environment,
+            @RequestParam(required = false) Boolean success,
+            @RequestParam(required = false) List<Long> deployedBy,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        if (page < 0 || size <= 0) {
+            return new ResponseEntity<>("page must be >= 0 and size must be > 0", HttpStatus.BAD_REQUEST);
+        }
+        DeploymentLogFilter filter = new DeploymentLogFilter(
+                environment != null ? new HashSet<>(environment) : null,
+                success,
+                deployedBy != null ? new HashSet<>(deployedBy) : null);
+        List<DeploymentLog> logs = deploymentLogService.findDeploymentLogs(filter, page, Math.min(size, MAX_FILTER_PAGE_SIZE));
+        return new ResponseEntity<>(logs, HttpStatus.OK);
+    }
+    
     @GetMapping("/date-range")
     public ResponseEntity<List<DeploymentLog>> getDeploymentLogsByDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
@@ -129,4 +181,24 @@ public class DeploymentLogController {
         List<DeploymentLog> logs = deploymentLogService.getDeploymentLogsByDateRange(startDate, endDate);
         return new ResponseEntity<>(logs, HttpStatus.OK);
     }
+    
+    @GetMapping("/recent")
+    public ResponseEntity<List<DeploymentLog>> getRecentDeploymentLogs(@RequestParam(defaultValue = "1") int months) {
+        List<DeploymentLog> logs = deploymentLogService.getRecentDeploymentLogs(months);
+        return new ResponseEntity<>(logs, HttpStatus.OK);
+    }
+    
+    @GetMapping("/archive/partitions")
+    public ResponseEntity<List<Integer>> getArchivedPartitions() {
+        List<Integer> partitions = deploymentLogArchiveService.getArchivedPartitions();
+        return new ResponseEntity<>(partitions, HttpStatus.OK);
+    }
+    
+    @GetMapping("/archive")
+    public ResponseEntity<List<ArchivedDeploymentLog>> getArchivedDeploymentLogs(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
+        List<ArchivedDeploymentLog> logs = deploymentLogArchiveService.getArchivedDeploymentLogs(startDate, endDate);
+        return new ResponseEntity<>(logs, HttpStatus.OK);
+    }
 }
\ No newline at end of file
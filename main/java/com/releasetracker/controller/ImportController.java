@@ -0,0 +1,51 @@
+package com.releasetracker.controller;
+
+import com.releasetracker.importer.BulkImportService;
+import com.releasetracker.importer.ImportFormat;
+import com.releasetracker.importer.ImportReport;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/import")
+@CrossOrigin(origins = "*")
+public class ImportController {
+    
+    private final BulkImportService bulkImportService;
+    
+    @Autowired
+    public ImportController(BulkImportService bulkImportService) {
+        this.bulkImportService = bulkImportService;
+    }
+    
+    @PostMapping("/releases")
+    public ResponseEntity<?> importReleases(InputStream body,
+                                            @RequestParam(defaultValue = "CSV") ImportFormat format,
+                                            @RequestParam(defaultValue = "0") long resumeFrom) {
+        try {
+            return toResponse(bulkImportService.importReleases(body, format, resumeFrom));
+        } catch (IOException e) {
+            return new ResponseEntity<>("Error reading import: " + e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+    
+    @PostMapping("/deployment-logs")
+    public ResponseEntity<?> importDeploymentLogs(InputStream body,
+                                                  @RequestParam(defaultValue = "CSV") ImportFormat format,
+                                                  @RequestParam(defaultValue = "0") long resumeFrom) {
+        try {
+            return toResponse(bulkImportService.importDeploymentLogs(body, format, resumeFrom));
+        } catch (IOException e) {
+            return new ResponseEntity<>("Error reading import: " + e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+    
+    private ResponseEntity<ImportReport> toResponse(ImportReport report) {
+        return new ResponseEntity<>(report, report.isCompleted() ? HttpStatus.OK : HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+}
\ No newline at end of file
@@ -5,14 +5,23 @@ import com.releasetracker.exception.ReleaseNotFoundException;
 import com.releasetracker.exception.UserAlreadyExistsException;
 import com.releasetracker.model.Environment;
 import com.releasetracker.model.Release;
+import com.releasetracker.model.ReleaseEvent;
+import com.releasetracker.model.ReleasePurgeProgress;
+import com.releasetracker.model.ReleaseSnapshot;
 import com.releasetracker.model.User;
+import com.releasetracker.service.JsonStreamingService;
+import com.releasetracker.service.ReleaseEventStore;
+import com.releasetracker.service.ReleasePurgeService;
 import com.releasetracker.service.ReleaseService;
+import com.releasetracker.service.ReleaseStateProjector;
 import com.releasetracker.service.UserService;
 import javax.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -23,11 +32,21 @@ public class ReleaseController {
     
     private final ReleaseService releaseService;
     private final UserService userService;
+    private final ReleaseEventStore releaseEventStore;
+    private final ReleaseStateProjector releaseStateProjector;
+    private final JsonStreamingService jsonStreamingService;
+    private final ReleasePurgeService releasePurgeService;
     
     @Autowired
-    public ReleaseController(ReleaseService releaseService, UserService userService) {
+    public ReleaseController(ReleaseService releaseService, UserService userService,
+                             ReleaseEventStore releaseEventStore, ReleaseStateProjector releaseStateProjector,
+                             JsonStreamingService jsonStreamingService, ReleasePurgeService releasePurgeService) {
         this.releaseService = releaseService;
         this.userService = userService;
+        this.releaseEventStore = releaseEventStore;
+        this.releaseStateProjector = releaseStateProjector;
+        this.jsonStreamingService = jsonStreamingService;
+        this.releasePurgeService = releasePurgeService;
     }
     
     @PostMapping
@@ -48,6 +67,13 @@ public class ReleaseController {
         return new ResponseEntity<>(releases, HttpStatus.OK);
     }
     
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamAllReleases() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(jsonStreamingService.streamReleases());
+    }
+    
     @GetMapping("/{id}")
     public ResponseEntity<?> getReleaseById(@PathVariable Long id) {
         try {
@@ -58,6 +84,22 @@ public class ReleaseController {
         }
     }
     
+    @GetMapping("/{id}/events")
+    public ResponseEntity<List<ReleaseEvent>> getReleaseEvents(@PathVariable Long id) {
+        List<ReleaseEvent> events = releaseEventStore.getEvents(id);
+        return new ResponseEntity<>(events, HttpStatus.OK);
+    }
+    
+    @GetMapping("/{id}/state")
+    public ResponseEntity<?> getReleaseState(@PathVariable Long id) {
+        try {
+            ReleaseSnapshot state = releaseStateProjector.getCurrentState(id);
+            return new ResponseEntity<>(state, HttpStatus.OK);
+        } catch (ReleaseNotFoundException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
+        }
+    }
+    
     @GetMapping("/version/{versionNumber}")
     public ResponseEntity<?> getReleaseByVersion(@PathVariable String versionNumber) {
         try {
@@ -77,8 +119,7 @@ public class ReleaseController {
     @GetMapping("/owner/{ownerId}")
     public ResponseEntity<?> getReleasesByOwner(@PathVariable Long ownerId) {
         try {
-            User owner = userService.getUserById(ownerId);
-            List<Release> releases = releaseService.getReleasesByOwner(owner);
+            List<Release> releases = releaseService.getReleasesByOwnerId(ownerId);
             return new ResponseEntity<>(releases, HttpStatus.OK);
         } catch (Exception e) {
             return new ResponseEntity<>("Error retrieving releases", HttpStatus.INTERNAL_SERVER_ERROR);
@@ -88,7 +129,7 @@ public class ReleaseController {
     @PostMapping("/{id}/promote")
     public ResponseEntity<?> promoteRelease(@PathVariable Long id, @RequestParam Long promotedById) {
         try {
-            User promotedBy = userService.getUserById(promotedById);
+            User promotedBy = userService.getUserReference(promotedById);
             Release promotedRelease = releaseService.promoteRelease(id, promotedBy);
             return new ResponseEntity<>(promotedRelease, HttpStatus.OK);
         } catch (ReleaseNotFoundException e) {
@@ -103,7 +144,7 @@ public class ReleaseController {
     @PostMapping("/{id}/rollback")
     public ResponseEntity<?> rollbackRelease(@PathVariable Long id, @RequestParam Long rolledBackById) {
         try {
-            User rolledBackBy = userService.getUserById(rolledBackById);
+            User rolledBackBy = userService.getUserReference(rolledBackById);
             Release rolledBackRelease = releaseService.rollbackRelease(id, rolledBackBy);
             return new ResponseEntity<>(rolledBackRelease, HttpStatus.OK);
         } catch (ReleaseNotFoundException e) {
@@ -129,6 +170,12 @@ public class ReleaseController {
         }
     }
     
+    @GetMapping("/purges")
+    public ResponseEntity<List<ReleasePurgeProgress>> getReleasePurges() {
+        List<ReleasePurgeProgress> purges = releasePurgeService.getPurges();
+        return new ResponseEntity<>(purges, HttpStatus.OK);
+    }
+    
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteRelease(@PathVariable Long id) {
         try {
@@ -0,0 +1,37 @@
+package com.releasetracker.controller;
+
+import com.releasetracker.instrumentation.DataSourceMetrics;
+import com.releasetracker.instrumentation.DataSourceStats;
+import com.releasetracker.instrumentation.EndpointLatencyRecorder;
+import com.releasetracker.instrumentation.EndpointStatsReport;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/stats")
+@CrossOrigin(origins = "*")
+public class StatsController {
+    
+    private final EndpointLatencyRecorder endpointLatencyRecorder;
+    private final DataSourceMetrics dataSourceMetrics;
+    
+    @Autowired
+    public StatsController(EndpointLatencyRecorder endpointLatencyRecorder, DataSourceMetrics dataSourceMetrics) {
+        this.endpointLatencyRecorder = endpointLatencyRecorder;
+        this.dataSourceMetrics = dataSourceMetrics;
+    }
+    
+    @GetMapping("/endpoints")
+    public ResponseEntity<EndpointStatsReport> getEndpointStats(@RequestParam(defaultValue = "5") int windowMinutes,
+                                                                @RequestParam(defaultValue = "10") int slowRequests) {
+        EndpointStatsReport report = endpointLatencyRecorder.report(windowMinutes, slowRequests);
+        return new ResponseEntity<>(report, HttpStatus.OK);
+    }
+    
+    @GetMapping("/datasource")
+    public ResponseEntity<DataSourceStats> getDataSourceStats() {
+        return new ResponseEntity<>(dataSourceMetrics.stats(), HttpStatus.OK);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.releasetracker.event;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers side effects that cannot be rolled back (in-memory counters, journal appends) until the surrounding
+ * transaction commits. Without an active transaction the action runs immediately.
+ */
+public final class AfterCommit {
+    
+    private AfterCommit() {}
+    
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
\ No newline at end of file
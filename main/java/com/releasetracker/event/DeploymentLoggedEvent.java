@@ -0,0 +1,15 @@
+package com.releasetracker.event;
+
+import com.releasetracker.model.DeploymentLog;
+
+public class DeploymentLoggedEvent {
+    private final DeploymentLog deploymentLog;
+    
+    public DeploymentLoggedEvent(DeploymentLog deploymentLog) {
+        this.deploymentLog = deploymentLog;
+    }
+    
+    public DeploymentLog getDeploymentLog() {
+        return deploymentLog;
+    }
+}
\ No newline at end of file
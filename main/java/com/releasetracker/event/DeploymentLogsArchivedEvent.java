@@ -0,0 +1,19 @@
+package com.releasetracker.event;
+
+public class DeploymentLogsArchivedEvent {
+    private final int month;
+    private final long maxId;
+    
+    public DeploymentLogsArchivedEvent(int month, long maxId) {
+        this.month = month;
+        this.maxId = maxId;
+    }
+    
+    public int getMonth() {
+        return month;
+    }
+    
+    public long getMaxId() {
+        return maxId;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.releasetracker.event;
+
+import java.time.LocalDate;
+
+public class DeploymentLogsImportedEvent {
+    private final long rowsImported;
+    private final LocalDate firstDay;
+    private final LocalDate lastDay;
+    
+    public DeploymentLogsImportedEvent(long rowsImported, LocalDate firstDay, LocalDate lastDay) {
+        this.rowsImported = rowsImported;
+        this.firstDay = firstDay;
+        this.lastDay = lastDay;
+    }
+    
+    public long getRowsImported() {
+        return rowsImported;
+    }
+    
+    public LocalDate getFirstDay() {
+        return firstDay;
+    }
+    
+    public LocalDate getLastDay() {
+        return lastDay;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.releasetracker.event;
+
+public class ReleaseDeletedEvent {
+    private final long releaseId;
+    
+    public ReleaseDeletedEvent(long releaseId) {
+        this.releaseId = releaseId;
+    }
+    
+    public long getReleaseId() {
+        return releaseId;
+    }
+}
\ No newline at end of file
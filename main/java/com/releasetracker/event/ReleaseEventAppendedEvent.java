@@ -0,0 +1,15 @@
+package com.releasetracker.event;
+
+import com.releasetracker.model.ReleaseEvent;
+
+public class ReleaseEventAppendedEvent {
+    private final ReleaseEvent releaseEvent;
+    
+    public ReleaseEventAppendedEvent(ReleaseEvent releaseEvent) {
+        this.releaseEvent = releaseEvent;
+    }
+    
+    public ReleaseEvent getReleaseEvent() {
+        return releaseEvent;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,275 @@
+package com.releasetracker.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.releasetracker.event.DeploymentLogsImportedEvent;
+import com.releasetracker.model.DeploymentAction;
+import com.releasetracker.model.DeploymentLog;
+import com.releasetracker.model.Environment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Service
+public class BulkImportService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(BulkImportService.class);
+    private static final Pattern VERSION_PATTERN = Pattern.compile("^\\d+\\.\\d+\\.\\d+$");
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final long PROGRESS_INTERVAL = 100_000;
+    
+    private static final String INSERT_RELEASE_SQL = "INSERT INTO releases (version_number, description, owner_id, " +
+            "current_environment, created_at, updated_at, environment_entered_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_DEPLOYMENT_LOG_SQL = "INSERT INTO deployment_logs (release_id, environment, " +
+            "deployed_by, deployment_timestamp, deployment_month, notes, success, action, from_environment, to_environment) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final ForkJoinPool resolvePool;
+    
+    @Autowired
+    public BulkImportService(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             ObjectMapper objectMapper,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${releasetracker.import.batch-size:1000}") int batchSize,
+                             @Value("${releasetracker.import.parallelism:0}") int parallelism) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = Math.max(1, batchSize);
+        this.resolvePool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+    
+    public ImportReport importReleases(InputStream input, ImportFormat format, long resumeFrom) throws IOException {
+        Map<String, Long> userIds = loadKeys("SELECT id, username FROM users", "username");
+        Set<String> versions = ConcurrentHashMap.newKeySet();
+        versions.addAll(loadKeys("SELECT id, version_number FROM releases", "version_number").keySet());
+        
+        return run("releases", input, format, resumeFrom, INSERT_RELEASE_SQL, row -> {
+            String versionNumber = row.require("versionNumber");
+            if (!VERSION_PATTERN.matcher(versionNumber).matches()) {
+                throw new IllegalArgumentException("Version must be in format x.y.z: " + versionNumber);
+            }
+            Long ownerId = resolve(userIds, row.require("owner"), "user");
+            Environment environment = row.get("currentEnvironment") != null
+                    ? parseEnvironment(row.get("currentEnvironment")) : Environment.DEV;
+            LocalDateTime createdAt = row.get("createdAt") != null ? parseTimestamp(row.get("createdAt")) : LocalDateTime.now();
+            LocalDateTime updatedAt = row.get("updatedAt") != null ? parseTimestamp(row.get("updatedAt")) : createdAt;
+            String description = row.require("description");
+            
+            if (!versions.add(versionNumber)) {
+                throw new IllegalArgumentException("Release version already exists: " + versionNumber);
+            }
+            // Imports carry no transition history, so the last update stands in for the environment entry time
+            return new Object[] {versionNumber, description, ownerId, environment.name(),
+                    Timestamp.valueOf(createdAt), Timestamp.valueOf(updatedAt), Timestamp.valueOf(updatedAt)};
+        });
+    }
+    
+    public ImportReport importDeploymentLogs(InputStream input, ImportFormat format, long resumeFrom) throws IOException {
+        Map<String, Long> userIds = loadKeys("SELECT id, username FROM users", "username");
+        Map<String, Long> releaseIds = loadKeys("SELECT id, version_number FROM releases", "version_number");
+        LongAccumulator firstDay = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        LongAccumulator lastDay = new LongAccumulator(Math::max, Long.MIN_VALUE);
+        
+        ImportReport report = run("deployment-logs", input, format, resumeFrom, INSERT_DEPLOYMENT_LOG_SQL, row -> {
+            Long releaseId = resolve(releaseIds, row.require("versionNumber"), "release");
+            Environment environment = parseEnvironment(row.require("environment"));
+            Long deployedById = resolve(userIds, row.require("deployedBy"), "user");
+            LocalDateTime deploymentTimestamp = parseTimestamp(row.require("deploymentTimestamp"));
+            boolean success = parseBoolean(row.require("success"));
+            firstDay.accumulate(deploymentTimestamp.toLocalDate().toEpochDay());
+            lastDay.accumulate(deploymentTimestamp.toLocalDate().toEpochDay());
+            DeploymentAction action = row.get("action") != null ? parseAction(row.get("action")) : DeploymentAction.DEPLOYED;
+            Environment fromEnvironment = null;
+            Environment toEnvironment = null;
+            if (action != DeploymentAction.DEPLOYED) {
+                fromEnvironment = parseEnvironment(row.require("fromEnvironment"));
+                toEnvironment = environment;
+            }
+            
+            return new Object[] {releaseId, environment.name(), deployedById, Timestamp.valueOf(deploymentTimestamp),
+                    DeploymentLog.monthOf(deploymentTimestamp), row.get("notes"), success, action.name(),
+                    fromEnvironment != null ? fromEnvironment.name() : null,
+                    toEnvironment != null ? toEnvironment.name() : null};
+        });
+        
+        if (report.getRowsImported() > 0) {
+            // The day range may include rows rejected after resolution, which only widens what listeners rebuild
+            eventPublisher.publishEvent(new DeploymentLogsImportedEvent(report.getRowsImported(),
+                    LocalDate.ofEpochDay(firstDay.get()), LocalDate.ofEpochDay(lastDay.get())));
+        }
+        return report;
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        resolvePool.shutdown();
+    }
+    
+    private ImportReport run(String type, InputStream input, ImportFormat format, long resumeFrom,
+                             String insertSql, Function<ImportRow, Object[]> resolver) throws IOException {
+        ImportReport report = new ImportReport(type, format, resumeFrom);
+        long start = System.nanoTime();
+        
+        try (ImportRowReader reader = new ImportRowReader(
+                new InputStreamReader(input, StandardCharsets.UTF_8), format, objectMapper)) {
+            if (reader.skip(resumeFrom) < resumeFrom) {
+                report.finish(elapsedMillis(start), true, null);
+                return report;
+            }
+            
+            List<ImportRow> batch = new ArrayList<>(batchSize);
+            long nextProgress = PROGRESS_INTERVAL;
+            ImportRow row;
+            do {
+                row = reader.next();
+                if (row != null) {
+                    batch.add(row);
+                }
+                if (batch.size() == batchSize || (row == null && !batch.isEmpty())) {
+                    importBatch(batch, insertSql, resolver, report);
+                    batch.clear();
+                    if (report.getRowsRead() >= nextProgress) {
+                        nextProgress += PROGRESS_INTERVAL;
+                        logger.info("Imported {} of {} {} rows ({} rows/s)", report.getRowsImported(),
+                                report.getRowsRead(), type, (long) (report.getRowsRead() * 1e9 / (System.nanoTime() - start)));
+                    }
+                }
+            } while (row != null);
+            
+            report.finish(elapsedMillis(start), true, null);
+        } catch (DataAccessException e) {
+            logger.error("Import of {} stopped at row {}", type, report.getNextOffset(), e);
+            report.finish(elapsedMillis(start), false, e.getMostSpecificCause().getMessage());
+        }
+        logger.info("Imported {} {} rows in {} ms ({} rejected, {} rows/s)", report.getRowsImported(), type,
+                report.getElapsedMillis(), report.getRowsRejected(), (long) report.getRowsPerSecond());
+        return report;
+    }
+    
+    private void importBatch(List<ImportRow> batch, String insertSql, Function<ImportRow, Object[]> resolver, ImportReport report) {
+        List<Object> resolved = resolveInParallel(batch, resolver);
+        
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            Object result = resolved.get(i);
+            if (result instanceof Object[]) {
+                rows.add((Object[]) result);
+            } else {
+                report.addError(batch.get(i).getOffset(), (String) result, MAX_REPORTED_ERRORS);
+            }
+        }
+        
+        // Each batch commits on its own so a failed import can resume from the last committed offset
+        if (!rows.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(insertSql, rows));
+        }
+        report.recordBatch(batch.size(), rows.size(), batch.get(batch.size() - 1).getOffset() + 1);
+    }
+    
+    private List<Object> resolveInParallel(List<ImportRow> batch, Function<ImportRow, Object[]> resolver) {
+        try {
+            return resolvePool.submit(() -> batch.parallelStream()
+                    .map(row -> {
+                        if (row.getError() != null) {
+                            return row.getError();
+                        }
+                        try {
+                            return (Object) resolver.apply(row);
+                        } catch (IllegalArgumentException | DateTimeParseException e) {
+                            return e.getMessage();
+                        }
+                    })
+                    .collect(Collectors.toList())).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Import interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Import row resolution failed", e.getCause());
+        }
+    }
+    
+    private Map<String, Long> loadKeys(String sql, String keyColumn) {
+        Map<String, Long> keys = new ConcurrentHashMap<>();
+        for (Map<String, Object> row : jdbcTemplate.queryForList(sql)) {
+            keys.put((String) row.get(keyColumn), ((Number) row.get("id")).longValue());
+        }
+        return keys;
+    }
+    
+    private static Long resolve(Map<String, Long> ids, String naturalKey, String kind) {
+        Long id = ids.get(naturalKey);
+        if (id == null) {
+            throw new IllegalArgumentException("Unknown " + kind + ": " + naturalKey);
+        }
+        return id;
+    }
+    
+    private static Environment parseEnvironment(String value) {
+        try {
+            return Environment.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown environment: " + value);
+        }
+    }
+    
+    private static DeploymentAction parseAction(String value) {
+        try {
+            return DeploymentAction.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown action: " + value);
+        }
+    }
+    
+    private static LocalDateTime parseTimestamp(String value) {
+        return LocalDateTime.parse(value.replace(' ', 'T'));
+    }
+    
+    private static boolean parseBoolean(String value) {
+        if ("true".equalsIgnoreCase(value) || "1".equals(value)) {
+            return true;
+        }
+        if ("false".equalsIgnoreCase(value) || "0".equals(value)) {
+            return false;
+        }
+        throw new IllegalArgumentException("Invalid success flag: " + value);
+    }
+    
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+package com.releasetracker.importer;
+
+public enum ImportFormat {
+    CSV,
+    NDJSON
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.releasetracker.importer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ImportReport {
+    private final String type;
+    private final ImportFormat format;
+    private final long startOffset;
+    private long nextOffset;
+    private long rowsRead;
+    private long rowsImported;
+    private long rowsRejected;
+    private long elapsedMillis;
+    private boolean completed;
+    private String failure;
+    private final List<String> errors = new ArrayList<>();
+    
+    public ImportReport(String type, ImportFormat format, long startOffset) {
+        this.type = type;
+        this.format = format;
+        this.startOffset = startOffset;
+        this.nextOffset = startOffset;
+    }
+    
+    void recordBatch(long read, long imported, long nextOffset) {
+        this.rowsRead += read;
+        this.rowsImported += imported;
+        this.rowsRejected += read - imported;
+        this.nextOffset = nextOffset;
+    }
+    
+    void addError(long offset, String message, int maxErrors) {
+        if (errors.size() < maxErrors) {
+            errors.add("row " + offset + ": " + message);
+        }
+    }
+    
+    void finish(long elapsedMillis, boolean completed, String failure) {
+        this.elapsedMillis = elapsedMillis;
+        this.completed = completed;
+        this.failure = failure;
+    }
+    
+    public String getType() {
+        return type;
+    }
+    
+    public ImportFormat getFormat() {
+        return format;
+    }
+    
+    public long getStartOffset() {
+        return startOffset;
+    }
+    
+    public long getNextOffset() {
+        return nextOffset;
+    }
+    
+    public long getRowsRead() {
+        return rowsRead;
+    }
+    
+    public long getRowsImported() {
+        return rowsImported;
+    }
+    
+    public long getRowsRejected() {
+        return rowsRejected;
+    }
+    
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+    
+    public double getRowsPerSecond() {
+        return elapsedMillis == 0 ? rowsRead : rowsRead * 1000.0 / elapsedMillis;
+    }
+    
+    public boolean isCompleted() {
+        return completed;
+    }
+    
+    public String getFailure() {
+        return failure;
+    }
+    
+    public List<String> getErrors() {
+        return errors;
+    }
+}
\ No newline at end of file
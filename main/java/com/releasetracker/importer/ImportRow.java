@@ -0,0 +1,46 @@
+package com.releasetracker.importer;
+
+import java.util.Collections;
+import java.util.Map;
+
+public class ImportRow {
+    private final long offset;
+    private final Map<String, String> fields;
+    private final String error;
+    
+    public ImportRow(long offset, Map<String, String> fields) {
+        this(offset, fields, null);
+    }
+    
+    private ImportRow(long offset, Map<String, String> fields, String error) {
+        this.offset = offset;
+        this.fields = fields;
+        this.error = error;
+    }
+    
+    // A row that could not be parsed; it is reported with the validation failures instead of stopping the import
+    public static ImportRow rejected(long offset, String error) {
+        return new ImportRow(offset, Collections.emptyMap(), error);
+    }
+    
+    public long getOffset() {
+        return offset;
+    }
+    
+    public String getError() {
+        return error;
+    }
+    
+    public String get(String field) {
+        String value = fields.get(field);
+        return value == null || value.trim().isEmpty() ? null : value.trim();
+    }
+    
+    public String require(String field) {
+        String value = get(field);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing required field '" + field + "'");
+        }
+        return value;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,154 @@
+package com.releasetracker.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+public class ImportRowReader implements Closeable {
+    
+    private final BufferedReader reader;
+    private final ImportFormat format;
+    private final ObjectMapper objectMapper;
+    private List<String> header;
+    private long offset;
+    
+    public ImportRowReader(Reader reader, ImportFormat format, ObjectMapper objectMapper) {
+        this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader, 1 << 16);
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+    
+    public long skip(long rows) throws IOException {
+        long skipped = 0;
+        while (skipped < rows && (format == ImportFormat.NDJSON ? nextJsonLine() : nextCsvValues()) != null) {
+            skipped++;
+        }
+        offset += skipped;
+        return skipped;
+    }
+    
+    public ImportRow next() throws IOException {
+        Map<String, String> fields;
+        if (format == ImportFormat.NDJSON) {
+            String line = nextJsonLine();
+            if (line == null) {
+                return null;
+            }
+            try {
+                fields = jsonFields(line);
+            } catch (JsonProcessingException e) {
+                return ImportRow.rejected(offset++, "Malformed JSON: " + e.getOriginalMessage());
+            }
+        } else {
+            List<String> values = nextCsvValues();
+            if (values == null) {
+                return null;
+            }
+            fields = csvFields(values);
+        }
+        return new ImportRow(offset++, fields);
+    }
+    
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+    
+    private String nextJsonLine() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.trim().isEmpty()) {
+                return line;
+            }
+        }
+        return null;
+    }
+    
+    private List<String> nextCsvValues() throws IOException {
+        if (header == null) {
+            header = readCsvRecord();
+            if (header == null) {
+                return null;
+            }
+            for (int i = 0; i < header.size(); i++) {
+                header.set(i, header.get(i).replace("\uFEFF", "").trim());
+            }
+        }
+        return readCsvRecord();
+    }
+    
+    private Map<String, String> csvFields(List<String> values) {
+        Map<String, String> fields = new HashMap<>(header.size() * 2);
+        for (int i = 0; i < header.size() && i < values.size(); i++) {
+            fields.put(header.get(i), values.get(i));
+        }
+        return fields;
+    }
+    
+    private Map<String, String> jsonFields(String line) throws JsonProcessingException {
+        JsonNode node = objectMapper.readTree(line);
+        Map<String, String> fields = new HashMap<>();
+        for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = it.next();
+            fields.put(field.getKey(), field.getValue().isNull() ? null : field.getValue().asText());
+        }
+        return fields;
+    }
+    
+    // RFC 4180: quoted fields may contain separators, doubled quotes and line breaks
+    private List<String> readCsvRecord() throws IOException {
+        String line = reader.readLine();
+        while (line != null && line.trim().isEmpty()) {
+            line = reader.readLine();
+        }
+        if (line == null) {
+            return null;
+        }
+        
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        value.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        value.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(value.toString());
+                    value.setLength(0);
+                } else {
+                    value.append(c);
+                }
+            }
+            if (!quoted) {
+                break;
+            }
+            line = reader.readLine();
+            if (line == null) {
+                throw new IOException("Unterminated quoted CSV field at row " + offset);
+            }
+            value.append('\n');
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
\ No newline at end of file
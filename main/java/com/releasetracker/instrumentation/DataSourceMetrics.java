@@ -0,0 +1,115 @@
+package com.releasetracker.instrumentation;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Connection pool and transaction counters since startup. Hikari reports how long each caller waited for a connection
+ * and how long it held it; {@link TransactionMetricsRecorder} reports physical transaction durations.
+ */
+@Component
+public class DataSourceMetrics implements MetricsTrackerFactory {
+    
+    private final LatencyHistogram acquireWait = new LatencyHistogram();
+    private final LatencyHistogram connectionHold = new LatencyHistogram();
+    private final LatencyHistogram readOnlyTransactions = new LatencyHistogram();
+    private final LatencyHistogram readWriteTransactions = new LatencyHistogram();
+    private final AtomicLong acquireNanos = new AtomicLong();
+    private final AtomicLong holdMillis = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong rollbacks = new AtomicLong();
+    private volatile HikariDataSource dataSource;
+    
+    // Must run before the pool starts; a pool that already reports to another registry is left alone
+    public boolean attach(HikariDataSource hikariDataSource) {
+        if (hikariDataSource.getMetricsTrackerFactory() != null || hikariDataSource.getMetricRegistry() != null) {
+            return false;
+        }
+        hikariDataSource.setMetricsTrackerFactory(this);
+        this.dataSource = hikariDataSource;
+        return true;
+    }
+    
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                acquireWait.record(elapsedAcquiredNanos / 1000);
+                acquireNanos.addAndGet(elapsedAcquiredNanos);
+            }
+            
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                connectionHold.record(elapsedBorrowedMillis * 1000);
+                holdMillis.addAndGet(elapsedBorrowedMillis);
+            }
+            
+            @Override
+            public void recordConnectionTimeout() {
+                timeouts.incrementAndGet();
+            }
+        };
+    }
+    
+    public void recordTransaction(boolean readOnly, boolean committed, long nanos) {
+        (readOnly ? readOnlyTransactions : readWriteTransactions).record(nanos / 1000);
+        if (!committed) {
+            rollbacks.incrementAndGet();
+        }
+    }
+    
+    public HikariConfigMXBean getPoolConfig() {
+        HikariDataSource hikari = dataSource;
+        return hikari != null ? hikari.getHikariConfigMXBean() : null;
+    }
+    
+    public long getAcquisitions() {
+        return acquireWait.getTotalCount();
+    }
+    
+    public long getTotalAcquireNanos() {
+        return acquireNanos.get();
+    }
+    
+    public long getReleases() {
+        return connectionHold.getTotalCount();
+    }
+    
+    public long getTotalHoldMillis() {
+        return holdMillis.get();
+    }
+    
+    public long getTimeouts() {
+        return timeouts.get();
+    }
+    
+    public DataSourceStats stats() {
+        HikariDataSource hikari = dataSource;
+        HikariPoolMXBean pool = hikari != null ? hikari.getHikariPoolMXBean() : null;
+        return new DataSourceStats(
+                hikari != null ? hikari.getPoolName() : null,
+                pool != null ? pool.getActiveConnections() : 0,
+                pool != null ? pool.getIdleConnections() : 0,
+                pool != null ? pool.getThreadsAwaitingConnection() : 0,
+                hikari != null ? hikari.getHikariConfigMXBean().getMaximumPoolSize() : 0,
+                acquireWait.getTotalCount(), timeouts.get(),
+                millis(acquireWait.valueAtPercentile(50)), millis(acquireWait.valueAtPercentile(99)),
+                millis(acquireWait.getMaxMicros()),
+                millis(connectionHold.valueAtPercentile(50)), millis(connectionHold.valueAtPercentile(99)),
+                readOnlyTransactions.getTotalCount(), readWriteTransactions.getTotalCount(), rollbacks.get(),
+                millis(readOnlyTransactions.valueAtPercentile(99)), millis(readWriteTransactions.valueAtPercentile(50)),
+                millis(readWriteTransactions.valueAtPercentile(99)), millis(readWriteTransactions.getMaxMicros()));
+    }
+    
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
\ No newline at end of file
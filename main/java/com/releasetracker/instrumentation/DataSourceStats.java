@@ -0,0 +1,127 @@
+package com.releasetracker.instrumentation;
+
+public class DataSourceStats {
+    
+    private final String poolName;
+    private final int activeConnections;
+    private final int idleConnections;
+    private final int threadsAwaitingConnection;
+    private final int maximumPoolSize;
+    private final long acquisitions;
+    private final long acquireTimeouts;
+    private final double acquireWaitP50Millis;
+    private final double acquireWaitP99Millis;
+    private final double acquireWaitMaxMillis;
+    private final double connectionHoldP50Millis;
+    private final double connectionHoldP99Millis;
+    private final long readOnlyTransactions;
+    private final long readWriteTransactions;
+    private final long rollbacks;
+    private final double readOnlyTransactionP99Millis;
+    private final double readWriteTransactionP50Millis;
+    private final double readWriteTransactionP99Millis;
+    private final double readWriteTransactionMaxMillis;
+    
+    public DataSourceStats(String poolName, int activeConnections, int idleConnections, int threadsAwaitingConnection,
+                           int maximumPoolSize, long acquisitions, long acquireTimeouts, double acquireWaitP50Millis,
+                           double acquireWaitP99Millis, double acquireWaitMaxMillis, double connectionHoldP50Millis,
+                           double connectionHoldP99Millis, long readOnlyTransactions, long readWriteTransactions,
+                           long rollbacks, double readOnlyTransactionP99Millis, double readWriteTransactionP50Millis,
+                           double readWriteTransactionP99Millis, double readWriteTransactionMaxMillis) {
+        this.poolName = poolName;
+        this.activeConnections = activeConnections;
+        this.idleConnections = idleConnections;
+        this.threadsAwaitingConnection = threadsAwaitingConnection;
+        this.maximumPoolSize = maximumPoolSize;
+        this.acquisitions = acquisitions;
+        this.acquireTimeouts = acquireTimeouts;
+        this.acquireWaitP50Millis = acquireWaitP50Millis;
+        this.acquireWaitP99Millis = acquireWaitP99Millis;
+        this.acquireWaitMaxMillis = acquireWaitMaxMillis;
+        this.connectionHoldP50Millis = connectionHoldP50Millis;
+        this.connectionHoldP99Millis = connectionHoldP99Millis;
+        this.readOnlyTransactions = readOnlyTransactions;
+        this.readWriteTransactions = readWriteTransactions;
+        this.rollbacks = rollbacks;
+        this.readOnlyTransactionP99Millis = readOnlyTransactionP99Millis;
+        this.readWriteTransactionP50Millis = readWriteTransactionP50Millis;
+        this.readWriteTransactionP99Millis = readWriteTransactionP99Millis;
+        this.readWriteTransactionMaxMillis = readWriteTransactionMaxMillis;
+    }
+    
+    public String getPoolName() {
+        return poolName;
+    }
+    
+    public int getActiveConnections() {
+        return activeConnections;
+    }
+    
+    public int getIdleConnections() {
+        return idleConnections;
+    }
+    
+    public int getThreadsAwaitingConnection() {
+        return threadsAwaitingConnection;
+    }
+    
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+    
+    public long getAcquisitions() {
+        return acquisitions;
+    }
+    
+    public long getAcquireTimeouts() {
+        return acquireTimeouts;
+    }
+    
+    public double getAcquireWaitP50Millis() {
+        return acquireWaitP50Millis;
+    }
+    
+    public double getAcquireWaitP99Millis() {
+        return acquireWaitP99Millis;
+    }
+    
+    public double getAcquireWaitMaxMillis() {
+        return acquireWaitMaxMillis;
+    }
+    
+    public double getConnectionHoldP50Millis() {
+        return connectionHoldP50Millis;
+    }
+    
+    public double getConnectionHoldP99Millis() {
+        return connectionHoldP99Millis;
+    }
+    
+    public long getReadOnlyTransactions() {
+        return readOnlyTransactions;
+    }
+    
+    public long getReadWriteTransactions() {
+        return readWriteTransactions;
+    }
+    
+    public long getRollbacks() {
+        return rollbacks;
+    }
+    
+    public double getReadOnlyTransactionP99Millis() {
+        return readOnlyTransactionP99Millis;
+    }
+    
+    public double getReadWriteTransactionP50Millis() {
+        return readWriteTransactionP50Millis;
+    }
+    
+    public double getReadWriteTransactionP99Millis() {
+        return readWriteTransactionP99Millis;
+    }
+    
+    public double getReadWriteTransactionMaxMillis() {
+        return readWriteTransactionMaxMillis;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.releasetracker.instrumentation;
+
+import com.releasetracker.model.DeploymentLog;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.releasetracker.LogDeployment")
+@Label("Log Deployment")
+@Category({"Release Tracker", "Workflow"})
+@Description("Deployment log written to the journal or to deployment_logs")
+@StackTrace(false)
+public class DeploymentLogFlightEvent extends Event {
+    
+    @Label("Release Id")
+    private long releaseId;
+    
+    @Label("Environment")
+    private String environment;
+    
+    @Label("Action")
+    private String action;
+    
+    @Label("Success")
+    private boolean success;
+    
+    @Label("Journaled")
+    private boolean journaled;
+    
+    public static DeploymentLogFlightEvent start() {
+        DeploymentLogFlightEvent event = new DeploymentLogFlightEvent();
+        event.begin();
+        return event;
+    }
+    
+    public void finish(DeploymentLog log, boolean journaled) {
+        end();
+        if (shouldCommit()) {
+            this.releaseId = log.getRelease() != null && log.getRelease().getId() != null ? log.getRelease().getId() : 0;
+            this.environment = log.getEnvironment() != null ? log.getEnvironment().name() : null;
+            this.action = log.getAction() != null ? log.getAction().name() : null;
+            this.success = log.isSuccess();
+            this.journaled = journaled;
+            commit();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.releasetracker.instrumentation;
+
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+public class EndpointLatencyInterceptor implements HandlerInterceptor {
+    
+    private static final String START_ATTRIBUTE = EndpointLatencyInterceptor.class.getName() + ".start";
+    
+    private final EndpointLatencyRecorder recorder;
+    private final String controllerPackage;
+    
+    public EndpointLatencyInterceptor(EndpointLatencyRecorder recorder, String controllerPackage) {
+        this.recorder = recorder;
+        this.controllerPackage = controllerPackage;
+    }
+    
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Async requests are dispatched again once the result is ready; keep the start of the first dispatch
+        if (isController(handler) && request.getAttribute(START_ATTRIBUTE) == null) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+    
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Long start = (Long) request.getAttribute(START_ATTRIBUTE);
+        if (start == null) {
+            return;
+        }
+        request.removeAttribute(START_ATTRIBUTE);
+        long elapsed = System.nanoTime() - start;
+        int status = ex != null && response.getStatus() < 400 ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+        recorder.record(routeOf(request), request.getMethod(), request.getRequestURI(), status, status >= 500, elapsed);
+    }
+    
+    private boolean isController(Object handler) {
+        return handler instanceof HandlerMethod
+                && ((HandlerMethod) handler).getBeanType().getPackage().getName().equals(controllerPackage);
+    }
+    
+    static String routeOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+}
\ No newline at end of file
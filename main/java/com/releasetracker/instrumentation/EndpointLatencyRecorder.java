@@ -0,0 +1,157 @@
+package com.releasetracker.instrumentation;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-route latency and error counts kept in one-minute slices over a sliding window. Recording only touches atomics;
+ * the slowest requests of each minute are kept behind a lock that is skipped once a request is faster than all of them.
+ */
+@Component
+public class EndpointLatencyRecorder {
+    
+    private static final Comparator<SlowRequest> SLOWEST_FIRST =
+            Comparator.comparingDouble(SlowRequest::getDurationMillis).reversed();
+    
+    private final int retainedMinutes;
+    private final long sloLatencyMillis;
+    private final double sloTarget;
+    private final int slowRequestsPerMinute;
+    private final Map<String, AtomicReferenceArray<Slice>> routes = new ConcurrentHashMap<>();
+    
+    public EndpointLatencyRecorder(@Value("${releasetracker.instrumentation.slo.window-minutes:60}") int retainedMinutes,
+                                   @Value("${releasetracker.instrumentation.slo.latency-ms:300}") long sloLatencyMillis,
+                                   @Value("${releasetracker.instrumentation.slo.target:0.99}") double sloTarget,
+                                   @Value("${releasetracker.instrumentation.slo.slow-requests-per-minute:10}") int slowRequestsPerMinute) {
+        this.retainedMinutes = retainedMinutes;
+        this.sloLatencyMillis = sloLatencyMillis;
+        this.sloTarget = sloTarget;
+        this.slowRequestsPerMinute = slowRequestsPerMinute;
+    }
+    
+    public void record(String route, String method, String uri, int status, boolean failed, long durationNanos) {
+        record(route, method, uri, status, failed, durationNanos, System.currentTimeMillis());
+    }
+    
+    void record(String route, String method, String uri, int status, boolean failed, long durationNanos, long nowMillis) {
+        Slice slice = sliceFor(routes.computeIfAbsent(route, key -> new AtomicReferenceArray<>(retainedMinutes)),
+                TimeUnit.MILLISECONDS.toMinutes(nowMillis));
+        if (slice == null) {
+            return;
+        }
+        long micros = TimeUnit.NANOSECONDS.toMicros(durationNanos);
+        slice.histogram.record(micros);
+        if (failed) {
+            slice.errors.increment();
+        }
+        if (failed || micros > TimeUnit.MILLISECONDS.toMicros(sloLatencyMillis)) {
+            slice.sloViolations.increment();
+        }
+        double millis = RequestMetrics.millis(durationNanos);
+        if (slowRequestsPerMinute > 0 && millis > slice.slowestFloorMillis) {
+            slice.offer(new SlowRequest(route, method, uri, status, millis, Instant.ofEpochMilli(nowMillis)), slowRequestsPerMinute);
+        }
+    }
+    
+    public EndpointStatsReport report(int windowMinutes, int slowRequestLimit) {
+        return report(windowMinutes, slowRequestLimit, System.currentTimeMillis());
+    }
+    
+    EndpointStatsReport report(int windowMinutes, int slowRequestLimit, long nowMillis) {
+        int window = Math.max(1, Math.min(windowMinutes, retainedMinutes));
+        long currentMinute = TimeUnit.MILLISECONDS.toMinutes(nowMillis);
+        List<EndpointLatencyStats> endpoints = new ArrayList<>();
+        List<SlowRequest> slowest = new ArrayList<>();
+        
+        for (Map.Entry<String, AtomicReferenceArray<Slice>> route : routes.entrySet()) {
+            LatencyHistogram merged = new LatencyHistogram();
+            long errors = 0;
+            long violations = 0;
+            for (long minute = currentMinute - window + 1; minute <= currentMinute; minute++) {
+                Slice slice = route.getValue().get(slotOf(minute));
+                if (slice != null && slice.minute == minute) {
+                    merged.add(slice.histogram);
+                    errors += slice.errors.sum();
+                    violations += slice.sloViolations.sum();
+                    slowest.addAll(slice.slowest());
+                }
+            }
+            long count = merged.getTotalCount();
+            if (count > 0) {
+                double violationRate = (double) violations / count;
+                endpoints.add(new EndpointLatencyStats(route.getKey(), count, errors, (double) errors / count,
+                        millis(merged.valueAtPercentile(50)), millis(merged.valueAtPercentile(99)),
+                        millis(merged.valueAtPercentile(99.9)), millis(merged.getMaxMicros()),
+                        violations, violationRate / (1 - sloTarget)));
+            }
+        }
+        
+        endpoints.sort(Comparator.comparingDouble(EndpointLatencyStats::getP99Millis).reversed());
+        slowest.sort(SLOWEST_FIRST);
+        return new EndpointStatsReport(window, sloLatencyMillis, sloTarget, endpoints,
+                new ArrayList<>(slowest.subList(0, Math.min(slowRequestLimit, slowest.size()))));
+    }
+    
+    private Slice sliceFor(AtomicReferenceArray<Slice> slices, long minute) {
+        int slot = slotOf(minute);
+        Slice slice = slices.get(slot);
+        while (slice == null || slice.minute != minute) {
+            // A request finishing just after its slot was reused for a newer minute is dropped
+            if (slice != null && slice.minute > minute) {
+                return null;
+            }
+            Slice fresh = new Slice(minute);
+            if (slices.compareAndSet(slot, slice, fresh)) {
+                return fresh;
+            }
+            slice = slices.get(slot);
+        }
+        return slice;
+    }
+    
+    private int slotOf(long minute) {
+        return (int) (minute % retainedMinutes);
+    }
+    
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+    
+    private static final class Slice {
+        private final long minute;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder sloViolations = new LongAdder();
+        private final List<SlowRequest> slowest = new ArrayList<>();
+        private volatile double slowestFloorMillis = -1;
+        
+        private Slice(long minute) {
+            this.minute = minute;
+        }
+        
+        private synchronized void offer(SlowRequest request, int limit) {
+            slowest.add(request);
+            slowest.sort(SLOWEST_FIRST);
+            if (slowest.size() > limit) {
+                slowest.remove(slowest.size() - 1);
+            }
+            if (slowest.size() == limit) {
+                slowestFloorMillis = slowest.get(limit - 1).getDurationMillis();
+            }
+        }
+        
+        private synchronized List<SlowRequest> slowest() {
+            return new ArrayList<>(slowest);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.releasetracker.instrumentation;
+
+public class EndpointLatencyStats {
+    private final String route;
+    private final long count;
+    private final long errorCount;
+    private final double errorRate;
+    private final double p50Millis;
+    private final double p99Millis;
+    private final double p999Millis;
+    private final double maxMillis;
+    private final long sloViolations;
+    private final double burnRate;
+    
+    public EndpointLatencyStats(String route, long count, long errorCount, double errorRate,
+                                double p50Millis, double p99Millis, double p999Millis, double maxMillis,
+                                long sloViolations, double burnRate) {
+        this.route = route;
+        this.count = count;
+        this.errorCount = errorCount;
+        this.errorRate = errorRate;
+        this.p50Millis = p50Millis;
+        this.p99Millis = p99Millis;
+        this.p999Millis = p999Millis;
+        this.maxMillis = maxMillis;
+        this.sloViolations = sloViolations;
+        this.burnRate = burnRate;
+    }
+    
+    public String getRoute() {
+        return route;
+    }
+    
+    public long getCount() {
+        return count;
+    }
+    
+    public long getErrorCount() {
+        return errorCount;
+    }
+    
+    public double getErrorRate() {
+        return errorRate;
+    }
+    
+    public double getP50Millis() {
+        return p50Millis;
+    }
+    
+    public double getP99Millis() {
+        return p99Millis;
+    }
+    
+    public double getP999Millis() {
+        return p999Millis;
+    }
+    
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+    
+    public long getSloViolations() {
+        return sloViolations;
+    }
+    
+    public double getBurnRate() {
+        return burnRate;
+    }
+}
\ No newline at end of file
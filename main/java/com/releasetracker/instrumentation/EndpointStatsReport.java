@@ -0,0 +1,40 @@
+package com.releasetracker.instrumentation;
+
+import java.util.List;
+
+public class EndpointStatsReport {
+    private final int windowMinutes;
+    private final long sloLatencyMillis;
+    private final double sloTarget;
+    private final List<EndpointLatencyStats> endpoints;
+    private final List<SlowRequest> slowestRequests;
+    
+    public EndpointStatsReport(int windowMinutes, long sloLatencyMillis, double sloTarget,
+                               List<EndpointLatencyStats> endpoints, List<SlowRequest> slowestRequests) {
+        this.windowMinutes = windowMinutes;
+        this.sloLatencyMillis = sloLatencyMillis;
+        this.sloTarget = sloTarget;
+        this.endpoints = endpoints;
+        this.slowestRequests = slowestRequests;
+    }
+    
+    public int getWindowMinutes() {
+        return windowMinutes;
+    }
+    
+    public long getSloLatencyMillis() {
+        return sloLatencyMillis;
+    }
+    
+    public double getSloTarget() {
+        return sloTarget;
+    }
+    
+    public List<EndpointLatencyStats> getEndpoints() {
+        return endpoints;
+    }
+    
+    public List<SlowRequest> getSlowestRequests() {
+        return slowestRequests;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+package com.releasetracker.instrumentation;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Times every statement executed through JPA or JdbcTemplate and attributes it to the current request.
+ * Outside a request the proxies only forward calls. Closing the wrapper closes the pool behind it, so the
+ * container's inferred destroy method still shuts the pool (and an embedded database) down cleanly.
+ */
+public class InstrumentedDataSource extends DelegatingDataSource implements Closeable {
+    
+    public InstrumentedDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+    
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+    
+    @Override
+    public void close() throws IOException {
+        DataSource target = getTargetDataSource();
+        if (target instanceof Closeable) {
+            ((Closeable) target).close();
+        } else if (target instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) target).close();
+            } catch (Exception e) {
+                throw new IOException("Could not close data source", e);
+            }
+        }
+    }
+    
+    private static Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof CallableStatement) {
+                        return wrap((Statement) result, CallableStatement.class, (String) args[0]);
+                    }
+                    if (result instanceof PreparedStatement) {
+                        return wrap((Statement) result, PreparedStatement.class, (String) args[0]);
+                    }
+                    if (result instanceof Statement) {
+                        return wrap((Statement) result, Statement.class, null);
+                    }
+                    return result;
+                });
+    }
+    
+    private static Statement wrap(Statement statement, Class<? extends Statement> type, String preparedSql) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            RequestMetrics metrics = RequestMetrics.current();
+            if (metrics == null) {
+                return invoke(statement, method, args);
+            }
+            if (!method.getName().startsWith("execute")) {
+                return countRows(invoke(statement, method, args), metrics);
+            }
+            String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : preparedSql;
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = invoke(statement, method, args);
+            } finally {
+                metrics.recordStatement(sql, System.nanoTime() - start);
+            }
+            return countRows(result, metrics);
+        };
+        return (Statement) Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+    
+    private static Object countRows(Object result, RequestMetrics metrics) {
+        if (!(result instanceof ResultSet)) {
+            return result;
+        }
+        ResultSet resultSet = (ResultSet) result;
+        return Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(), new Class<?>[] {ResultSet.class},
+                (proxy, method, args) -> {
+                    Object value = invoke(resultSet, method, args);
+                    if (Boolean.TRUE.equals(value) && method.getName().equals("next")) {
+                        metrics.recordRowFetched();
+                    }
+                    return value;
+                });
+    }
+    
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,113 @@
+package com.releasetracker.instrumentation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * Serializes into a buffer of at most {@code maxBufferedBytes} while a request is being measured, so the
+ * serialization time is known before the response body (and with it the Server-Timing header) is committed.
+ * Larger bodies spill to the response as soon as the buffer fills; their header then has no ser entry.
+ */
+public class InstrumentedJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+    
+    private final int maxBufferedBytes;
+    
+    public InstrumentedJsonHttpMessageConverter(ObjectMapper objectMapper, int maxBufferedBytes) {
+        super(objectMapper);
+        this.maxBufferedBytes = maxBufferedBytes;
+    }
+    
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        RequestMetrics metrics = RequestMetrics.current();
+        if (metrics == null) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+        BoundedBuffer buffer = new BoundedBuffer(outputMessage, metrics, maxBufferedBytes);
+        long start = System.nanoTime();
+        super.writeInternal(object, type, new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return buffer;
+            }
+            
+            @Override
+            public HttpHeaders getHeaders() {
+                return outputMessage.getHeaders();
+            }
+        });
+        metrics.recordSerialization(System.nanoTime() - start);
+        buffer.drain();
+    }
+    
+    // Holds the body until it outgrows the cap, then hands everything to the real stream and passes writes through
+    private static final class BoundedBuffer extends OutputStream {
+        
+        private final HttpOutputMessage outputMessage;
+        private final RequestMetrics metrics;
+        private final int maxBufferedBytes;
+        private final ByteArrayOutputStream buffer;
+        private OutputStream body;
+        
+        BoundedBuffer(HttpOutputMessage outputMessage, RequestMetrics metrics, int maxBufferedBytes) {
+            this.outputMessage = outputMessage;
+            this.metrics = metrics;
+            this.maxBufferedBytes = maxBufferedBytes;
+            this.buffer = new ByteArrayOutputStream(Math.min(1024, Math.max(maxBufferedBytes, 1)));
+        }
+        
+        @Override
+        public void write(int b) throws IOException {
+            if (body == null && buffer.size() + 1 > maxBufferedBytes) {
+                spill();
+            }
+            if (body != null) {
+                body.write(b);
+            } else {
+                buffer.write(b);
+            }
+        }
+        
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (body == null && buffer.size() + len > maxBufferedBytes) {
+                spill();
+            }
+            if (body != null) {
+                body.write(b, off, len);
+            } else {
+                buffer.write(b, off, len);
+            }
+        }
+        
+        @Override
+        public void flush() throws IOException {
+            if (body != null) {
+                body.flush();
+            }
+        }
+        
+        void drain() throws IOException {
+            if (body == null) {
+                buffer.writeTo(outputMessage.getBody());
+            }
+        }
+        
+        private void spill() throws IOException {
+            metrics.skipSerializationTiming();
+            body = outputMessage.getBody();
+            buffer.writeTo(body);
+            buffer.reset();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+package com.releasetracker.instrumentation;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free log-linear histogram of microsecond latencies in the style of HdrHistogram: 32 linear sub-buckets per
+ * power of two keep every recorded value within ~3% of its true value. Values above ~134 s are clamped.
+ */
+public class LatencyHistogram {
+    
+    private static final int SUB_BUCKETS = 64;
+    private static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final long MAX_MICROS = (1L << 27) - 1;
+    private static final int BUCKETS = indexOf(MAX_MICROS) + 1;
+    
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+    
+    public void record(long micros) {
+        long value = Math.min(Math.max(micros, 0), MAX_MICROS);
+        counts.incrementAndGet(indexOf(value));
+        totalCount.incrementAndGet();
+        maxMicros.accumulateAndGet(value, Math::max);
+    }
+    
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            long count = other.counts.get(i);
+            if (count > 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+        totalCount.addAndGet(other.totalCount.get());
+        maxMicros.accumulateAndGet(other.maxMicros.get(), Math::max);
+    }
+    
+    public long getTotalCount() {
+        return totalCount.get();
+    }
+    
+    public long getMaxMicros() {
+        return maxMicros.get();
+    }
+    
+    public long countAbove(long micros) {
+        long above = 0;
+        for (int i = BUCKETS - 1; i >= 0 && lowestValueAt(i) > micros; i--) {
+            above += counts.get(i);
+        }
+        return above;
+    }
+    
+    // Highest value equivalent to the bucket holding the percentile, capped at the recorded maximum
+    public long valueAtPercentile(double percentile) {
+        long total = totalCount.get();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestValueAt(i), maxMicros.get());
+            }
+        }
+        return maxMicros.get();
+    }
+    
+    static int indexOf(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS;
+        return SUB_BUCKETS + (shift - 1) * HALF_SUB_BUCKETS + (int) (micros >>> shift) - HALF_SUB_BUCKETS;
+    }
+    
+    static long lowestValueAt(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKETS) / HALF_SUB_BUCKETS + 1;
+        long subBucket = (index - SUB_BUCKETS) % HALF_SUB_BUCKETS + HALF_SUB_BUCKETS;
+        return subBucket << shift;
+    }
+    
+    static long highestValueAt(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKETS) / HALF_SUB_BUCKETS + 1;
+        return lowestValueAt(index) + (1L << shift) - 1;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.releasetracker.instrumentation;
+
+import com.releasetracker.model.Environment;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.releasetracker.ReleaseTransition")
+@Label("Release Transition")
+@Category({"Release Tracker", "Workflow"})
+@Description("promoteRelease or rollbackRelease, including the deployment log, analytics and event store writes")
+@StackTrace(false)
+public class ReleaseTransitionFlightEvent extends Event {
+    
+    @Label("Operation")
+    private String operation;
+    
+    @Label("Release Id")
+    private long releaseId;
+    
+    @Label("From Environment")
+    private String fromEnvironment;
+    
+    @Label("To Environment")
+    private String toEnvironment;
+    
+    public static ReleaseTransitionFlightEvent start() {
+        ReleaseTransitionFlightEvent event = new ReleaseTransitionFlightEvent();
+        event.begin();
+        return event;
+    }
+    
+    public void finish(String operation, Long releaseId, Environment fromEnvironment, Environment toEnvironment) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.releaseId = releaseId != null ? releaseId : 0;
+            this.fromEnvironment = fromEnvironment.name();
+            this.toEnvironment = toEnvironment.name();
+            commit();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.releasetracker.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.releasetracker.RepositoryQuery")
+@Label("Repository Query")
+@Category({"Release Tracker", "Repository"})
+@Description("Call to a Spring Data repository method, including flushes and lazy result loading it triggers")
+public class RepositoryQueryFlightEvent extends Event {
+    
+    @Label("Repository")
+    String repository;
+    
+    @Label("Method")
+    String method;
+    
+    @Label("Release Id")
+    @Description("0 when the call is not tied to a single release")
+    long releaseId;
+    
+    @Label("Environments")
+    String environments;
+    
+    @Label("Row Count")
+    @Description("Rows returned, or rows changed by @Modifying queries; -1 for streams and scalar results")
+    long rowCount;
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+package com.releasetracker.instrumentation;
+
+import com.releasetracker.model.DeploymentLog;
+import com.releasetracker.model.Environment;
+import com.releasetracker.model.Release;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.repository.query.Param;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Emits a {@link RepositoryQueryFlightEvent} per repository call. When the event is not enabled in the running
+ * recording, the call goes straight through.
+ */
+public class RepositoryQueryRecorder implements MethodInterceptor {
+    
+    private final String repository;
+    private final boolean releaseRepository;
+    
+    public RepositoryQueryRecorder(Class<?> repositoryInterface, boolean releaseRepository) {
+        this.repository = repositoryInterface.getSimpleName();
+        this.releaseRepository = releaseRepository;
+    }
+    
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        RepositoryQueryFlightEvent event = new RepositoryQueryFlightEvent();
+        if (!event.isEnabled()) {
+            return invocation.proceed();
+        }
+        event.begin();
+        Object result = invocation.proceed();
+        event.end();
+        if (event.shouldCommit()) {
+            Method method = invocation.getMethod();
+            event.repository = repository;
+            event.method = method.getName();
+            event.releaseId = releaseIdOf(method, invocation.getArguments());
+            event.environments = environmentsOf(invocation.getArguments());
+            event.rowCount = rowCountOf(method, result);
+            event.commit();
+        }
+        return result;
+    }
+    
+    long releaseIdOf(Method method, Object[] arguments) {
+        Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+        for (int i = 0; i < arguments.length; i++) {
+            Object argument = arguments[i];
+            if (argument instanceof Release) {
+                return idOf((Release) argument);
+            }
+            if (argument instanceof DeploymentLog) {
+                return idOf(((DeploymentLog) argument).getRelease());
+            }
+            if (argument instanceof Long && (isReleaseIdParam(parameterAnnotations[i])
+                    || (releaseRepository && method.getName().endsWith("ById")))) {
+                return (Long) argument;
+            }
+        }
+        return 0;
+    }
+    
+    static String environmentsOf(Object[] arguments) {
+        StringBuilder environments = null;
+        for (Object argument : arguments) {
+            if (argument instanceof Environment) {
+                environments = environments == null ? new StringBuilder() : environments.append(',');
+                environments.append(((Environment) argument).name());
+            }
+        }
+        return environments != null ? environments.toString() : null;
+    }
+    
+    static long rowCountOf(Method method, Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Slice) {
+            return ((Slice<?>) result).getNumberOfElements();
+        }
+        if (result instanceof Optional) {
+            return ((Optional<?>) result).isPresent() ? 1 : 0;
+        }
+        if (result instanceof Number) {
+            return method.isAnnotationPresent(Modifying.class) ? ((Number) result).longValue() : -1;
+        }
+        if (result instanceof Release || result instanceof DeploymentLog) {
+            return 1;
+        }
+        return -1;
+    }
+    
+    private static boolean isReleaseIdParam(Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            if (annotation instanceof Param && "releaseId".equals(((Param) annotation).value())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static long idOf(Release release) {
+        return release != null && release.getId() != null ? release.getId() : 0;
+    }
+}
\ No newline at end of file
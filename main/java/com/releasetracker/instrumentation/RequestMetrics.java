@@ -0,0 +1,124 @@
+package com.releasetracker.instrumentation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Counters for the request being served on the current thread. Work handed to other threads
+ * (async read API, @Async listeners) is not attributed to the request.
+ */
+public final class RequestMetrics {
+    
+    private static final ThreadLocal<RequestMetrics> CURRENT = new ThreadLocal<>();
+    
+    private final long startNanos = System.nanoTime();
+    private final int maxStatements;
+    private final List<String> statements = new ArrayList<>();
+    private int sqlCount;
+    private long sqlNanos;
+    private long rowsFetched;
+    private long serializationNanos;
+    private boolean serializationTimingSkipped;
+    private int cacheHits;
+    private int cacheMisses;
+    
+    private RequestMetrics(int maxStatements) {
+        this.maxStatements = maxStatements;
+    }
+    
+    public static RequestMetrics begin(int maxStatements) {
+        RequestMetrics metrics = new RequestMetrics(maxStatements);
+        CURRENT.set(metrics);
+        return metrics;
+    }
+    
+    public static RequestMetrics current() {
+        return CURRENT.get();
+    }
+    
+    public static void end() {
+        CURRENT.remove();
+    }
+    
+    public static void recordCacheHit() {
+        RequestMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.cacheHits++;
+        }
+    }
+    
+    public static void recordCacheMiss() {
+        RequestMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.cacheMisses++;
+        }
+    }
+    
+    public void recordStatement(String sql, long nanos) {
+        sqlCount++;
+        sqlNanos += nanos;
+        if (statements.size() < maxStatements) {
+            statements.add(sql);
+        }
+    }
+    
+    public void recordRowFetched() {
+        rowsFetched++;
+    }
+    
+    public void recordSerialization(long nanos) {
+        serializationNanos += nanos;
+    }
+    
+    // The body was streamed before serialization finished, so the header cannot carry its duration
+    public void skipSerializationTiming() {
+        serializationTimingSkipped = true;
+    }
+    
+    public int getSqlCount() {
+        return sqlCount;
+    }
+    
+    public long getSqlNanos() {
+        return sqlNanos;
+    }
+    
+    public long getRowsFetched() {
+        return rowsFetched;
+    }
+    
+    public long getSerializationNanos() {
+        return serializationNanos;
+    }
+    
+    public int getCacheHits() {
+        return cacheHits;
+    }
+    
+    public int getCacheMisses() {
+        return cacheMisses;
+    }
+    
+    public long getElapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+    
+    public List<String> getStatements() {
+        return Collections.unmodifiableList(statements);
+    }
+    
+    public String toServerTiming() {
+        String serialization = serializationTimingSkipped
+                ? ""
+                : String.format(Locale.ROOT, " ser;dur=%.1f,", millis(serializationNanos));
+        return String.format(Locale.ROOT,
+                "db;dur=%.1f;desc=\"%d queries, %d rows\",%s cache;desc=\"%d hits %d misses\", app;dur=%.1f",
+                millis(sqlNanos), sqlCount, rowsFetched, serialization, cacheHits, cacheMisses, millis(getElapsedNanos()));
+    }
+    
+    static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.releasetracker.instrumentation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class ServerTimingFilter extends OncePerRequestFilter {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ServerTimingFilter.class);
+    
+    private final long slowRequestNanos;
+    private final double slowRequestSampleRate;
+    private final int maxStatements;
+    
+    public ServerTimingFilter(long slowRequestMillis, double slowRequestSampleRate, int maxStatements) {
+        this.slowRequestNanos = slowRequestMillis * 1_000_000L;
+        this.slowRequestSampleRate = slowRequestSampleRate;
+        this.maxStatements = maxStatements;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestMetrics metrics = RequestMetrics.begin(maxStatements);
+        ServerTimingResponseWrapper wrapper = new ServerTimingResponseWrapper(response, metrics);
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            wrapper.addServerTiming();
+            RequestMetrics.end();
+            long elapsed = metrics.getElapsedNanos();
+            if (elapsed >= slowRequestNanos && ThreadLocalRandom.current().nextDouble() < slowRequestSampleRate) {
+                logSlowRequest(request, response, metrics, elapsed);
+            }
+        }
+    }
+    
+    private static void logSlowRequest(HttpServletRequest request, HttpServletResponse response,
+                                       RequestMetrics metrics, long elapsedNanos) {
+        StringBuilder statements = new StringBuilder();
+        for (String sql : metrics.getStatements()) {
+            statements.append("\n    ").append(sql);
+        }
+        if (metrics.getSqlCount() > metrics.getStatements().size()) {
+            statements.append("\n    ... ").append(metrics.getSqlCount() - metrics.getStatements().size()).append(" more");
+        }
+        logger.warn("Slow request {} {} -> {} in {} ms: {} SQL statements ({} rows) in {} ms, serialization {} ms, cache {} hits {} misses{}",
+                request.getMethod(), request.getRequestURI(), response.getStatus(),
+                Math.round(RequestMetrics.millis(elapsedNanos)), metrics.getSqlCount(), metrics.getRowsFetched(),
+                Math.round(RequestMetrics.millis(metrics.getSqlNanos())),
+                Math.round(RequestMetrics.millis(metrics.getSerializationNanos())),
+                metrics.getCacheHits(), metrics.getCacheMisses(), statements);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.releasetracker.instrumentation;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+// Headers must be set before the body commits them, so the timings are captured on first write
+class ServerTimingResponseWrapper extends HttpServletResponseWrapper {
+    
+    static final String SERVER_TIMING = "Server-Timing";
+    
+    private final RequestMetrics metrics;
+    private boolean timingAdded;
+    
+    ServerTimingResponseWrapper(HttpServletResponse response, RequestMetrics metrics) {
+        super(response);
+        this.metrics = metrics;
+    }
+    
+    void addServerTiming() {
+        if (!timingAdded && !isCommitted()) {
+            setHeader(SERVER_TIMING, metrics.toServerTiming());
+        }
+        timingAdded = true;
+    }
+    
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        addServerTiming();
+        return super.getOutputStream();
+    }
+    
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        addServerTiming();
+        return super.getWriter();
+    }
+    
+    @Override
+    public void flushBuffer() throws IOException {
+        addServerTiming();
+        super.flushBuffer();
+    }
+    
+    @Override
+    public void sendError(int sc) throws IOException {
+        addServerTiming();
+        super.sendError(sc);
+    }
+    
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+        addServerTiming();
+        super.sendError(sc, msg);
+    }
+    
+    @Override
+    public void sendRedirect(String location) throws IOException {
+        addServerTiming();
+        super.sendRedirect(location);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.releasetracker.instrumentation;
+
+import java.time.Instant;
+
+public class SlowRequest {
+    private final String route;
+    private final String method;
+    private final String uri;
+    private final int status;
+    private final double durationMillis;
+    private final Instant completedAt;
+    
+    public SlowRequest(String route, String method, String uri, int status, double durationMillis, Instant completedAt) {
+        this.route = route;
+        this.method = method;
+        this.uri = uri;
+        this.status = status;
+        this.durationMillis = durationMillis;
+        this.completedAt = completedAt;
+    }
+    
+    public String getRoute() {
+        return route;
+    }
+    
+    public String getMethod() {
+        return method;
+    }
+    
+    public String getUri() {
+        return uri;
+    }
+    
+    public int getStatus() {
+        return status;
+    }
+    
+    public double getDurationMillis() {
+        return durationMillis;
+    }
+    
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+}
\ No newline at end of file
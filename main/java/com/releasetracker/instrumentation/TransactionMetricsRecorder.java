@@ -0,0 +1,56 @@
+package com.releasetracker.instrumentation;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Advice for the PlatformTransactionManager that times each physical transaction from begin to commit or rollback.
+ * Calls that join an existing transaction are not counted.
+ */
+public class TransactionMetricsRecorder implements MethodInterceptor {
+    
+    private final DataSourceMetrics metrics;
+    private final Map<TransactionStatus, long[]> started = new ConcurrentHashMap<>();
+    
+    public TransactionMetricsRecorder(DataSourceMetrics metrics) {
+        this.metrics = metrics;
+    }
+    
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        String method = invocation.getMethod().getName();
+        if (method.equals("getTransaction")) {
+            TransactionStatus status = (TransactionStatus) invocation.proceed();
+            if (status.isNewTransaction()) {
+                TransactionDefinition definition = (TransactionDefinition) invocation.getArguments()[0];
+                boolean readOnly = definition != null && definition.isReadOnly();
+                started.put(status, new long[] {System.nanoTime(), readOnly ? 1 : 0});
+            }
+            return status;
+        }
+        if (!method.equals("commit") && !method.equals("rollback")) {
+            return invocation.proceed();
+        }
+        
+        TransactionStatus status = (TransactionStatus) invocation.getArguments()[0];
+        long[] start = started.remove(status);
+        if (start == null) {
+            return invocation.proceed();
+        }
+        // A commit of a rollback-only transaction rolls back; ask before the transaction is cleaned up
+        boolean commit = method.equals("commit") && !status.isRollbackOnly();
+        boolean committed = false;
+        try {
+            Object result = invocation.proceed();
+            committed = commit;
+            return result;
+        } finally {
+            metrics.recordTransaction(start[1] == 1, committed, System.nanoTime() - start[0]);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,258 @@
+package com.releasetracker.journal;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+@Component
+public class DeploymentJournal {
+    
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final int HEADER_BYTES = 8;
+    
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentSize;
+    
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private long segment;
+    private volatile boolean dirty;
+    
+    @Autowired
+    public DeploymentJournal(@Value("${releasetracker.journal.enabled:false}") boolean enabled,
+                             @Value("${releasetracker.journal.dir:journal}") String directory,
+                             @Value("${releasetracker.journal.segment-size:67108864}") int segmentSize) {
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        this.segmentSize = segmentSize;
+    }
+    
+    @PostConstruct
+    public void open() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            List<Long> segments = listSegments();
+            if (segments.isEmpty()) {
+                openSegment(1);
+            } else {
+                openSegment(segments.get(segments.size() - 1));
+                // Resume appending after the last intact record; a torn tail write is overwritten
+                ByteBuffer view = buffer.duplicate();
+                view.position(0);
+                readRecords(view, segment, new ArrayList<>(), new ArrayList<>(), Integer.MAX_VALUE);
+                buffer.position(view.position());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open deployment journal in " + directory, e);
+        }
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public synchronized JournalPosition append(JournalRecord record) {
+        byte[] payload = record.encode();
+        int needed = HEADER_BYTES + payload.length;
+        if (needed + 4 > segmentSize) {
+            throw new IllegalArgumentException("Journal record of " + needed + " bytes exceeds the segment size");
+        }
+        // Keep four zero bytes free so readers always find an end-of-segment marker
+        if (buffer.remaining() < needed + 4) {
+            roll();
+        }
+        int offset = buffer.position();
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        buffer.putInt(payload.length);
+        buffer.putInt((int) crc.getValue());
+        buffer.put(payload);
+        dirty = true;
+        return new JournalPosition(segment, offset);
+    }
+    
+    @Scheduled(fixedDelayString = "${releasetracker.journal.fsync-interval-ms:100}")
+    public void sync() {
+        if (!enabled || !dirty) {
+            return;
+        }
+        synchronized (this) {
+            dirty = false;
+            buffer.force();
+        }
+    }
+    
+    public JournalBatch read(JournalPosition from, int maxRecords) {
+        List<JournalRecord> records = new ArrayList<>();
+        List<JournalPosition> positions = new ArrayList<>();
+        long readSegment = from.getSegment();
+        int offset = from.getOffset();
+        while (records.size() < maxRecords) {
+            ByteBuffer view = segmentView(readSegment);
+            if (view != null) {
+                view.position(Math.min(offset, view.limit()));
+                readRecords(view, readSegment, records, positions, maxRecords);
+                offset = view.position();
+            }
+            if (records.size() >= maxRecords || readSegment >= currentSegment()) {
+                break;
+            }
+            readSegment++;
+            offset = 0;
+        }
+        return new JournalBatch(records, positions, new JournalPosition(readSegment, offset));
+    }
+    
+    public JournalPosition readCheckpoint() {
+        Path checkpoint = directory.resolve(CHECKPOINT_FILE);
+        try {
+            if (Files.exists(checkpoint)) {
+                String[] parts = new String(Files.readAllBytes(checkpoint), StandardCharsets.UTF_8).trim().split(":");
+                return new JournalPosition(Long.parseLong(parts[0]), Integer.parseInt(parts[1]));
+            }
+            List<Long> segments = listSegments();
+            return new JournalPosition(segments.isEmpty() ? currentSegment() : segments.get(0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read journal checkpoint", e);
+        }
+    }
+    
+    public void commit(JournalPosition position) {
+        Path checkpoint = directory.resolve(CHECKPOINT_FILE);
+        Path temp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        try {
+            Files.write(temp, (position.getSegment() + ":" + position.getOffset()).getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.SYNC);
+            Files.move(temp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            for (Long indexed : listSegments()) {
+                if (indexed < position.getSegment() && indexed < currentSegment()) {
+                    Files.deleteIfExists(segmentPath(indexed));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write journal checkpoint", e);
+        }
+    }
+    
+    @PreDestroy
+    public synchronized void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            buffer.force();
+            channel.close();
+            channel = null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close deployment journal", e);
+        }
+    }
+    
+    private synchronized long currentSegment() {
+        return segment;
+    }
+    
+    private ByteBuffer segmentView(long requested) {
+        synchronized (this) {
+            if (requested == segment) {
+                ByteBuffer view = buffer.duplicate();
+                view.limit(buffer.position());
+                return view;
+            }
+            if (requested > segment) {
+                return null;
+            }
+        }
+        Path path = segmentPath(requested);
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try (FileChannel readChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return readChannel.map(FileChannel.MapMode.READ_ONLY, 0, readChannel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to map journal segment " + requested, e);
+        }
+    }
+    
+    private static void readRecords(ByteBuffer view, long segmentNumber, List<JournalRecord> records,
+                                    List<JournalPosition> positions, int maxRecords) {
+        CRC32 crc = new CRC32();
+        while (records.size() < maxRecords && view.remaining() >= HEADER_BYTES) {
+            int start = view.position();
+            int length = view.getInt();
+            int checksum = view.getInt();
+            if (length <= 0 || length > view.remaining()) {
+                view.position(start);
+                return;
+            }
+            ByteBuffer payload = view.slice();
+            payload.limit(length);
+            crc.reset();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                view.position(start);
+                return;
+            }
+            records.add(JournalRecord.decode(payload));
+            positions.add(new JournalPosition(segmentNumber, start));
+            view.position(view.position() + length);
+        }
+    }
+    
+    private void roll() {
+        try {
+            buffer.force();
+            channel.close();
+            openSegment(segment + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to roll deployment journal segment", e);
+        }
+    }
+    
+    private void openSegment(long number) throws IOException {
+        channel = FileChannel.open(segmentPath(number),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        segment = number;
+    }
+    
+    private List<Long> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.valueOf(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+    
+    private Path segmentPath(long number) {
+        return directory.resolve(String.format("%s%010d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+    }
+}
\ No newline at end of file
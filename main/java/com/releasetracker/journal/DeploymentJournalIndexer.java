@@ -0,0 +1,143 @@
+package com.releasetracker.journal;
+
+import com.releasetracker.event.DeploymentLoggedEvent;
+import com.releasetracker.model.DeploymentLog;
+import com.releasetracker.repository.DeploymentLogRepository;
+import com.releasetracker.repository.ReleaseRepository;
+import com.releasetracker.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Component
+public class DeploymentJournalIndexer {
+    
+    private static final Logger logger = LoggerFactory.getLogger(DeploymentJournalIndexer.class);
+    
+    private final DeploymentJournal deploymentJournal;
+    private final DeploymentLogRepository deploymentLogRepository;
+    private final ReleaseRepository releaseRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private JournalPosition position;
+    
+    @Autowired
+    public DeploymentJournalIndexer(DeploymentJournal deploymentJournal,
+                                    DeploymentLogRepository deploymentLogRepository,
+                                    ReleaseRepository releaseRepository,
+                                    UserRepository userRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    ApplicationEventPublisher eventPublisher,
+                                    @Value("${releasetracker.journal.index-batch-size:1000}") int batchSize) {
+        this.deploymentJournal = deploymentJournal;
+        this.deploymentLogRepository = deploymentLogRepository;
+        this.releaseRepository = releaseRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void replay() {
+        if (!deploymentJournal.isEnabled()) {
+            return;
+        }
+        position = deploymentJournal.readCheckpoint();
+        int replayed = 0;
+        int indexed;
+        while ((indexed = indexNextBatch()) > 0) {
+            replayed += indexed;
+        }
+        logger.info("Replayed {} journaled deployment logs from {}", replayed, position);
+    }
+    
+    @Scheduled(fixedDelayString = "${releasetracker.journal.index-interval-ms:200}")
+    public synchronized void indexPending() {
+        if (!deploymentJournal.isEnabled() || position == null) {
+            return;
+        }
+        while (indexNextBatch() == batchSize) {
+            // keep draining while the journal is ahead of the table
+        }
+    }
+    
+    private int indexNextBatch() {
+        JournalBatch batch = deploymentJournal.read(position, batchSize);
+        List<JournalRecord> records = batch.getRecords();
+        if (!records.isEmpty()) {
+            List<DeploymentLog> logs = unindexed(batch);
+            try {
+                List<DeploymentLog> savedLogs = transactionTemplate.execute(status -> deploymentLogRepository.saveAll(logs));
+                savedLogs.forEach(log -> eventPublisher.publishEvent(new DeploymentLoggedEvent(log)));
+            } catch (DataIntegrityViolationException e) {
+                indexIndividually(logs);
+            }
+        }
+        // A crash after the batch commits but before the checkpoint is written replays the batch; unindexed() then
+        // drops the rows that already carry their journal position
+        if (!batch.getNext().equals(position)) {
+            deploymentJournal.commit(batch.getNext());
+            position = batch.getNext();
+        }
+        return records.size();
+    }
+    
+    private void indexIndividually(List<DeploymentLog> logs) {
+        for (DeploymentLog log : logs) {
+            try {
+                DeploymentLog savedLog = transactionTemplate.execute(status -> deploymentLogRepository.save(log));
+                eventPublisher.publishEvent(new DeploymentLoggedEvent(savedLog));
+            } catch (DataIntegrityViolationException e) {
+                logger.warn("Skipping journaled deployment log at {} for release {}: {}",
+                        log.getJournalPosition(), log.getRelease().getId(), e.getMessage());
+            }
+        }
+    }
+    
+    private List<DeploymentLog> unindexed(JournalBatch batch) {
+        List<JournalRecord> records = batch.getRecords();
+        List<JournalPosition> positions = batch.getPositions();
+        Set<Long> indexed = new HashSet<>(deploymentLogRepository.findJournalPositionsBetween(
+                positions.get(0).asLong(), positions.get(positions.size() - 1).asLong()));
+        List<DeploymentLog> logs = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            long journalPosition = positions.get(i).asLong();
+            if (!indexed.contains(journalPosition)) {
+                DeploymentLog log = toDeploymentLog(records.get(i));
+                log.setJournalPosition(journalPosition);
+                logs.add(log);
+            }
+        }
+        return logs;
+    }
+    
+    private DeploymentLog toDeploymentLog(JournalRecord record) {
+        DeploymentLog log = new DeploymentLog(releaseRepository.getReferenceById(record.getReleaseId()),
+                record.getEnvironment(),
+                userRepository.getReferenceById(record.getDeployedById()),
+                record.isSuccess(),
+                record.getNotes());
+        log.setDeploymentTimestamp(record.getTimestamp());
+        log.setAction(record.getAction());
+        log.setFromEnvironment(record.getFromEnvironment());
+        log.setToEnvironment(record.getToEnvironment());
+        return log;
+    }
+}
\ No newline at end of file
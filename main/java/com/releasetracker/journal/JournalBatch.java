@@ -0,0 +1,28 @@
+package com.releasetracker.journal;
+
+import java.util.List;
+
+public final class JournalBatch {
+    private final List<JournalRecord> records;
+    private final List<JournalPosition> positions;
+    private final JournalPosition next;
+    
+    public JournalBatch(List<JournalRecord> records, List<JournalPosition> positions, JournalPosition next) {
+        this.records = records;
+        this.positions = positions;
+        this.next = next;
+    }
+    
+    public List<JournalRecord> getRecords() {
+        return records;
+    }
+    
+    // Where each record starts, in the same order as getRecords()
+    public List<JournalPosition> getPositions() {
+        return positions;
+    }
+    
+    public JournalPosition getNext() {
+        return next;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.releasetracker.journal;
+
+public final class JournalPosition {
+    private final long segment;
+    private final int offset;
+    
+    public JournalPosition(long segment, int offset) {
+        this.segment = segment;
+        this.offset = offset;
+    }
+    
+    public long getSegment() {
+        return segment;
+    }
+    
+    public int getOffset() {
+        return offset;
+    }
+    
+    // Orders like the journal itself: segment in the high bits, offset within it in the low bits
+    public long asLong() {
+        return segment << 32 | offset;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof JournalPosition)) {
+            return false;
+        }
+        JournalPosition other = (JournalPosition) o;
+        return segment == other.segment && offset == other.offset;
+    }
+    
+    @Override
+    public int hashCode() {
+        return Long.hashCode(segment) * 31 + offset;
+    }
+    
+    @Override
+    public String toString() {
+        return "JournalPosition{" +
+                "segment=" + segment +
+                ", offset=" + offset +
+                '}';
+    }
+}
\ No newline at end of file
@@ -0,0 +1,144 @@
+package com.releasetracker.journal;
+
+import com.releasetracker.model.DeploymentAction;
+import com.releasetracker.model.DeploymentLog;
+import com.releasetracker.model.Environment;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+public final class JournalRecord {
+    private static final Environment[] ENVIRONMENTS = Environment.values();
+    private static final DeploymentAction[] ACTIONS = DeploymentAction.values();
+    private static final int FIXED_BYTES = 8 + 8 + 8 + 1 + 1 + 4;
+    private static final int TRANSITION_BYTES = 3;
+    
+    private final long releaseId;
+    private final long deployedById;
+    private final long timestampMillis;
+    private final Environment environment;
+    private final boolean success;
+    private final String notes;
+    private final DeploymentAction action;
+    private final Environment fromEnvironment;
+    private final Environment toEnvironment;
+    
+    public JournalRecord(long releaseId, long deployedById, long timestampMillis,
+                         Environment environment, boolean success, String notes) {
+        this(releaseId, deployedById, timestampMillis, environment, success, notes, DeploymentAction.DEPLOYED, null, null);
+    }
+    
+    public JournalRecord(long releaseId, long deployedById, long timestampMillis,
+                         Environment environment, boolean success, String notes,
+                         DeploymentAction action, Environment fromEnvironment, Environment toEnvironment) {
+        this.releaseId = releaseId;
+        this.deployedById = deployedById;
+        this.timestampMillis = timestampMillis;
+        this.environment = environment;
+        this.success = success;
+        this.notes = notes;
+        this.action = action != null ? action : DeploymentAction.DEPLOYED;
+        this.fromEnvironment = fromEnvironment;
+        this.toEnvironment = toEnvironment;
+    }
+    
+    public static JournalRecord of(DeploymentLog log) {
+        long timestampMillis = log.getDeploymentTimestamp().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new JournalRecord(log.getRelease().getId(), log.getDeployedBy().getId(), timestampMillis,
+                log.getEnvironment(), log.isSuccess(), log.getNotes(),
+                log.getAction(), log.getFromEnvironment(), log.getToEnvironment());
+    }
+    
+    byte[] encode() {
+        byte[] notesBytes = notes != null ? notes.getBytes(StandardCharsets.UTF_8) : null;
+        ByteBuffer buffer = ByteBuffer.allocate(FIXED_BYTES + (notesBytes != null ? notesBytes.length : 0) + TRANSITION_BYTES);
+        buffer.putLong(releaseId);
+        buffer.putLong(deployedById);
+        buffer.putLong(timestampMillis);
+        buffer.put((byte) environment.ordinal());
+        buffer.put((byte) (success ? 1 : 0));
+        buffer.putInt(notesBytes != null ? notesBytes.length : -1);
+        if (notesBytes != null) {
+            buffer.put(notesBytes);
+        }
+        buffer.put((byte) action.ordinal());
+        buffer.put(encodeEnvironment(fromEnvironment));
+        buffer.put(encodeEnvironment(toEnvironment));
+        return buffer.array();
+    }
+    
+    static JournalRecord decode(ByteBuffer payload) {
+        long releaseId = payload.getLong();
+        long deployedById = payload.getLong();
+        long timestampMillis = payload.getLong();
+        Environment environment = ENVIRONMENTS[payload.get()];
+        boolean success = payload.get() == 1;
+        int notesLength = payload.getInt();
+        String notes = null;
+        if (notesLength >= 0) {
+            byte[] notesBytes = new byte[notesLength];
+            payload.get(notesBytes);
+            notes = new String(notesBytes, StandardCharsets.UTF_8);
+        }
+        if (payload.remaining() < TRANSITION_BYTES) {
+            // Records journaled before the transition columns existed end after the notes
+            return new JournalRecord(releaseId, deployedById, timestampMillis, environment, success, notes);
+        }
+        DeploymentAction action = ACTIONS[payload.get()];
+        Environment fromEnvironment = decodeEnvironment(payload.get());
+        Environment toEnvironment = decodeEnvironment(payload.get());
+        return new JournalRecord(releaseId, deployedById, timestampMillis, environment, success, notes,
+                action, fromEnvironment, toEnvironment);
+    }
+    
+    private static byte encodeEnvironment(Environment environment) {
+        return (byte) (environment != null ? environment.ordinal() + 1 : 0);
+    }
+    
+    private static Environment decodeEnvironment(byte value) {
+        return value == 0 ? null : ENVIRONMENTS[value - 1];
+    }
+    
+    public long getReleaseId() {
+        return releaseId;
+    }
+    
+    public long getDeployedById() {
+        return deployedById;
+    }
+    
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+    
+    public LocalDateTime getTimestamp() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(timestampMillis), ZoneId.systemDefault());
+    }
+    
+    public Environment getEnvironment() {
+        return environment;
+    }
+    
+    public boolean isSuccess() {
+        return success;
+    }
+    
+    public String getNotes() {
+        return notes;
+    }
+    
+    public DeploymentAction getAction() {
+        return action;
+    }
+    
+    public Environment getFromEnvironment() {
+        return fromEnvironment;
+    }
+    
+    public Environment getToEnvironment() {
+        return toEnvironment;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,111 @@
+package com.releasetracker.model;
+
+import java.time.LocalDateTime;
+
+public class ArchivedDeploymentLog {
+    private Long id;
+    private Long releaseId;
+    private Environment environment;
+    private Long deployedById;
+    private LocalDateTime deploymentTimestamp;
+    private DeploymentAction action;
+    private Environment fromEnvironment;
+    private Environment toEnvironment;
+    private String notes;
+    private boolean success;
+    
+    public ArchivedDeploymentLog() {}
+    
+    public ArchivedDeploymentLog(DeploymentLog log) {
+        this.id = log.getId();
+        this.releaseId = log.getRelease() != null ? log.getRelease().getId() : null;
+        this.environment = log.getEnvironment();
+        this.deployedById = log.getDeployedBy() != null ? log.getDeployedBy().getId() : null;
+        this.deploymentTimestamp = log.getDeploymentTimestamp();
+        this.action = log.getAction();
+        this.fromEnvironment = log.getFromEnvironment();
+        this.toEnvironment = log.getToEnvironment();
+        this.notes = log.getNotes();
+        this.success = log.isSuccess();
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Long getReleaseId() {
+        return releaseId;
+    }
+    
+    public void setReleaseId(Long releaseId) {
+        this.releaseId = releaseId;
+    }
+    
+    public Environment getEnvironment() {
+        return environment;
+    }
+    
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+    
+    public Long getDeployedById() {
+        return deployedById;
+    }
+    
+    public void setDeployedById(Long deployedById) {
+        this.deployedById = deployedById;
+    }
+    
+    public LocalDateTime getDeploymentTimestamp() {
+        return deploymentTimestamp;
+    }
+    
+    public void setDeploymentTimestamp(LocalDateTime deploymentTimestamp) {
+        this.deploymentTimestamp = deploymentTimestamp;
+    }
+    
+    public DeploymentAction getAction() {
+        return action;
+    }
+    
+    public void setAction(DeploymentAction action) {
+        this.action = action;
+    }
+    
+    public Environment getFromEnvironment() {
+        return fromEnvironment;
+    }
+    
+    public void setFromEnvironment(Environment fromEnvironment) {
+        this.fromEnvironment = fromEnvironment;
+    }
+    
+    public Environment getToEnvironment() {
+        return toEnvironment;
+    }
+    
+    public void setToEnvironment(Environment toEnvironment) {
+        this.toEnvironment = toEnvironment;
+    }
+    
+    public String getNotes() {
+        return notes;
+    }
+    
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+    
+    public boolean isSuccess() {
+        return success;
+    }
+    
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+}
\ No newline at end of file
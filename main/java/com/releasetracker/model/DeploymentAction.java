@@ -0,0 +1,7 @@
+package com.releasetracker.model;
+
+public enum DeploymentAction {
+    DEPLOYED,
+    PROMOTED,
+    ROLLED_BACK
+}
\ No newline at end of file
@@ -1,13 +1,21 @@
 package com.releasetracker.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import org.hibernate.annotations.Where;
 import javax.persistence.*;
 import javax.validation.constraints.NotNull;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "deployment_logs")
+@Table(name = "deployment_logs", indexes = {
+        @Index(name = "idx_deployment_logs_month_timestamp", columnList = "deployment_month, deployment_timestamp"),
+        @Index(name = "idx_deployment_logs_action_timestamp", columnList = "action, deployment_timestamp"),
+        @Index(name = "idx_deployment_logs_transition", columnList = "from_environment, to_environment, deployment_timestamp")
+})
+// The soft-deleted set is small and read through idx_releases_deleted_at, so the anti-join stays cheap
+@Where(clause = "release_id NOT IN (SELECT r.id FROM releases r WHERE r.deleted_at IS NOT NULL)")
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class DeploymentLog {
     @Id
@@ -31,15 +39,42 @@ public class DeploymentLog {
     @Column(name = "deployment_timestamp")
     private LocalDateTime deploymentTimestamp;
     
+    @Column(name = "deployment_month")
+    private Integer deploymentMonth;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "action", length = 16)
+    private DeploymentAction action = DeploymentAction.DEPLOYED;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_environment", length = 8)
+    private Environment fromEnvironment;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_environment", length = 8)
+    private Environment toEnvironment;
+    
     private String notes;
     
     private boolean success;
     
+    // Set for rows indexed from the deployment journal, so a replayed batch cannot insert them twice
+    @Column(name = "journal_position", unique = true)
+    private Long journalPosition;
+    
     @PrePersist
     protected void onCreate() {
         if (deploymentTimestamp == null) {
             deploymentTimestamp = LocalDateTime.now();
         }
+        if (action == null) {
+            action = DeploymentAction.DEPLOYED;
+        }
+        deploymentMonth = monthOf(deploymentTimestamp);
+    }
+    
+    public static int monthOf(LocalDateTime timestamp) {
+        return timestamp.getYear() * 100 + timestamp.getMonthValue();
     }
     
     public DeploymentLog() {}
@@ -50,6 +85,7 @@ public class DeploymentLog {
         this.deployedBy = deployedBy;
         this.success = success;
         this.deploymentTimestamp = LocalDateTime.now();
+        this.deploymentMonth = monthOf(deploymentTimestamp);
     }
     
     public DeploymentLog(Release release, Environment environment, User deployedBy, boolean success, String notes) {
@@ -57,6 +93,14 @@ public class DeploymentLog {
         this.notes = notes;
     }
     
+    public DeploymentLog(Release release, DeploymentAction action, Environment fromEnvironment,
+                         Environment toEnvironment, User deployedBy) {
+        this(release, toEnvironment, deployedBy, true);
+        this.action = action;
+        this.fromEnvironment = fromEnvironment;
+        this.toEnvironment = toEnvironment;
+    }
+    
     public Long getId() {
         return id;
     }
@@ -95,6 +139,36 @@ public class DeploymentLog {
     
     public void setDeploymentTimestamp(LocalDateTime deploymentTimestamp) {
         this.deploymentTimestamp = deploymentTimestamp;
+        this.deploymentMonth = deploymentTimestamp != null ? monthOf(deploymentTimestamp) : null;
+    }
+    
+    @JsonIgnore
+    public Integer getDeploymentMonth() {
+        return deploymentMonth;
+    }
+    
+    public DeploymentAction getAction() {
+        return action;
+    }
+    
+    public void setAction(DeploymentAction action) {
+        this.action = action;
+    }
+    
+    public Environment getFromEnvironment() {
+        return fromEnvironment;
+    }
+    
+    public void setFromEnvironment(Environment fromEnvironment) {
+        this.fromEnvironment = fromEnvironment;
+    }
+    
+    public Environment getToEnvironment() {
+        return toEnvironment;
+    }
+    
+    public void setToEnvironment(Environment toEnvironment) {
+        this.toEnvironment = toEnvironment;
     }
     
     public String getNotes() {
@@ -113,11 +187,21 @@ public class DeploymentLog {
         this.success = success;
     }
     
+    @JsonIgnore
+    public Long getJournalPosition() {
+        return journalPosition;
+    }
+    
+    public void setJournalPosition(Long journalPosition) {
+        this.journalPosition = journalPosition;
+    }
+    
     @Override
     public String toString() {
         return "DeploymentLog{" +
                 "id=" + id +
                 ", environment=" + environment +
+                ", action=" + action +
                 ", deploymentTimestamp=" + deploymentTimestamp +
                 ", success=" + success +
                 ", notes='" + notes + '\'' +
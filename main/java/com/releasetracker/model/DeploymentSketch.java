@@ -0,0 +1,99 @@
+package com.releasetracker.model;
+
+import javax.persistence.*;
+
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "deployment_sketches", indexes = {
+        @Index(name = "uk_deployment_sketches_day_environment", columnList = "sketch_day, environment", unique = true)
+})
+public class DeploymentSketch {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "sketch_day", nullable = false, updatable = false)
+    private LocalDate day;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    private Environment environment;
+    
+    private long deployments;
+    
+    @Lob
+    @Column(name = "distinct_releases")
+    private byte[] distinctReleases;
+    
+    @Lob
+    @Column(name = "distinct_deployers")
+    private byte[] distinctDeployers;
+    
+    @Lob
+    @Column(name = "dwell_millis")
+    private byte[] dwellMillis;
+    
+    @Lob
+    @Column(name = "lead_time_millis")
+    private byte[] leadTimeMillis;
+    
+    protected DeploymentSketch() {}
+    
+    public DeploymentSketch(LocalDate day, Environment environment) {
+        this.day = day;
+        this.environment = environment;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public LocalDate getDay() {
+        return day;
+    }
+    
+    public Environment getEnvironment() {
+        return environment;
+    }
+    
+    public long getDeployments() {
+        return deployments;
+    }
+    
+    public void setDeployments(long deployments) {
+        this.deployments = deployments;
+    }
+    
+    public byte[] getDistinctReleases() {
+        return distinctReleases;
+    }
+    
+    public void setDistinctReleases(byte[] distinctReleases) {
+        this.distinctReleases = distinctReleases;
+    }
+    
+    public byte[] getDistinctDeployers() {
+        return distinctDeployers;
+    }
+    
+    public void setDistinctDeployers(byte[] distinctDeployers) {
+        this.distinctDeployers = distinctDeployers;
+    }
+    
+    public byte[] getDwellMillis() {
+        return dwellMillis;
+    }
+    
+    public void setDwellMillis(byte[] dwellMillis) {
+        this.dwellMillis = dwellMillis;
+    }
+    
+    public byte[] getLeadTimeMillis() {
+        return leadTimeMillis;
+    }
+    
+    public void setLeadTimeMillis(byte[] leadTimeMillis) {
+        this.leadTimeMillis = leadTimeMillis;
+    }
+}
\ No newline at end of file
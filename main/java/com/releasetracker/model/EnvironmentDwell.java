@@ -0,0 +1,89 @@
+package com.releasetracker.model;
+
+import org.hibernate.annotations.Where;
+import javax.persistence.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "environment_dwells", indexes = {
+        @Index(name = "idx_environment_dwells_exited", columnList = "exited_at"),
+        @Index(name = "idx_environment_dwells_owner_exited", columnList = "owner_id, exited_at"),
+        @Index(name = "idx_environment_dwells_release", columnList = "release_id, exited_at")
+})
+// Dwells of soft-deleted releases stay hidden until ReleasePurgeService removes them
+@Where(clause = "release_id NOT IN (SELECT r.id FROM releases r WHERE r.deleted_at IS NOT NULL)")
+public class EnvironmentDwell {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "release_id", nullable = false, updatable = false)
+    private Long releaseId;
+    
+    @Column(name = "owner_id", updatable = false)
+    private Long ownerId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    private Environment environment;
+    
+    @Column(name = "entered_at", nullable = false, updatable = false)
+    private LocalDateTime enteredAt;
+    
+    @Column(name = "exited_at", nullable = false, updatable = false)
+    private LocalDateTime exitedAt;
+    
+    @Column(name = "dwell_millis", nullable = false, updatable = false)
+    private long dwellMillis;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "exit_action", nullable = false, updatable = false)
+    private DeploymentAction exitAction;
+    
+    protected EnvironmentDwell() {}
+    
+    public EnvironmentDwell(Long releaseId, Long ownerId, Environment environment, LocalDateTime enteredAt,
+                            LocalDateTime exitedAt, DeploymentAction exitAction) {
+        this.releaseId = releaseId;
+        this.ownerId = ownerId;
+        this.environment = environment;
+        this.enteredAt = enteredAt;
+        this.exitedAt = exitedAt;
+        this.dwellMillis = Math.max(0, Duration.between(enteredAt, exitedAt).toMillis());
+        this.exitAction = exitAction;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public Long getReleaseId() {
+        return releaseId;
+    }
+    
+    public Long getOwnerId() {
+        return ownerId;
+    }
+    
+    public Environment getEnvironment() {
+        return environment;
+    }
+    
+    public LocalDateTime getEnteredAt() {
+        return enteredAt;
+    }
+    
+    public LocalDateTime getExitedAt() {
+        return exitedAt;
+    }
+    
+    public long getDwellMillis() {
+        return dwellMillis;
+    }
+    
+    public DeploymentAction getExitAction() {
+        return exitAction;
+    }
+}
\ No newline at end of file
@@ -1,6 +1,8 @@
 package com.releasetracker.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import org.hibernate.annotations.Where;
 import javax.persistence.*;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
@@ -9,7 +11,12 @@ import javax.validation.constraints.Pattern;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "releases")
+@Table(name = "releases", indexes = {
+        @Index(name = "idx_releases_deleted_at", columnList = "deleted_at"),
+        @Index(name = "idx_releases_owner_deleted", columnList = "owner_id, deleted_at")
+})
+// Soft-deleted releases stay invisible to every entity query until ReleasePurgeService removes them
+@Where(clause = "deleted_at IS NULL")
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Release {
     @Id
@@ -38,6 +45,13 @@ public class Release {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    @Column(name = "environment_entered_at")
+    private LocalDateTime environmentEnteredAt;
+    
+    @JsonIgnore
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+    
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -45,6 +59,9 @@ public class Release {
         if (currentEnvironment == null) {
             currentEnvironment = Environment.DEV;
         }
+        if (environmentEnteredAt == null) {
+            environmentEnteredAt = createdAt;
+        }
     }
     
     @PreUpdate
@@ -117,6 +134,22 @@ public class Release {
         this.updatedAt = updatedAt;
     }
     
+    public LocalDateTime getEnvironmentEnteredAt() {
+        return environmentEnteredAt;
+    }
+    
+    public void setEnvironmentEnteredAt(LocalDateTime environmentEnteredAt) {
+        this.environmentEnteredAt = environmentEnteredAt;
+    }
+    
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+    
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+    
     @Override
     public String toString() {
         return "Release{" +
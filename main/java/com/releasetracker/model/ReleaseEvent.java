@@ -0,0 +1,121 @@
+package com.releasetracker.model;
+
+import javax.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "release_events", indexes = {
+        @Index(name = "uk_release_events_release_sequence", columnList = "release_id, sequence", unique = true)
+})
+public class ReleaseEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "release_id", nullable = false, updatable = false)
+    private Long releaseId;
+    
+    @Column(nullable = false, updatable = false)
+    private long sequence;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    private ReleaseEventType type;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_environment", updatable = false)
+    private Environment fromEnvironment;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_environment", updatable = false)
+    private Environment toEnvironment;
+    
+    @Column(updatable = false)
+    private String versionNumber;
+    
+    @Column(updatable = false)
+    private String description;
+    
+    @Column(name = "owner_id", updatable = false)
+    private Long ownerId;
+    
+    @Column(name = "actor_id", updatable = false)
+    private Long actorId;
+    
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+    
+    protected ReleaseEvent() {}
+    
+    public ReleaseEvent(Long releaseId, long sequence, ReleaseEventType type, Environment fromEnvironment,
+                        Environment toEnvironment, String versionNumber, String description, Long ownerId,
+                        Long actorId, LocalDateTime occurredAt) {
+        this.releaseId = releaseId;
+        this.sequence = sequence;
+        this.type = type;
+        this.fromEnvironment = fromEnvironment;
+        this.toEnvironment = toEnvironment;
+        this.versionNumber = versionNumber;
+        this.description = description;
+        this.ownerId = ownerId;
+        this.actorId = actorId;
+        this.occurredAt = occurredAt;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public Long getReleaseId() {
+        return releaseId;
+    }
+    
+    public long getSequence() {
+        return sequence;
+    }
+    
+    public ReleaseEventType getType() {
+        return type;
+    }
+    
+    public Environment getFromEnvironment() {
+        return fromEnvironment;
+    }
+    
+    public Environment getToEnvironment() {
+        return toEnvironment;
+    }
+    
+    public String getVersionNumber() {
+        return versionNumber;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    public Long getOwnerId() {
+        return ownerId;
+    }
+    
+    public Long getActorId() {
+        return actorId;
+    }
+    
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+    
+    @Override
+    public String toString() {
+        return "ReleaseEvent{" +
+                "releaseId=" + releaseId +
+                ", sequence=" + sequence +
+                ", type=" + type +
+                ", fromEnvironment=" + fromEnvironment +
+                ", toEnvironment=" + toEnvironment +
+                ", occurredAt=" + occurredAt +
+                '}';
+    }
+}
\ No newline at end of file
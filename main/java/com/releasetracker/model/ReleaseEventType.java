@@ -0,0 +1,8 @@
+package com.releasetracker.model;
+
+public enum ReleaseEventType {
+    CREATED,
+    PROMOTED,
+    ROLLED_BACK,
+    UPDATED
+}
\ No newline at end of file
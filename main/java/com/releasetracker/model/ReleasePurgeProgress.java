@@ -0,0 +1,108 @@
+package com.releasetracker.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of removing one soft-deleted release and its history. Written only by the purging thread and read by
+ * status requests, so the fields are volatile rather than locked.
+ */
+public class ReleasePurgeProgress {
+    
+    private final long releaseId;
+    private final LocalDateTime deletedAt;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String stage = "pending";
+    private volatile long rowsRemoved;
+    private volatile int chunks;
+    private volatile int chunkSize;
+    private volatile long lastChunkMillis;
+    private volatile long pausedMillis;
+    private volatile int attempts;
+    private volatile String lastError;
+    
+    public ReleasePurgeProgress(long releaseId, LocalDateTime deletedAt) {
+        this.releaseId = releaseId;
+        this.deletedAt = deletedAt;
+    }
+    
+    public void start(LocalDateTime now) {
+        if (startedAt == null) {
+            startedAt = now;
+        }
+        attempts++;
+        lastError = null;
+    }
+    
+    public void enterStage(String stage) {
+        this.stage = stage;
+    }
+    
+    public void recordChunk(int rows, long millis, int nextChunkSize) {
+        rowsRemoved += rows;
+        chunks++;
+        lastChunkMillis = millis;
+        chunkSize = nextChunkSize;
+    }
+    
+    public void recordPause(long millis) {
+        pausedMillis += millis;
+    }
+    
+    public void finish(LocalDateTime now) {
+        stage = "finished";
+        finishedAt = now;
+    }
+    
+    public void fail(String error) {
+        lastError = error;
+    }
+    
+    public long getReleaseId() {
+        return releaseId;
+    }
+    
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+    
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+    
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+    
+    public String getStage() {
+        return stage;
+    }
+    
+    public long getRowsRemoved() {
+        return rowsRemoved;
+    }
+    
+    public int getChunks() {
+        return chunks;
+    }
+    
+    public int getChunkSize() {
+        return chunkSize;
+    }
+    
+    public long getLastChunkMillis() {
+        return lastChunkMillis;
+    }
+    
+    public long getPausedMillis() {
+        return pausedMillis;
+    }
+    
+    public int getAttempts() {
+        return attempts;
+    }
+    
+    public String getLastError() {
+        return lastError;
+    }
+}
\ No newline at end of file
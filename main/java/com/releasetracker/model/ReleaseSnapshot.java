@@ -0,0 +1,116 @@
+package com.releasetracker.model;
+
+import javax.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "release_snapshots")
+public class ReleaseSnapshot {
+    @Id
+    @Column(name = "release_id")
+    private Long releaseId;
+    
+    private long sequence;
+    
+    private String versionNumber;
+    
+    private String description;
+    
+    @Column(name = "owner_id")
+    private Long ownerId;
+    
+    @Enumerated(EnumType.STRING)
+    private Environment currentEnvironment;
+    
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @Column(name = "environment_entered_at")
+    private LocalDateTime environmentEnteredAt;
+    
+    protected ReleaseSnapshot() {}
+    
+    public ReleaseSnapshot(Long releaseId) {
+        this.releaseId = releaseId;
+    }
+    
+    public void apply(ReleaseEvent event) {
+        switch (event.getType()) {
+            case CREATED:
+                versionNumber = event.getVersionNumber();
+                description = event.getDescription();
+                ownerId = event.getOwnerId();
+                currentEnvironment = event.getToEnvironment();
+                createdAt = event.getOccurredAt();
+                environmentEnteredAt = event.getOccurredAt();
+                break;
+            case PROMOTED:
+            case ROLLED_BACK:
+                currentEnvironment = event.getToEnvironment();
+                environmentEnteredAt = event.getOccurredAt();
+                break;
+            case UPDATED:
+                versionNumber = event.getVersionNumber();
+                description = event.getDescription();
+                ownerId = event.getOwnerId();
+                break;
+            default:
+                break;
+        }
+        updatedAt = event.getOccurredAt();
+        sequence = event.getSequence();
+    }
+    
+    public ReleaseSnapshot copy() {
+        ReleaseSnapshot copy = new ReleaseSnapshot(releaseId);
+        copy.sequence = sequence;
+        copy.versionNumber = versionNumber;
+        copy.description = description;
+        copy.ownerId = ownerId;
+        copy.currentEnvironment = currentEnvironment;
+        copy.createdAt = createdAt;
+        copy.updatedAt = updatedAt;
+        copy.environmentEnteredAt = environmentEnteredAt;
+        return copy;
+    }
+    
+    public Long getReleaseId() {
+        return releaseId;
+    }
+    
+    public long getSequence() {
+        return sequence;
+    }
+    
+    public String getVersionNumber() {
+        return versionNumber;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    public Long getOwnerId() {
+        return ownerId;
+    }
+    
+    public Environment getCurrentEnvironment() {
+        return currentEnvironment;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public LocalDateTime getEnvironmentEnteredAt() {
+        return environmentEnteredAt;
+    }
+}
\ No newline at end of file
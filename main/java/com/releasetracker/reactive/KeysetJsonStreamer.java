@@ -0,0 +1,48 @@
+package com.releasetracker.reactive;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+class KeysetJsonStreamer {
+    
+    private final ObjectMapper objectMapper;
+    private final int pageSize;
+    
+    KeysetJsonStreamer(ObjectMapper objectMapper, int pageSize) {
+        this.objectMapper = objectMapper;
+        this.pageSize = pageSize;
+    }
+    
+    <T> StreamingResponseBody stream(BiFunction<Long, Pageable, List<T>> pageSource, Function<T, Long> idOf) {
+        return outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.writeStartArray();
+                
+                Pageable page = PageRequest.of(0, pageSize);
+                long afterId = 0L;
+                while (true) {
+                    List<T> rows = pageSource.apply(afterId, page);
+                    for (T row : rows) {
+                        generator.writeObject(row);
+                    }
+                    // The next page is only fetched once the client has drained this one
+                    generator.flush();
+                    if (rows.size() < pageSize) {
+                        break;
+                    }
+                    afterId = idOf.apply(rows.get(rows.size() - 1));
+                }
+                
+                generator.writeEndArray();
+            }
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,107 @@
+package com.releasetracker.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.releasetracker.exception.ReleaseNotFoundException;
+import com.releasetracker.exception.UserNotFoundException;
+import com.releasetracker.model.DeploymentLog;
+import com.releasetracker.model.Environment;
+import com.releasetracker.model.Release;
+import com.releasetracker.model.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+@RestController
+@RequestMapping("/api/reactive")
+@CrossOrigin(origins = "*")
+public class ReactiveReadController {
+    
+    private final ReactiveReadService reactiveReadService;
+    private final ReadQueryExecutor readQueryExecutor;
+    private final KeysetJsonStreamer streamer;
+    
+    @Autowired
+    public ReactiveReadController(ReactiveReadService reactiveReadService,
+                                  ReadQueryExecutor readQueryExecutor,
+                                  ObjectMapper objectMapper,
+                                  @Value("${releasetracker.read-api.page-size:200}") int pageSize) {
+        this.reactiveReadService = reactiveReadService;
+        this.readQueryExecutor = readQueryExecutor;
+        this.streamer = new KeysetJsonStreamer(objectMapper, pageSize);
+    }
+    
+    @GetMapping("/releases")
+    public ResponseEntity<StreamingResponseBody> streamReleases() {
+        return streaming(streamer.stream(reactiveReadService::getReleasesAfter, Release::getId));
+    }
+    
+    @GetMapping("/releases/{id}")
+    public CompletableFuture<ResponseEntity<?>> getReleaseById(@PathVariable Long id) {
+        return readQueryExecutor.submit(() -> reactiveReadService.getRelease(id))
+                .<ResponseEntity<?>>thenApply(release -> new ResponseEntity<>(release, HttpStatus.OK))
+                .exceptionally(ReactiveReadController::notFound);
+    }
+    
+    @GetMapping("/releases/environment/{environment}")
+    public ResponseEntity<StreamingResponseBody> streamReleasesByEnvironment(@PathVariable Environment environment) {
+        return streaming(streamer.stream(
+                (afterId, page) -> reactiveReadService.getReleasesByEnvironmentAfter(environment, afterId, page),
+                Release::getId));
+    }
+    
+    @GetMapping("/deployment-logs")
+    public ResponseEntity<StreamingResponseBody> streamDeploymentLogs() {
+        return streaming(streamer.stream(reactiveReadService::getDeploymentLogsAfter, DeploymentLog::getId));
+    }
+    
+    @GetMapping("/deployment-logs/release/{releaseId}")
+    public ResponseEntity<StreamingResponseBody> streamDeploymentLogsByRelease(@PathVariable Long releaseId) {
+        return streaming(streamer.stream(
+                (afterId, page) -> reactiveReadService.getDeploymentLogsByReleaseAfter(releaseId, afterId, page),
+                DeploymentLog::getId));
+    }
+    
+    @GetMapping("/users")
+    public ResponseEntity<StreamingResponseBody> streamUsers() {
+        return streaming(streamer.stream(reactiveReadService::getUsersAfter, User::getId));
+    }
+    
+    @GetMapping("/users/{id}")
+    public CompletableFuture<ResponseEntity<?>> getUserById(@PathVariable Long id) {
+        return readQueryExecutor.submit(() -> reactiveReadService.getUser(id))
+                .<ResponseEntity<?>>thenApply(user -> new ResponseEntity<>(user, HttpStatus.OK))
+                .exceptionally(ReactiveReadController::notFound);
+    }
+    
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<String> handleSaturation(TaskRejectedException e) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "1");
+        return new ResponseEntity<>("Read API is saturated, retry shortly", headers, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+    
+    private static ResponseEntity<StreamingResponseBody> streaming(StreamingResponseBody body) {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+    
+    private static ResponseEntity<?> notFound(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+        if (cause instanceof ReleaseNotFoundException || cause instanceof UserNotFoundException) {
+            return new ResponseEntity<>(cause.getMessage(), HttpStatus.NOT_FOUND);
+        }
+        if (cause instanceof TimeoutException) {
+            return new ResponseEntity<>("Read API query timed out", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        return new ResponseEntity<>("Error retrieving data", HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+}
\ No newline at end of file
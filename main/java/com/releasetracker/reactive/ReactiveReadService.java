@@ -0,0 +1,63 @@
+package com.releasetracker.reactive;
+
+import com.releasetracker.exception.ReleaseNotFoundException;
+import com.releasetracker.exception.UserNotFoundException;
+import com.releasetracker.model.DeploymentLog;
+import com.releasetracker.model.Environment;
+import com.releasetracker.model.Release;
+import com.releasetracker.model.User;
+import com.releasetracker.repository.DeploymentLogRepository;
+import com.releasetracker.repository.ReleaseRepository;
+import com.releasetracker.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class ReactiveReadService {
+    
+    private final ReleaseRepository releaseRepository;
+    private final DeploymentLogRepository deploymentLogRepository;
+    private final UserRepository userRepository;
+    
+    @Autowired
+    public ReactiveReadService(ReleaseRepository releaseRepository,
+                               DeploymentLogRepository deploymentLogRepository,
+                               UserRepository userRepository) {
+        this.releaseRepository = releaseRepository;
+        this.deploymentLogRepository = deploymentLogRepository;
+        this.userRepository = userRepository;
+    }
+    
+    public Release getRelease(Long id) {
+        return releaseRepository.findWithOwnerById(id)
+                .orElseThrow(() -> new ReleaseNotFoundException("Release not found with id: " + id));
+    }
+    
+    public List<Release> getReleasesAfter(Long afterId, Pageable pageable) {
+        return releaseRepository.findByIdGreaterThanOrderByIdAsc(afterId, pageable);
+    }
+    
+    public List<Release> getReleasesByEnvironmentAfter(Environment environment, Long afterId, Pageable pageable) {
+        return releaseRepository.findByCurrentEnvironmentAndIdGreaterThanOrderByIdAsc(environment, afterId, pageable);
+    }
+    
+    public List<DeploymentLog> getDeploymentLogsAfter(Long afterId, Pageable pageable) {
+        return deploymentLogRepository.findByIdGreaterThanOrderByIdAsc(afterId, pageable);
+    }
+    
+    public List<DeploymentLog> getDeploymentLogsByReleaseAfter(Long releaseId, Long afterId, Pageable pageable) {
+        return deploymentLogRepository.findByRelease_IdAndIdGreaterThanOrderByIdAsc(releaseId, afterId, pageable);
+    }
+    
+    public User getUser(Long id) {
+        return userRepository.findById(id)
+                .orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
+    }
+    
+    public List<User> getUsersAfter(Long afterId, Pageable pageable) {
+        return userRepository.findByIdGreaterThanOrderByIdAsc(afterId, pageable);
+    }
+}
\ No newline at end of file
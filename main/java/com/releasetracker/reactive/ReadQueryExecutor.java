@@ -0,0 +1,44 @@
+package com.releasetracker.reactive;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Component
+public class ReadQueryExecutor {
+    
+    private final ThreadPoolTaskExecutor taskExecutor;
+    private final long requestTimeoutMillis;
+    
+    public ReadQueryExecutor(@Value("${releasetracker.read-api.threads:10}") int threads,
+                             @Value("${releasetracker.read-api.queue-capacity:5000}") int queueCapacity,
+                             @Value("${releasetracker.read-api.request-timeout-ms:30000}") long requestTimeoutMillis) {
+        this.requestTimeoutMillis = requestTimeoutMillis;
+        // Sized to the JDBC pool: parked requests wait in the queue, not on Tomcat worker threads
+        taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(threads);
+        taskExecutor.setMaxPoolSize(threads);
+        taskExecutor.setQueueCapacity(queueCapacity);
+        taskExecutor.setThreadNamePrefix("read-api-");
+        taskExecutor.initialize();
+    }
+    
+    public <T> CompletableFuture<T> submit(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, taskExecutor).orTimeout(requestTimeoutMillis, TimeUnit.MILLISECONDS);
+    }
+    
+    public AsyncTaskExecutor getTaskExecutor() {
+        return taskExecutor;
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        taskExecutor.shutdown();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.releasetracker.reactive;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+
+@Component
+public class StreamingResponseExecutor {
+    
+    private final ThreadPoolTaskExecutor taskExecutor;
+    
+    public StreamingResponseExecutor(@Value("${releasetracker.streaming.threads:20}") int threads,
+                                     @Value("${releasetracker.streaming.queue-capacity:200}") int queueCapacity) {
+        // A stream holds its thread until the client has read the whole body, so it must not share the query pool
+        taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(threads);
+        taskExecutor.setMaxPoolSize(threads);
+        taskExecutor.setQueueCapacity(queueCapacity);
+        taskExecutor.setThreadNamePrefix("response-stream-");
+        taskExecutor.initialize();
+    }
+    
+    public AsyncTaskExecutor getTaskExecutor() {
+        return taskExecutor;
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        taskExecutor.shutdown();
+    }
+}
\ No newline at end of file
@@ -1,29 +1,132 @@
 package com.releasetracker.repository;
 
+import com.releasetracker.model.DeploymentAction;
 import com.releasetracker.model.DeploymentLog;
 import com.releasetracker.model.Environment;
 import com.releasetracker.model.Release;
 import com.releasetracker.model.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface DeploymentLogRepository extends JpaRepository<DeploymentLog, Long> {
     List<DeploymentLog> findByReleaseOrderByDeploymentTimestampDesc(Release release);
-    List<DeploymentLog> findByEnvironmentOrderByDeploymentTimestampDesc(Environment environment);
     List<DeploymentLog> findByDeployedByOrderByDeploymentTimestampDesc(User deployedBy);
+    List<DeploymentLog> findByDeploymentMonthAndIdGreaterThanOrderByIdAsc(Integer deploymentMonth, Long id, Pageable pageable);
+    
+    // List endpoints serialize release, owner and deployer, so they fetch them in the same statement
+    @EntityGraph(attributePaths = {"release", "release.owner", "deployedBy"})
+    List<DeploymentLog> findByEnvironmentOrderByDeploymentTimestampDesc(Environment environment);
+    
+    @EntityGraph(attributePaths = {"release", "release.owner", "deployedBy"})
     List<DeploymentLog> findBySuccessOrderByDeploymentTimestampDesc(boolean success);
+    
+    @EntityGraph(attributePaths = {"release", "release.owner", "deployedBy"})
     List<DeploymentLog> findAllByOrderByDeploymentTimestampDesc();
     
-    @Query("SELECT dl FROM DeploymentLog dl WHERE dl.deploymentTimestamp BETWEEN :startDate AND :endDate ORDER BY dl.deploymentTimestamp DESC")
-    List<DeploymentLog> findByDeploymentTimestampBetween(@Param("startDate") LocalDateTime startDate, 
-                                                         @Param("endDate") LocalDateTime endDate);
+    @EntityGraph(attributePaths = {"release", "release.owner", "deployedBy"})
+    List<DeploymentLog> findByActionOrderByDeploymentTimestampDesc(DeploymentAction action);
+    
+    @EntityGraph(attributePaths = {"release", "release.owner", "deployedBy"})
+    List<DeploymentLog> findByFromEnvironmentAndToEnvironmentOrderByDeploymentTimestampDesc(Environment fromEnvironment,
+                                                                                           Environment toEnvironment);
+    
+    @EntityGraph(attributePaths = {"release", "release.owner", "deployedBy"})
+    List<DeploymentLog> findByDeploymentMonthGreaterThanEqualOrderByDeploymentTimestampDesc(Integer deploymentMonth);
+    
+    @EntityGraph(attributePaths = {"release", "release.owner", "deployedBy"})
+    List<DeploymentLog> findWithRelationsByIdIn(Collection<Long> ids);
+    
+    // The filter endpoint while the column store is loading; the any flags stand in for an empty set
+    @EntityGraph(attributePaths = {"release", "release.owner", "deployedBy"})
+    @Query("SELECT dl FROM DeploymentLog dl WHERE (:anyEnvironment = true OR dl.environment IN :environments) " +
+           "AND (:success IS NULL OR dl.success = :success) " +
+           "AND (:anyDeployer = true OR dl.deployedBy.id IN :deployerIds) " +
+           "ORDER BY dl.deploymentTimestamp DESC, dl.id DESC")
+    List<DeploymentLog> findFiltered(@Param("anyEnvironment") boolean anyEnvironment,
+                                     @Param("environments") Collection<Environment> environments,
+                                     @Param("success") Boolean success,
+                                     @Param("anyDeployer") boolean anyDeployer,
+                                     @Param("deployerIds") Collection<Long> deployerIds,
+                                     Pageable pageable);
+    
+    @EntityGraph(attributePaths = {"release", "release.owner", "deployedBy"})
+    List<DeploymentLog> findByRelease_IdOrderByDeploymentTimestampDesc(Long releaseId);
+    
+    @EntityGraph(attributePaths = {"release", "release.owner", "deployedBy"})
+    List<DeploymentLog> findByDeployedBy_IdOrderByDeploymentTimestampDesc(Long userId);
+    
+    @EntityGraph(attributePaths = {"release", "release.owner", "deployedBy"})
+    List<DeploymentLog> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    
+    @EntityGraph(attributePaths = {"release", "release.owner", "deployedBy"})
+    List<DeploymentLog> findByRelease_IdAndIdGreaterThanOrderByIdAsc(Long releaseId, Long id, Pageable pageable);
+    
+    @QueryHints({@QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+                 @QueryHint(name = "org.hibernate.readOnly", value = "true")})
+    @Query("SELECT dl FROM DeploymentLog dl LEFT JOIN FETCH dl.release r LEFT JOIN FETCH r.owner " +
+           "LEFT JOIN FETCH dl.deployedBy ORDER BY dl.deploymentTimestamp DESC")
+    Stream<DeploymentLog> streamAllByOrderByDeploymentTimestampDesc();
+    
+    default List<DeploymentLog> findByDeploymentTimestampBetween(LocalDateTime startDate, LocalDateTime endDate) {
+        return findByPartitionRange(DeploymentLog.monthOf(startDate), DeploymentLog.monthOf(endDate), startDate, endDate);
+    }
+    
+    @EntityGraph(attributePaths = {"release", "release.owner", "deployedBy"})
+    @Query("SELECT dl FROM DeploymentLog dl WHERE dl.deploymentMonth BETWEEN :startMonth AND :endMonth " +
+           "AND dl.deploymentTimestamp BETWEEN :startDate AND :endDate ORDER BY dl.deploymentTimestamp DESC")
+    List<DeploymentLog> findByPartitionRange(@Param("startMonth") Integer startMonth,
+                                             @Param("endMonth") Integer endMonth,
+                                             @Param("startDate") LocalDateTime startDate,
+                                             @Param("endDate") LocalDateTime endDate);
+    
+    @Query("SELECT DISTINCT dl.deploymentMonth FROM DeploymentLog dl WHERE dl.deploymentMonth < :month ORDER BY dl.deploymentMonth")
+    List<Integer> findPartitionsBefore(@Param("month") Integer month);
+    
+    // One bounded chunk per transaction, so writers never wait behind a whole month. Native, so rows of
+    // soft-deleted releases go too; the purge would remove them anyway
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM deployment_logs WHERE id IN (SELECT id FROM deployment_logs " +
+                   "WHERE deployment_month = :month AND id <= :maxId LIMIT :limit)", nativeQuery = true)
+    int deletePartitionChunkUpTo(@Param("month") Integer month, @Param("maxId") Long maxId, @Param("limit") int limit);
+    
+    // Native so rows of soft-deleted releases still count as indexed
+    @Query(value = "SELECT journal_position FROM deployment_logs WHERE journal_position BETWEEN :first AND :last",
+           nativeQuery = true)
+    List<Long> findJournalPositionsBetween(@Param("first") long first, @Param("last") long last);
+    
+    // Seeks idx_deployment_logs_action_timestamp, so it stays cheap once every row has an action
+    boolean existsByActionIsNull();
+    
+    @Transactional
+    @Modifying
+    @Query("UPDATE DeploymentLog dl SET dl.action = :action, dl.fromEnvironment = :fromEnvironment, " +
+           "dl.toEnvironment = :toEnvironment WHERE dl.action IS NULL AND dl.fromEnvironment IS NULL AND dl.notes = :notes")
+    int backfillTransition(@Param("notes") String notes,
+                           @Param("action") DeploymentAction action,
+                           @Param("fromEnvironment") Environment fromEnvironment,
+                           @Param("toEnvironment") Environment toEnvironment);
+    
+    @Transactional
+    @Modifying
+    @Query("UPDATE DeploymentLog dl SET dl.action = :action WHERE dl.action IS NULL")
+    int backfillAction(@Param("action") DeploymentAction action);
     
+    @EntityGraph(attributePaths = {"release", "release.owner", "deployedBy"})
     @Query("SELECT dl FROM DeploymentLog dl WHERE dl.release.id = :releaseId AND dl.environment = :environment ORDER BY dl.deploymentTimestamp DESC")
     List<DeploymentLog> findByReleaseIdAndEnvironment(@Param("releaseId") Long releaseId, 
                                                       @Param("environment") Environment environment);
@@ -0,0 +1,22 @@
+package com.releasetracker.repository;
+
+import com.releasetracker.model.DeploymentSketch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DeploymentSketchRepository extends JpaRepository<DeploymentSketch, Long> {
+    List<DeploymentSketch> findByDayGreaterThanEqual(LocalDate day);
+    
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM DeploymentSketch s WHERE s.day < :day")
+    int deleteByDayBefore(@Param("day") LocalDate day);
+}
\ No newline at end of file
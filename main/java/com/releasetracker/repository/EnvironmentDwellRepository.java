@@ -0,0 +1,21 @@
+package com.releasetracker.repository;
+
+import com.releasetracker.model.EnvironmentDwell;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface EnvironmentDwellRepository extends JpaRepository<EnvironmentDwell, Long> {
+    List<EnvironmentDwell> findByReleaseIdOrderByExitedAtAsc(Long releaseId);
+    List<EnvironmentDwell> findByExitedAtBetween(LocalDateTime start, LocalDateTime end);
+    List<EnvironmentDwell> findByOwnerIdAndExitedAtBetween(Long ownerId, LocalDateTime start, LocalDateTime end);
+    
+    // Native so the soft-delete filter on EnvironmentDwell does not hide the rows of a release being removed
+    @Query(value = "SELECT * FROM environment_dwells WHERE release_id = :releaseId AND exited_at >= :since", nativeQuery = true)
+    List<EnvironmentDwell> findIncludingDeletedByReleaseId(@Param("releaseId") Long releaseId, @Param("since") LocalDateTime since);
+}
\ No newline at end of file
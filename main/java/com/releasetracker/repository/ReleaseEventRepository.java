@@ -0,0 +1,15 @@
+package com.releasetracker.repository;
+
+import com.releasetracker.model.ReleaseEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ReleaseEventRepository extends JpaRepository<ReleaseEvent, Long> {
+    List<ReleaseEvent> findByReleaseIdOrderBySequenceAsc(Long releaseId);
+    List<ReleaseEvent> findByReleaseIdAndSequenceGreaterThanOrderBySequenceAsc(Long releaseId, long sequence);
+    Optional<ReleaseEvent> findTopByReleaseIdOrderBySequenceDesc(Long releaseId);
+}
\ No newline at end of file
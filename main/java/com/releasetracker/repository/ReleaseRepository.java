@@ -3,18 +3,64 @@ package com.releasetracker.repository;
 import com.releasetracker.model.Environment;
 import com.releasetracker.model.Release;
 import com.releasetracker.model.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ReleaseRepository extends JpaRepository<Release, Long> {
     Optional<Release> findByVersionNumber(String versionNumber);
-    List<Release> findByCurrentEnvironment(Environment environment);
     List<Release> findByOwner(User owner);
     List<Release> findByOwnerOrderByCreatedAtDesc(User owner);
+    
+    @EntityGraph(attributePaths = "owner")
+    List<Release> findByCurrentEnvironment(Environment environment);
+    
+    @EntityGraph(attributePaths = "owner")
     List<Release> findAllByOrderByCreatedAtDesc();
-    boolean existsByVersionNumber(String versionNumber);
+    
+    // Native so soft-deleted releases still hold their version until purged, matching the unique constraint
+    @Query(value = "SELECT COUNT(*) > 0 FROM releases WHERE version_number = :versionNumber", nativeQuery = true)
+    boolean existsByVersionNumber(@Param("versionNumber") String versionNumber);
+    
+    @EntityGraph(attributePaths = "owner")
+    Optional<Release> findWithOwnerById(Long id);
+    
+    @EntityGraph(attributePaths = "owner")
+    List<Release> findWithOwnerByOwner_IdOrderByCreatedAtDesc(Long ownerId);
+    
+    // Serializes transitions on a release so currentEnvironment and the deployment log history cannot diverge
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Release r WHERE r.id = :id")
+    Optional<Release> findByIdForUpdate(@Param("id") Long id);
+    
+    @EntityGraph(attributePaths = "owner")
+    List<Release> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    
+    @EntityGraph(attributePaths = "owner")
+    List<Release> findByCurrentEnvironmentAndIdGreaterThanOrderByIdAsc(Environment environment, Long id, Pageable pageable);
+    
+    @QueryHints({@QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+                 @QueryHint(name = "org.hibernate.readOnly", value = "true")})
+    @Query("SELECT r FROM Release r LEFT JOIN FETCH r.owner ORDER BY r.createdAt DESC")
+    Stream<Release> streamAllByOrderByCreatedAtDesc();
+    
+    @Transactional
+    @Modifying
+    @Query("UPDATE Release r SET r.deletedAt = :deletedAt WHERE r.id = :id AND r.deletedAt IS NULL")
+    int softDeleteById(@Param("id") Long id, @Param("deletedAt") LocalDateTime deletedAt);
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.releasetracker.repository;
+
+import com.releasetracker.model.ReleaseSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReleaseSnapshotRepository extends JpaRepository<ReleaseSnapshot, Long> {
+}
\ No newline at end of file
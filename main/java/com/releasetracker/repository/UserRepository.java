@@ -2,8 +2,13 @@ package com.releasetracker.repository;
 
 import com.releasetracker.model.User;
 import com.releasetracker.model.UserRole;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,4 +20,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
     List<User> findByRole(UserRole role);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
+    List<User> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    
+    // Single DELETE whose row count doubles as the existence check, unlike deleteById which loads the entity first
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM User u WHERE u.id = :id")
+    int deleteUserById(@Param("id") Long id);
 }
\ No newline at end of file
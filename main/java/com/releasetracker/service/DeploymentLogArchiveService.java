@@ -0,0 +1,186 @@
+package com.releasetracker.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.releasetracker.event.DeploymentLogsArchivedEvent;
+import com.releasetracker.model.ArchivedDeploymentLog;
+import com.releasetracker.model.DeploymentLog;
+import com.releasetracker.repository.DeploymentLogRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+public class DeploymentLogArchiveService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(DeploymentLogArchiveService.class);
+    private static final String ARCHIVE_PREFIX = "deployment-logs-";
+    private static final String ARCHIVE_SUFFIX = ".ndjson.gz";
+    private static final int EXPORT_BATCH_SIZE = 500;
+    private static final int DELETE_CHUNK_SIZE = 1000;
+    
+    private final DeploymentLogRepository deploymentLogRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Path archiveDirectory;
+    private final int retentionMonths;
+    
+    @Autowired
+    public DeploymentLogArchiveService(DeploymentLogRepository deploymentLogRepository,
+                                       ObjectMapper objectMapper,
+                                       ApplicationEventPublisher eventPublisher,
+                                       @Value("${releasetracker.logs.archive-dir:archive/deployment-logs}") String archiveDirectory,
+                                       @Value("${releasetracker.logs.retention-months:12}") int retentionMonths) {
+        this.deploymentLogRepository = deploymentLogRepository;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.archiveDirectory = Paths.get(archiveDirectory);
+        this.retentionMonths = retentionMonths;
+    }
+    
+    @Scheduled(cron = "${releasetracker.logs.archive-cron:0 30 2 1 * *}")
+    public void applyRetentionPolicy() {
+        if (retentionMonths <= 0) {
+            return;
+        }
+        int oldestRetainedMonth = DeploymentLog.monthOf(LocalDateTime.now().minusMonths(retentionMonths - 1));
+        for (Integer month : deploymentLogRepository.findPartitionsBefore(oldestRetainedMonth)) {
+            int archived = archivePartition(month);
+            logger.info("Archived {} deployment logs from partition {}", archived, month);
+        }
+    }
+    
+    public int archivePartition(int month) {
+        Path target = archiveFile(month);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        int archived = 0;
+        // Highest id already in the archive. Ids grow, so rows above it are new, and rows at or below it that are
+        // still in the table were left by a run that stopped between replacing the file and deleting them
+        long[] archivedUpTo = new long[1];
+        long lastId;
+        try {
+            Files.createDirectories(archiveDirectory);
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8))) {
+                // Rows that arrive late for an already archived month are merged into the existing file
+                readPartition(month, line -> {
+                    archivedUpTo[0] = Math.max(archivedUpTo[0], objectMapper.readValue(line, ArchivedDeploymentLog.class).getId());
+                    writer.write(line);
+                    writer.write('\n');
+                });
+                lastId = archivedUpTo[0];
+                List<DeploymentLog> batch;
+                do {
+                    batch = deploymentLogRepository.findByDeploymentMonthAndIdGreaterThanOrderByIdAsc(
+                            month, lastId, PageRequest.of(0, EXPORT_BATCH_SIZE));
+                    for (DeploymentLog log : batch) {
+                        lastId = log.getId();
+                        writer.write(objectMapper.writeValueAsString(new ArchivedDeploymentLog(log)));
+                        writer.write('\n');
+                        archived++;
+                    }
+                } while (batch.size() == EXPORT_BATCH_SIZE);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to archive deployment log partition " + month, e);
+        }
+        if (lastId > 0) {
+            int deleted;
+            do {
+                deleted = deploymentLogRepository.deletePartitionChunkUpTo(month, lastId, DELETE_CHUNK_SIZE);
+            } while (deleted == DELETE_CHUNK_SIZE);
+            eventPublisher.publishEvent(new DeploymentLogsArchivedEvent(month, lastId));
+        }
+        return archived;
+    }
+    
+    public List<Integer> getArchivedPartitions() {
+        if (!Files.isDirectory(archiveDirectory)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> files = Files.list(archiveDirectory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(ARCHIVE_PREFIX) && name.endsWith(ARCHIVE_SUFFIX))
+                    .map(name -> Integer.valueOf(name.substring(ARCHIVE_PREFIX.length(), name.length() - ARCHIVE_SUFFIX.length())))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list deployment log archive", e);
+        }
+    }
+    
+    public List<ArchivedDeploymentLog> getArchivedDeploymentLogs(LocalDateTime startDate, LocalDateTime endDate) {
+        int startMonth = DeploymentLog.monthOf(startDate);
+        int endMonth = DeploymentLog.monthOf(endDate);
+        List<ArchivedDeploymentLog> logs = new ArrayList<>();
+        for (Integer month : getArchivedPartitions()) {
+            if (month < startMonth || month > endMonth) {
+                continue;
+            }
+            try {
+                readPartition(month, line -> {
+                    ArchivedDeploymentLog log = objectMapper.readValue(line, ArchivedDeploymentLog.class);
+                    LocalDateTime timestamp = log.getDeploymentTimestamp();
+                    if (!timestamp.isBefore(startDate) && !timestamp.isAfter(endDate)) {
+                        logs.add(log);
+                    }
+                });
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read deployment log partition " + month, e);
+            }
+        }
+        logs.sort(Comparator.comparing(ArchivedDeploymentLog::getDeploymentTimestamp).reversed());
+        return logs;
+    }
+    
+    // Hands over one line at a time so a month's partition is never held in memory
+    private void readPartition(int month, LineHandler handler) throws IOException {
+        Path file = archiveFile(month);
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    handler.accept(line);
+                }
+            }
+        }
+    }
+    
+    private Path archiveFile(int month) {
+        return archiveDirectory.resolve(ARCHIVE_PREFIX + month + ARCHIVE_SUFFIX);
+    }
+    
+    private interface LineHandler {
+        void accept(String line) throws IOException;
+    }
+}
\ No newline at end of file
@@ -1,68 +1,191 @@
 package com.releasetracker.service;
 
+import com.releasetracker.analytics.DeploymentLogColumnStore;
+import com.releasetracker.analytics.DeploymentLogFilter;
+import com.releasetracker.analytics.DeploymentSketchService;
+import com.releasetracker.event.AfterCommit;
+import com.releasetracker.event.DeploymentLoggedEvent;
+import com.releasetracker.exception.ReleaseNotFoundException;
+import com.releasetracker.exception.UserNotFoundException;
+import com.releasetracker.instrumentation.DeploymentLogFlightEvent;
+import com.releasetracker.instrumentation.RequestMetrics;
+import com.releasetracker.journal.DeploymentJournal;
+import com.releasetracker.journal.JournalRecord;
+import com.releasetracker.model.DeploymentAction;
 import com.releasetracker.model.DeploymentLog;
 import com.releasetracker.model.Environment;
 import com.releasetracker.model.Release;
 import com.releasetracker.model.User;
 import com.releasetracker.repository.DeploymentLogRepository;
+import com.releasetracker.repository.ReleaseRepository;
+import com.releasetracker.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
+@Transactional(readOnly = true)
 public class DeploymentLogService {
     
+    private static final int FETCH_CHUNK_SIZE = 1000;
+    
     private final DeploymentLogRepository deploymentLogRepository;
+    private final ReleaseRepository releaseRepository;
+    private final UserRepository userRepository;
+    private final DeploymentJournal deploymentJournal;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DeploymentLogColumnStore columnStore;
+    private final DeploymentSketchService sketchService;
     
     @Autowired
-    public DeploymentLogService(DeploymentLogRepository deploymentLogRepository) {
+    public DeploymentLogService(DeploymentLogRepository deploymentLogRepository,
+                                ReleaseRepository releaseRepository,
+                                UserRepository userRepository,
+                                DeploymentJournal deploymentJournal,
+                                ApplicationEventPublisher eventPublisher,
+                                DeploymentLogColumnStore columnStore,
+                                DeploymentSketchService sketchService) {
         this.deploymentLogRepository = deploymentLogRepository;
+        this.releaseRepository = releaseRepository;
+        this.userRepository = userRepository;
+        this.deploymentJournal = deploymentJournal;
+        this.eventPublisher = eventPublisher;
+        this.columnStore = columnStore;
+        this.sketchService = sketchService;
     }
     
+    @Transactional
     public DeploymentLog createDeploymentLog(DeploymentLog deploymentLog) {
-        return deploymentLogRepository.save(deploymentLog);
+        DeploymentLog savedLog = deploymentLogRepository.save(deploymentLog);
+        AfterCommit.run(() -> sketchService.recordDeployment(savedLog));
+        eventPublisher.publishEvent(new DeploymentLoggedEvent(savedLog));
+        return savedLog;
     }
     
+    @Transactional
     public DeploymentLog logDeployment(Release release, Environment environment, User deployedBy, boolean success) {
         DeploymentLog log = new DeploymentLog(release, environment, deployedBy, success);
-        return deploymentLogRepository.save(log);
+        return record(log);
     }
     
+    @Transactional
     public DeploymentLog logDeployment(Release release, Environment environment, User deployedBy, boolean success, String notes) {
         DeploymentLog log = new DeploymentLog(release, environment, deployedBy, success, notes);
-        return deploymentLogRepository.save(log);
+        return record(log);
+    }
+    
+    @Transactional
+    public DeploymentLog logTransition(Release release, DeploymentAction action, Environment fromEnvironment,
+                                       Environment toEnvironment, User deployedBy) {
+        DeploymentLog log = new DeploymentLog(release, action, fromEnvironment, toEnvironment, deployedBy);
+        // A transition log commits with the release row it describes, never through the journal: an append before
+        // commit survives a rollback and one after commit is lost to a crash in between
+        return save(log, DeploymentLogFlightEvent.start());
+    }
+    
+    private DeploymentLog record(DeploymentLog log) {
+        DeploymentLogFlightEvent flightEvent = DeploymentLogFlightEvent.start();
+        if (deploymentJournal.isEnabled()) {
+            // Journaled logs are projected into deployment_logs by DeploymentJournalIndexer, so one whose transaction
+            // rolls back must never reach the journal
+            AfterCommit.run(() -> {
+                deploymentJournal.append(JournalRecord.of(log));
+                sketchService.recordDeployment(log);
+            });
+            flightEvent.finish(log, true);
+            return log;
+        }
+        return save(log, flightEvent);
+    }
+    
+    private DeploymentLog save(DeploymentLog log, DeploymentLogFlightEvent flightEvent) {
+        DeploymentLog savedLog = deploymentLogRepository.save(log);
+        AfterCommit.run(() -> sketchService.recordDeployment(savedLog));
+        eventPublisher.publishEvent(new DeploymentLoggedEvent(savedLog));
+        flightEvent.finish(savedLog, false);
+        return savedLog;
     }
     
     public List<DeploymentLog> getAllDeploymentLogs() {
         return deploymentLogRepository.findAllByOrderByDeploymentTimestampDesc();
     }
     
-    public List<DeploymentLog> getDeploymentLogsByRelease(Release release) {
-        return deploymentLogRepository.findByReleaseOrderByDeploymentTimestampDesc(release);
+    public List<DeploymentLog> getDeploymentLogsByReleaseId(Long releaseId) {
+        List<DeploymentLog> logs = deploymentLogRepository.findByRelease_IdOrderByDeploymentTimestampDesc(releaseId);
+        if (logs.isEmpty() && !releaseRepository.existsById(releaseId)) {
+            throw new ReleaseNotFoundException("Release not found with id: " + releaseId);
+        }
+        return logs;
     }
     
     public List<DeploymentLog> getDeploymentLogsByEnvironment(Environment environment) {
+        if (columnStoreReady()) {
+            return findIndexedByTimestampDesc(DeploymentLogFilter.byEnvironment(environment));
+        }
         return deploymentLogRepository.findByEnvironmentOrderByDeploymentTimestampDesc(environment);
     }
     
-    public List<DeploymentLog> getDeploymentLogsByUser(User user) {
-        return deploymentLogRepository.findByDeployedByOrderByDeploymentTimestampDesc(user);
+    public List<DeploymentLog> getDeploymentLogsByUserId(Long userId) {
+        List<DeploymentLog> logs = deploymentLogRepository.findByDeployedBy_IdOrderByDeploymentTimestampDesc(userId);
+        if (logs.isEmpty() && !userRepository.existsById(userId)) {
+            throw new UserNotFoundException("User not found with id: " + userId);
+        }
+        return logs;
     }
     
     public List<DeploymentLog> getDeploymentLogsBySuccess(boolean success) {
+        if (columnStoreReady()) {
+            return findIndexedByTimestampDesc(DeploymentLogFilter.bySuccess(success));
+        }
         return deploymentLogRepository.findBySuccessOrderByDeploymentTimestampDesc(success);
     }
     
+    public List<DeploymentLog> findDeploymentLogs(DeploymentLogFilter filter, int page, int size) {
+        if (columnStoreReady()) {
+            return findAllInOrder(columnStore.findIds(filter, (int) Math.min(Integer.MAX_VALUE, (long) page * size), size));
+        }
+        // An empty IN list is not portable SQL, so unused dimensions get a placeholder that the any flag ignores
+        Set<Environment> environments = filter.getEnvironments();
+        Set<Long> deployerIds = filter.getDeployerIds();
+        return deploymentLogRepository.findFiltered(
+                environments.isEmpty(), environments.isEmpty() ? EnumSet.allOf(Environment.class) : environments,
+                filter.getSuccess(),
+                deployerIds.isEmpty(), deployerIds.isEmpty() ? Collections.singleton(0L) : deployerIds,
+                PageRequest.of(page, size));
+    }
+    
     public List<DeploymentLog> getDeploymentLogsByReleaseAndEnvironment(Long releaseId, Environment environment) {
         return deploymentLogRepository.findByReleaseIdAndEnvironment(releaseId, environment);
     }
     
+    public List<DeploymentLog> getDeploymentLogsByAction(DeploymentAction action) {
+        return deploymentLogRepository.findByActionOrderByDeploymentTimestampDesc(action);
+    }
+    
+    public List<DeploymentLog> getTransitions(Environment fromEnvironment, Environment toEnvironment) {
+        return deploymentLogRepository.findByFromEnvironmentAndToEnvironmentOrderByDeploymentTimestampDesc(fromEnvironment, toEnvironment);
+    }
+    
     public List<DeploymentLog> getDeploymentLogsByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
         return deploymentLogRepository.findByDeploymentTimestampBetween(startDate, endDate);
     }
     
+    public List<DeploymentLog> getRecentDeploymentLogs(int months) {
+        LocalDateTime since = LocalDateTime.now().minusMonths(Math.max(months - 1, 0));
+        return deploymentLogRepository.findByDeploymentMonthGreaterThanEqualOrderByDeploymentTimestampDesc(DeploymentLog.monthOf(since));
+    }
+    
     public List<DeploymentLog> getFailedDeployments() {
         return getDeploymentLogsBySuccess(false);
     }
@@ -70,4 +193,35 @@ public class DeploymentLogService {
     public List<DeploymentLog> getSuccessfulDeployments() {
         return getDeploymentLogsBySuccess(true);
     }
+    
+    private boolean columnStoreReady() {
+        if (columnStore.isReady()) {
+            RequestMetrics.recordCacheHit();
+            return true;
+        }
+        RequestMetrics.recordCacheMiss();
+        return false;
+    }
+    
+    private List<DeploymentLog> findIndexedByTimestampDesc(DeploymentLogFilter filter) {
+        return findAllInOrder(columnStore.findIds(filter, 0, Integer.MAX_VALUE));
+    }
+    
+    private List<DeploymentLog> findAllInOrder(List<Long> ids) {
+        Map<Long, DeploymentLog> logsById = new HashMap<>(ids.size() * 2);
+        for (int start = 0; start < ids.size(); start += FETCH_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(start, Math.min(ids.size(), start + FETCH_CHUNK_SIZE));
+            for (DeploymentLog log : deploymentLogRepository.findWithRelationsByIdIn(chunk)) {
+                logsById.put(log.getId(), log);
+            }
+        }
+        List<DeploymentLog> logs = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            DeploymentLog log = logsById.get(id);
+            if (log != null) {
+                logs.add(log);
+            }
+        }
+        return logs;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.releasetracker.service;
+
+import com.releasetracker.model.DeploymentAction;
+import com.releasetracker.model.Environment;
+import com.releasetracker.repository.DeploymentLogRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DeploymentTransitionBackfill {
+    
+    private static final Logger logger = LoggerFactory.getLogger(DeploymentTransitionBackfill.class);
+    
+    private final DeploymentLogRepository deploymentLogRepository;
+    
+    @Autowired
+    public DeploymentTransitionBackfill(DeploymentLogRepository deploymentLogRepository) {
+        this.deploymentLogRepository = deploymentLogRepository;
+    }
+    
+    // Rows written before the structured columns existed only carry the transition in their notes
+    @EventListener(ApplicationReadyEvent.class)
+    public int backfill() {
+        // Every row written since has an action, so after the first run this index probe is all a restart costs
+        if (!deploymentLogRepository.existsByActionIsNull()) {
+            return 0;
+        }
+        int updated = 0;
+        for (Environment environment : Environment.values()) {
+            Environment next = environment.getNext();
+            if (next != null) {
+                updated += deploymentLogRepository.backfillTransition("Release promoted from " + environment + " to " + next,
+                        DeploymentAction.PROMOTED, environment, next);
+            }
+            Environment previous = environment.getPrevious();
+            if (previous != null) {
+                updated += deploymentLogRepository.backfillTransition("Release rolled back from " + environment + " to " + previous,
+                        DeploymentAction.ROLLED_BACK, environment, previous);
+            }
+        }
+        updated += deploymentLogRepository.backfillAction(DeploymentAction.DEPLOYED);
+        if (updated > 0) {
+            logger.info("Backfilled transition columns on {} deployment logs", updated);
+        }
+        return updated;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.releasetracker.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.releasetracker.repository.DeploymentLogRepository;
+import com.releasetracker.repository.ReleaseRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+@Service
+public class JsonStreamingService {
+    
+    private final ReleaseRepository releaseRepository;
+    private final DeploymentLogRepository deploymentLogRepository;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int flushInterval;
+    
+    @Autowired
+    public JsonStreamingService(ReleaseRepository releaseRepository,
+                                DeploymentLogRepository deploymentLogRepository,
+                                ObjectMapper objectMapper,
+                                EntityManager entityManager,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${releasetracker.streaming.flush-interval:500}") int flushInterval) {
+        this.releaseRepository = releaseRepository;
+        this.deploymentLogRepository = deploymentLogRepository;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.flushInterval = Math.max(1, flushInterval);
+    }
+    
+    public StreamingResponseBody streamReleases() {
+        return outputStream -> write(releaseRepository::streamAllByOrderByCreatedAtDesc, outputStream);
+    }
+    
+    public StreamingResponseBody streamDeploymentLogs() {
+        return outputStream -> write(deploymentLogRepository::streamAllByOrderByDeploymentTimestampDesc, outputStream);
+    }
+    
+    private void write(Supplier<? extends Stream<?>> query, OutputStream outputStream) throws IOException {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<?> rows = query.get();
+                     JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                    generator.writeStartArray();
+                    
+                    int written = 0;
+                    for (Iterator<?> iterator = rows.iterator(); iterator.hasNext(); ) {
+                        generator.writeObject(iterator.next());
+                        if (++written % flushInterval == 0) {
+                            // Rows already on the wire are dropped from the persistence context to keep the heap flat
+                            generator.flush();
+                            entityManager.clear();
+                        }
+                    }
+                    
+                    generator.writeEndArray();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,111 @@
+package com.releasetracker.service;
+
+import com.releasetracker.event.ReleaseEventAppendedEvent;
+import com.releasetracker.exception.ReleaseNotFoundException;
+import com.releasetracker.model.Environment;
+import com.releasetracker.model.Release;
+import com.releasetracker.model.ReleaseEvent;
+import com.releasetracker.model.ReleaseEventType;
+import com.releasetracker.model.ReleaseSnapshot;
+import com.releasetracker.model.User;
+import com.releasetracker.repository.ReleaseEventRepository;
+import com.releasetracker.repository.ReleaseRepository;
+import com.releasetracker.repository.ReleaseSnapshotRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@Transactional(readOnly = true)
+public class ReleaseEventStore {
+    
+    private final ReleaseEventRepository releaseEventRepository;
+    private final ReleaseSnapshotRepository releaseSnapshotRepository;
+    private final ReleaseRepository releaseRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    
+    @Autowired
+    public ReleaseEventStore(ReleaseEventRepository releaseEventRepository,
+                             ReleaseSnapshotRepository releaseSnapshotRepository,
+                             ReleaseRepository releaseRepository,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${releasetracker.event-sourcing.enabled:false}") boolean enabled) {
+        this.releaseEventRepository = releaseEventRepository;
+        this.releaseSnapshotRepository = releaseSnapshotRepository;
+        this.releaseRepository = releaseRepository;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    @Transactional
+    public ReleaseEvent recordCreated(Release release) {
+        return append(release, ReleaseEventType.CREATED, null, release.getCurrentEnvironment(), ownerId(release));
+    }
+    
+    @Transactional
+    public ReleaseEvent recordUpdated(Release release) {
+        return append(release, ReleaseEventType.UPDATED, null, null, null);
+    }
+    
+    @Transactional
+    public ReleaseEvent recordTransition(Release release, ReleaseEventType type, Environment from, Environment to, User actor) {
+        return append(release, type, from, to, actor != null ? actor.getId() : null);
+    }
+    
+    public List<ReleaseEvent> getEvents(Long releaseId) {
+        return releaseEventRepository.findByReleaseIdOrderBySequenceAsc(releaseId);
+    }
+    
+    public ReleaseSnapshot rebuild(Long releaseId) {
+        return findState(releaseId)
+                .orElseThrow(() -> new ReleaseNotFoundException("No events recorded for release with id: " + releaseId));
+    }
+    
+    // Empty for releases created before event sourcing was enabled
+    public Optional<ReleaseSnapshot> findState(Long releaseId) {
+        ReleaseSnapshot state = releaseSnapshotRepository.findById(releaseId)
+                .map(ReleaseSnapshot::copy)
+                .orElseGet(() -> new ReleaseSnapshot(releaseId));
+        
+        for (ReleaseEvent event : releaseEventRepository.findByReleaseIdAndSequenceGreaterThanOrderBySequenceAsc(releaseId, state.getSequence())) {
+            state.apply(event);
+        }
+        
+        return state.getSequence() > 0 ? Optional.of(state) : Optional.empty();
+    }
+    
+    @Transactional
+    public void saveSnapshot(ReleaseSnapshot snapshot) {
+        releaseSnapshotRepository.save(snapshot.copy());
+    }
+    
+    private ReleaseEvent append(Release release, ReleaseEventType type, Environment from, Environment to, Long actorId) {
+        // Two appends reading the same latest sequence would collide on uk_release_events_release_sequence, so the
+        // next sequence is only read under the release row lock. Transitions already hold it; taking it again in the
+        // same transaction does not block.
+        releaseRepository.findByIdForUpdate(release.getId());
+        long sequence = releaseEventRepository.findTopByReleaseIdOrderBySequenceDesc(release.getId())
+                .map(ReleaseEvent::getSequence)
+                .orElse(0L) + 1;
+        
+        ReleaseEvent event = releaseEventRepository.save(new ReleaseEvent(release.getId(), sequence, type, from, to,
+                release.getVersionNumber(), release.getDescription(), ownerId(release), actorId, LocalDateTime.now()));
+        eventPublisher.publishEvent(new ReleaseEventAppendedEvent(event));
+        return event;
+    }
+    
+    private static Long ownerId(Release release) {
+        return release.getOwner() != null ? release.getOwner().getId() : null;
+    }
+}
\ No newline at end of file
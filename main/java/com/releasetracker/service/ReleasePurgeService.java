@@ -0,0 +1,196 @@
+package com.releasetracker.service;
+
+import com.releasetracker.event.ReleaseDeletedEvent;
+import com.releasetracker.model.ReleasePurgeProgress;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Removes soft-deleted releases with their history. Child rows go in bounded set-based chunks, one short transaction
+ * each, so concurrent writers never wait behind a single huge delete. Chunk size and the pause between chunks follow
+ * how long the last chunk took: the slower the database answers, the smaller the chunks and the longer the purger
+ * stays idle.
+ */
+@Service
+public class ReleasePurgeService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ReleasePurgeService.class);
+    private static final String PENDING_SQL = "SELECT id, deleted_at FROM releases WHERE deleted_at IS NOT NULL ORDER BY deleted_at";
+    private static final String[] CHILD_TABLES = {"deployment_logs", "environment_dwells", "release_events"};
+    private static final int RECENT_PURGES = 20;
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int minChunkSize;
+    private final int maxChunkSize;
+    private final long targetChunkMillis;
+    private final long maxPauseMillis;
+    private final Map<Long, ReleasePurgeProgress> unfinished = new ConcurrentHashMap<>();
+    private final Deque<ReleasePurgeProgress> finished = new ConcurrentLinkedDeque<>();
+    private final AtomicBoolean purgeQueued = new AtomicBoolean();
+    private final ThreadPoolTaskExecutor purgeExecutor;
+    private int chunkSize;
+    
+    @Autowired
+    public ReleasePurgeService(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${releasetracker.releases.purge.min-chunk-size:100}") int minChunkSize,
+                               @Value("${releasetracker.releases.purge.max-chunk-size:5000}") int maxChunkSize,
+                               @Value("${releasetracker.releases.purge.target-chunk-ms:50}") long targetChunkMillis,
+                               @Value("${releasetracker.releases.purge.max-pause-ms:2000}") long maxPauseMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.minChunkSize = Math.max(1, minChunkSize);
+        this.maxChunkSize = Math.max(this.minChunkSize, maxChunkSize);
+        this.targetChunkMillis = Math.max(1, targetChunkMillis);
+        this.maxPauseMillis = maxPauseMillis;
+        this.chunkSize = Math.min(this.maxChunkSize, Math.max(this.minChunkSize, 1000));
+        // One dedicated thread: purges pause between chunks and must not hold shared async or scheduler threads
+        purgeExecutor = new ThreadPoolTaskExecutor();
+        purgeExecutor.setCorePoolSize(1);
+        purgeExecutor.setMaxPoolSize(1);
+        purgeExecutor.setThreadNamePrefix("release-purge-");
+        purgeExecutor.initialize();
+    }
+    
+    // Last, so the analytics listeners still find the rows that tell them what to forget
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReleaseDeleted(ReleaseDeletedEvent event) {
+        requestPurge();
+    }
+    
+    // Also picks up releases whose purge failed or was cut short by a restart
+    @Scheduled(fixedDelayString = "${releasetracker.releases.purge.interval-ms:60000}")
+    public void requestPurge() {
+        // At most one pass waits behind the running one; it sees every release deleted until it starts
+        if (purgeQueued.compareAndSet(false, true)) {
+            purgeExecutor.execute(() -> {
+                purgeQueued.set(false);
+                purgePending();
+            });
+        }
+    }
+    
+    public synchronized void purgePending() {
+        for (ReleasePurgeProgress progress : findPending()) {
+            purge(progress);
+        }
+    }
+    
+    public List<ReleasePurgeProgress> getPurges() {
+        List<ReleasePurgeProgress> purges = new ArrayList<>(findPending());
+        purges.addAll(finished);
+        return purges;
+    }
+    
+    private List<ReleasePurgeProgress> findPending() {
+        return jdbcTemplate.query(PENDING_SQL, (rs, rowNum) -> {
+            long releaseId = rs.getLong("id");
+            ReleasePurgeProgress progress = unfinished.get(releaseId);
+            return progress != null ? progress
+                    : new ReleasePurgeProgress(releaseId, rs.getTimestamp("deleted_at").toLocalDateTime());
+        });
+    }
+    
+    private void purge(ReleasePurgeProgress progress) {
+        long releaseId = progress.getReleaseId();
+        unfinished.put(releaseId, progress);
+        progress.start(LocalDateTime.now());
+        try {
+            for (String table : CHILD_TABLES) {
+                progress.enterStage(table);
+                purgeChildRows(progress, table);
+            }
+            progress.enterStage("releases");
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update("DELETE FROM release_snapshots WHERE release_id = ?", releaseId);
+                jdbcTemplate.update("DELETE FROM releases WHERE id = ? AND deleted_at IS NOT NULL", releaseId);
+            });
+        } catch (DataAccessException e) {
+            // Typically a deployment log written against the release mid-purge; the next pass deletes it and retries
+            progress.fail(e.getMostSpecificCause().getMessage());
+            logger.warn("Purge of release {} stopped in {}: {}", releaseId, progress.getStage(), progress.getLastError());
+            return;
+        }
+        progress.finish(LocalDateTime.now());
+        unfinished.remove(releaseId);
+        finished.addFirst(progress);
+        while (finished.size() > RECENT_PURGES) {
+            finished.pollLast();
+        }
+        logger.info("Purged release {} with {} dependent rows in {} chunks", releaseId, progress.getRowsRemoved(),
+                progress.getChunks());
+    }
+    
+    private void purgeChildRows(ReleasePurgeProgress progress, String table) {
+        String sql = "DELETE FROM " + table + " WHERE id IN (SELECT id FROM " + table + " WHERE release_id = ? LIMIT ?)";
+        int limit;
+        int removed;
+        do {
+            limit = chunkSize;
+            int chunkLimit = limit;
+            long start = System.nanoTime();
+            removed = transactionTemplate.execute(status -> jdbcTemplate.update(sql, progress.getReleaseId(), chunkLimit));
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            chunkSize = nextChunkSize(limit, millis);
+            progress.recordChunk(removed, millis, chunkSize);
+            pause(progress, pauseMillis(millis));
+        } while (removed == limit);
+    }
+    
+    // Halves the chunk when it overran the target and grows it by a quarter when it finished in under half of it
+    int nextChunkSize(int current, long chunkMillis) {
+        if (chunkMillis > targetChunkMillis) {
+            return Math.max(minChunkSize, current / 2);
+        }
+        if (chunkMillis * 2 < targetChunkMillis) {
+            return Math.min(maxChunkSize, current + Math.max(1, current / 4));
+        }
+        return current;
+    }
+    
+    // Idle for chunk time scaled by how far it ran past the target: half duty at the target, a third at twice it
+    long pauseMillis(long chunkMillis) {
+        return Math.min(maxPauseMillis, chunkMillis * chunkMillis / targetChunkMillis);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        purgeExecutor.shutdown();
+    }
+    
+    private static void pause(ReleasePurgeProgress progress, long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+            progress.recordPause(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
\ No newline at end of file
@@ -1,60 +1,115 @@
 package com.releasetracker.service;
 
+import com.releasetracker.analytics.DwellTimeTracker;
+import com.releasetracker.analytics.RollbackHotspotTracker;
+import com.releasetracker.event.AfterCommit;
+import com.releasetracker.event.ReleaseDeletedEvent;
 import com.releasetracker.exception.InvalidEnvironmentException;
 import com.releasetracker.exception.ReleaseNotFoundException;
 import com.releasetracker.exception.UserAlreadyExistsException;
+import com.releasetracker.exception.UserNotFoundException;
+import com.releasetracker.instrumentation.ReleaseTransitionFlightEvent;
+import com.releasetracker.model.DeploymentAction;
 import com.releasetracker.model.Environment;
 import com.releasetracker.model.Release;
+import com.releasetracker.model.ReleaseEventType;
+import com.releasetracker.model.ReleaseSnapshot;
 import com.releasetracker.model.User;
 import com.releasetracker.repository.ReleaseRepository;
+import com.releasetracker.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
+@Transactional(readOnly = true)
 public class ReleaseService {
     
     private final ReleaseRepository releaseRepository;
+    private final UserRepository userRepository;
     private final DeploymentLogService deploymentLogService;
+    private final ReleaseEventStore releaseEventStore;
+    private final ReleaseStateProjector releaseStateProjector;
+    private final RollbackHotspotTracker rollbackHotspotTracker;
+    private final DwellTimeTracker dwellTimeTracker;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Autowired
-    public ReleaseService(ReleaseRepository releaseRepository, DeploymentLogService deploymentLogService) {
+    public ReleaseService(ReleaseRepository releaseRepository, UserRepository userRepository,
+                          DeploymentLogService deploymentLogService, ReleaseEventStore releaseEventStore,
+                          ReleaseStateProjector releaseStateProjector, RollbackHotspotTracker rollbackHotspotTracker, DwellTimeTracker dwellTimeTracker,
+                          ApplicationEventPublisher eventPublisher) {
         this.releaseRepository = releaseRepository;
+        this.userRepository = userRepository;
         this.deploymentLogService = deploymentLogService;
+        this.releaseEventStore = releaseEventStore;
+        this.releaseStateProjector = releaseStateProjector;
+        this.rollbackHotspotTracker = rollbackHotspotTracker;
+        this.dwellTimeTracker = dwellTimeTracker;
+        this.eventPublisher = eventPublisher;
     }
     
+    @Transactional
     public Release createRelease(Release release) {
         if (releaseRepository.existsByVersionNumber(release.getVersionNumber())) {
             throw new UserAlreadyExistsException("Release version already exists: " + release.getVersionNumber());
         }
-        return releaseRepository.save(release);
+        Release createdRelease = releaseRepository.save(release);
+        if (releaseEventStore.isEnabled()) {
+            releaseEventStore.recordCreated(createdRelease);
+        }
+        return createdRelease;
     }
     
     public List<Release> getAllReleases() {
-        return releaseRepository.findAllByOrderByCreatedAtDesc();
+        return project(releaseRepository.findAllByOrderByCreatedAtDesc());
     }
     
     public Release getReleaseById(Long id) {
         return releaseRepository.findById(id)
+                .map(this::project)
+                .orElseThrow(() -> new ReleaseNotFoundException("Release not found with id: " + id));
+    }
+    
+    private Release getReleaseForUpdate(Long id) {
+        return releaseRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new ReleaseNotFoundException("Release not found with id: " + id));
     }
     
     public Release getReleaseByVersion(String versionNumber) {
         return releaseRepository.findByVersionNumber(versionNumber)
+                .map(this::project)
                 .orElseThrow(() -> new ReleaseNotFoundException("Release not found with version: " + versionNumber));
     }
     
     public List<Release> getReleasesByEnvironment(Environment environment) {
+        if (releaseEventStore.isEnabled()) {
+            // The projection may trail the column, so the environment filter runs on the projected state
+            return getAllReleases().stream()
+                    .filter(release -> release.getCurrentEnvironment() == environment)
+                    .collect(Collectors.toList());
+        }
         return releaseRepository.findByCurrentEnvironment(environment);
     }
     
-    public List<Release> getReleasesByOwner(User owner) {
-        return releaseRepository.findByOwnerOrderByCreatedAtDesc(owner);
+    public List<Release> getReleasesByOwnerId(Long ownerId) {
+        List<Release> releases = releaseRepository.findWithOwnerByOwner_IdOrderByCreatedAtDesc(ownerId);
+        // Only an empty result needs a second statement to tell an owner without releases from an unknown one
+        if (releases.isEmpty() && !userRepository.existsById(ownerId)) {
+            throw new UserNotFoundException("User not found with id: " + ownerId);
+        }
+        return project(releases);
     }
     
+    @Transactional
     public Release promoteRelease(Long releaseId, User promotedBy) {
-        Release release = getReleaseById(releaseId);
+        ReleaseTransitionFlightEvent flightEvent = ReleaseTransitionFlightEvent.start();
+        Release release = getReleaseForUpdate(releaseId);
         Environment currentEnv = release.getCurrentEnvironment();
         Environment nextEnv = currentEnv.getNext();
         
@@ -62,16 +117,27 @@ public class ReleaseService {
             throw new InvalidEnvironmentException("Release is already in production and cannot be promoted further");
         }
         
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime enteredAt = release.getEnvironmentEnteredAt();
         release.setCurrentEnvironment(nextEnv);
+        release.setEnvironmentEnteredAt(now);
         Release updatedRelease = releaseRepository.save(release);
         
-        deploymentLogService.logDeployment(updatedRelease, nextEnv, promotedBy, true, "Release promoted from " + currentEnv + " to " + nextEnv);
+        deploymentLogService.logTransition(updatedRelease, DeploymentAction.PROMOTED, currentEnv, nextEnv, promotedBy);
+        AfterCommit.run(() -> rollbackHotspotTracker.recordPromotion(updatedRelease.getId(), currentEnv, nextEnv, now));
+        dwellTimeTracker.recordExit(updatedRelease.getId(), ownerIdOf(updatedRelease), currentEnv, enteredAt, now, DeploymentAction.PROMOTED);
+        if (releaseEventStore.isEnabled()) {
+            releaseEventStore.recordTransition(updatedRelease, ReleaseEventType.PROMOTED, currentEnv, nextEnv, promotedBy);
+        }
+        flightEvent.finish("promoteRelease", updatedRelease.getId(), currentEnv, nextEnv);
         
         return updatedRelease;
     }
     
+    @Transactional
     public Release rollbackRelease(Long releaseId, User rolledBackBy) {
-        Release release = getReleaseById(releaseId);
+        ReleaseTransitionFlightEvent flightEvent = ReleaseTransitionFlightEvent.start();
+        Release release = getReleaseForUpdate(releaseId);
         Environment currentEnv = release.getCurrentEnvironment();
         Environment previousEnv = currentEnv.getPrevious();
         
@@ -79,16 +145,27 @@ public class ReleaseService {
             throw new InvalidEnvironmentException("Release is in development and cannot be rolled back further");
         }
         
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime enteredAt = release.getEnvironmentEnteredAt();
         release.setCurrentEnvironment(previousEnv);
+        release.setEnvironmentEnteredAt(now);
         Release updatedRelease = releaseRepository.save(release);
         
-        deploymentLogService.logDeployment(updatedRelease, previousEnv, rolledBackBy, true, "Release rolled back from " + currentEnv + " to " + previousEnv);
+        deploymentLogService.logTransition(updatedRelease, DeploymentAction.ROLLED_BACK, currentEnv, previousEnv, rolledBackBy);
+        AfterCommit.run(() -> rollbackHotspotTracker.recordRollback(updatedRelease.getId(), ownerIdOf(updatedRelease),
+                currentEnv, previousEnv, now));
+        dwellTimeTracker.recordExit(updatedRelease.getId(), ownerIdOf(updatedRelease), currentEnv, enteredAt, now, DeploymentAction.ROLLED_BACK);
+        if (releaseEventStore.isEnabled()) {
+            releaseEventStore.recordTransition(updatedRelease, ReleaseEventType.ROLLED_BACK, currentEnv, previousEnv, rolledBackBy);
+        }
+        flightEvent.finish("rollbackRelease", updatedRelease.getId(), currentEnv, previousEnv);
         
         return updatedRelease;
     }
     
+    @Transactional
     public Release updateRelease(Long id, Release updatedRelease) {
-        Release existingRelease = getReleaseById(id);
+        Release existingRelease = getReleaseForUpdate(id);
         
         if (!existingRelease.getVersionNumber().equals(updatedRelease.getVersionNumber()) 
             && releaseRepository.existsByVersionNumber(updatedRelease.getVersionNumber())) {
@@ -99,13 +176,56 @@ public class ReleaseService {
         existingRelease.setDescription(updatedRelease.getDescription());
         existingRelease.setOwner(updatedRelease.getOwner());
         
-        return releaseRepository.save(existingRelease);
+        Release savedRelease = releaseRepository.save(existingRelease);
+        if (releaseEventStore.isEnabled()) {
+            releaseEventStore.recordUpdated(savedRelease);
+        }
+        return savedRelease;
     }
     
+    // Only marks the release; its deployment history is removed in chunks by ReleasePurgeService
+    @Transactional
     public void deleteRelease(Long id) {
-        if (!releaseRepository.existsById(id)) {
+        if (releaseRepository.softDeleteById(id, LocalDateTime.now()) == 0) {
             throw new ReleaseNotFoundException("Release not found with id: " + id);
         }
-        releaseRepository.deleteById(id);
+        eventPublisher.publishEvent(new ReleaseDeletedEvent(id));
+    }
+    
+    private List<Release> project(List<Release> releases) {
+        if (!releaseEventStore.isEnabled()) {
+            return releases;
+        }
+        return releases.stream().map(this::project).collect(Collectors.toList());
+    }
+    
+    // In event-sourced mode reads are served from the projected event history; the entity itself is left untouched
+    // and a detached copy carries the projected state. Releases created before event sourcing have no events yet.
+    private Release project(Release release) {
+        if (!releaseEventStore.isEnabled()) {
+            return release;
+        }
+        return releaseStateProjector.findCurrentState(release.getId())
+                .map(state -> projected(release, state))
+                .orElse(release);
+    }
+    
+    private Release projected(Release release, ReleaseSnapshot state) {
+        User owner = release.getOwner();
+        if (state.getOwnerId() != null && !state.getOwnerId().equals(ownerIdOf(release))) {
+            owner = userRepository.findById(state.getOwnerId()).orElse(owner);
+        }
+        Release projected = new Release(state.getVersionNumber(), state.getDescription(), owner);
+        projected.setId(release.getId());
+        projected.setCurrentEnvironment(state.getCurrentEnvironment());
+        projected.setCreatedAt(release.getCreatedAt());
+        projected.setUpdatedAt(state.getUpdatedAt());
+        projected.setEnvironmentEnteredAt(state.getEnvironmentEnteredAt() != null
+                ? state.getEnvironmentEnteredAt() : release.getEnvironmentEnteredAt());
+        return projected;
+    }
+    
+    private static Long ownerIdOf(Release release) {
+        return release.getOwner() != null ? release.getOwner().getId() : null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.releasetracker.service;
+
+import com.releasetracker.event.ReleaseDeletedEvent;
+import com.releasetracker.event.ReleaseEventAppendedEvent;
+import com.releasetracker.exception.ReleaseNotFoundException;
+import com.releasetracker.instrumentation.RequestMetrics;
+import com.releasetracker.model.ReleaseEvent;
+import com.releasetracker.model.ReleaseSnapshot;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class ReleaseStateProjector {
+    
+    private final ReleaseEventStore releaseEventStore;
+    private final int snapshotInterval;
+    private final Map<Long, ReleaseSnapshot> currentStates = new ConcurrentHashMap<>();
+    
+    @Autowired
+    public ReleaseStateProjector(ReleaseEventStore releaseEventStore,
+                                 @Value("${releasetracker.event-sourcing.snapshot-interval:50}") int snapshotInterval) {
+        this.releaseEventStore = releaseEventStore;
+        this.snapshotInterval = Math.max(1, snapshotInterval);
+    }
+    
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReleaseEventAppended(ReleaseEventAppendedEvent appended) {
+        ReleaseEvent event = appended.getReleaseEvent();
+        ReleaseSnapshot state = currentStates.get(event.getReleaseId());
+        ReleaseSnapshot next;
+        if (state != null && state.getSequence() >= event.getSequence()) {
+            next = state;
+        } else if (state != null && state.getSequence() == event.getSequence() - 1) {
+            next = state.copy();
+            next.apply(event);
+        } else {
+            // Missed or reordered deliveries are healed from the store instead of guessed at. The rebuild reads the
+            // database, so it runs outside the map and the newest state wins when concurrent deliveries race.
+            next = releaseEventStore.rebuild(event.getReleaseId());
+        }
+        ReleaseSnapshot projected = currentStates.merge(event.getReleaseId(), next,
+                (current, candidate) -> current.getSequence() >= candidate.getSequence() ? current : candidate);
+        
+        if (event.getSequence() % snapshotInterval == 0) {
+            releaseEventStore.saveSnapshot(projected);
+        }
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReleaseDeleted(ReleaseDeletedEvent event) {
+        currentStates.remove(event.getReleaseId());
+    }
+    
+    public ReleaseSnapshot getCurrentState(Long releaseId) {
+        return findCurrentState(releaseId)
+                .orElseThrow(() -> new ReleaseNotFoundException("No events recorded for release with id: " + releaseId));
+    }
+    
+    public Optional<ReleaseSnapshot> findCurrentState(Long releaseId) {
+        ReleaseSnapshot state = currentStates.get(releaseId);
+        if (state != null) {
+            RequestMetrics.recordCacheHit();
+            return Optional.of(state.copy());
+        }
+        RequestMetrics.recordCacheMiss();
+        return releaseEventStore.findState(releaseId);
+    }
+}
\ No newline at end of file
@@ -7,11 +7,13 @@ import com.releasetracker.model.UserRole;
 import com.releasetracker.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 
 @Service
+@Transactional(readOnly = true)
 public class UserService {
     
     private final UserRepository userRepository;
@@ -21,6 +23,7 @@ public class UserService {
         this.userRepository = userRepository;
     }
     
+    @Transactional
     public User createUser(User user) {
         if (userRepository.existsByUsername(user.getUsername())) {
             throw new UserAlreadyExistsException("Username already exists: " + user.getUsername());
@@ -40,6 +43,14 @@ public class UserService {
                 .orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
     }
     
+    // Checks existence with a count query and hands back an unloaded reference, for callers that only need the id
+    public User getUserReference(Long id) {
+        if (!userRepository.existsById(id)) {
+            throw new UserNotFoundException("User not found with id: " + id);
+        }
+        return userRepository.getReferenceById(id);
+    }
+    
     public User getUserByUsername(String username) {
         return userRepository.findByUsername(username)
                 .orElseThrow(() -> new UserNotFoundException("User not found with username: " + username));
@@ -49,6 +60,7 @@ public class UserService {
         return userRepository.findByRole(role);
     }
     
+    @Transactional
     public User updateUser(Long id, User updatedUser) {
         User existingUser = getUserById(id);
         
@@ -70,10 +82,10 @@ public class UserService {
         return userRepository.save(existingUser);
     }
     
+    @Transactional
     public void deleteUser(Long id) {
-        if (!userRepository.existsById(id)) {
+        if (userRepository.deleteUserById(id) == 0) {
             throw new UserNotFoundException("User not found with id: " + id);
         }
-        userRepository.deleteById(id);
     }
 }
\ No newline at end of file
@@ -317,6 +317,7 @@ function displayDeploymentLogs(logsToShow = deploymentLogs) {
         const timestamp = new Date(log.deploymentTimestamp).toLocaleString();
         const status = log.success ? 'Success' : 'Failed';
         const statusClass = log.success ? 'status-success' : 'status-failed';
+        const details = describeLog(log);
         
         row.innerHTML = `
             <td>${log.release.versionNumber}</td>
@@ -324,12 +325,26 @@ function displayDeploymentLogs(logsToShow = deploymentLogs) {
             <td>${log.deployedBy.fullName}</td>
             <td>${timestamp}</td>
             <td><span class="${statusClass}">${status}</span></td>
-            <td title="${log.notes || ''}">${(log.notes || '').substring(0, 50)}${(log.notes || '').length > 50 ? '...' : ''}</td>
+            <td title="${details}">${details.substring(0, 50)}${details.length > 50 ? '...' : ''}</td>
         `;
         tbody.appendChild(row);
     });
 }
 
+function describeLog(log) {
+    const transition = log.fromEnvironment && log.toEnvironment ? `${log.fromEnvironment} → ${log.toEnvironment}` : '';
+    let summary = '';
+    if (log.action === 'PROMOTED') {
+        summary = `Promoted ${transition}`;
+    } else if (log.action === 'ROLLED_BACK') {
+        summary = `Rolled back ${transition}`;
+    }
+    if (!summary) {
+        return log.notes || '';
+    }
+    return log.notes ? `${summary.trim()}: ${log.notes}` : summary.trim();
+}
+
 function filterLogs() {
     const environmentFilter = document.getElementById('environmentFilter').value;
     const statusFilter = document.getElementById('statusFilter').value;
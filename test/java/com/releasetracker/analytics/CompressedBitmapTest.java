@@ -0,0 +1,94 @@
+package com.releasetracker.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressedBitmapTest {
+
+    @Test
+    void add_KeepsSparseAndDenseChunksQueryable() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int i = 0; i < 10_000; i++) {
+            bitmap.add(i * 2);
+        }
+        bitmap.add(1_000_000);
+
+        assertEquals(10_001, bitmap.cardinality());
+        assertTrue(bitmap.contains(19_998));
+        assertFalse(bitmap.contains(19_999));
+        assertTrue(bitmap.contains(1_000_000));
+        assertArrayEquals(new int[]{1_000_000, 19_998, 19_996}, bitmap.toArrayDescending(0, 3));
+        assertArrayEquals(new int[]{19_994, 19_992}, bitmap.toArrayDescending(3, 2));
+    }
+
+    @Test
+    void setOperations_MatchBitSetReference() {
+        Random random = new Random(42);
+        for (int round = 0; round < 50; round++) {
+            BitSet leftReference = new BitSet();
+            BitSet rightReference = new BitSet();
+            CompressedBitmap left = randomBitmap(random, 20_000, leftReference);
+            CompressedBitmap right = randomBitmap(random, 3_000, rightReference);
+
+            BitSet expected = (BitSet) leftReference.clone();
+            expected.and(rightReference);
+            assertSameValues(expected, left.and(right));
+
+            expected = (BitSet) leftReference.clone();
+            expected.or(rightReference);
+            assertSameValues(expected, left.or(right));
+
+            expected = (BitSet) leftReference.clone();
+            expected.andNot(rightReference);
+            assertSameValues(expected, left.andNot(right));
+        }
+    }
+
+    @Test
+    void forEachDescending_VisitsLargestFirstUntilTheVisitorStops() {
+        CompressedBitmap bitmap = CompressedBitmap.range(5_000);
+        bitmap.add(200_000);
+        bitmap.add(200_003);
+        int[] visited = new int[4];
+        int[] count = new int[1];
+
+        bitmap.forEachDescending(value -> {
+            visited[count[0]++] = value;
+            return count[0] < visited.length;
+        });
+
+        assertArrayEquals(new int[]{200_003, 200_000, 4_999, 4_998}, visited);
+    }
+
+    @Test
+    void range_CoversEveryOrdinalBelowEnd() {
+        CompressedBitmap range = CompressedBitmap.range(70_000);
+
+        assertEquals(70_000, range.cardinality());
+        assertTrue(range.contains(69_999));
+        assertFalse(range.contains(70_000));
+    }
+
+    private CompressedBitmap randomBitmap(Random random, int count, BitSet reference) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int i = 0; i < count; i++) {
+            int value = random.nextInt(200_000);
+            bitmap.add(value);
+            reference.set(value);
+        }
+        return bitmap;
+    }
+
+    private void assertSameValues(BitSet expected, CompressedBitmap actual) {
+        int[] values = actual.toArrayDescending(0, Integer.MAX_VALUE);
+        assertEquals(expected.cardinality(), values.length);
+        int index = 0;
+        for (int value = expected.previousSetBit(expected.length()); value >= 0; value = expected.previousSetBit(value - 1)) {
+            assertEquals(value, values[index++]);
+        }
+    }
+}
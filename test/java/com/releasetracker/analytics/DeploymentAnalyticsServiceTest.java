@@ -0,0 +1,105 @@
+package com.releasetracker.analytics;
+
+import com.releasetracker.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeploymentAnalyticsServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private DeploymentLogColumnStore columnStore;
+    private DeploymentAnalyticsService analyticsService;
+    private Release testRelease;
+    private User developer;
+    private User tester;
+    private long nextId;
+
+    @BeforeEach
+    void setUp() {
+        columnStore = new DeploymentLogColumnStore(jdbcTemplate);
+        analyticsService = new DeploymentAnalyticsService(columnStore);
+
+        developer = new User("john.doe", "john@example.com", "John Doe", UserRole.DEVELOPER);
+        developer.setId(1L);
+        tester = new User("jane.doe", "jane@example.com", "Jane Doe", UserRole.QA);
+        tester.setId(2L);
+        testRelease = new Release("1.0.0", "Initial release", developer);
+        testRelease.setId(1L);
+        nextId = 1;
+    }
+
+    @Test
+    void getFailuresByEnvironment_CountsOnlyFailuresInWindow() {
+        append(Environment.QA, developer, false, 1);
+        append(Environment.QA, developer, false, 2);
+        append(Environment.QA, developer, true, 3);
+        append(Environment.PROD, tester, false, 10);
+        append(Environment.PROD, tester, false, 45);
+
+        Map<Environment, Long> failures = analyticsService.getFailuresByEnvironment(30);
+
+        assertEquals(2L, failures.get(Environment.QA));
+        assertEquals(1L, failures.get(Environment.PROD));
+        assertEquals(0L, failures.get(Environment.DEV));
+    }
+
+    @Test
+    void getDeploymentsByEnvironment_CountsAcrossVectorBoundaries() {
+        for (int i = 0; i < 2500; i++) {
+            append(i % 2 == 0 ? Environment.DEV : Environment.UAT, developer, i % 3 != 0, 1);
+        }
+
+        Map<Environment, Long> deployments = analyticsService.getDeploymentsByEnvironment(7);
+
+        assertEquals(1250L, deployments.get(Environment.DEV));
+        assertEquals(1250L, deployments.get(Environment.UAT));
+    }
+
+    @Test
+    void getDeploymentsByUserPerWeek_BucketsByWeekAndSortsByTotal() {
+        append(Environment.DEV, developer, true, 1);
+        append(Environment.QA, tester, true, 2);
+        append(Environment.UAT, tester, true, 9);
+        append(Environment.PROD, tester, true, 40);
+
+        List<UserDeploymentCounts> counts = analyticsService.getDeploymentsByUserPerWeek(4);
+
+        assertEquals(2, counts.size());
+        assertEquals(2L, counts.get(0).getUserId());
+        assertEquals(2L, counts.get(0).getTotal());
+        assertEquals(4, counts.get(0).getWeeklyCounts().size());
+        assertEquals(1L, counts.get(0).getWeeklyCounts().get(3));
+        assertEquals(1L, counts.get(0).getWeeklyCounts().get(2));
+        assertEquals(1L, counts.get(1).getTotal());
+    }
+
+    @Test
+    void removeWhere_HidesArchivedRowsFromScans() {
+        LocalDateTime timestamp = LocalDateTime.now().minusDays(1);
+        append(Environment.QA, developer, false, 1);
+
+        columnStore.removeWhere(DeploymentLog.monthOf(timestamp), nextId);
+
+        assertEquals(0L, analyticsService.getFailuresByEnvironment(30).get(Environment.QA));
+    }
+
+    private void append(Environment environment, User deployedBy, boolean success, int daysAgo) {
+        DeploymentLog log = new DeploymentLog(testRelease, environment, deployedBy, success, "note " + (nextId % 3));
+        log.setId(nextId++);
+        log.setDeploymentTimestamp(LocalDateTime.now().minusDays(daysAgo));
+        columnStore.append(log);
+    }
+}
@@ -0,0 +1,156 @@
+package com.releasetracker.analytics;
+
+import com.releasetracker.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeploymentLogColumnStoreTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private DeploymentLogColumnStore columnStore;
+    private Release testRelease;
+    private User developer;
+    private User tester;
+
+    @BeforeEach
+    void setUp() {
+        columnStore = new DeploymentLogColumnStore(jdbcTemplate);
+
+        developer = new User("john.doe", "john@example.com", "John Doe", UserRole.DEVELOPER);
+        developer.setId(1L);
+        tester = new User("jane.doe", "jane@example.com", "Jane Doe", UserRole.QA);
+        tester.setId(2L);
+        testRelease = new Release("1.0.0", "Initial release", developer);
+        testRelease.setId(1L);
+
+        append(10L, Environment.DEV, developer, true);
+        append(11L, Environment.QA, developer, false);
+        append(12L, Environment.QA, tester, false);
+        append(13L, Environment.PROD, tester, true);
+        append(14L, Environment.UAT, tester, false);
+    }
+
+    @Test
+    void findIds_CombinesDimensionsWithAndAndValuesWithOr() {
+        DeploymentLogFilter filter = new DeploymentLogFilter(
+                EnumSet.of(Environment.QA, Environment.UAT), false, new HashSet<>(Arrays.asList(2L)));
+
+        List<Long> ids = columnStore.findIds(filter, 0, 10);
+
+        assertEquals(Arrays.asList(14L, 12L), ids);
+        assertEquals(2, columnStore.count(filter));
+    }
+
+    @Test
+    void findIds_PagesNewestFirst() {
+        DeploymentLogFilter all = new DeploymentLogFilter(null, null, null);
+
+        assertEquals(Arrays.asList(14L, 13L), columnStore.findIds(all, 0, 2));
+        assertEquals(Arrays.asList(12L, 11L), columnStore.findIds(all, 2, 2));
+        assertEquals(Arrays.asList(10L), columnStore.findIds(all, 4, 2));
+    }
+
+    @Test
+    void findIds_OrdersByTimestampBeforePaging() {
+        DeploymentLog imported = new DeploymentLog(testRelease, Environment.DEV, developer, true);
+        imported.setId(15L);
+        imported.setDeploymentTimestamp(LocalDateTime.now().minusDays(3));
+        columnStore.append(imported);
+        DeploymentLogFilter all = new DeploymentLogFilter(null, null, null);
+
+        assertEquals(Arrays.asList(14L, 13L), columnStore.findIds(all, 0, 2));
+        assertEquals(Arrays.asList(10L, 15L), columnStore.findIds(all, 4, 2));
+        assertEquals(Arrays.asList(14L, 13L, 12L, 11L, 10L, 15L), columnStore.findIds(all, 0, 10));
+        assertTrue(columnStore.findIds(all, 6, 2).isEmpty());
+    }
+
+    @Test
+    void findIds_UnknownDeployerMatchesNothing() {
+        DeploymentLogFilter filter = new DeploymentLogFilter(null, null, new HashSet<>(Arrays.asList(99L)));
+
+        assertTrue(columnStore.findIds(filter, 0, 10).isEmpty());
+    }
+
+    @Test
+    void loadNewRows_ReadsOnlyRowsAboveTheLoadedPrefixOnce() throws Exception {
+        ResultSet first = row(1L);
+        ResultSet second = row(2L);
+        ResultSet imported = row(3L);
+        ResultSet live = mock(ResultSet.class);
+        when(live.getLong("id")).thenReturn(4L);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(first);
+            handler.processRow(second);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(imported);
+            handler.processRow(live);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(2L));
+        columnStore.load();
+        append(4L, Environment.QA, developer, true);
+
+        assertEquals(1, columnStore.loadNewRows());
+        DeploymentLogFilter all = new DeploymentLogFilter(null, null, null);
+        assertEquals(4, columnStore.count(all));
+        assertEquals(-1, columnStore.append(log(3L, Environment.QA, developer, true)));
+    }
+
+    @Test
+    void append_AcceptsLateCommitsBelowTheHighestIdAndRejectsRepeats() {
+        DeploymentLogFilter all = new DeploymentLogFilter(null, null, null);
+
+        assertTrue(columnStore.append(log(17L, Environment.QA, developer, true)) >= 0);
+        assertTrue(columnStore.append(log(16L, Environment.QA, developer, true)) >= 0, "committed after 17");
+        assertEquals(-1, columnStore.append(log(16L, Environment.QA, developer, true)));
+        assertEquals(-1, columnStore.append(log(17L, Environment.QA, developer, true)));
+        assertEquals(7, columnStore.count(all));
+    }
+
+    private static ResultSet row(long id) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("id")).thenReturn(id);
+        when(rs.getTimestamp("deployment_timestamp")).thenReturn(Timestamp.valueOf(LocalDateTime.now()));
+        when(rs.getLong("release_id")).thenReturn(1L);
+        when(rs.getLong("deployed_by")).thenReturn(1L);
+        when(rs.getString("environment")).thenReturn("QA");
+        when(rs.getBoolean("success")).thenReturn(true);
+        return rs;
+    }
+
+    private DeploymentLog log(Long id, Environment environment, User deployedBy, boolean success) {
+        DeploymentLog log = new DeploymentLog(testRelease, environment, deployedBy, success);
+        log.setId(id);
+        return log;
+    }
+
+    private void append(Long id, Environment environment, User deployedBy, boolean success) {
+        columnStore.append(log(id, environment, deployedBy, success));
+    }
+}
@@ -0,0 +1,128 @@
+package com.releasetracker.analytics;
+
+import com.releasetracker.model.DeploymentAction;
+import com.releasetracker.model.DeploymentLog;
+import com.releasetracker.model.DeploymentSketch;
+import com.releasetracker.model.Environment;
+import com.releasetracker.model.Release;
+import com.releasetracker.model.User;
+import com.releasetracker.model.UserRole;
+import com.releasetracker.repository.DeploymentSketchRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeploymentSketchServiceTest {
+
+    @Mock
+    private DeploymentSketchRepository deploymentSketchRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void flushThenLoad_RestoresTheSameSummaries() {
+        when(deploymentSketchRepository.save(any(DeploymentSketch.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        DeploymentSketchService service = new DeploymentSketchService(deploymentSketchRepository, jdbcTemplate, 30);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 40; i++) {
+            service.recordDeployment(log(i % 8, i % 3, i % 2 == 0 ? Environment.QA : Environment.UAT, now.minusHours(i % 5)));
+            service.recordDwell(Environment.QA, now, 60_000L * (i + 1));
+        }
+        LocalDate today = now.toLocalDate();
+        SketchSummary before = service.summarize(null, today.minusDays(1), today);
+
+        assertTrue(service.flush() > 0);
+        ArgumentCaptor<DeploymentSketch> saved = ArgumentCaptor.forClass(DeploymentSketch.class);
+        verify(deploymentSketchRepository, atLeastOnce()).save(saved.capture());
+        when(deploymentSketchRepository.findByDayGreaterThanEqual(today.minusDays(29))).thenReturn(saved.getAllValues());
+        DeploymentSketchService restored = new DeploymentSketchService(deploymentSketchRepository, jdbcTemplate, 30);
+        restored.load();
+        SketchSummary after = restored.summarize(null, today.minusDays(1), today);
+
+        assertEquals(40, after.getDeployments());
+        assertEquals(before.getDeployments(), after.getDeployments());
+        assertEquals(before.getDistinctReleases(), after.getDistinctReleases());
+        assertEquals(before.getDistinctDeployers(), after.getDistinctDeployers());
+        assertEquals(before.getDwell().getCount(), after.getDwell().getCount());
+        assertEquals(before.getDwell().getP90Millis(), after.getDwell().getP90Millis());
+        assertEquals(before.getLeadTime().getP50Millis(), after.getLeadTime().getP50Millis());
+        assertEquals(0, restored.flush(), "loaded buckets are not dirty");
+    }
+
+    @Test
+    void flush_DropsDaysOutsideTheRetentionWindow() {
+        when(deploymentSketchRepository.save(any(DeploymentSketch.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        DeploymentSketchService service = new DeploymentSketchService(deploymentSketchRepository, jdbcTemplate, 7);
+        LocalDateTime now = LocalDateTime.now();
+        service.recordDeployment(log(1, 1, Environment.QA, now.minusDays(20)));
+        service.recordDeployment(log(2, 1, Environment.QA, now));
+
+        assertEquals(1, service.flush());
+        assertEquals(0, service.summarize(null, now.toLocalDate().minusDays(30), now.toLocalDate().minusDays(8)).getDeployments());
+        assertEquals(1, service.summarize(null, now.toLocalDate().minusDays(30), now.toLocalDate()).getDeployments());
+        verify(deploymentSketchRepository).deleteByDayBefore(now.toLocalDate().minusDays(6));
+    }
+
+    @Test
+    void rebuild_KeepsLiveDaysReadableUntilTheRecountIsSwappedIn() {
+        DeploymentSketchService service = new DeploymentSketchService(deploymentSketchRepository, jdbcTemplate, 30);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+        for (int i = 0; i < 3; i++) {
+            service.recordDeployment(log(i, 1, Environment.QA, now));
+        }
+        long[] seenDuringRebuild = new long[1];
+        doAnswer(invocation -> {
+            seenDuringRebuild[0] = service.summarize(Environment.QA, today, today).getDeployments();
+            service.recordDeployment(log(7, 2, Environment.QA, now));
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(logRow(9, Environment.QA, now));
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT dl.release_id"), any(RowCallbackHandler.class), any(), any(), any(), any());
+
+        service.rebuild(today, today);
+
+        assertEquals(4, seenDuringRebuild[0], "live buckets are not emptied while the tables are read");
+        SketchSummary after = service.summarize(Environment.QA, today, today);
+        assertEquals(2, after.getDeployments(), "recounted row plus the deployment recorded during the rebuild");
+        assertEquals(2, after.getDistinctReleases());
+    }
+
+    private static ResultSet logRow(long releaseId, Environment environment, LocalDateTime at) throws Exception {
+        ResultSet row = mock(ResultSet.class);
+        when(row.getLong("release_id")).thenReturn(releaseId);
+        when(row.getLong("deployed_by")).thenReturn(1L);
+        when(row.getString("action")).thenReturn(DeploymentAction.PROMOTED.name());
+        when(row.getTimestamp("created_at")).thenReturn(Timestamp.valueOf(at.minusHours(1)));
+        when(row.getTimestamp("deployment_timestamp")).thenReturn(Timestamp.valueOf(at));
+        when(row.getString("environment")).thenReturn(environment.name());
+        return row;
+    }
+
+    private static DeploymentLog log(long releaseId, long deployerId, Environment environment, LocalDateTime at) {
+        Release release = new Release("1.0." + releaseId, "Sketch release", null);
+        release.setId(releaseId);
+        release.setCreatedAt(at.minusHours(releaseId + 1));
+        User deployer = new User("sketch" + deployerId, "sketch" + deployerId + "@example.com", "Sketch", UserRole.DEVELOPER);
+        deployer.setId(deployerId);
+        DeploymentLog log = new DeploymentLog(release, DeploymentAction.PROMOTED, environment.getPrevious(), environment, deployer);
+        log.setDeploymentTimestamp(at);
+        return log;
+    }
+}
@@ -0,0 +1,63 @@
+package com.releasetracker.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeploymentSketchesTest {
+
+    @Test
+    void hyperLogLog_EstimatesWithinErrorBoundsAndMerges() {
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        for (long i = 0; i < 60_000; i++) {
+            first.add(i);
+            second.add(i + 30_000);
+        }
+
+        assertEquals(60_000, first.estimate(), 60_000 * 0.05);
+        first.merge(second);
+        assertEquals(90_000, first.estimate(), 90_000 * 0.05);
+    }
+
+    @Test
+    void hyperLogLog_CountsSmallSetsExactlyEnoughAndRoundTrips() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (long i = 1; i <= 25; i++) {
+            sketch.add(i);
+            sketch.add(i);
+        }
+
+        byte[] bytes = sketch.toBytes();
+        HyperLogLog restored = HyperLogLog.fromBytes(bytes);
+
+        assertEquals(25, restored.estimate(), 1);
+        assertTrue(bytes.length < 100, "sparse encoding expected for " + bytes.length + " bytes");
+        assertEquals(0, HyperLogLog.fromBytes(null).estimate());
+    }
+
+    @Test
+    void quantileSketch_StaysWithinRelativeAccuracyAfterMergeAndRoundTrip() {
+        Random random = new Random(7);
+        QuantileSketch first = new QuantileSketch();
+        QuantileSketch second = new QuantileSketch();
+        long[] values = new long[20_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1 + (long) (Math.exp(random.nextDouble() * 18));
+            (i % 2 == 0 ? first : second).record(values[i]);
+        }
+        first.merge(second);
+        QuantileSketch restored = QuantileSketch.fromBytes(first.toBytes());
+        Arrays.sort(values);
+
+        assertEquals(values.length, restored.getCount());
+        for (double quantile : new double[]{0.5, 0.9, 0.99}) {
+            long exact = values[(int) Math.floor(quantile * (values.length - 1))];
+            assertEquals(exact, restored.quantile(quantile), exact * 0.02 + 1);
+        }
+        assertNull(new QuantileSketch().quantile(0.5));
+    }
+}
@@ -0,0 +1,93 @@
+package com.releasetracker.analytics;
+
+import com.releasetracker.event.ReleaseDeletedEvent;
+import com.releasetracker.model.DeploymentAction;
+import com.releasetracker.model.Environment;
+import com.releasetracker.model.EnvironmentDwell;
+import com.releasetracker.repository.EnvironmentDwellRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DwellTimeTrackerTest {
+
+    @Mock
+    private EnvironmentDwellRepository environmentDwellRepository;
+
+    @Mock
+    private DeploymentSketchService sketchService;
+
+    private DwellTimeTracker tracker;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new DwellTimeTracker(environmentDwellRepository, sketchService, 30);
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    void recordExit_FeedsPerEnvironmentHistogramsWithoutQueryingHistory() {
+        when(environmentDwellRepository.save(any(EnvironmentDwell.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        tracker.recordExit(1L, 10L, Environment.QA, now.minusMinutes(10), now, DeploymentAction.PROMOTED);
+        tracker.recordExit(2L, 10L, Environment.QA, now.minusHours(2), now, DeploymentAction.PROMOTED);
+        tracker.recordExit(1L, 10L, Environment.UAT, now.minusDays(2), now, DeploymentAction.ROLLED_BACK);
+
+        Map<Environment, LatencySummary> dwellTimes = tracker.getDwellTimes(null, now.minusDays(1), now);
+
+        assertEquals(2, dwellTimes.get(Environment.QA).getCount());
+        assertEquals(Long.valueOf(15 * 60 * 1000L), dwellTimes.get(Environment.QA).getP50Millis());
+        assertEquals(1, dwellTimes.get(Environment.UAT).getCount());
+        assertEquals(0, dwellTimes.get(Environment.PROD).getCount());
+        verify(environmentDwellRepository, never()).findByExitedAtBetween(any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(sketchService).recordDwell(Environment.UAT, now, 2 * 24 * 60 * 60 * 1000L);
+    }
+
+    @Test
+    void recordExit_SkipsReleasesWithoutKnownEntryTime() {
+        assertNull(tracker.recordExit(1L, 10L, Environment.QA, null, now, DeploymentAction.PROMOTED));
+
+        verify(environmentDwellRepository, never()).save(any(EnvironmentDwell.class));
+    }
+
+    @Test
+    void getDwellTimes_UsesOwnerIndexWhenSlicedByOwner() {
+        EnvironmentDwell dwell = new EnvironmentDwell(1L, 10L, Environment.UAT, now.minusHours(3), now, DeploymentAction.PROMOTED);
+        when(environmentDwellRepository.findByOwnerIdAndExitedAtBetween(10L, now.minusDays(7), now))
+                .thenReturn(Arrays.asList(dwell));
+
+        Map<Environment, LatencySummary> dwellTimes = tracker.getDwellTimes(10L, now.minusDays(7), now);
+
+        assertEquals(1, dwellTimes.get(Environment.UAT).getCount());
+        assertEquals(3 * 60 * 60 * 1000L, dwellTimes.get(Environment.UAT).getMeanMillis());
+        assertEquals(0, dwellTimes.get(Environment.QA).getCount());
+    }
+
+    @Test
+    void onReleaseDeleted_TakesTheReleaseOutOfTheDailyHistograms() {
+        when(environmentDwellRepository.save(any(EnvironmentDwell.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        EnvironmentDwell deleted = tracker.recordExit(1L, 10L, Environment.QA, now.minusHours(3), now, DeploymentAction.PROMOTED);
+        tracker.recordExit(2L, 10L, Environment.QA, now.minusMinutes(3), now, DeploymentAction.PROMOTED);
+        when(environmentDwellRepository.findIncludingDeletedByReleaseId(eq(1L), any(LocalDateTime.class)))
+                .thenReturn(Arrays.asList(deleted));
+
+        tracker.onReleaseDeleted(new ReleaseDeletedEvent(1L));
+
+        LatencySummary qa = tracker.getDwellTimes(null, now.minusDays(1), now).get(Environment.QA);
+        assertEquals(1, qa.getCount());
+        assertEquals(3 * 60 * 1000L, qa.getMeanMillis());
+    }
+}
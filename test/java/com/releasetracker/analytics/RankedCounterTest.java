@@ -0,0 +1,83 @@
+package com.releasetracker.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RankedCounterTest {
+
+    @Test
+    void top_ReturnsKeysByDescendingCount() {
+        RankedCounter<String> counter = new RankedCounter<>();
+        counter.increment("a");
+        counter.increment("b");
+        counter.increment("b");
+        counter.increment("c");
+        counter.increment("c");
+        counter.increment("c");
+
+        List<HotspotCount<String>> top = counter.top(2);
+
+        assertEquals(2, top.size());
+        assertEquals("c", top.get(0).getKey());
+        assertEquals(3, top.get(0).getCount());
+        assertEquals("b", top.get(1).getKey());
+        assertEquals(2, top.get(1).getCount());
+        assertEquals(6, counter.total());
+        assertEquals(3, counter.size());
+    }
+
+    @Test
+    void increment_KeepsFirstKeyToReachACountAheadOnTies() {
+        RankedCounter<Long> counter = new RankedCounter<>();
+        counter.increment(1L);
+        counter.increment(2L);
+        counter.increment(2L);
+        counter.increment(1L);
+
+        List<HotspotCount<Long>> top = counter.top(10);
+
+        assertEquals(2L, top.get(0).getKey());
+        assertEquals(1L, top.get(1).getKey());
+        assertEquals(2, counter.count(1L));
+        assertEquals(0, counter.count(3L));
+    }
+
+    @Test
+    void top_MatchesFullSortAfterManyIncrements() {
+        RankedCounter<Integer> counter = new RankedCounter<>();
+        long[] expected = new long[50];
+        for (int i = 0; i < 5000; i++) {
+            int key = (i * 7919) % 50 < 10 ? i % 5 : (i * 31) % 50;
+            counter.increment(key);
+            expected[key]++;
+        }
+
+        List<HotspotCount<Integer>> top = counter.top(50);
+
+        for (int i = 1; i < top.size(); i++) {
+            assertTrue(top.get(i - 1).getCount() >= top.get(i).getCount());
+        }
+        for (HotspotCount<Integer> entry : top) {
+            assertEquals(expected[entry.getKey()], entry.getCount());
+        }
+    }
+
+    @Test
+    void remove_DropsKeyAndItsCount() {
+        RankedCounter<String> counter = new RankedCounter<>();
+        counter.increment("a");
+        counter.increment("b");
+        counter.increment("b");
+
+        assertEquals(2, counter.remove("b"));
+        assertEquals(0, counter.remove("missing"));
+        counter.increment("a");
+
+        assertEquals(1, counter.top(10).size());
+        assertEquals("a", counter.top(10).get(0).getKey());
+        assertEquals(2, counter.total());
+    }
+}
@@ -0,0 +1,105 @@
+package com.releasetracker.analytics;
+
+import com.releasetracker.event.ReleaseDeletedEvent;
+import com.releasetracker.model.DeploymentLog;
+import com.releasetracker.model.Environment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class RollbackHotspotTrackerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private RollbackHotspotTracker tracker;
+    private LocalDateTime now;
+    private int month;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new RollbackHotspotTracker(jdbcTemplate, 3);
+        now = LocalDateTime.of(2024, 5, 10, 12, 0);
+        month = DeploymentLog.monthOf(now);
+    }
+
+    @Test
+    void recordRollback_RanksReleasesPairsAndOwners() {
+        tracker.recordRollback(1L, 10L, Environment.QA, Environment.DEV, now);
+        tracker.recordRollback(2L, 20L, Environment.PROD, Environment.UAT, now);
+        tracker.recordRollback(2L, 20L, Environment.PROD, Environment.UAT, now);
+        tracker.recordRollback(3L, 20L, Environment.PROD, Environment.UAT, now);
+
+        RollbackHotspots hotspots = tracker.getHotspots(month, 2);
+
+        assertEquals(4, hotspots.getRollbacks());
+        assertEquals(2L, hotspots.getTopReleases().get(0).getKey());
+        assertEquals(2, hotspots.getTopReleases().get(0).getCount());
+        assertEquals(2, hotspots.getTopReleases().size());
+        assertEquals("PROD->UAT", hotspots.getTopEnvironmentPairs().get(0).getKey());
+        assertEquals(3, hotspots.getTopEnvironmentPairs().get(0).getCount());
+        assertEquals(20L, hotspots.getTopOwners().get(0).getKey());
+    }
+
+    @Test
+    void recordRollback_MeasuresTimeSincePromotionIntoTheSameEnvironment() {
+        tracker.recordPromotion(1L, Environment.UAT, Environment.PROD, now);
+        tracker.recordRollback(1L, 10L, Environment.PROD, Environment.UAT, now.plusMinutes(30));
+        tracker.recordRollback(1L, 10L, Environment.UAT, Environment.QA, now.plusMinutes(40));
+
+        LatencySummary latency = tracker.getHotspots(month, 10).getRollbackAfterPromote();
+
+        assertEquals(1, latency.getCount());
+        assertEquals(30 * 60 * 1000L, latency.getMeanMillis());
+        assertEquals(Long.valueOf(60 * 60 * 1000L), latency.getP50Millis());
+        assertEquals(1, tracker.getHotspots(month, 10).getPromotions());
+    }
+
+    @Test
+    void getHotspots_KeepsMonthsSeparateAndDropsExpiredOnes() {
+        tracker.recordRollback(1L, 10L, Environment.QA, Environment.DEV, now.minusMonths(3));
+        tracker.recordRollback(2L, 10L, Environment.QA, Environment.DEV, now.minusMonths(1));
+        tracker.recordRollback(3L, 10L, Environment.QA, Environment.DEV, now);
+
+        assertEquals(3L, tracker.getTopRolledBackReleases(month, 20).get(0).getKey());
+        assertEquals(2L, tracker.getTopRolledBackReleases(DeploymentLog.monthOf(now.minusMonths(1)), 20).get(0).getKey());
+        assertTrue(tracker.getTopRolledBackReleases(DeploymentLog.monthOf(now.minusMonths(3)), 20).isEmpty());
+        assertEquals(0, tracker.getHotspots(DeploymentLog.monthOf(now.minusMonths(3)), 20).getRollbacks());
+    }
+
+    @Test
+    void onReleaseDeleted_DropsTheReleaseFromRankingsAndPendingPromotions() {
+        tracker.recordPromotion(1L, Environment.UAT, Environment.PROD, now);
+        tracker.recordRollback(1L, 10L, Environment.QA, Environment.DEV, now);
+        tracker.recordRollback(1L, 10L, Environment.QA, Environment.DEV, now);
+        tracker.recordRollback(2L, 20L, Environment.QA, Environment.DEV, now);
+
+        tracker.onReleaseDeleted(new ReleaseDeletedEvent(1L));
+        tracker.recordRollback(1L, 10L, Environment.PROD, Environment.UAT, now.plusMinutes(5));
+
+        RollbackHotspots hotspots = tracker.getHotspots(month, 10);
+        assertEquals(2, hotspots.getRollbacks());
+        assertEquals(2L, hotspots.getTopReleases().get(0).getKey());
+        assertEquals(0, hotspots.getRollbackAfterPromote().getCount());
+    }
+
+    @Test
+    void recordPromotion_ForgetsPromotionsOlderThanTheRetentionWindow() {
+        tracker.recordPromotion(1L, Environment.UAT, Environment.PROD, now.minusMonths(4));
+        tracker.recordPromotion(2L, Environment.UAT, Environment.PROD, now.minusMonths(1));
+        tracker.recordPromotion(3L, Environment.UAT, Environment.PROD, now);
+
+        tracker.recordRollback(1L, 10L, Environment.PROD, Environment.UAT, now.plusMinutes(1));
+        tracker.recordRollback(2L, 10L, Environment.PROD, Environment.UAT, now.plusMinutes(1));
+
+        assertEquals(1, tracker.getHotspots(month, 10).getRollbackAfterPromote().getCount());
+    }
+}
@@ -0,0 +1,94 @@
+package com.releasetracker.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.releasetracker.model.*;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BinaryFormatBenchmarkTest {
+
+    private static final int ROWS = 10_000;
+    private static final int ITERATIONS = 50;
+
+    @Test
+    void compareBinaryAndJson() throws Exception {
+        List<DeploymentLog> logs = deploymentLogs();
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        ObjectWriter jsonWriter = objectMapper.writerFor(DeploymentLog[].class);
+        ObjectReader jsonReader = objectMapper.readerFor(DeploymentLog[].class);
+        DeploymentLog[] array = logs.toArray(new DeploymentLog[0]);
+        ReleaseTrackerBinaryFormat format = new ReleaseTrackerBinaryFormat();
+
+        byte[] json = jsonWriter.writeValueAsBytes(array);
+        byte[] binary = format.encodeList(logs);
+        for (int i = 0; i < ITERATIONS; i++) {
+            jsonWriter.writeValueAsBytes(array);
+            jsonReader.readValue(json);
+            format.decodeList(format.encodeList(logs));
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            jsonWriter.writeValueAsBytes(array);
+        }
+        long jsonEncode = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            jsonReader.readValue(json);
+        }
+        long jsonDecode = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            format.encodeList(logs);
+        }
+        long binaryEncode = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            format.decodeList(binary);
+        }
+        long binaryDecode = System.nanoTime() - start;
+
+        report("json", json.length, jsonEncode, jsonDecode);
+        report("binary", binary.length, binaryEncode, binaryDecode);
+    }
+
+    private List<DeploymentLog> deploymentLogs() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            User user = new User("bench.user" + i, "bench.user" + i + "@example.com", "Bench User " + i, UserRole.DEVELOPER);
+            user.setId((long) i + 1);
+            users.add(user);
+        }
+        List<Release> releases = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Release release = new Release("5." + (i / 100) + "." + (i % 100), "Binary benchmark release " + i, users.get(i % users.size()));
+            release.setId((long) i + 1);
+            release.setCurrentEnvironment(Environment.values()[i % Environment.values().length]);
+            releases.add(release);
+        }
+        List<DeploymentLog> logs = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            DeploymentLog log = new DeploymentLog(releases.get(i % releases.size()), Environment.QA,
+                    users.get(i % users.size()), i % 10 != 0, "Release promoted from DEV to QA");
+            log.setId((long) i + 1);
+            logs.add(log);
+        }
+        return logs;
+    }
+
+    private void report(String name, int bytes, long encodeNanos, long decodeNanos) {
+        System.out.printf("%-8s %,12d bytes  encode %,8.2f ms  decode %,8.2f ms  (%d rows)%n",
+                name, bytes, encodeNanos / 1e6 / ITERATIONS, decodeNanos / 1e6 / ITERATIONS, ROWS);
+    }
+}
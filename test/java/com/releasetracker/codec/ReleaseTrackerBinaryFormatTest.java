@@ -0,0 +1,116 @@
+package com.releasetracker.codec;
+
+import com.releasetracker.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReleaseTrackerBinaryFormatTest {
+
+    private final ReleaseTrackerBinaryFormat format = new ReleaseTrackerBinaryFormat();
+
+    private User testUser;
+    private Release testRelease;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User("john.doe", "john@example.com", "John Doe", UserRole.DEVELOPER);
+        testUser.setId(1L);
+
+        testRelease = new Release("1.0.0", "Initial release", testUser);
+        testRelease.setId(10L);
+        testRelease.setCurrentEnvironment(Environment.QA);
+        testRelease.setCreatedAt(LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123_456_000));
+    }
+
+    @Test
+    void releases_RoundTrip() {
+        List<?> decoded = format.decodeList(format.encodeList(Collections.singletonList(testRelease)));
+
+        assertEquals(1, decoded.size());
+        Release release = (Release) decoded.get(0);
+        assertEquals(10L, release.getId());
+        assertEquals("1.0.0", release.getVersionNumber());
+        assertEquals(Environment.QA, release.getCurrentEnvironment());
+        assertEquals(testRelease.getCreatedAt(), release.getCreatedAt());
+        assertNull(release.getUpdatedAt());
+        assertEquals("john.doe", release.getOwner().getUsername());
+        assertEquals(UserRole.DEVELOPER, release.getOwner().getRole());
+    }
+
+    @Test
+    void deploymentLogs_ShareRepeatedReleasesAndUsers() {
+        List<DeploymentLog> logs = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            DeploymentLog log = new DeploymentLog(testRelease, Environment.QA, testUser, i % 2 == 0, "Release promoted from DEV to QA");
+            log.setId((long) i + 1);
+            logs.add(log);
+        }
+        DeploymentLog anonymous = new DeploymentLog(testRelease, Environment.DEV, null, false, null);
+        anonymous.setId(101L);
+        logs.add(anonymous);
+
+        byte[] payload = format.encodeList(logs);
+        List<?> decoded = format.decodeList(payload);
+
+        assertTrue(payload.length < logs.size() * 24, "payload was " + payload.length + " bytes");
+        DeploymentLog first = (DeploymentLog) decoded.get(0);
+        DeploymentLog second = (DeploymentLog) decoded.get(1);
+        assertSame(first.getRelease(), second.getRelease());
+        assertSame(first.getDeployedBy(), first.getRelease().getOwner());
+        assertEquals("Release promoted from DEV to QA", second.getNotes());
+        assertFalse(second.isSuccess());
+        assertEquals(logs.get(1).getDeploymentTimestamp().withNano(logs.get(1).getDeploymentTimestamp().getNano() / 1_000 * 1_000),
+                second.getDeploymentTimestamp());
+
+        DeploymentLog last = (DeploymentLog) decoded.get(100);
+        assertNull(last.getDeployedBy());
+        assertNull(last.getNotes());
+        assertEquals(Environment.DEV, last.getEnvironment());
+    }
+
+    @Test
+    void emptyList_RoundTrips() {
+        assertTrue(format.decodeList(format.encodeList(Collections.emptyList())).isEmpty());
+    }
+
+    @Test
+    void encodeList_RejectsUnsupportedElements() {
+        assertFalse(format.supports(String.class));
+        assertThrows(IllegalArgumentException.class, () -> format.encodeList(Arrays.asList("a", "b")));
+    }
+
+    @Test
+    void decodeList_ReadsVersionTwoReleases() {
+        testRelease.setEnvironmentEnteredAt(null);
+        byte[] current = format.encodeList(Collections.singletonList(testRelease));
+        // v2 ended the release record before the entry time, which a null timestamp writes as one byte
+        byte[] payload = Arrays.copyOf(current, current.length - 1);
+        payload[1] = 2;
+
+        Release release = (Release) format.decodeList(payload).get(0);
+        assertEquals("1.0.0", release.getVersionNumber());
+        assertEquals(testRelease.getCreatedAt(), release.getCreatedAt());
+        assertEquals("john.doe", release.getOwner().getUsername());
+    }
+
+    @Test
+    void decodeList_RejectsNewerVersions() {
+        byte[] payload = format.encodeList(Collections.emptyList());
+        payload[1] = 4;
+
+        assertThrows(IllegalArgumentException.class, () -> format.decodeList(payload));
+    }
+
+    @Test
+    void decodeList_RejectsForeignPayload() {
+        assertThrows(IllegalArgumentException.class, () -> format.decodeList(new byte[] {'[', ']'}));
+    }
+}
@@ -0,0 +1,56 @@
+package com.releasetracker.config;
+
+import com.releasetracker.instrumentation.DataSourceMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AdaptivePoolSizerTest {
+
+    private static final long MS = 1_000_000;
+
+    private AdaptivePoolSizer sizer;
+
+    @BeforeEach
+    void setUp() {
+        sizer = new AdaptivePoolSizer(new DataSourceMetrics(), 2, 20, 2.0);
+    }
+
+    @Test
+    void nextSize_GrowsTowardsLittlesLawEstimate() {
+        // 1000 connections/s held for 5 ms keep 5 busy; with headroom the target is 7, reached in steps of two
+        assertEquals(6, sizer.nextSize(4, 10, 10_000, 10_000 * 100_000L, 10_000, 50_000, 0));
+        assertEquals(7, sizer.nextSize(6, 10, 10_000, 10_000 * 100_000L, 10_000, 50_000, 0));
+        assertEquals(7, sizer.nextSize(7, 10, 10_000, 10_000 * 100_000L, 10_000, 50_000, 0));
+    }
+
+    @Test
+    void nextSize_ShrinksOneStepAtATime_WhenIdle() {
+        assertEquals(9, sizer.nextSize(10, 10, 0, 0, 0, 0, 0));
+        assertEquals(9, sizer.nextSize(10, 10, 100, 100 * 100_000L, 100, 100, 0));
+    }
+
+    @Test
+    void nextSize_Grows_WhenCallersQueueAtStableLatency() {
+        assertEquals(10, sizer.nextSize(8, 10, 20_000, 20_000 * 5 * MS, 20_000, 160_000, 0));
+        assertEquals(12, sizer.nextSize(10, 10, 20_000, 20_000 * 5 * MS, 20_000, 160_000, 2));
+        assertEquals(8.0, sizer.getBaselineHoldMillis(), 0.001);
+    }
+
+    @Test
+    void nextSize_Shrinks_WhenHoldTimeRisesWhileCallersQueue() {
+        assertEquals(9, sizer.nextSize(10, 10, 20_000, 20_000 * 100_000L, 20_000, 40_000, 0));
+        assertEquals(7, sizer.nextSize(8, 10, 20_000, 20_000 * 5 * MS, 20_000, 200_000, 3));
+        assertEquals(2.1, sizer.getBaselineHoldMillis(), 0.001);
+    }
+
+    @Test
+    void nextSize_StaysWithinConfiguredBounds() {
+        AdaptivePoolSizer bounded = new AdaptivePoolSizer(new DataSourceMetrics(), 2, 5, 2.0);
+
+        assertEquals(5, bounded.nextSize(5, 10, 100_000, 100_000 * 5 * MS, 100_000, 1_000_000, 10));
+        assertEquals(2, bounded.nextSize(2, 10, 0, 0, 0, 0, 0));
+        assertEquals(5, bounded.nextSize(40, 10, 0, 0, 0, 0, 0));
+    }
+}
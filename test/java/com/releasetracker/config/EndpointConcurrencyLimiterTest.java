@@ -0,0 +1,51 @@
+package com.releasetracker.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EndpointConcurrencyLimiterTest {
+
+    private EndpointConcurrencyLimiter limiter;
+    private HandlerMethod handler;
+    private String endpoint;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        limiter = new EndpointConcurrencyLimiter(1, 0);
+        handler = new HandlerMethod(this, getClass().getDeclaredMethod("setUp"));
+        endpoint = EndpointConcurrencyLimiter.endpointOf(handler);
+    }
+
+    @Test
+    void preHandle_RejectsWith503_WhenEndpointIsAtLimit() throws Exception {
+        MockHttpServletRequest first = new MockHttpServletRequest();
+        MockHttpServletRequest second = new MockHttpServletRequest();
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+
+        assertTrue(limiter.preHandle(first, new MockHttpServletResponse(), handler));
+        assertFalse(limiter.preHandle(second, rejected, handler));
+        assertEquals(503, rejected.getStatus());
+        assertEquals("1", rejected.getHeader("Retry-After"));
+
+        limiter.afterCompletion(first, new MockHttpServletResponse(), handler, null);
+        assertTrue(limiter.preHandle(second, new MockHttpServletResponse(), handler));
+    }
+
+    @Test
+    void preHandle_KeepsSinglePermit_AcrossAsyncRedispatch() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        assertTrue(limiter.preHandle(request, new MockHttpServletResponse(), handler));
+        assertTrue(limiter.preHandle(request, new MockHttpServletResponse(), handler));
+        assertEquals(0, limiter.availablePermits(endpoint));
+
+        limiter.afterCompletion(request, new MockHttpServletResponse(), handler, null);
+        limiter.afterCompletion(request, new MockHttpServletResponse(), handler, null);
+        assertEquals(1, limiter.availablePermits(endpoint));
+    }
+}
@@ -0,0 +1,118 @@
+package com.releasetracker.config;
+
+import com.releasetracker.ReleaseTrackerApplication;
+import com.releasetracker.model.Release;
+import com.releasetracker.model.User;
+import com.releasetracker.model.UserRole;
+import com.releasetracker.repository.ReleaseRepository;
+import com.releasetracker.repository.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ExecutionModeBenchmarkTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.connections", 2_000);
+    private static final int RELEASES = 200;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(30))
+            .build();
+
+    @Test
+    void comparePlatformAndVirtualThreads() {
+        for (String mode : Arrays.asList("platform", "virtual")) {
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ReleaseTrackerApplication.class)
+                    .profiles("test")
+                    .properties("server.port=0", "releasetracker.execution.mode=" + mode)
+                    .run()) {
+                seed(context);
+                String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+                String effectiveMode = context.getBean(ExecutionMode.class).isVirtual() ? "virtual" : "platform";
+
+                run(baseUrl + "/api/releases", CONCURRENCY / 10);
+                for (String path : Arrays.asList("/api/releases", "/api/deployment-logs", "/api/users")) {
+                    run(baseUrl + path, CONCURRENCY).print(effectiveMode + " " + path);
+                }
+            }
+        }
+    }
+
+    private void seed(ConfigurableApplicationContext context) {
+        User user = context.getBean(UserRepository.class)
+                .save(new User("bench.mode", "bench.mode@example.com", "Bench Mode", UserRole.DEVELOPER));
+        List<Release> releases = new ArrayList<>();
+        for (int i = 0; i < RELEASES; i++) {
+            releases.add(new Release("6." + (i / 100) + "." + (i % 100), "Execution mode benchmark " + i, user));
+        }
+        context.getBean(ReleaseRepository.class).saveAll(releases);
+    }
+
+    private Result run(String url, int requests) {
+        URI uri = URI.create(url);
+        long[] latencies = new long[requests];
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        List<CompletableFuture<?>> inFlight = new ArrayList<>(requests);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            int slot = i;
+            long sent = System.nanoTime();
+            HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+            inFlight.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .handle((response, error) -> {
+                        latencies[slot] = System.nanoTime() - sent;
+                        if (error != null) {
+                            failed.incrementAndGet();
+                        } else if (response.statusCode() == 503) {
+                            rejected.incrementAndGet();
+                        } else if (response.statusCode() != 200) {
+                            failed.incrementAndGet();
+                        }
+                        return null;
+                    }));
+        }
+        CompletableFuture.allOf(inFlight.toArray(new CompletableFuture[0])).join();
+        return new Result(requests, System.nanoTime() - start, latencies, rejected.get(), failed.get());
+    }
+
+    private static class Result {
+        private final int requests;
+        private final long elapsedNanos;
+        private final long[] latencies;
+        private final int rejected;
+        private final int failed;
+
+        Result(int requests, long elapsedNanos, long[] latencies, int rejected, int failed) {
+            this.requests = requests;
+            this.elapsedNanos = elapsedNanos;
+            this.latencies = latencies;
+            this.rejected = rejected;
+            this.failed = failed;
+        }
+
+        void print(String name) {
+            Arrays.sort(latencies);
+            System.out.printf("%-32s %,8.0f req/s  p50 %,8.1f ms  p99 %,8.1f ms  503 %d  failed %d%n",
+                    name, requests / (elapsedNanos / 1e9),
+                    latencies[requests / 2] / 1e6, latencies[(int) (requests * 0.99)] / 1e6,
+                    rejected, failed);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.releasetracker.config;
+
+import com.releasetracker.ReleaseTrackerApplication;
+import com.releasetracker.model.Environment;
+import com.releasetracker.model.Release;
+import com.releasetracker.model.User;
+import com.releasetracker.model.UserRole;
+import com.releasetracker.repository.ReleaseRepository;
+import com.releasetracker.repository.UserRepository;
+import com.releasetracker.service.DeploymentLogService;
+import com.releasetracker.service.ReleaseService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class FileStorageBenchmarkTest {
+
+    private static final int RELEASES = Integer.getInteger("benchmark.releases", 1_000);
+    private static final int LOGS = Integer.getInteger("benchmark.logs", 10_000);
+    private static final String[] WRITE_DELAYS = System.getProperty("benchmark.write-delays", "0,500,2000").split(",");
+
+    @TempDir
+    Path storageRoot;
+
+    @Test
+    void comparePromoteAndLogThroughputPerWriteDelay() {
+        for (String writeDelay : WRITE_DELAYS) {
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ReleaseTrackerApplication.class)
+                    .profiles("prod")
+                    .properties("server.port=0",
+                            "releasetracker.storage.dir=" + storageRoot.resolve("delay-" + writeDelay.trim()),
+                            "releasetracker.storage.write-delay-ms=" + writeDelay.trim(),
+                            "releasetracker.instrumentation.enabled=false")
+                    .run()) {
+                User user = context.getBean(UserRepository.class)
+                        .save(new User("bench.storage", "bench.storage@example.com", "Bench Storage", UserRole.DEVELOPER));
+                List<Release> releases = new ArrayList<>();
+                for (int i = 0; i < RELEASES; i++) {
+                    releases.add(new Release("5." + (i / 1000) + "." + (i % 1000), "Storage benchmark " + i, user));
+                }
+                releases = context.getBean(ReleaseRepository.class).saveAll(releases);
+
+                ReleaseService releaseService = context.getBean(ReleaseService.class);
+                long start = System.nanoTime();
+                for (int stage = 0; stage < 3; stage++) {
+                    for (Release release : releases) {
+                        releaseService.promoteRelease(release.getId(), user);
+                    }
+                }
+                report("write-delay=" + writeDelay.trim() + " promote", RELEASES * 3, System.nanoTime() - start);
+
+                DeploymentLogService deploymentLogService = context.getBean(DeploymentLogService.class);
+                start = System.nanoTime();
+                for (int i = 0; i < LOGS; i++) {
+                    deploymentLogService.logDeployment(releases.get(i % RELEASES), Environment.PROD, user, i % 10 != 0);
+                }
+                report("write-delay=" + writeDelay.trim() + " logDeployment", LOGS, System.nanoTime() - start);
+            }
+        }
+    }
+
+    private static void report(String name, int operations, long nanos) {
+        System.out.printf("%-36s %,8d ops  %,10.0f ops/s  %,8.1f us/op%n",
+                name, operations, operations / (nanos / 1e9), nanos / 1e3 / operations);
+    }
+}
@@ -0,0 +1,121 @@
+package com.releasetracker.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.PropertyPlaceholderHelper;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Kills the application, booted with the prod profile, while it is promoting releases, and checks on reopen that
+ * every surviving release environment matches its surviving deployment log history.
+ */
+class FileStorageCrashRecoveryTest {
+
+    private static final long COMMITS_BEFORE_KILL = 500;
+
+    @TempDir
+    Path storageDir;
+
+    @Test
+    void writeOnCommit_KeepsEveryAcknowledgedTransition() throws Exception {
+        String url = prodUrl(0);
+
+        long acknowledged = runAndKill(0);
+
+        long transitions = transitions(url);
+        assertTrue(transitions >= acknowledged, transitions + " logged transitions after " + acknowledged + " acknowledged");
+        assertEquals(0, releasesOutOfStepWithTheirLogs(url));
+        assertEquals(0, orphans(url));
+    }
+
+    @Test
+    void delayedWrites_RecoverToLastConsistentTransition() throws Exception {
+        String url = prodUrl(2000);
+
+        long acknowledged = runAndKill(2000);
+
+        // Up to write-delay-ms of acknowledged transitions may be lost, but never a release move without its log
+        assertTrue(transitions(url) <= acknowledged + 1);
+        assertEquals(0, releasesOutOfStepWithTheirLogs(url));
+        assertEquals(0, orphans(url));
+
+        // The recovered database takes new writes and stays consistent
+        runAndKill(2000);
+        assertEquals(0, releasesOutOfStepWithTheirLogs(url));
+        assertEquals(0, orphans(url));
+    }
+
+    // The JDBC URL of the prod profile, with the storage directory and write delay substituted
+    private String prodUrl(int writeDelayMillis) throws Exception {
+        Properties prod = new Properties();
+        try (InputStream input = getClass().getResourceAsStream("/application-prod.properties")) {
+            prod.load(input);
+        }
+        prod.setProperty("releasetracker.storage.dir", storageDir.toString());
+        prod.setProperty("releasetracker.storage.write-delay-ms", String.valueOf(writeDelayMillis));
+        return new PropertyPlaceholderHelper("${", "}").replacePlaceholders(prod.getProperty("spring.datasource.url"), prod);
+    }
+
+    private long runAndKill(int writeDelayMillis) throws Exception {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        Process worker = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                FileStorageCrashWorker.class.getName(), storageDir.toString(), String.valueOf(writeDelayMillis))
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        long acknowledged = 0;
+        try (BufferedReader output = new BufferedReader(new InputStreamReader(worker.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            // Application logging shares stdout with the worker's progress lines
+            while (acknowledged < COMMITS_BEFORE_KILL && (line = output.readLine()) != null) {
+                if (line.startsWith(FileStorageCrashWorker.COMMITTED)) {
+                    acknowledged = Long.parseLong(line.substring(FileStorageCrashWorker.COMMITTED.length()).trim());
+                }
+            }
+        } finally {
+            worker.destroyForcibly();
+            assertTrue(worker.waitFor(30, TimeUnit.SECONDS), "worker did not exit");
+        }
+        assertEquals(COMMITS_BEFORE_KILL, acknowledged, "worker stopped before it was killed");
+        return acknowledged;
+    }
+
+    private long transitions(String url) throws Exception {
+        return queryLong(url, "SELECT COUNT(*) FROM deployment_logs WHERE action IN ('PROMOTED', 'ROLLED_BACK')");
+    }
+
+    // Every release starts in DEV, so its environment is the number of promotions minus rollbacks it has logged
+    private long releasesOutOfStepWithTheirLogs(String url) throws Exception {
+        return queryLong(url, "SELECT COUNT(*) FROM releases r WHERE r.deleted_at IS NULL AND " +
+                "(SELECT COUNT(*) FROM deployment_logs l WHERE l.release_id = r.id AND l.action = 'PROMOTED') - " +
+                "(SELECT COUNT(*) FROM deployment_logs l WHERE l.release_id = r.id AND l.action = 'ROLLED_BACK') <> " +
+                "CASE r.current_environment WHEN 'DEV' THEN 0 WHEN 'QA' THEN 1 WHEN 'UAT' THEN 2 ELSE 3 END");
+    }
+
+    private long orphans(String url) throws Exception {
+        return queryLong(url, "SELECT COUNT(*) FROM deployment_logs l LEFT JOIN releases r ON r.id = l.release_id " +
+                "WHERE r.id IS NULL");
+    }
+
+    private long queryLong(String url, String sql) throws Exception {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "password");
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(sql)) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+}
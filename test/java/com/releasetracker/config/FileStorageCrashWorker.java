@@ -0,0 +1,59 @@
+package com.releasetracker.config;
+
+import com.releasetracker.ReleaseTrackerApplication;
+import com.releasetracker.model.Environment;
+import com.releasetracker.model.Release;
+import com.releasetracker.model.User;
+import com.releasetracker.model.UserRole;
+import com.releasetracker.repository.ReleaseRepository;
+import com.releasetracker.repository.UserRepository;
+import com.releasetracker.service.ReleaseService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Child process for {@link FileStorageCrashRecoveryTest}: boots the application with the prod profile against the
+ * given storage directory and write delay, then promotes a few releases through ReleaseService one transition at a
+ * time (rolling each back once it reaches PROD), printing how many transitions have committed, until it is killed.
+ */
+public class FileStorageCrashWorker {
+
+    static final String COMMITTED = "committed ";
+
+    private static final int RELEASES = 4;
+
+    public static void main(String[] args) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ReleaseTrackerApplication.class)
+                .profiles("prod")
+                .properties("releasetracker.storage.dir=" + args[0],
+                        "releasetracker.storage.write-delay-ms=" + args[1],
+                        "server.port=0")
+                .run();
+        ReleaseService releaseService = context.getBean(ReleaseService.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        ReleaseRepository releaseRepository = context.getBean(ReleaseRepository.class);
+
+        User user = userRepository.findByUsername("crash.worker")
+                .orElseGet(() -> userRepository.save(new User("crash.worker", "crash.worker@example.com", "Crash Worker", UserRole.DEVELOPER)));
+        // Versions must stay unique across restarts against the same storage
+        long run = releaseRepository.count();
+        List<Release> releases = new ArrayList<>();
+        for (int i = 0; i < RELEASES; i++) {
+            releases.add(releaseService.createRelease(new Release(run + "." + i + ".0", "Crash test release " + i, user)));
+        }
+
+        for (long committed = 1; ; committed++) {
+            int index = (int) (committed % RELEASES);
+            Release release = releases.get(index);
+            Release transitioned = release.getCurrentEnvironment() == Environment.PROD
+                    ? releaseService.rollbackRelease(release.getId(), user)
+                    : releaseService.promoteRelease(release.getId(), user);
+            releases.set(index, transitioned);
+            System.out.println(COMMITTED + committed);
+            System.out.flush();
+        }
+    }
+}
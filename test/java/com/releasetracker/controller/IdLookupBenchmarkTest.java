@@ -0,0 +1,197 @@
+package com.releasetracker.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.releasetracker.instrumentation.LatencyHistogram;
+import com.releasetracker.model.Release;
+import com.releasetracker.model.User;
+import com.releasetracker.model.UserRole;
+import com.releasetracker.repository.DeploymentLogRepository;
+import com.releasetracker.repository.ReleaseRepository;
+import com.releasetracker.repository.UserRepository;
+import com.releasetracker.service.DeploymentLogService;
+import com.releasetracker.service.ReleaseService;
+import com.releasetracker.service.UserService;
+import com.releasetracker.support.SyntheticDataGenerator;
+import com.releasetracker.support.SyntheticDataset;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * Compares the ID-based lookups and row-count deletes behind the owner, release-log and user-log endpoints with the
+ * load-then-query sequences they replaced. Each call runs in a read-only transaction and serializes its result the way
+ * the controller would, so lazy loads triggered by Jackson are part of the measured latency.
+ */
+@SpringBootTest(properties = {"spring.datasource.url=jdbc:h2:mem:id-lookup-bench",
+        "releasetracker.instrumentation.enabled=false"})
+@ActiveProfiles("test")
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class IdLookupBenchmarkTest {
+
+    private static final int USERS = Integer.getInteger("benchmark.users", 200);
+    private static final int RELEASES = Integer.getInteger("benchmark.releases", 5_000);
+    private static final long DEPLOYMENT_LOGS = Long.getLong("benchmark.deployment-logs", 50_000L);
+    private static final int WARMUP = Integer.getInteger("benchmark.warmup", 2_000);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 10_000);
+    private static final int DELETES = Integer.getInteger("benchmark.deletes", 2_000);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReleaseRepository releaseRepository;
+
+    @Autowired
+    private DeploymentLogRepository deploymentLogRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ReleaseService releaseService;
+
+    @Autowired
+    private DeploymentLogService deploymentLogService;
+
+    @Test
+    void compareIdLookupsWithLoadThenQuery() {
+        SyntheticDataset dataset = new SyntheticDataGenerator(jdbcTemplate, transactionManager, 7L)
+                .generate(USERS, RELEASES, DEPLOYMENT_LOGS);
+        System.out.printf("dataset: %s%n", dataset);
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        compare("GET /api/releases/owner/{ownerId}", dataset.getUserIds(), readOnly,
+                id -> releaseRepository.findByOwnerOrderByCreatedAtDesc(userService.getUserById(id)),
+                id -> releaseService.getReleasesByOwnerId(id));
+        compare("GET /api/deployment-logs/release/{id}", dataset.getReleaseIds(), readOnly,
+                id -> deploymentLogRepository.findByReleaseOrderByDeploymentTimestampDesc(releaseService.getReleaseById(id)),
+                id -> deploymentLogService.getDeploymentLogsByReleaseId(id));
+        compare("GET /api/deployment-logs/user/{id}", dataset.getUserIds(), readOnly,
+                id -> deploymentLogRepository.findByDeployedByOrderByDeploymentTimestampDesc(userService.getUserById(id)),
+                id -> deploymentLogService.getDeploymentLogsByUserId(id));
+
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+        User owner = userRepository.findById(dataset.getUserIds()[0]).orElseThrow();
+        compareDeletes("DELETE /api/releases/{id}", readWrite, createReleases(owner, "900"), createReleases(owner, "901"),
+                id -> {
+                    if (releaseRepository.existsById(id)) {
+                        releaseRepository.deleteById(id);
+                    }
+                },
+                id -> releaseService.deleteRelease(id));
+        compareDeletes("DELETE /api/users/{id}", readWrite, createUsers("legacy"), createUsers("rowcount"),
+                id -> {
+                    if (userRepository.existsById(id)) {
+                        userRepository.deleteById(id);
+                    }
+                },
+                id -> userService.deleteUser(id));
+    }
+
+    private void compare(String endpoint, long[] ids, TransactionTemplate readOnly,
+                         LongFunction<Object> loadThenQuery, LongFunction<Object> byId) {
+        SplittableRandom random = new SplittableRandom(11L);
+        LatencyHistogram legacy = new LatencyHistogram();
+        LatencyHistogram single = new LatencyHistogram();
+        for (int i = 0; i < WARMUP + ITERATIONS; i++) {
+            long id = ids[random.nextInt(ids.length)];
+            boolean measured = i >= WARMUP;
+            // Alternate which variant runs first so neither consistently benefits from the other warming the cache
+            if ((i & 1) == 0) {
+                time(legacy, measured, () -> serialize(readOnly, () -> loadThenQuery.apply(id)));
+                time(single, measured, () -> serialize(readOnly, () -> byId.apply(id)));
+            } else {
+                time(single, measured, () -> serialize(readOnly, () -> byId.apply(id)));
+                time(legacy, measured, () -> serialize(readOnly, () -> loadThenQuery.apply(id)));
+            }
+        }
+        report(endpoint, legacy, single);
+    }
+
+    private void compareDeletes(String endpoint, TransactionTemplate readWrite, List<Long> legacyIds, List<Long> singleIds,
+                                LongConsumer existsThenDelete, LongConsumer deleteByRowCount) {
+        LatencyHistogram legacy = new LatencyHistogram();
+        LatencyHistogram single = new LatencyHistogram();
+        for (int i = 0; i < legacyIds.size(); i++) {
+            long legacyId = legacyIds.get(i);
+            long singleId = singleIds.get(i);
+            time(legacy, true, () -> readWrite.executeWithoutResult(status -> existsThenDelete.accept(legacyId)));
+            time(single, true, () -> readWrite.executeWithoutResult(status -> deleteByRowCount.accept(singleId)));
+        }
+        report(endpoint, legacy, single);
+    }
+
+    private void serialize(TransactionTemplate readOnly, Supplier<Object> lookup) {
+        readOnly.executeWithoutResult(status -> {
+            try {
+                objectMapper.writeValueAsBytes(lookup.get());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private List<Long> createReleases(User owner, String major) {
+        List<Release> releases = new ArrayList<>();
+        for (int i = 0; i < DELETES; i++) {
+            releases.add(new Release(major + "." + (i / 1000) + "." + (i % 1000), "Delete benchmark " + i, owner));
+        }
+        List<Long> ids = new ArrayList<>();
+        for (Release release : releaseRepository.saveAll(releases)) {
+            ids.add(release.getId());
+        }
+        return ids;
+    }
+
+    private List<Long> createUsers(String prefix) {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < DELETES; i++) {
+            users.add(new User("bench." + prefix + i, "bench." + prefix + i + "@example.com", "Bench " + i, UserRole.DEVELOPER));
+        }
+        List<Long> ids = new ArrayList<>();
+        for (User user : userRepository.saveAll(users)) {
+            ids.add(user.getId());
+        }
+        return ids;
+    }
+
+    private static void time(LatencyHistogram histogram, boolean measured, Runnable call) {
+        long start = System.nanoTime();
+        call.run();
+        if (measured) {
+            histogram.record((System.nanoTime() - start) / 1_000);
+        }
+    }
+
+    private static void report(String endpoint, LatencyHistogram legacy, LatencyHistogram single) {
+        System.out.printf("%-40s load-then-query p50 %,6d us p99 %,7d us | by id p50 %,6d us p99 %,7d us | p50 %.2fx%n",
+                endpoint, legacy.valueAtPercentile(50), legacy.valueAtPercentile(99),
+                single.valueAtPercentile(50), single.valueAtPercentile(99),
+                (double) legacy.valueAtPercentile(50) / Math.max(1, single.valueAtPercentile(50)));
+    }
+}
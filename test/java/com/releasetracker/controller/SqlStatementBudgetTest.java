@@ -0,0 +1,289 @@
+package com.releasetracker.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.releasetracker.model.Environment;
+import com.releasetracker.model.Release;
+import com.releasetracker.model.User;
+import com.releasetracker.model.UserRole;
+import com.releasetracker.service.DeploymentLogService;
+import com.releasetracker.service.ReleaseService;
+import com.releasetracker.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+/**
+ * Calls every endpoint of the user, release and deployment log controllers against seeded data and fails when one
+ * issues more SQL statements or reads more rows than sql-budgets.csv allows. Counts come from the Server-Timing
+ * header; the per-endpoint report is written to target/sql-statement-report.txt.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:sql-budget")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SqlStatementBudgetTest {
+
+    private static final Pattern DB_TIMING = Pattern.compile("desc=\"(\\d+) queries, (\\d+) rows\"");
+    private static final List<Class<?>> CONTROLLERS =
+            Arrays.asList(UserController.class, ReleaseController.class, DeploymentLogController.class);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ReleaseService releaseService;
+
+    @Autowired
+    private DeploymentLogService deploymentLogService;
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+    private final Map<String, Measurement> measurements = new LinkedHashMap<>();
+
+    @Test
+    void everyEndpoint_StaysWithinItsStatementAndRowBudget() throws Exception {
+        List<User> users = seedUsers("budget.user");
+        List<Release> releases = seedReleases(users, "5.0.");
+        User user = users.get(0);
+        Release release = releases.get(2);
+
+        measure("GET /api/users/{id}", 200, get("/api/users/{id}", user.getId()));
+        measure("GET /api/users/username/{username}", 200, get("/api/users/username/{username}", user.getUsername()));
+        measure("GET /api/releases/{id}", 200, get("/api/releases/{id}", release.getId()));
+        measure("GET /api/releases/{id}/events", 200, get("/api/releases/{id}/events", release.getId()));
+        // Event sourcing is off in the test profile, so there is no state to project
+        measure("GET /api/releases/{id}/state", 404, get("/api/releases/{id}/state", release.getId()));
+        measure("GET /api/releases/version/{versionNumber}", 200, get("/api/releases/version/{versionNumber}", release.getVersionNumber()));
+        String from = LocalDateTime.now().minusDays(1).toString();
+        String to = LocalDateTime.now().plusDays(1).toString();
+        measure("GET /api/deployment-logs/archive/partitions", 200, get("/api/deployment-logs/archive/partitions"));
+        measure("GET /api/deployment-logs/archive", 200, get("/api/deployment-logs/archive").param("startDate", from).param("endDate", to));
+        for (Map.Entry<String, RequestBuilder> list : listRequests(users, release).entrySet()) {
+            measure(list.getKey(), 200, list.getValue());
+        }
+
+        // Twice the users, releases and logs: a list that loads relations lazily issues more statements
+        List<User> moreUsers = seedUsers("budget.more");
+        seedReleases(moreUsers, "5.1.");
+        Map<String, Measurement> largerSeed = new LinkedHashMap<>();
+        for (Map.Entry<String, RequestBuilder> list : listRequests(users, release).entrySet()) {
+            largerSeed.put(list.getKey(), record(list.getKey(), 200, mockMvc.perform(list.getValue()).andReturn()));
+        }
+
+        long createdUserId = idOf(measure("POST /api/users", 201, post("/api/users").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"budget.new\",\"email\":\"budget.new@example.com\",\"fullName\":\"Budget New\",\"role\":\"DEVELOPER\"}")));
+        measure("PUT /api/users/{id}", 200, put("/api/users/{id}", createdUserId).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"budget.new\",\"email\":\"budget.new@example.com\",\"fullName\":\"Budget Renamed\",\"role\":\"DEVELOPER\"}"));
+        long createdReleaseId = idOf(measure("POST /api/releases", 201, post("/api/releases").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"versionNumber\":\"5.9.0\",\"description\":\"Budget release\",\"owner\":{\"id\":" + user.getId() + "}}")));
+        measure("PUT /api/releases/{id}", 200, put("/api/releases/{id}", createdReleaseId).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"versionNumber\":\"5.9.0\",\"description\":\"Budget release updated\",\"owner\":{\"id\":" + user.getId() + "}}"));
+
+        Long target = releases.get(0).getId();
+        Long actor = users.get(1).getId();
+        measure("POST /api/releases/{id}/promote", 200, post("/api/releases/{id}/promote", target).param("promotedById", actor.toString()));
+        measure("POST /api/releases/{id}/rollback", 200, post("/api/releases/{id}/rollback", target).param("rolledBackById", actor.toString()));
+        measure("POST /api/deployment-logs/log", 201, post("/api/deployment-logs/log").param("releaseId", target.toString())
+                .param("environment", "DEV").param("deployedById", actor.toString()).param("success", "true"));
+        measure("POST /api/deployment-logs", 201, post("/api/deployment-logs").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"release\":{\"id\":" + target + "},\"environment\":\"DEV\",\"deployedBy\":{\"id\":" + actor
+                        + "},\"success\":true,\"notes\":\"Budget\"}"));
+        measure("DELETE /api/releases/{id}", 200, delete("/api/releases/{id}", createdReleaseId));
+        // The release just deleted is either still pending or already purged by the background purger
+        measure("GET /api/releases/purges", 200, get("/api/releases/purges"));
+        measure("DELETE /api/users/{id}", 200, delete("/api/users/{id}", createdUserId));
+
+        Map<String, int[]> budgets = loadBudgets();
+        writeReport(budgets);
+
+        List<Executable> checks = new ArrayList<>();
+        for (Measurement larger : largerSeed.values()) {
+            Measurement smaller = measurements.get(larger.route);
+            checks.add(() -> assertEquals(smaller.statements, larger.statements,
+                    larger.route + " issued " + smaller.statements + " statements for the seed and " + larger.statements
+                            + " for twice the data"));
+        }
+        for (String route : controllerRoutes()) {
+            checks.add(() -> assertTrue(budgets.containsKey(route), route + " has no entry in sql-budgets.csv"));
+            checks.add(() -> assertTrue(measurements.containsKey(route), route + " is not exercised"));
+        }
+        for (Measurement measurement : measurements.values()) {
+            int[] budget = budgets.get(measurement.route);
+            checks.add(() -> assertEquals(measurement.expectedStatus, measurement.status, measurement.route + " status"));
+            if (budget != null) {
+                checks.add(() -> assertTrue(measurement.statements <= budget[0],
+                        measurement.route + " issued " + measurement.statements + " statements, budget " + budget[0]));
+                checks.add(() -> assertTrue(measurement.rows <= budget[1],
+                        measurement.route + " read " + measurement.rows + " rows, budget " + budget[1]));
+            }
+        }
+        assertAll(checks);
+    }
+
+    // Collection endpoints, measured again after the seed is doubled
+    private Map<String, RequestBuilder> listRequests(List<User> users, Release release) {
+        String from = LocalDateTime.now().minusDays(1).toString();
+        String to = LocalDateTime.now().plusDays(1).toString();
+        Map<String, RequestBuilder> requests = new LinkedHashMap<>();
+        requests.put("GET /api/users", get("/api/users"));
+        requests.put("GET /api/users/role/{role}", get("/api/users/role/{role}", UserRole.DEVELOPER));
+        requests.put("GET /api/releases", get("/api/releases"));
+        requests.put("GET /api/releases/environment/{environment}", get("/api/releases/environment/{environment}", Environment.QA));
+        requests.put("GET /api/releases/owner/{ownerId}", get("/api/releases/owner/{ownerId}", users.get(1).getId()));
+        requests.put("GET /api/deployment-logs", get("/api/deployment-logs"));
+        requests.put("GET /api/deployment-logs/release/{releaseId}", get("/api/deployment-logs/release/{releaseId}", release.getId()));
+        requests.put("GET /api/deployment-logs/environment/{environment}", get("/api/deployment-logs/environment/{environment}", Environment.QA));
+        requests.put("GET /api/deployment-logs/user/{userId}", get("/api/deployment-logs/user/{userId}", users.get(0).getId()));
+        requests.put("GET /api/deployment-logs/release/{releaseId}/environment/{environment}",
+                get("/api/deployment-logs/release/{releaseId}/environment/{environment}", release.getId(), Environment.QA));
+        requests.put("GET /api/deployment-logs/action/{action}", get("/api/deployment-logs/action/{action}", "PROMOTED"));
+        requests.put("GET /api/deployment-logs/transitions", get("/api/deployment-logs/transitions").param("from", "DEV").param("to", "QA"));
+        requests.put("GET /api/deployment-logs/failed", get("/api/deployment-logs/failed"));
+        requests.put("GET /api/deployment-logs/successful", get("/api/deployment-logs/successful"));
+        requests.put("GET /api/deployment-logs/filter", get("/api/deployment-logs/filter"));
+        requests.put("GET /api/deployment-logs/date-range", get("/api/deployment-logs/date-range").param("startDate", from).param("endDate", to));
+        requests.put("GET /api/deployment-logs/recent", get("/api/deployment-logs/recent"));
+        return requests;
+    }
+
+    // 3 users, 6 releases owned round-robin and promoted 0-2 times, plus one deployment per release: 12 logs
+    private List<User> seedUsers(String prefix) {
+        List<User> users = new ArrayList<>();
+        UserRole[] roles = {UserRole.DEVELOPER, UserRole.ADMIN, UserRole.DEVELOPER};
+        for (int i = 0; i < roles.length; i++) {
+            users.add(userService.createUser(new User(prefix + i, prefix + i + "@example.com", "Budget User " + i, roles[i])));
+        }
+        return users;
+    }
+
+    private List<Release> seedReleases(List<User> users, String versionPrefix) {
+        List<Release> releases = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            Release release = releaseService.createRelease(new Release(versionPrefix + i, "Budget seed " + i, users.get(i % 3)));
+            for (int promotion = 0; promotion < i % 3; promotion++) {
+                release = releaseService.promoteRelease(release.getId(), users.get((i + 1) % 3));
+            }
+            deploymentLogService.logDeployment(release, release.getCurrentEnvironment(), users.get(i % 3), i % 2 == 0, "Budget seed");
+            releases.add(release);
+        }
+        return releases;
+    }
+
+    private MvcResult measure(String route, int expectedStatus, RequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+        measurements.put(route, record(route, expectedStatus, result));
+        return result;
+    }
+
+    private static Measurement record(String route, int expectedStatus, MvcResult result) {
+        String timing = result.getResponse().getHeader("Server-Timing");
+        Matcher db = DB_TIMING.matcher(timing != null ? timing : "");
+        assertTrue(db.find(), route + " did not report SQL timing: " + timing);
+        return new Measurement(route, expectedStatus, result.getResponse().getStatus(),
+                Integer.parseInt(db.group(1)), Long.parseLong(db.group(2)));
+    }
+
+    private long idOf(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    private Set<String> controllerRoutes() {
+        Set<String> routes = new TreeSet<>();
+        handlerMapping.getHandlerMethods().forEach((info, handler) -> {
+            if (!CONTROLLERS.contains(handler.getBeanType())) {
+                return;
+            }
+            for (String pattern : info.getPatternValues()) {
+                for (RequestMethod method : info.getMethodsCondition().getMethods()) {
+                    if (!pattern.endsWith("/stream")) {
+                        routes.add(method + " " + pattern);
+                    }
+                }
+            }
+        });
+        return routes;
+    }
+
+    private Map<String, int[]> loadBudgets() throws Exception {
+        Map<String, int[]> budgets = new LinkedHashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                getClass().getResourceAsStream("/sql-budgets.csv"), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#") || line.startsWith("method,")) {
+                    continue;
+                }
+                String[] fields = line.split(",");
+                budgets.put(fields[0] + " " + fields[1], new int[] {Integer.parseInt(fields[2]), Integer.parseInt(fields[3])});
+            }
+        }
+        return budgets;
+    }
+
+    private void writeReport(Map<String, int[]> budgets) throws Exception {
+        StringBuilder report = new StringBuilder(String.format("%-72s %6s %12s %12s%n", "endpoint", "status", "statements", "rows"));
+        for (Measurement measurement : measurements.values()) {
+            int[] budget = budgets.getOrDefault(measurement.route, new int[] {-1, -1});
+            boolean over = measurement.statements > budget[0] || measurement.rows > budget[1];
+            report.append(String.format("%-72s %6d %5d / %-4d %5d / %-4d%s%n", measurement.route, measurement.status,
+                    measurement.statements, budget[0], measurement.rows, budget[1], over ? "  OVER BUDGET" : ""));
+        }
+        Path file = Paths.get("target", "sql-statement-report.txt");
+        Files.createDirectories(file.getParent());
+        Files.write(file, report.toString().getBytes(StandardCharsets.UTF_8));
+        System.out.print(report);
+    }
+
+    private static final class Measurement {
+        private final String route;
+        private final int expectedStatus;
+        private final int status;
+        private final int statements;
+        private final long rows;
+
+        private Measurement(String route, int expectedStatus, int status, int statements, long rows) {
+            this.route = route;
+            this.expectedStatus = expectedStatus;
+            this.status = status;
+            this.statements = statements;
+            this.rows = rows;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.releasetracker.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.releasetracker.event.DeploymentLogsImportedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkImportServiceTest {
+
+    private static final String LOGS_CSV = "versionNumber,environment,deployedBy,deploymentTimestamp,success,notes\n" +
+            "1.0.0,QA,john.doe,2021-03-04T10:15:30,true,first\n" +
+            "1.0.0,PROD,ghost,2021-03-05T10:15:30,true,unknown user\n" +
+            "1.0.0,PROD,john.doe,2021-03-06 08:00:00,false,\n";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private BulkImportService bulkImportService;
+    private final List<Object[]> insertedRows = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        bulkImportService = new BulkImportService(jdbcTemplate, transactionManager, new ObjectMapper(), eventPublisher, 2, 2);
+
+        when(jdbcTemplate.queryForList("SELECT id, username FROM users"))
+                .thenReturn(Collections.singletonList(row("id", 1L, "username", "john.doe")));
+        when(jdbcTemplate.queryForList("SELECT id, version_number FROM releases"))
+                .thenReturn(Collections.singletonList(row("id", 10L, "version_number", "1.0.0")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        bulkImportService.shutdown();
+    }
+
+    @Test
+    void importDeploymentLogs_ResolvesNaturalKeysAndKeepsTimestamps() throws Exception {
+        captureInserts();
+
+        ImportReport report = bulkImportService.importDeploymentLogs(csv(LOGS_CSV), ImportFormat.CSV, 0);
+
+        assertTrue(report.isCompleted());
+        assertEquals(3, report.getRowsRead());
+        assertEquals(2, report.getRowsImported());
+        assertEquals(1, report.getRowsRejected());
+        assertEquals(3, report.getNextOffset());
+        assertEquals("row 1: Unknown user: ghost", report.getErrors().get(0));
+
+        assertEquals(2, insertedRows.size());
+        Object[] first = insertedRows.get(0);
+        assertEquals(10L, first[0]);
+        assertEquals("QA", first[1]);
+        assertEquals(1L, first[2]);
+        assertEquals(Timestamp.valueOf(LocalDateTime.of(2021, 3, 4, 10, 15, 30)), first[3]);
+        assertEquals(202103, first[4]);
+        assertEquals(Timestamp.valueOf(LocalDateTime.of(2021, 3, 6, 8, 0)), insertedRows.get(1)[3]);
+        assertNull(insertedRows.get(1)[5]);
+        assertEquals(false, insertedRows.get(1)[6]);
+
+        ArgumentCaptor<DeploymentLogsImportedEvent> event = ArgumentCaptor.forClass(DeploymentLogsImportedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(2, event.getValue().getRowsImported());
+        assertEquals(LocalDate.of(2021, 3, 4), event.getValue().getFirstDay());
+        assertEquals(LocalDate.of(2021, 3, 6), event.getValue().getLastDay());
+    }
+
+    @Test
+    void importDeploymentLogs_ResumesFromOffset() throws Exception {
+        captureInserts();
+
+        ImportReport report = bulkImportService.importDeploymentLogs(csv(LOGS_CSV), ImportFormat.CSV, 2);
+
+        assertEquals(2, report.getStartOffset());
+        assertEquals(1, report.getRowsRead());
+        assertEquals(1, report.getRowsImported());
+        assertEquals(1, insertedRows.size());
+        assertEquals("PROD", insertedRows.get(0)[1]);
+    }
+
+    @Test
+    void importReleases_RejectsExistingInvalidAndMalformedRows() throws Exception {
+        captureInserts();
+        String ndjson = "{\"versionNumber\":\"1.0.0\",\"description\":\"dup\",\"owner\":\"john.doe\"}\n" +
+                "{\"versionNumber\":\"2.0\",\"description\":\"bad\",\"owner\":\"john.doe\"}\n" +
+                "{\"versionNumber\":\"3.0.0\",\"description\":\n" +
+                "{\"versionNumber\":\"2.0.0\",\"description\":\"Imported\",\"owner\":\"john.doe\"," +
+                "\"currentEnvironment\":\"UAT\",\"createdAt\":\"2019-01-01T00:00:00\"}\n";
+
+        ImportReport report = bulkImportService.importReleases(csv(ndjson), ImportFormat.NDJSON, 0);
+
+        assertEquals(1, report.getRowsImported());
+        assertEquals(3, report.getRowsRejected());
+        Object[] inserted = insertedRows.get(0);
+        assertEquals("2.0.0", inserted[0]);
+        assertEquals("UAT", inserted[3]);
+        assertEquals(Timestamp.valueOf(LocalDateTime.of(2019, 1, 1, 0, 0)), inserted[4]);
+        assertEquals(inserted[4], inserted[5]);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    private void captureInserts() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> batch = invocation.getArgument(1);
+            insertedRows.addAll(batch);
+            return new int[batch.size()];
+        });
+    }
+
+    private static InputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Map<String, Object> row(String k1, Object v1, String k2, Object v2) {
+        Map<String, Object> row = new HashMap<>();
+        row.put(k1, v1);
+        row.put(k2, v2);
+        return row;
+    }
+}
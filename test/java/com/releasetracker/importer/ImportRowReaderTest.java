@@ -0,0 +1,86 @@
+package com.releasetracker.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImportRowReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void csv_HandlesQuotedSeparatorsQuotesAndLineBreaks() throws Exception {
+        String csv = "\uFEFFversionNumber,description,owner\n" +
+                "1.0.0,\"Fixes, \"\"hotfix\"\" and\nmore\",john.doe\n" +
+                "\n" +
+                "1.0.1,Plain,jane.doe\n";
+
+        try (ImportRowReader reader = new ImportRowReader(new StringReader(csv), ImportFormat.CSV, objectMapper)) {
+            ImportRow first = reader.next();
+            assertEquals(0, first.getOffset());
+            assertEquals("1.0.0", first.get("versionNumber"));
+            assertEquals("Fixes, \"hotfix\" and\nmore", first.get("description"));
+
+            ImportRow second = reader.next();
+            assertEquals(1, second.getOffset());
+            assertEquals("jane.doe", second.get("owner"));
+
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void ndjson_ReadsObjectsAndNulls() throws Exception {
+        String ndjson = "{\"versionNumber\":\"1.0.0\",\"success\":true,\"notes\":null}\n" +
+                "{\"versionNumber\":\"1.0.1\",\"success\":false}\n";
+
+        try (ImportRowReader reader = new ImportRowReader(new StringReader(ndjson), ImportFormat.NDJSON, objectMapper)) {
+            ImportRow first = reader.next();
+            assertEquals("true", first.get("success"));
+            assertNull(first.get("notes"));
+            assertEquals("false", reader.next().get("success"));
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void ndjson_RejectsMalformedLineAndKeepsReading() throws Exception {
+        String ndjson = "{\"versionNumber\":\"1.0.0\"}\n" +
+                "{\"versionNumber\":\"1.0.1\",\n" +
+                "{\"versionNumber\":\"1.0.2\"}\n";
+
+        try (ImportRowReader reader = new ImportRowReader(new StringReader(ndjson), ImportFormat.NDJSON, objectMapper)) {
+            assertNull(reader.next().getError());
+            ImportRow malformed = reader.next();
+            assertEquals(1, malformed.getOffset());
+            assertTrue(malformed.getError().startsWith("Malformed JSON"));
+            ImportRow last = reader.next();
+            assertEquals(2, last.getOffset());
+            assertEquals("1.0.2", last.get("versionNumber"));
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void skip_ResumesAtOffset() throws Exception {
+        String csv = "versionNumber\n1.0.0\n1.0.1\n1.0.2\n";
+
+        try (ImportRowReader reader = new ImportRowReader(new StringReader(csv), ImportFormat.CSV, objectMapper)) {
+            assertEquals(2, reader.skip(2));
+            ImportRow row = reader.next();
+            assertEquals(2, row.getOffset());
+            assertEquals("1.0.2", row.get("versionNumber"));
+        }
+    }
+
+    @Test
+    void require_ThrowsException_WhenFieldBlank() throws Exception {
+        try (ImportRowReader reader = new ImportRowReader(new StringReader("owner,notes\n ,x\n"), ImportFormat.CSV, objectMapper)) {
+            ImportRow row = reader.next();
+            assertThrows(IllegalArgumentException.class, () -> row.require("owner"));
+        }
+    }
+}
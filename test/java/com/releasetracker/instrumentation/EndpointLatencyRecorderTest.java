@@ -0,0 +1,94 @@
+package com.releasetracker.instrumentation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EndpointLatencyRecorderTest {
+
+    private static final long NOW = TimeUnit.MINUTES.toMillis(29_000_000);
+    private static final String ROUTE = "GET /api/releases/{id}";
+
+    private EndpointLatencyRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        recorder = new EndpointLatencyRecorder(60, 300, 0.99, 3);
+    }
+
+    @Test
+    void report_ComputesPercentilesErrorRateAndBurnRate() {
+        for (int i = 0; i < 98; i++) {
+            recorder.record(ROUTE, "GET", "/api/releases/1", 200, false, TimeUnit.MILLISECONDS.toNanos(10), NOW);
+        }
+        recorder.record(ROUTE, "GET", "/api/releases/2", 200, false, TimeUnit.MILLISECONDS.toNanos(900), NOW);
+        recorder.record(ROUTE, "GET", "/api/releases/3", 500, true, TimeUnit.MILLISECONDS.toNanos(20), NOW);
+
+        EndpointStatsReport report = recorder.report(5, 10, NOW);
+
+        assertEquals(1, report.getEndpoints().size());
+        EndpointLatencyStats stats = report.getEndpoints().get(0);
+        assertEquals(ROUTE, stats.getRoute());
+        assertEquals(100, stats.getCount());
+        assertEquals(1, stats.getErrorCount());
+        assertEquals(0.01, stats.getErrorRate(), 1e-9);
+        assertEquals(10, stats.getP50Millis(), 0.3);
+        assertEquals(900, stats.getMaxMillis(), 0.001);
+        assertEquals(2, stats.getSloViolations());
+        assertEquals(2.0, stats.getBurnRate(), 1e-9);
+    }
+
+    @Test
+    void report_OnlyIncludesMinutesInsideTheWindow() {
+        long tenMinutesAgo = NOW - TimeUnit.MINUTES.toMillis(10);
+        recorder.record(ROUTE, "GET", "/api/releases/1", 200, false, TimeUnit.MILLISECONDS.toNanos(10), tenMinutesAgo);
+        recorder.record(ROUTE, "GET", "/api/releases/1", 200, false, TimeUnit.MILLISECONDS.toNanos(10), NOW);
+
+        assertEquals(1, recorder.report(5, 10, NOW).getEndpoints().get(0).getCount());
+        assertEquals(2, recorder.report(15, 10, NOW).getEndpoints().get(0).getCount());
+    }
+
+    @Test
+    void record_DropsSlotsOlderThanRetainedWindow() {
+        recorder.record(ROUTE, "GET", "/api/releases/1", 200, false, TimeUnit.MILLISECONDS.toNanos(10), NOW);
+        long nextLap = NOW + TimeUnit.MINUTES.toMillis(60);
+        recorder.record(ROUTE, "GET", "/api/releases/1", 200, false, TimeUnit.MILLISECONDS.toNanos(10), nextLap);
+
+        assertEquals(1, recorder.report(60, 10, nextLap).getEndpoints().get(0).getCount());
+    }
+
+    @Test
+    void report_ListsSlowestRequestsFirst() {
+        for (int millis = 1; millis <= 10; millis++) {
+            recorder.record(ROUTE, "GET", "/api/releases/" + millis, 200, false, TimeUnit.MILLISECONDS.toNanos(millis), NOW);
+        }
+
+        EndpointStatsReport report = recorder.report(5, 2, NOW);
+
+        assertEquals(2, report.getSlowestRequests().size());
+        assertEquals("/api/releases/10", report.getSlowestRequests().get(0).getUri());
+        assertEquals("/api/releases/9", report.getSlowestRequests().get(1).getUri());
+    }
+
+    @Test
+    void interceptor_RecordsControllerRequestsUnderTheirRoutePattern() throws Exception {
+        EndpointLatencyInterceptor interceptor = new EndpointLatencyInterceptor(recorder, getClass().getPackage().getName());
+        HandlerMethod handler = new HandlerMethod(this, getClass().getDeclaredMethod("setUp"));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/releases/7");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/releases/{id}");
+
+        interceptor.preHandle(request, new MockHttpServletResponse(), handler);
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), handler, new IllegalStateException());
+
+        EndpointLatencyStats stats = recorder.report(1, 10).getEndpoints().get(0);
+        assertEquals(ROUTE, stats.getRoute());
+        assertEquals(1, stats.getErrorCount());
+    }
+}
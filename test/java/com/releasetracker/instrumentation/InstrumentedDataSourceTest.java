@@ -0,0 +1,149 @@
+package com.releasetracker.instrumentation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InstrumentedDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement preparedStatement;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @AfterEach
+    void tearDown() {
+        RequestMetrics.end();
+    }
+
+    @Test
+    void statementsInsideRequest_AreCountedWithTheirSql() throws Exception {
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("select * from releases where id = ?")).thenReturn(preparedStatement);
+        when(connection.createStatement()).thenReturn(statement);
+        RequestMetrics metrics = RequestMetrics.begin(10);
+
+        Connection wrapped = new InstrumentedDataSource(target).getConnection();
+        wrapped.prepareStatement("select * from releases where id = ?").executeQuery();
+        wrapped.createStatement().execute("delete from deployment_logs");
+
+        assertEquals(2, metrics.getSqlCount());
+        assertEquals("select * from releases where id = ?", metrics.getStatements().get(0));
+        assertEquals("delete from deployment_logs", metrics.getStatements().get(1));
+        verify(preparedStatement).executeQuery();
+        verify(statement).execute("delete from deployment_logs");
+    }
+
+    @Test
+    void rowsReadInsideRequest_AreCounted() throws Exception {
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("select * from users")).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        RequestMetrics metrics = RequestMetrics.begin(10);
+
+        ResultSet rows = new InstrumentedDataSource(target).getConnection().prepareStatement("select * from users").executeQuery();
+        while (rows.next()) {
+            rows.getString(1);
+        }
+
+        assertEquals(1, metrics.getSqlCount());
+        assertEquals(3, metrics.getRowsFetched());
+    }
+
+    @Test
+    void statementsOutsideRequest_AreOnlyForwarded() throws Exception {
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("select 1")).thenReturn(preparedStatement);
+
+        new InstrumentedDataSource(target).getConnection().prepareStatement("select 1").executeQuery();
+
+        assertNull(RequestMetrics.current());
+        verify(preparedStatement).executeQuery();
+    }
+
+    @Test
+    void close_ClosesThePoolBehindTheWrapper() throws Exception {
+        DataSource pool = mock(DataSource.class, withSettings().extraInterfaces(Closeable.class));
+
+        new InstrumentedDataSource(pool).close();
+
+        verify((Closeable) pool).close();
+    }
+
+    @Test
+    void close_WithNonCloseableTarget_DoesNothing() throws Exception {
+        new InstrumentedDataSource(target).close();
+
+        verifyNoInteractions(target);
+    }
+
+    @Test
+    void loggedStatements_AreCappedButCountIsNot() {
+        RequestMetrics metrics = RequestMetrics.begin(2);
+
+        for (int i = 0; i < 5; i++) {
+            metrics.recordStatement("select " + i, 1_000_000);
+        }
+
+        assertEquals(5, metrics.getSqlCount());
+        assertEquals(2, metrics.getStatements().size());
+        assertEquals(5_000_000, metrics.getSqlNanos());
+    }
+
+    @Test
+    void toServerTiming_ReportsDbSerializationAndCache() {
+        RequestMetrics metrics = RequestMetrics.begin(10);
+        metrics.recordStatement("select 1", 2_500_000);
+        metrics.recordSerialization(1_200_000);
+        RequestMetrics.recordCacheHit();
+        RequestMetrics.recordCacheHit();
+        RequestMetrics.recordCacheMiss();
+
+        String header = metrics.toServerTiming();
+
+        assertTrue(header.startsWith("db;dur=2.5;desc=\"1 queries, 0 rows\", ser;dur=1.2, cache;desc=\"2 hits 1 misses\", app;dur="));
+    }
+
+    @Test
+    void toServerTiming_WhenBodyStreamedBeforeSerializationFinished_OmitsSer() {
+        RequestMetrics metrics = RequestMetrics.begin(10);
+        metrics.recordSerialization(1_200_000);
+        metrics.skipSerializationTiming();
+
+        String header = metrics.toServerTiming();
+
+        assertTrue(header.startsWith("db;dur=0.0;desc=\"0 queries, 0 rows\", cache;desc=\"0 hits 0 misses\", app;dur="));
+    }
+
+    @Test
+    void cacheCounters_WithoutRequest_AreIgnored() {
+        RequestMetrics.recordCacheHit();
+        RequestMetrics.recordCacheMiss();
+
+        assertNull(RequestMetrics.current());
+    }
+}
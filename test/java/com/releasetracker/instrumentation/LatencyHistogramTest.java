@@ -0,0 +1,46 @@
+package com.releasetracker.instrumentation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void valueAtPercentile_IsWithinThreePercentOfExactValue() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 100_000; micros++) {
+            histogram.record(micros);
+        }
+
+        assertEquals(100_000, histogram.getTotalCount());
+        assertEquals(50_000, histogram.valueAtPercentile(50), 50_000 * 0.03);
+        assertEquals(99_000, histogram.valueAtPercentile(99), 99_000 * 0.03);
+        assertEquals(99_900, histogram.valueAtPercentile(99.9), 99_900 * 0.03);
+        assertEquals(100_000, histogram.valueAtPercentile(100));
+    }
+
+    @Test
+    void bucketBoundaries_CoverEveryValueExactlyOnce() {
+        for (long micros = 0; micros < 1 << 20; micros++) {
+            int index = LatencyHistogram.indexOf(micros);
+            assertTrue(LatencyHistogram.lowestValueAt(index) <= micros);
+            assertTrue(LatencyHistogram.highestValueAt(index) >= micros);
+        }
+    }
+
+    @Test
+    void add_MergesCountsAndMaximum() {
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        first.record(10);
+        second.record(5_000);
+        second.record(Long.MAX_VALUE);
+
+        first.add(second);
+
+        assertEquals(3, first.getTotalCount());
+        assertEquals((1L << 27) - 1, first.getMaxMicros());
+        assertEquals(2, first.countAbove(1_000));
+    }
+}
@@ -0,0 +1,82 @@
+package com.releasetracker.instrumentation;
+
+import com.releasetracker.model.Environment;
+import com.releasetracker.model.Release;
+import com.releasetracker.repository.DeploymentLogRepository;
+import com.releasetracker.repository.ReleaseRepository;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RepositoryQueryRecorderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void invoke_EmitsEventWithEnvironmentAndRowCount_WhileRecording() throws Throwable {
+        RepositoryQueryRecorder recorder = new RepositoryQueryRecorder(ReleaseRepository.class, true);
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        when(invocation.getMethod()).thenReturn(ReleaseRepository.class.getMethod("findByCurrentEnvironment", Environment.class));
+        when(invocation.getArguments()).thenReturn(new Object[] {Environment.QA});
+        when(invocation.proceed()).thenReturn(Arrays.asList(new Release(), new Release()));
+
+        Path file = tempDir.resolve("queries.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(RepositoryQueryFlightEvent.class).withThreshold(java.time.Duration.ZERO);
+            recording.start();
+            recorder.invoke(invocation);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        RecordedEvent event = events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.releasetracker.RepositoryQuery"))
+                .findFirst().orElseThrow(AssertionError::new);
+        assertEquals("ReleaseRepository", event.getString("repository"));
+        assertEquals("findByCurrentEnvironment", event.getString("method"));
+        assertEquals("QA", event.getString("environments"));
+        assertEquals(2, event.getLong("rowCount"));
+    }
+
+    @Test
+    void invoke_OnlyProceeds_WhenNotRecording() throws Throwable {
+        RepositoryQueryRecorder recorder = new RepositoryQueryRecorder(ReleaseRepository.class, true);
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        when(invocation.proceed()).thenReturn(Optional.empty());
+
+        assertEquals(Optional.empty(), recorder.invoke(invocation));
+        verify(invocation, never()).getMethod();
+    }
+
+    @Test
+    void releaseIdOf_UsesIdArgumentsOfReleaseRepositoryAndReleaseIdParams() throws Exception {
+        RepositoryQueryRecorder releases = new RepositoryQueryRecorder(ReleaseRepository.class, true);
+        RepositoryQueryRecorder logs = new RepositoryQueryRecorder(DeploymentLogRepository.class, false);
+
+        assertEquals(7, releases.releaseIdOf(ReleaseRepository.class.getMethod("findWithOwnerById", Long.class), new Object[] {7L}));
+        assertEquals(9, logs.releaseIdOf(DeploymentLogRepository.class.getMethod("findByReleaseIdAndEnvironment", Long.class, Environment.class),
+                new Object[] {9L, Environment.DEV}));
+        assertEquals(0, logs.releaseIdOf(DeploymentLogRepository.class.getMethod("findById", Object.class), new Object[] {9L}));
+    }
+
+    @Test
+    void rowCountOf_CountsModifyingResultsButNotScalars() throws Exception {
+        assertEquals(12, RepositoryQueryRecorder.rowCountOf(
+                DeploymentLogRepository.class.getMethod("deletePartitionChunkUpTo", Integer.class, Long.class, int.class), 12));
+        assertEquals(-1, RepositoryQueryRecorder.rowCountOf(ReleaseRepository.class.getMethod("count"), 12L));
+        assertEquals(1, RepositoryQueryRecorder.rowCountOf(ReleaseRepository.class.getMethod("findById", Object.class), Optional.of(new Release())));
+    }
+}
@@ -0,0 +1,80 @@
+package com.releasetracker.journal;
+
+import com.releasetracker.model.*;
+import com.releasetracker.repository.DeploymentLogRepository;
+import com.releasetracker.repository.ReleaseRepository;
+import com.releasetracker.repository.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Path;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class DeploymentJournalBenchmarkTest {
+
+    private static final int WARMUP = 2_000;
+    private static final int OPERATIONS = 20_000;
+
+    @Autowired
+    private DeploymentLogRepository deploymentLogRepository;
+
+    @Autowired
+    private ReleaseRepository releaseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @TempDir
+    Path journalDirectory;
+
+    @Test
+    void compareAppendThroughput() {
+        User user = userRepository.save(new User("bench.journal", "bench.journal@example.com", "Bench Journal", UserRole.DEVELOPER));
+        Release release = releaseRepository.save(new Release("9.0.0", "Journal benchmark", user));
+
+        DeploymentJournal journal = new DeploymentJournal(true, journalDirectory.toString(), 64 * 1024 * 1024);
+        journal.open();
+        try {
+            runJournal(journal, release, user, WARMUP);
+            long journalNanos = runJournal(journal, release, user, OPERATIONS);
+
+            runRepository(release, user, WARMUP);
+            long repositoryNanos = runRepository(release, user, OPERATIONS);
+
+            report("journal.append", journalNanos);
+            report("deploymentLogRepository.save", repositoryNanos);
+        } finally {
+            journal.close();
+        }
+    }
+
+    private long runJournal(DeploymentJournal journal, Release release, User user, int operations) {
+        long start = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            journal.append(JournalRecord.of(new DeploymentLog(release, Environment.QA, user, true, "benchmark " + i)));
+        }
+        journal.sync();
+        return System.nanoTime() - start;
+    }
+
+    private long runRepository(Release release, User user, int operations) {
+        long start = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            deploymentLogRepository.save(new DeploymentLog(release, Environment.QA, user, true, "benchmark " + i));
+        }
+        return System.nanoTime() - start;
+    }
+
+    private void report(String name, long nanos) {
+        System.out.printf("%-32s %,12.0f ops/s  %,8.2f us/op%n",
+                name, OPERATIONS / (nanos / 1e9), nanos / 1e3 / OPERATIONS);
+    }
+}
@@ -0,0 +1,86 @@
+package com.releasetracker.journal;
+
+import com.releasetracker.model.DeploymentLog;
+import com.releasetracker.model.Environment;
+import com.releasetracker.model.Release;
+import com.releasetracker.model.User;
+import com.releasetracker.model.UserRole;
+import com.releasetracker.repository.DeploymentLogRepository;
+import com.releasetracker.repository.ReleaseRepository;
+import com.releasetracker.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeploymentJournalIndexerTest {
+
+    @TempDir
+    Path journalDirectory;
+
+    @Mock
+    private DeploymentLogRepository deploymentLogRepository;
+
+    @Mock
+    private ReleaseRepository releaseRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private DeploymentJournal journal;
+
+    @AfterEach
+    void tearDown() {
+        journal.close();
+    }
+
+    @Test
+    void replay_SkipsRecordsIndexedBeforeTheCheckpointWasWritten() {
+        journal = new DeploymentJournal(true, journalDirectory.toString(), 4096);
+        journal.open();
+        journal.append(new JournalRecord(1L, 2L, 1000L, Environment.QA, true, "indexed before the crash"));
+        journal.append(new JournalRecord(1L, 2L, 2000L, Environment.UAT, true, "not indexed yet"));
+        List<JournalPosition> positions = journal.read(journal.readCheckpoint(), 10).getPositions();
+
+        Release release = new Release("1.0.0", "Journaled release", null);
+        release.setId(1L);
+        User deployer = new User("john.doe", "john@example.com", "John Doe", UserRole.DEVELOPER);
+        deployer.setId(2L);
+        when(releaseRepository.getReferenceById(1L)).thenReturn(release);
+        when(userRepository.getReferenceById(2L)).thenReturn(deployer);
+        when(deploymentLogRepository.findJournalPositionsBetween(anyLong(), anyLong()))
+                .thenReturn(Collections.singletonList(positions.get(0).asLong()));
+        when(deploymentLogRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        new DeploymentJournalIndexer(journal, deploymentLogRepository, releaseRepository, userRepository,
+                transactionManager, eventPublisher, 10).replay();
+
+        ArgumentCaptor<List<DeploymentLog>> saved = ArgumentCaptor.forClass(List.class);
+        verify(deploymentLogRepository).saveAll(saved.capture());
+        assertEquals(1, saved.getValue().size());
+        assertEquals("not indexed yet", saved.getValue().get(0).getNotes());
+        assertEquals(positions.get(1).asLong(), saved.getValue().get(0).getJournalPosition());
+        verify(deploymentLogRepository).findJournalPositionsBetween(positions.get(0).asLong(), positions.get(1).asLong());
+    }
+}
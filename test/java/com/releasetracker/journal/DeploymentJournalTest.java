@@ -0,0 +1,103 @@
+package com.releasetracker.journal;
+
+import com.releasetracker.model.DeploymentAction;
+import com.releasetracker.model.Environment;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeploymentJournalTest {
+
+    @TempDir
+    Path journalDirectory;
+
+    private DeploymentJournal journal;
+
+    @AfterEach
+    void tearDown() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    @Test
+    void append_RecordsCanBeReadBackInOrder() {
+        journal = openJournal(4096);
+        journal.append(new JournalRecord(1L, 2L, 1000L, Environment.QA, true, "first"));
+        journal.append(new JournalRecord(1L, 3L, 2000L, Environment.UAT, false, null));
+
+        JournalBatch batch = journal.read(journal.readCheckpoint(), 10);
+
+        List<JournalRecord> records = batch.getRecords();
+        assertEquals(2, records.size());
+        assertEquals(Environment.QA, records.get(0).getEnvironment());
+        assertEquals("first", records.get(0).getNotes());
+        assertEquals(3L, records.get(1).getDeployedById());
+        assertFalse(records.get(1).isSuccess());
+        assertNull(records.get(1).getNotes());
+        assertTrue(journal.read(batch.getNext(), 10).getRecords().isEmpty());
+    }
+
+    @Test
+    void append_PreservesTransitionColumns() {
+        journal = openJournal(4096);
+        journal.append(new JournalRecord(1L, 2L, 1000L, Environment.UAT, true, null,
+                DeploymentAction.PROMOTED, Environment.QA, Environment.UAT));
+        journal.append(new JournalRecord(1L, 2L, 2000L, Environment.DEV, true, "manual"));
+
+        List<JournalRecord> records = journal.read(journal.readCheckpoint(), 10).getRecords();
+
+        assertEquals(DeploymentAction.PROMOTED, records.get(0).getAction());
+        assertEquals(Environment.QA, records.get(0).getFromEnvironment());
+        assertEquals(Environment.UAT, records.get(0).getToEnvironment());
+        assertEquals(DeploymentAction.DEPLOYED, records.get(1).getAction());
+        assertNull(records.get(1).getFromEnvironment());
+        assertNull(records.get(1).getToEnvironment());
+    }
+
+    @Test
+    void open_ReplaysUnindexedRecordsAfterRestart() {
+        journal = openJournal(4096);
+        journal.append(new JournalRecord(1L, 2L, 1000L, Environment.DEV, true, "indexed"));
+        journal.commit(journal.read(journal.readCheckpoint(), 10).getNext());
+        journal.append(new JournalRecord(1L, 2L, 2000L, Environment.QA, true, "pending"));
+        journal.close();
+
+        journal = openJournal(4096);
+        journal.append(new JournalRecord(1L, 2L, 3000L, Environment.UAT, true, "after restart"));
+        List<JournalRecord> records = journal.read(journal.readCheckpoint(), 10).getRecords();
+
+        assertEquals(2, records.size());
+        assertEquals("pending", records.get(0).getNotes());
+        assertEquals("after restart", records.get(1).getNotes());
+    }
+
+    @Test
+    void append_RollsSegmentsAndCommitRemovesIndexedOnes() throws Exception {
+        journal = openJournal(128);
+        for (int i = 0; i < 10; i++) {
+            journal.append(new JournalRecord(i, 1L, i, Environment.DEV, true, "rolled"));
+        }
+
+        JournalBatch batch = journal.read(journal.readCheckpoint(), 100);
+        journal.commit(batch.getNext());
+
+        assertEquals(10, batch.getRecords().size());
+        assertEquals(9L, batch.getRecords().get(9).getReleaseId());
+        try (java.util.stream.Stream<Path> files = Files.list(journalDirectory)) {
+            assertEquals(1, files.filter(path -> path.toString().endsWith(".seg")).count());
+        }
+    }
+
+    private DeploymentJournal openJournal(int segmentSize) {
+        DeploymentJournal opened = new DeploymentJournal(true, journalDirectory.toString(), segmentSize);
+        opened.open();
+        return opened;
+    }
+}
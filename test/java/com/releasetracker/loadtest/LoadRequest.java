@@ -0,0 +1,28 @@
+package com.releasetracker.loadtest;
+
+public class LoadRequest {
+
+    private final String method;
+    private final String path;
+
+    private LoadRequest(String method, String path) {
+        this.method = method;
+        this.path = path;
+    }
+
+    public static LoadRequest get(String path) {
+        return new LoadRequest("GET", path);
+    }
+
+    public static LoadRequest post(String path) {
+        return new LoadRequest("POST", path);
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+}
@@ -0,0 +1,76 @@
+package com.releasetracker.loadtest;
+
+import java.util.SplittableRandom;
+import java.util.function.BiFunction;
+
+/**
+ * A named stream of requests with a fixed send schedule. The schedule is decided up front, independent of how fast
+ * the server answers, so a slow response delays nothing and shows up as latency instead of as fewer requests.
+ */
+public class LoadScenario {
+
+    private final String name;
+    private final double ratePerSecond;
+    private final long requestsPerBurst;
+    private final long burstPeriodNanos;
+    private final BiFunction<Long, SplittableRandom, LoadRequest> requests;
+
+    private LoadScenario(String name, double ratePerSecond, long requestsPerBurst, long burstPeriodNanos,
+                         BiFunction<Long, SplittableRandom, LoadRequest> requests) {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("Rate must be positive: " + ratePerSecond);
+        }
+        this.name = name;
+        this.ratePerSecond = ratePerSecond;
+        this.requestsPerBurst = requestsPerBurst;
+        this.burstPeriodNanos = burstPeriodNanos;
+        this.requests = requests;
+    }
+
+    /**
+     * Sends at an even {@code ratePerSecond}. The factory gets the request sequence number and a random source.
+     */
+    public static LoadScenario constantRate(String name, double ratePerSecond,
+                                            BiFunction<Long, SplittableRandom, LoadRequest> requests) {
+        return new LoadScenario(name, ratePerSecond, Long.MAX_VALUE, 0, requests);
+    }
+
+    /**
+     * Sends bursts of {@code burstSeconds} at {@code ratePerSecond}, one burst every {@code periodSeconds}, idle in
+     * between.
+     */
+    public static LoadScenario bursts(String name, double ratePerSecond, double burstSeconds, double periodSeconds,
+                                      BiFunction<Long, SplittableRandom, LoadRequest> requests) {
+        if (burstSeconds > periodSeconds) {
+            throw new IllegalArgumentException("Burst longer than its period: " + burstSeconds + "s > " + periodSeconds + "s");
+        }
+        return new LoadScenario(name, ratePerSecond, Math.max(1, (long) (ratePerSecond * burstSeconds)),
+                (long) (periodSeconds * 1e9), requests);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    // Average rate over whole burst periods, what the scenario is expected to achieve
+    public double getTargetRatePerSecond() {
+        if (burstPeriodNanos == 0) {
+            return ratePerSecond;
+        }
+        return requestsPerBurst / (burstPeriodNanos / 1e9);
+    }
+
+    long intendedOffsetNanos(long sequence) {
+        long burst = sequence / requestsPerBurst;
+        long inBurst = sequence % requestsPerBurst;
+        return burst * burstPeriodNanos + (long) (inBurst * 1e9 / ratePerSecond);
+    }
+
+    LoadRequest request(long sequence, SplittableRandom random) {
+        return requests.apply(sequence, random);
+    }
+}
@@ -0,0 +1,99 @@
+package com.releasetracker.loadtest;
+
+import com.releasetracker.model.Environment;
+import com.releasetracker.support.SyntheticDataGenerator;
+import com.releasetracker.support.SyntheticDataset;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.url=jdbc:h2:mem:loadtest")
+@ActiveProfiles("test")
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class LoadTestHarnessTest {
+
+    private static final int USERS = Integer.getInteger("loadtest.users", 500);
+    private static final int RELEASES = Integer.getInteger("loadtest.releases", 20_000);
+    private static final long DEPLOYMENT_LOGS = Long.getLong("loadtest.deployment-logs", 100_000L);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup-seconds", 10);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration-seconds", 60);
+    private static final double UI_RATE = Double.parseDouble(System.getProperty("loadtest.ui-rate", "200"));
+    private static final double INGEST_RATE = Double.parseDouble(System.getProperty("loadtest.ingest-rate", "50"));
+    private static final double PROMOTION_RATE = Double.parseDouble(System.getProperty("loadtest.promotion-rate", "100"));
+    private static final Environment[] ENVIRONMENTS = Environment.values();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void runTrafficScenarios() throws Exception {
+        SyntheticDataset dataset = new SyntheticDataGenerator(jdbcTemplate, transactionManager, 7L)
+                .generate(USERS, RELEASES, DEPLOYMENT_LOGS);
+        System.out.printf("seeded %s%n", dataset);
+        long[] userIds = dataset.getUserIds();
+        List<Long> promotable = jdbcTemplate.queryForList(
+                "SELECT id FROM releases WHERE current_environment <> 'PROD' ORDER BY created_at DESC", Long.class);
+
+        // Dashboards polling release details and history
+        LoadScenario uiPolling = LoadScenario.constantRate("ui-polling", UI_RATE, (sequence, random) -> {
+            long releaseId = dataset.randomReleaseId(random);
+            switch ((int) (sequence % 4)) {
+                case 0:
+                    return LoadRequest.get("/api/releases/" + releaseId);
+                case 1:
+                    return LoadRequest.get("/api/deployment-logs/release/" + releaseId);
+                case 2:
+                    return LoadRequest.get("/api/releases/owner/" + userIds[random.nextInt(userIds.length)]);
+                default:
+                    return LoadRequest.get("/api/analytics/dwell");
+            }
+        });
+        // CI pipelines reporting deployment results
+        LoadScenario ciIngestion = LoadScenario.constantRate("ci-ingestion", INGEST_RATE, (sequence, random) ->
+                LoadRequest.post("/api/deployment-logs/log?releaseId=" + dataset.randomReleaseId(random) +
+                        "&environment=" + ENVIRONMENTS[random.nextInt(ENVIRONMENTS.length)] +
+                        "&deployedById=" + userIds[random.nextInt(userIds.length)] +
+                        "&success=" + (random.nextInt(10) != 0)));
+        // Release trains: a burst of promotions of the newest releases every 30 seconds
+        LoadScenario promotionTrains = LoadScenario.bursts("promotion-trains", PROMOTION_RATE, 5, 30, (sequence, random) ->
+                LoadRequest.post("/api/releases/" + promotable.get((int) (sequence % promotable.size())) +
+                        "/promote?promotedById=" + userIds[random.nextInt(userIds.length)]));
+
+        LoadTestRunner runner = new LoadTestRunner("http://localhost:" + port, Duration.ofSeconds(30));
+        try {
+            LoadTestReport report = runner.run(Arrays.asList(uiPolling, ciIngestion, promotionTrains),
+                    Duration.ofSeconds(WARMUP_SECONDS), Duration.ofSeconds(DURATION_SECONDS), 7L);
+            report.print();
+            Path runDirectory = report.writeTo(Paths.get("target", "load-tests"));
+            System.out.printf("report written to %s%n", runDirectory.toAbsolutePath());
+
+            for (ScenarioResult scenario : report.getScenarios()) {
+                assertTrue(scenario.getRequests() > 0, scenario.getName() + " sent no requests");
+            }
+        } finally {
+            runner.shutdown();
+        }
+    }
+}
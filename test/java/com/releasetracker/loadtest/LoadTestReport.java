@@ -0,0 +1,128 @@
+package com.releasetracker.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+public class LoadTestReport {
+
+    private static final DateTimeFormatter RUN_ID = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final String runId;
+    private final LocalDateTime startedAt;
+    private final String baseUrl;
+    private final double warmupSeconds;
+    private final double durationSeconds;
+    private final List<ScenarioResult> scenarios;
+
+    public LoadTestReport(LocalDateTime startedAt, String baseUrl, double warmupSeconds, double durationSeconds,
+                          List<ScenarioResult> scenarios) {
+        this.runId = RUN_ID.format(startedAt);
+        this.startedAt = startedAt;
+        this.baseUrl = baseUrl;
+        this.warmupSeconds = warmupSeconds;
+        this.durationSeconds = durationSeconds;
+        this.scenarios = scenarios;
+    }
+
+    public String getRunId() {
+        return runId;
+    }
+
+    public String getStartedAt() {
+        return startedAt.toString();
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public double getWarmupSeconds() {
+        return warmupSeconds;
+    }
+
+    public double getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public List<ScenarioResult> getScenarios() {
+        return scenarios;
+    }
+
+    public ScenarioResult getScenario(String name) {
+        for (ScenarioResult scenario : scenarios) {
+            if (scenario.getName().equals(name)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("No scenario named " + name);
+    }
+
+    /**
+     * Writes {@code report.json} and {@code report.html} into {@code <directory>/<runId>} and returns that directory.
+     */
+    public Path writeTo(Path directory) throws IOException {
+        Path runDirectory = Files.createDirectories(directory.resolve(runId));
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(runDirectory.resolve("report.json").toFile(), this);
+        try (Writer writer = Files.newBufferedWriter(runDirectory.resolve("report.html"), StandardCharsets.UTF_8)) {
+            writer.write(toHtml());
+        }
+        return runDirectory;
+    }
+
+    public void print() {
+        for (ScenarioResult s : scenarios) {
+            System.out.printf("%-20s %,8.1f/%,8.1f req/s  p50 %,8.1f  p99 %,8.1f  p99.9 %,8.1f  max %,8.1f ms" +
+                            "  (uncorrected p99 %,8.1f ms)  errors %d/%d%n",
+                    s.getName(), s.getAchievedRatePerSecond(), s.getTargetRatePerSecond(), s.getP50Millis(),
+                    s.getP99Millis(), s.getP999Millis(), s.getMaxMillis(), s.getUncorrectedP99Millis(),
+                    s.getErrors(), s.getRequests());
+        }
+    }
+
+    private String toHtml() {
+        StringBuilder html = new StringBuilder();
+        html.append("<!DOCTYPE html>\n<html><head><meta charset=\"utf-8\"><title>Load test ").append(runId)
+                .append("</title>\n<style>body{font-family:sans-serif}table{border-collapse:collapse}")
+                .append("td,th{border:1px solid #ccc;padding:4px 8px;text-align:right}td:first-child{text-align:left}")
+                .append(".bad{background:#fdd}</style></head><body>\n")
+                .append("<h1>Load test ").append(runId).append("</h1>\n")
+                .append("<p>").append(escape(baseUrl)).append(", started ").append(startedAt)
+                .append(String.format(", %.0f s warm-up, %.0f s measured. ", warmupSeconds, durationSeconds))
+                .append("Latencies are measured from each request's scheduled send time.</p>\n")
+                .append("<table><tr><th>Scenario</th><th>Target req/s</th><th>Achieved req/s</th><th>Requests</th>")
+                .append("<th>Errors</th><th>Responses</th><th>p50 ms</th><th>p90 ms</th><th>p99 ms</th>")
+                .append("<th>p99.9 ms</th><th>Max ms</th><th>Uncorrected p99 ms</th><th>Max send lag ms</th></tr>\n");
+        for (ScenarioResult s : scenarios) {
+            html.append(s.getErrors() > 0 ? "<tr class=\"bad\">" : "<tr>")
+                    .append("<td>").append(escape(s.getName())).append("</td>")
+                    .append(cell(s.getTargetRatePerSecond())).append(cell(s.getAchievedRatePerSecond()))
+                    .append("<td>").append(s.getRequests()).append("</td><td>").append(s.getErrors()).append("</td><td>");
+            for (Map.Entry<String, Long> response : s.getResponses().entrySet()) {
+                html.append(response.getKey()).append(": ").append(response.getValue()).append(' ');
+            }
+            html.append("</td>").append(cell(s.getP50Millis())).append(cell(s.getP90Millis()))
+                    .append(cell(s.getP99Millis())).append(cell(s.getP999Millis())).append(cell(s.getMaxMillis()))
+                    .append(cell(s.getUncorrectedP99Millis())).append(cell(s.getMaxSendLagMillis())).append("</tr>\n");
+        }
+        return html.append("</table>\n</body></html>\n").toString();
+    }
+
+    private static String cell(double value) {
+        return String.format("<td>%.1f</td>", value);
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
@@ -0,0 +1,170 @@
+package com.releasetracker.loadtest;
+
+import com.releasetracker.instrumentation.LatencyHistogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop HTTP load generator. Each scenario gets a pacing thread that sends requests asynchronously at their
+ * scheduled times whether or not earlier responses have arrived, and every latency is taken from the scheduled send
+ * time rather than the actual one. A stalled server therefore shows up as the full queueing delay every caller would
+ * have seen (no coordinated omission), while the uncorrected figures are kept alongside for comparison.
+ */
+public class LoadTestRunner {
+
+    private static final String[] STATUS_CLASSES = {"failed", "1xx", "2xx", "3xx", "4xx", "5xx"};
+
+    private final String baseUrl;
+    private final Duration requestTimeout;
+    private final ExecutorService responseExecutor;
+    private final HttpClient client;
+
+    public LoadTestRunner(String baseUrl, Duration requestTimeout) {
+        this.baseUrl = baseUrl;
+        this.requestTimeout = requestTimeout;
+        this.responseExecutor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(requestTimeout)
+                .executor(responseExecutor)
+                .build();
+    }
+
+    /**
+     * Runs all scenarios side by side for {@code warmup} plus {@code duration}. Only requests scheduled after the
+     * warm-up are reported; the call returns once every request sent has completed or timed out.
+     */
+    public LoadTestReport run(List<LoadScenario> scenarios, Duration warmup, Duration duration, long seed)
+            throws InterruptedException {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        AtomicLong inFlight = new AtomicLong();
+
+        List<Recorder> recorders = new ArrayList<>();
+        List<Thread> senders = new ArrayList<>();
+        SplittableRandom seeds = new SplittableRandom(seed);
+        for (LoadScenario scenario : scenarios) {
+            Recorder recorder = new Recorder(scenario);
+            recorders.add(recorder);
+            SplittableRandom random = seeds.split();
+            Thread sender = new Thread(() -> send(scenario, random, recorder, start, measureFrom, end, inFlight),
+                    "load-" + scenario.getName());
+            sender.setDaemon(true);
+            senders.add(sender);
+            sender.start();
+        }
+        for (Thread sender : senders) {
+            sender.join();
+        }
+
+        // Requests time out on their own, so this only waits for the slowest of them to be recorded
+        long drainDeadline = System.nanoTime() + requestTimeout.toNanos() * 2;
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+
+        List<ScenarioResult> results = new ArrayList<>();
+        for (Recorder recorder : recorders) {
+            results.add(recorder.result(duration));
+        }
+        return new LoadTestReport(startedAt, baseUrl, warmup.toMillis() / 1000.0, duration.toMillis() / 1000.0, results);
+    }
+
+    public void shutdown() {
+        responseExecutor.shutdownNow();
+    }
+
+    private void send(LoadScenario scenario, SplittableRandom random, Recorder recorder, long start, long measureFrom,
+                      long end, AtomicLong inFlight) {
+        for (long sequence = 0; ; sequence++) {
+            long intended = start + scenario.intendedOffsetNanos(sequence);
+            if (intended >= end) {
+                return;
+            }
+            long delay;
+            while ((delay = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(delay);
+            }
+            LoadRequest request = scenario.request(sequence, random);
+            boolean measured = intended >= measureFrom;
+            long sent = System.nanoTime();
+            if (measured) {
+                recorder.recordSendLag(sent - intended);
+            }
+
+            inFlight.incrementAndGet();
+            HttpRequest httpRequest = HttpRequest.newBuilder(URI.create(baseUrl + request.getPath()))
+                    .timeout(requestTimeout)
+                    .method(request.getMethod(), HttpRequest.BodyPublishers.noBody())
+                    .build();
+            client.sendAsync(httpRequest, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        long done = System.nanoTime();
+                        if (measured) {
+                            recorder.record(error == null ? response.statusCode() : 0, done - intended, done - sent);
+                        }
+                        inFlight.decrementAndGet();
+                    });
+        }
+    }
+
+    private static class Recorder {
+        private final LoadScenario scenario;
+        private final LatencyHistogram corrected = new LatencyHistogram();
+        private final LatencyHistogram uncorrected = new LatencyHistogram();
+        private final AtomicLongArray statusClasses = new AtomicLongArray(STATUS_CLASSES.length);
+        private final AtomicLong maxSendLagNanos = new AtomicLong();
+
+        Recorder(LoadScenario scenario) {
+            this.scenario = scenario;
+        }
+
+        void recordSendLag(long lagNanos) {
+            maxSendLagNanos.accumulateAndGet(lagNanos, Math::max);
+        }
+
+        void record(int status, long correctedNanos, long uncorrectedNanos) {
+            statusClasses.incrementAndGet(status >= 100 && status < 600 ? status / 100 : 0);
+            corrected.record(correctedNanos / 1000);
+            uncorrected.record(uncorrectedNanos / 1000);
+        }
+
+        ScenarioResult result(Duration duration) {
+            Map<String, Long> responses = new LinkedHashMap<>();
+            for (int i = 0; i < STATUS_CLASSES.length; i++) {
+                if (statusClasses.get(i) > 0) {
+                    responses.put(STATUS_CLASSES[i], statusClasses.get(i));
+                }
+            }
+            long requests = corrected.getTotalCount();
+            long errors = statusClasses.get(0) + statusClasses.get(5);
+            return new ScenarioResult(scenario.getName(), scenario.getTargetRatePerSecond(),
+                    requests / (duration.toNanos() / 1e9), requests, errors, responses,
+                    millis(corrected.valueAtPercentile(50)), millis(corrected.valueAtPercentile(90)),
+                    millis(corrected.valueAtPercentile(99)), millis(corrected.valueAtPercentile(99.9)),
+                    millis(corrected.getMaxMicros()), millis(uncorrected.valueAtPercentile(50)),
+                    millis(uncorrected.valueAtPercentile(99)), maxSendLagNanos.get() / 1e6);
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+}
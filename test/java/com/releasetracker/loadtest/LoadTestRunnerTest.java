@@ -0,0 +1,117 @@
+package com.releasetracker.loadtest;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadTestRunnerTest {
+
+    private HttpServer server;
+    private LoadTestRunner runner;
+    private final AtomicInteger served = new AtomicInteger();
+
+    @TempDir
+    Path reportDirectory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/ok", exchange -> {
+            served.incrementAndGet();
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.createContext("/missing", exchange -> {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.start();
+        runner = new LoadTestRunner("http://localhost:" + server.getAddress().getPort(), Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        runner.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void bursts_ScheduleRequestsInsideEachPeriod() {
+        LoadScenario scenario = LoadScenario.bursts("train", 10, 0.5, 2, (sequence, random) -> LoadRequest.get("/ok"));
+
+        assertEquals(0, scenario.intendedOffsetNanos(0));
+        assertEquals(400_000_000L, scenario.intendedOffsetNanos(4));
+        assertEquals(2_000_000_000L, scenario.intendedOffsetNanos(5));
+        assertEquals(2.5, scenario.getTargetRatePerSecond(), 1e-9);
+    }
+
+    @Test
+    void run_SendsEveryScheduledRequestAndCountsStatusClasses() throws Exception {
+        LoadScenario scenario = LoadScenario.constantRate("mixed", 200,
+                (sequence, random) -> LoadRequest.get(sequence % 4 == 0 ? "/missing" : "/ok"));
+
+        LoadTestReport report = runner.run(Collections.singletonList(scenario), Duration.ZERO, Duration.ofMillis(500), 1);
+
+        ScenarioResult result = report.getScenario("mixed");
+        assertEquals(100, result.getRequests());
+        assertEquals(75L, result.getResponses().get("2xx"));
+        assertEquals(25L, result.getResponses().get("4xx"));
+        assertEquals(0, result.getErrors());
+    }
+
+    @Test
+    void run_ChargesSenderStallsToEveryDelayedRequest() throws Exception {
+        LoadScenario scenario = LoadScenario.constantRate("stalled", 100, (sequence, random) -> {
+            if (sequence == 10) {
+                sleep(300);
+            }
+            return LoadRequest.get("/ok");
+        });
+
+        LoadTestReport report = runner.run(Collections.singletonList(scenario), Duration.ZERO, Duration.ofSeconds(1), 1);
+
+        // The 30 requests queued behind the stall were all late; measuring from the actual send would hide that
+        ScenarioResult result = report.getScenario("stalled");
+        assertEquals(100, result.getRequests());
+        assertTrue(result.getMaxMillis() >= 290, "max " + result.getMaxMillis());
+        assertTrue(result.getP90Millis() > 100, "p90 " + result.getP90Millis());
+        assertTrue(result.getUncorrectedP50Millis() < result.getP90Millis());
+        assertTrue(result.getMaxSendLagMillis() >= 290);
+    }
+
+    @Test
+    void writeTo_WritesJsonAndHtmlReports() throws Exception {
+        LoadScenario scenario = LoadScenario.constantRate("ok", 50, (sequence, random) -> LoadRequest.get("/ok"));
+        LoadTestReport report = runner.run(Collections.singletonList(scenario), Duration.ofMillis(100), Duration.ofMillis(200), 1);
+
+        Path runDirectory = report.writeTo(reportDirectory);
+
+        String json = Files.readString(runDirectory.resolve("report.json"));
+        assertTrue(json.contains("\"name\" : \"ok\""));
+        assertTrue(json.contains("\"p99Millis\""));
+        assertTrue(Files.readString(runDirectory.resolve("report.html")).contains("<td>ok</td>"));
+        assertEquals(15, served.get());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.releasetracker.loadtest;
+
+import java.util.Map;
+
+public class ScenarioResult {
+
+    private final String name;
+    private final double targetRatePerSecond;
+    private final double achievedRatePerSecond;
+    private final long requests;
+    private final long errors;
+    private final Map<String, Long> responses;
+    private final double p50Millis;
+    private final double p90Millis;
+    private final double p99Millis;
+    private final double p999Millis;
+    private final double maxMillis;
+    private final double uncorrectedP50Millis;
+    private final double uncorrectedP99Millis;
+    private final double maxSendLagMillis;
+
+    public ScenarioResult(String name, double targetRatePerSecond, double achievedRatePerSecond, long requests,
+                          long errors, Map<String, Long> responses, double p50Millis, double p90Millis,
+                          double p99Millis, double p999Millis, double maxMillis, double uncorrectedP50Millis,
+                          double uncorrectedP99Millis, double maxSendLagMillis) {
+        this.name = name;
+        this.targetRatePerSecond = targetRatePerSecond;
+        this.achievedRatePerSecond = achievedRatePerSecond;
+        this.requests = requests;
+        this.errors = errors;
+        this.responses = responses;
+        this.p50Millis = p50Millis;
+        this.p90Millis = p90Millis;
+        this.p99Millis = p99Millis;
+        this.p999Millis = p999Millis;
+        this.maxMillis = maxMillis;
+        this.uncorrectedP50Millis = uncorrectedP50Millis;
+        this.uncorrectedP99Millis = uncorrectedP99Millis;
+        this.maxSendLagMillis = maxSendLagMillis;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getTargetRatePerSecond() {
+        return targetRatePerSecond;
+    }
+
+    public double getAchievedRatePerSecond() {
+        return achievedRatePerSecond;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public double getErrorRate() {
+        return requests > 0 ? (double) errors / requests : 0;
+    }
+
+    // Response counts by status class ("2xx", "4xx", ...), with transport failures and timeouts under "failed"
+    public Map<String, Long> getResponses() {
+        return responses;
+    }
+
+    // Measured from when each request was scheduled to be sent, so queueing behind a stalled server is included
+    public double getP50Millis() {
+        return p50Millis;
+    }
+
+    public double getP90Millis() {
+        return p90Millis;
+    }
+
+    public double getP99Millis() {
+        return p99Millis;
+    }
+
+    public double getP999Millis() {
+        return p999Millis;
+    }
+
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+
+    // Measured from when each request was actually sent; shown to make coordinated omission visible
+    public double getUncorrectedP50Millis() {
+        return uncorrectedP50Millis;
+    }
+
+    public double getUncorrectedP99Millis() {
+        return uncorrectedP99Millis;
+    }
+
+    // How far the sender fell behind its schedule; large values mean the load generator itself was saturated
+    public double getMaxSendLagMillis() {
+        return maxSendLagMillis;
+    }
+}
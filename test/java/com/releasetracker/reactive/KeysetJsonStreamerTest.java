@@ -0,0 +1,49 @@
+package com.releasetracker.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetJsonStreamerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void stream_WritesAllPagesAsSingleArray() throws Exception {
+        List<Long> requestedAfter = new ArrayList<>();
+        KeysetJsonStreamer streamer = new KeysetJsonStreamer(objectMapper, 2);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        streamer.<Long>stream((afterId, page) -> {
+            requestedAfter.add(afterId);
+            if (afterId == 0L) {
+                return Arrays.asList(1L, 2L);
+            }
+            if (afterId == 2L) {
+                return Arrays.asList(3L, 4L);
+            }
+            return Collections.singletonList(5L);
+        }, id -> id).writeTo(out);
+
+        assertEquals("[1,2,3,4,5]", out.toString(StandardCharsets.UTF_8.name()));
+        assertEquals(Arrays.asList(0L, 2L, 4L), requestedAfter);
+    }
+
+    @Test
+    void stream_WritesEmptyArray_WhenNoRows() throws Exception {
+        KeysetJsonStreamer streamer = new KeysetJsonStreamer(objectMapper, 10);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        streamer.<Long>stream((afterId, page) -> Collections.emptyList(), id -> id).writeTo(out);
+
+        assertEquals("[]", out.toString(StandardCharsets.UTF_8.name()));
+    }
+}
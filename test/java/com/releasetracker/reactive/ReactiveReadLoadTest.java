@@ -0,0 +1,123 @@
+package com.releasetracker.reactive;
+
+import com.releasetracker.model.*;
+import com.releasetracker.repository.DeploymentLogRepository;
+import com.releasetracker.repository.ReleaseRepository;
+import com.releasetracker.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ReactiveReadLoadTest {
+
+    private static final int CONNECTIONS = Integer.getInteger("benchmark.connections", 5_000);
+    private static final int RELEASES = 500;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReleaseRepository releaseRepository;
+
+    @Autowired
+    private DeploymentLogRepository deploymentLogRepository;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(30))
+            .build();
+
+    @BeforeEach
+    void seed() {
+        if (releaseRepository.count() >= RELEASES) {
+            return;
+        }
+        User user = userRepository.save(new User("bench.reader", "bench.reader@example.com", "Bench Reader", UserRole.DEVELOPER));
+        List<Release> releases = new ArrayList<>();
+        for (int i = 0; i < RELEASES; i++) {
+            releases.add(new Release("7." + (i / 100) + "." + (i % 100), "Read benchmark " + i, user));
+        }
+        List<DeploymentLog> logs = new ArrayList<>();
+        for (Release release : releaseRepository.saveAll(releases)) {
+            logs.add(new DeploymentLog(release, Environment.QA, user, true, "Read benchmark"));
+        }
+        deploymentLogRepository.saveAll(logs);
+    }
+
+    @Test
+    void compareBlockingAndReactiveReads() {
+        for (String path : Arrays.asList("/api/releases", "/api/reactive/releases",
+                "/api/deployment-logs", "/api/reactive/deployment-logs")) {
+            run(path, CONNECTIONS / 10);
+            run(path, CONNECTIONS).print(path);
+        }
+    }
+
+    private Result run(String path, int connections) {
+        URI uri = URI.create("http://localhost:" + port + path);
+        long[] latencies = new long[connections];
+        AtomicInteger failures = new AtomicInteger();
+        List<CompletableFuture<?>> inFlight = new ArrayList<>(connections);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < connections; i++) {
+            int slot = i;
+            long sent = System.nanoTime();
+            HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+            inFlight.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .handle((response, error) -> {
+                        latencies[slot] = System.nanoTime() - sent;
+                        if (error != null || response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                        return null;
+                    }));
+        }
+        CompletableFuture.allOf(inFlight.toArray(new CompletableFuture[0])).join();
+        return new Result(connections, System.nanoTime() - start, latencies, failures.get());
+    }
+
+    private static class Result {
+        private final int requests;
+        private final long elapsedNanos;
+        private final long[] latencies;
+        private final int failures;
+
+        Result(int requests, long elapsedNanos, long[] latencies, int failures) {
+            this.requests = requests;
+            this.elapsedNanos = elapsedNanos;
+            this.latencies = latencies;
+            this.failures = failures;
+        }
+
+        void print(String name) {
+            Arrays.sort(latencies);
+            System.out.printf("%-32s %,8.0f req/s  p50 %,8.1f ms  p99 %,8.1f ms  failed %d/%d%n",
+                    name, requests / (elapsedNanos / 1e9),
+                    latencies[requests / 2] / 1e6, latencies[(int) (requests * 0.99)] / 1e6,
+                    failures, requests);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.releasetracker.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.releasetracker.event.DeploymentLogsArchivedEvent;
+import com.releasetracker.model.*;
+import com.releasetracker.repository.DeploymentLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeploymentLogArchiveServiceTest {
+
+    @Mock
+    private DeploymentLogRepository deploymentLogRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @TempDir
+    Path archiveDirectory;
+
+    private DeploymentLogArchiveService archiveService;
+    private DeploymentLog oldLog;
+
+    @BeforeEach
+    void setUp() {
+        archiveService = new DeploymentLogArchiveService(deploymentLogRepository,
+                new ObjectMapper().findAndRegisterModules(), eventPublisher, archiveDirectory.toString(), 12);
+
+        User testUser = new User("john.doe", "john@example.com", "John Doe", UserRole.DEVELOPER);
+        testUser.setId(1L);
+        Release testRelease = new Release("1.0.0", "Initial release", testUser);
+        testRelease.setId(2L);
+
+        oldLog = new DeploymentLog(testRelease, Environment.QA, testUser, false, "Smoke tests failed");
+        oldLog.setId(3L);
+        oldLog.setDeploymentTimestamp(LocalDateTime.of(2020, 3, 15, 10, 30));
+    }
+
+    @Test
+    void archivePartition_WritesCompressedFileAndDeletesRowsInChunks() {
+        when(deploymentLogRepository.findByDeploymentMonthAndIdGreaterThanOrderByIdAsc(eq(202003), eq(0L), any(Pageable.class)))
+                .thenReturn(Arrays.asList(oldLog));
+        when(deploymentLogRepository.deletePartitionChunkUpTo(eq(202003), eq(3L), anyInt())).thenReturn(1000, 12);
+
+        int archived = archiveService.archivePartition(202003);
+
+        assertEquals(1, archived);
+        assertTrue(Files.exists(archiveDirectory.resolve("deployment-logs-202003.ndjson.gz")));
+        assertEquals(Arrays.asList(202003), archiveService.getArchivedPartitions());
+        verify(deploymentLogRepository, times(2)).deletePartitionChunkUpTo(202003, 3L, 1000);
+        verify(eventPublisher).publishEvent(any(DeploymentLogsArchivedEvent.class));
+    }
+
+    @Test
+    void archivePartition_ExportsOnlyRowsAboveTheArchivedIds() {
+        DeploymentLog lateLog = new DeploymentLog(oldLog.getRelease(), Environment.UAT, oldLog.getDeployedBy(), true, "Late arrival");
+        lateLog.setId(4L);
+        lateLog.setDeploymentTimestamp(LocalDateTime.of(2020, 3, 20, 8, 0));
+        when(deploymentLogRepository.findByDeploymentMonthAndIdGreaterThanOrderByIdAsc(eq(202003), eq(0L), any(Pageable.class)))
+                .thenReturn(Arrays.asList(oldLog));
+        archiveService.archivePartition(202003);
+        // Row 3 may still be in the table if the first run stopped before deleting it; it is not read again
+        when(deploymentLogRepository.findByDeploymentMonthAndIdGreaterThanOrderByIdAsc(eq(202003), eq(3L), any(Pageable.class)))
+                .thenReturn(Arrays.asList(lateLog));
+
+        int archived = archiveService.archivePartition(202003);
+
+        assertEquals(1, archived);
+        List<ArchivedDeploymentLog> logs = archiveService.getArchivedDeploymentLogs(
+                LocalDateTime.of(2020, 3, 1, 0, 0), LocalDateTime.of(2020, 3, 31, 23, 59));
+        assertEquals(2, logs.size());
+        assertEquals(Arrays.asList(4L, 3L), Arrays.asList(logs.get(0).getId(), logs.get(1).getId()));
+        verify(deploymentLogRepository).deletePartitionChunkUpTo(202003, 4L, 1000);
+    }
+
+    @Test
+    void getArchivedDeploymentLogs_ReadsArchivedPartitionsInRange() {
+        when(deploymentLogRepository.findByDeploymentMonthAndIdGreaterThanOrderByIdAsc(eq(202003), eq(0L), any(Pageable.class)))
+                .thenReturn(Arrays.asList(oldLog));
+        archiveService.archivePartition(202003);
+
+        List<ArchivedDeploymentLog> logs = archiveService.getArchivedDeploymentLogs(
+                LocalDateTime.of(2020, 3, 1, 0, 0), LocalDateTime.of(2020, 3, 31, 23, 59));
+
+        assertEquals(1, logs.size());
+        assertEquals(3L, logs.get(0).getId());
+        assertEquals(2L, logs.get(0).getReleaseId());
+        assertEquals(1L, logs.get(0).getDeployedById());
+        assertEquals(Environment.QA, logs.get(0).getEnvironment());
+        assertFalse(logs.get(0).isSuccess());
+        assertEquals("Smoke tests failed", logs.get(0).getNotes());
+        assertTrue(archiveService.getArchivedDeploymentLogs(
+                LocalDateTime.of(2021, 1, 1, 0, 0), LocalDateTime.of(2021, 2, 1, 0, 0)).isEmpty());
+    }
+
+    @Test
+    void applyRetentionPolicy_ArchivesOnlyExpiredPartitions() {
+        when(deploymentLogRepository.findPartitionsBefore(anyInt())).thenReturn(Collections.emptyList());
+
+        archiveService.applyRetentionPolicy();
+
+        int oldestRetainedMonth = DeploymentLog.monthOf(LocalDateTime.now().minusMonths(11));
+        verify(deploymentLogRepository).findPartitionsBefore(oldestRetainedMonth);
+        verify(deploymentLogRepository, never()).deletePartitionChunkUpTo(anyInt(), anyLong(), anyInt());
+    }
+}
@@ -1,20 +1,35 @@
 package com.releasetracker.service;
 
+import com.releasetracker.analytics.DeploymentLogColumnStore;
+import com.releasetracker.analytics.DeploymentLogFilter;
+import com.releasetracker.analytics.DeploymentSketchService;
+import com.releasetracker.event.DeploymentLoggedEvent;
+import com.releasetracker.exception.ReleaseNotFoundException;
+import com.releasetracker.exception.UserNotFoundException;
+import com.releasetracker.journal.DeploymentJournal;
+import com.releasetracker.journal.JournalRecord;
 import com.releasetracker.model.*;
 import com.releasetracker.repository.DeploymentLogRepository;
+import com.releasetracker.repository.ReleaseRepository;
+import com.releasetracker.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,6 +38,24 @@ class DeploymentLogServiceTest {
     @Mock
     private DeploymentLogRepository deploymentLogRepository;
 
+    @Mock
+    private ReleaseRepository releaseRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private DeploymentJournal deploymentJournal;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private DeploymentLogColumnStore columnStore;
+
+    @Mock
+    private DeploymentSketchService sketchService;
+
     @InjectMocks
     private DeploymentLogService deploymentLogService;
 
@@ -63,6 +96,7 @@ class DeploymentLogServiceTest {
 
         assertNotNull(loggedDeployment);
         verify(deploymentLogRepository).save(any(DeploymentLog.class));
+        verify(eventPublisher).publishEvent(any(DeploymentLoggedEvent.class));
     }
 
     @Test
@@ -77,6 +111,48 @@ class DeploymentLogServiceTest {
         verify(deploymentLogRepository).save(any(DeploymentLog.class));
     }
 
+    @Test
+    void logTransition_PopulatesStructuredColumnsWithoutNotes() {
+        when(deploymentLogRepository.save(any(DeploymentLog.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        DeploymentLog loggedDeployment = deploymentLogService.logTransition(
+            testRelease, DeploymentAction.ROLLED_BACK, Environment.UAT, Environment.QA, testUser
+        );
+
+        assertEquals(DeploymentAction.ROLLED_BACK, loggedDeployment.getAction());
+        assertEquals(Environment.UAT, loggedDeployment.getFromEnvironment());
+        assertEquals(Environment.QA, loggedDeployment.getToEnvironment());
+        assertEquals(Environment.QA, loggedDeployment.getEnvironment());
+        assertTrue(loggedDeployment.isSuccess());
+        assertNull(loggedDeployment.getNotes());
+        verify(eventPublisher).publishEvent(any(DeploymentLoggedEvent.class));
+        verify(sketchService).recordDeployment(loggedDeployment);
+    }
+
+    @Test
+    void logTransition_IsSavedInTheCallersTransactionInsteadOfJournaled() {
+        when(deploymentLogRepository.save(any(DeploymentLog.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        deploymentLogService.logTransition(testRelease, DeploymentAction.PROMOTED, Environment.QA, Environment.UAT, testUser);
+
+        verify(deploymentLogRepository).save(any(DeploymentLog.class));
+        verifyNoInteractions(deploymentJournal);
+    }
+
+    @Test
+    void logDeployment_JournalEnabled_AppendsInsteadOfSaving() {
+        when(deploymentJournal.isEnabled()).thenReturn(true);
+
+        DeploymentLog loggedDeployment = deploymentLogService.logDeployment(
+            testRelease, Environment.QA, testUser, false, "Journaled deployment"
+        );
+
+        assertEquals(Environment.QA, loggedDeployment.getEnvironment());
+        verify(deploymentJournal).append(any(JournalRecord.class));
+        verify(deploymentLogRepository, never()).save(any(DeploymentLog.class));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
     @Test
     void getAllDeploymentLogs_ReturnsAllLogs() {
         List<DeploymentLog> expectedLogs = Arrays.asList(testLog);
@@ -90,15 +166,24 @@ class DeploymentLogServiceTest {
     }
 
     @Test
-    void getDeploymentLogsByRelease_ReturnsFilteredLogs() {
+    void getDeploymentLogsByReleaseId_ReturnsFilteredLogs() {
         List<DeploymentLog> expectedLogs = Arrays.asList(testLog);
-        when(deploymentLogRepository.findByReleaseOrderByDeploymentTimestampDesc(testRelease)).thenReturn(expectedLogs);
+        when(deploymentLogRepository.findByRelease_IdOrderByDeploymentTimestampDesc(1L)).thenReturn(expectedLogs);
 
-        List<DeploymentLog> actualLogs = deploymentLogService.getDeploymentLogsByRelease(testRelease);
+        List<DeploymentLog> actualLogs = deploymentLogService.getDeploymentLogsByReleaseId(1L);
 
         assertEquals(expectedLogs.size(), actualLogs.size());
         assertEquals(expectedLogs, actualLogs);
-        verify(deploymentLogRepository).findByReleaseOrderByDeploymentTimestampDesc(testRelease);
+        verify(deploymentLogRepository).findByRelease_IdOrderByDeploymentTimestampDesc(1L);
+        verifyNoInteractions(releaseRepository);
+    }
+
+    @Test
+    void getDeploymentLogsByReleaseId_ThrowsException_WhenReleaseNotFound() {
+        when(deploymentLogRepository.findByRelease_IdOrderByDeploymentTimestampDesc(1L)).thenReturn(List.of());
+        when(releaseRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(ReleaseNotFoundException.class, () -> deploymentLogService.getDeploymentLogsByReleaseId(1L));
     }
 
     @Test
@@ -114,15 +199,32 @@ class DeploymentLogServiceTest {
     }
 
     @Test
-    void getDeploymentLogsByUser_ReturnsFilteredLogs() {
+    void getDeploymentLogsByUserId_ReturnsFilteredLogs() {
         List<DeploymentLog> expectedLogs = Arrays.asList(testLog);
-        when(deploymentLogRepository.findByDeployedByOrderByDeploymentTimestampDesc(testUser)).thenReturn(expectedLogs);
+        when(deploymentLogRepository.findByDeployedBy_IdOrderByDeploymentTimestampDesc(1L)).thenReturn(expectedLogs);
 
-        List<DeploymentLog> actualLogs = deploymentLogService.getDeploymentLogsByUser(testUser);
+        List<DeploymentLog> actualLogs = deploymentLogService.getDeploymentLogsByUserId(1L);
 
         assertEquals(expectedLogs.size(), actualLogs.size());
         assertEquals(expectedLogs, actualLogs);
-        verify(deploymentLogRepository).findByDeployedByOrderByDeploymentTimestampDesc(testUser);
+        verify(deploymentLogRepository).findByDeployedBy_IdOrderByDeploymentTimestampDesc(1L);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void getDeploymentLogsByUserId_ReturnsEmpty_WhenUserHasNoDeployments() {
+        when(deploymentLogRepository.findByDeployedBy_IdOrderByDeploymentTimestampDesc(1L)).thenReturn(List.of());
+        when(userRepository.existsById(1L)).thenReturn(true);
+
+        assertTrue(deploymentLogService.getDeploymentLogsByUserId(1L).isEmpty());
+    }
+
+    @Test
+    void getDeploymentLogsByUserId_ThrowsException_WhenUserNotFound() {
+        when(deploymentLogRepository.findByDeployedBy_IdOrderByDeploymentTimestampDesc(1L)).thenReturn(List.of());
+        when(userRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(UserNotFoundException.class, () -> deploymentLogService.getDeploymentLogsByUserId(1L));
     }
 
     @Test
@@ -162,6 +264,47 @@ class DeploymentLogServiceTest {
         verify(deploymentLogRepository).findBySuccessOrderByDeploymentTimestampDesc(true);
     }
 
+    @Test
+    void getFailedDeployments_UsesBitmapIndexWhenReady() {
+        DeploymentLog olderFailure = new DeploymentLog(testRelease, Environment.QA, testUser, false, "Older failure");
+        olderFailure.setId(2L);
+        olderFailure.setDeploymentTimestamp(LocalDateTime.now().minusDays(2));
+        DeploymentLog newerFailure = new DeploymentLog(testRelease, Environment.UAT, testUser, false, "Newer failure");
+        newerFailure.setId(3L);
+        when(columnStore.isReady()).thenReturn(true);
+        when(columnStore.findIds(any(DeploymentLogFilter.class), eq(0), eq(Integer.MAX_VALUE))).thenReturn(Arrays.asList(3L, 2L));
+        when(deploymentLogRepository.findWithRelationsByIdIn(Arrays.asList(3L, 2L))).thenReturn(Arrays.asList(olderFailure, newerFailure));
+
+        List<DeploymentLog> actualLogs = deploymentLogService.getFailedDeployments();
+
+        assertEquals(Arrays.asList(newerFailure, olderFailure), actualLogs);
+        verify(deploymentLogRepository, never()).findBySuccessOrderByDeploymentTimestampDesc(false);
+    }
+
+    @Test
+    void findDeploymentLogs_FetchesOnlyTheRequestedPage() {
+        DeploymentLogFilter filter = new DeploymentLogFilter(null, false, null);
+        when(columnStore.isReady()).thenReturn(true);
+        when(columnStore.findIds(filter, 20, 10)).thenReturn(Arrays.asList(1L));
+        when(deploymentLogRepository.findWithRelationsByIdIn(Arrays.asList(1L))).thenReturn(Arrays.asList(testLog));
+
+        List<DeploymentLog> actualLogs = deploymentLogService.findDeploymentLogs(filter, 2, 10);
+
+        assertEquals(Arrays.asList(testLog), actualLogs);
+    }
+
+    @Test
+    void findDeploymentLogs_BeforeColumnStoreIsReady_PagesInTheQuery() {
+        DeploymentLogFilter filter = new DeploymentLogFilter(EnumSet.of(Environment.QA), null, null);
+        when(deploymentLogRepository.findFiltered(false, EnumSet.of(Environment.QA), null, true,
+                Collections.singleton(0L), PageRequest.of(2, 10))).thenReturn(Arrays.asList(testLog));
+
+        List<DeploymentLog> actualLogs = deploymentLogService.findDeploymentLogs(filter, 2, 10);
+
+        assertEquals(Arrays.asList(testLog), actualLogs);
+        verify(deploymentLogRepository, never()).findAllByOrderByDeploymentTimestampDesc();
+    }
+
     @Test
     void getDeploymentLogsByReleaseAndEnvironment_ReturnsFilteredLogs() {
         List<DeploymentLog> expectedLogs = Arrays.asList(testLog);
@@ -187,4 +330,16 @@ class DeploymentLogServiceTest {
         assertEquals(expectedLogs, actualLogs);
         verify(deploymentLogRepository).findByDeploymentTimestampBetween(startDate, endDate);
     }
+
+    @Test
+    void getRecentDeploymentLogs_QueriesOnlyRecentPartitions() {
+        List<DeploymentLog> expectedLogs = Arrays.asList(testLog);
+        int currentMonth = DeploymentLog.monthOf(LocalDateTime.now());
+        when(deploymentLogRepository.findByDeploymentMonthGreaterThanEqualOrderByDeploymentTimestampDesc(currentMonth)).thenReturn(expectedLogs);
+
+        List<DeploymentLog> actualLogs = deploymentLogService.getRecentDeploymentLogs(1);
+
+        assertEquals(expectedLogs, actualLogs);
+        verify(deploymentLogRepository).findByDeploymentMonthGreaterThanEqualOrderByDeploymentTimestampDesc(currentMonth);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.releasetracker.service;
+
+import com.releasetracker.model.DeploymentAction;
+import com.releasetracker.model.Environment;
+import com.releasetracker.repository.DeploymentLogRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeploymentTransitionBackfillTest {
+
+    @Mock
+    private DeploymentLogRepository deploymentLogRepository;
+
+    @InjectMocks
+    private DeploymentTransitionBackfill backfill;
+
+    @Test
+    void backfill_MapsEveryLegacyTransitionNote() {
+        when(deploymentLogRepository.existsByActionIsNull()).thenReturn(true);
+        when(deploymentLogRepository.backfillTransition("Release promoted from QA to UAT",
+                DeploymentAction.PROMOTED, Environment.QA, Environment.UAT)).thenReturn(4);
+        when(deploymentLogRepository.backfillTransition("Release rolled back from PROD to UAT",
+                DeploymentAction.ROLLED_BACK, Environment.PROD, Environment.UAT)).thenReturn(2);
+        when(deploymentLogRepository.backfillAction(DeploymentAction.DEPLOYED)).thenReturn(10);
+
+        int updated = backfill.backfill();
+
+        assertEquals(16, updated);
+        verify(deploymentLogRepository, times(6)).backfillTransition(anyString(), any(DeploymentAction.class),
+                any(Environment.class), any(Environment.class));
+        verify(deploymentLogRepository).backfillTransition("Release promoted from DEV to QA",
+                DeploymentAction.PROMOTED, Environment.DEV, Environment.QA);
+        verify(deploymentLogRepository).backfillTransition("Release rolled back from QA to DEV",
+                DeploymentAction.ROLLED_BACK, Environment.QA, Environment.DEV);
+    }
+
+    @Test
+    void backfill_SkipsUpdatesOnceNoRowLacksAnAction() {
+        when(deploymentLogRepository.existsByActionIsNull()).thenReturn(false);
+
+        assertEquals(0, backfill.backfill());
+        verify(deploymentLogRepository, never()).backfillTransition(anyString(), any(DeploymentAction.class),
+                any(Environment.class), any(Environment.class));
+        verify(deploymentLogRepository, never()).backfillAction(any(DeploymentAction.class));
+    }
+}
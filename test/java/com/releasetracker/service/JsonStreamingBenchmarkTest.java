@@ -0,0 +1,127 @@
+package com.releasetracker.service;
+
+import com.releasetracker.model.*;
+import com.releasetracker.repository.ReleaseRepository;
+import com.releasetracker.repository.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class JsonStreamingBenchmarkTest {
+
+    private static final int[] SIZES = {10_000, 100_000, 300_000};
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReleaseRepository releaseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void compareListAndStreamingResponses() throws Exception {
+        User user = userRepository.save(new User("bench.stream", "bench.stream@example.com", "Bench Stream", UserRole.DEVELOPER));
+        Release release = releaseRepository.save(new Release("8.0.0", "Streaming benchmark", user));
+
+        int loaded = 0;
+        for (int size : SIZES) {
+            insertLogs(release, user, size - loaded);
+            loaded = size;
+            for (String path : Arrays.asList("/api/deployment-logs", "/api/deployment-logs/stream")) {
+                fetch(path);
+                fetch(path).print(path, size);
+            }
+        }
+    }
+
+    private void insertLogs(Release release, User user, int count) {
+        LocalDateTime start = LocalDateTime.now().minusDays(30);
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime timestamp = start.plusSeconds(i);
+            rows.add(new Object[] {release.getId(), Environment.QA.name(), user.getId(), Timestamp.valueOf(timestamp),
+                    DeploymentLog.monthOf(timestamp), "Streaming benchmark " + i, i % 10 != 0});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO deployment_logs (release_id, environment, deployed_by, deployment_timestamp, " +
+                "deployment_month, notes, success) VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    private Result fetch(String path) throws Exception {
+        System.gc();
+        List<MemoryPoolMXBean> heapPools = new ArrayList<>();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+                heapPools.add(pool);
+            }
+        }
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+        long start = System.nanoTime();
+        HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        long bytes;
+        long firstByte;
+        try (InputStream body = response.body()) {
+            body.read();
+            firstByte = System.nanoTime() - start;
+            bytes = 1 + body.transferTo(OutputStream.nullOutputStream());
+        }
+        long total = System.nanoTime() - start;
+
+        long peakHeap = 0;
+        for (MemoryPoolMXBean pool : heapPools) {
+            peakHeap += pool.getPeakUsage().getUsed();
+        }
+        return new Result(firstByte, total, bytes, peakHeap);
+    }
+
+    private static class Result {
+        private final long firstByteNanos;
+        private final long totalNanos;
+        private final long bytes;
+        private final long peakHeap;
+
+        Result(long firstByteNanos, long totalNanos, long bytes, long peakHeap) {
+            this.firstByteNanos = firstByteNanos;
+            this.totalNanos = totalNanos;
+            this.bytes = bytes;
+            this.peakHeap = peakHeap;
+        }
+
+        void print(String name, int rows) {
+            System.out.printf("%-30s %,8d rows  TTFB %,8.1f ms  total %,8.1f ms  %,6d MB body  peak heap %,6d MB%n",
+                    name, rows, firstByteNanos / 1e6, totalNanos / 1e6, bytes >> 20, peakHeap >> 20);
+        }
+    }
+}
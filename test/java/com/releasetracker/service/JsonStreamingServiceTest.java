@@ -0,0 +1,85 @@
+package com.releasetracker.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.releasetracker.model.*;
+import com.releasetracker.repository.DeploymentLogRepository;
+import com.releasetracker.repository.ReleaseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JsonStreamingServiceTest {
+
+    @Mock
+    private ReleaseRepository releaseRepository;
+
+    @Mock
+    private DeploymentLogRepository deploymentLogRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private JsonStreamingService jsonStreamingService;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        jsonStreamingService = new JsonStreamingService(releaseRepository, deploymentLogRepository,
+                objectMapper, entityManager, transactionManager, 2);
+
+        testUser = new User("john.doe", "john@example.com", "John Doe", UserRole.DEVELOPER);
+        testUser.setId(1L);
+    }
+
+    @Test
+    void streamReleases_WritesJsonArray() throws Exception {
+        List<Release> releases = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Release release = new Release("1.0." + i, "Release " + i, testUser);
+            release.setId((long) i + 1);
+            releases.add(release);
+        }
+        when(releaseRepository.streamAllByOrderByCreatedAtDesc()).thenReturn(releases.stream());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        jsonStreamingService.streamReleases().writeTo(out);
+
+        JsonNode json = objectMapper.readTree(out.toString(StandardCharsets.UTF_8.name()));
+        assertTrue(json.isArray());
+        assertEquals(5, json.size());
+        assertEquals("1.0.4", json.get(4).get("versionNumber").asText());
+        verify(entityManager, times(2)).clear();
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void streamDeploymentLogs_WritesEmptyArray_WhenNoRows() throws Exception {
+        when(deploymentLogRepository.streamAllByOrderByDeploymentTimestampDesc()).thenReturn(Stream.empty());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        jsonStreamingService.streamDeploymentLogs().writeTo(out);
+
+        assertEquals("[]", out.toString(StandardCharsets.UTF_8.name()));
+        verify(entityManager, never()).clear();
+    }
+}
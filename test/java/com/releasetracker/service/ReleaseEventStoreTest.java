@@ -0,0 +1,111 @@
+package com.releasetracker.service;
+
+import com.releasetracker.event.ReleaseEventAppendedEvent;
+import com.releasetracker.exception.ReleaseNotFoundException;
+import com.releasetracker.model.*;
+import com.releasetracker.repository.ReleaseEventRepository;
+import com.releasetracker.repository.ReleaseRepository;
+import com.releasetracker.repository.ReleaseSnapshotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReleaseEventStoreTest {
+
+    @Mock
+    private ReleaseEventRepository releaseEventRepository;
+
+    @Mock
+    private ReleaseSnapshotRepository releaseSnapshotRepository;
+
+    @Mock
+    private ReleaseRepository releaseRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ReleaseEventStore releaseEventStore;
+    private Release testRelease;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        releaseEventStore = new ReleaseEventStore(releaseEventRepository, releaseSnapshotRepository, releaseRepository, eventPublisher, true);
+
+        testUser = new User("john.doe", "john@example.com", "John Doe", UserRole.DEVELOPER);
+        testUser.setId(1L);
+
+        testRelease = new Release("1.0.0", "Initial release", testUser);
+        testRelease.setId(7L);
+        testRelease.setCurrentEnvironment(Environment.QA);
+    }
+
+    @Test
+    void recordTransition_AssignsNextSequenceAndPublishes() {
+        ReleaseEvent previous = event(3, ReleaseEventType.PROMOTED, Environment.DEV, Environment.QA);
+        when(releaseEventRepository.findTopByReleaseIdOrderBySequenceDesc(7L)).thenReturn(Optional.of(previous));
+        when(releaseEventRepository.save(any(ReleaseEvent.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ReleaseEvent recorded = releaseEventStore.recordTransition(testRelease, ReleaseEventType.PROMOTED,
+                Environment.QA, Environment.UAT, testUser);
+
+        InOrder ordered = inOrder(releaseRepository, releaseEventRepository);
+        ordered.verify(releaseRepository).findByIdForUpdate(7L);
+        ordered.verify(releaseEventRepository).findTopByReleaseIdOrderBySequenceDesc(7L);
+
+        assertEquals(4, recorded.getSequence());
+        assertEquals(ReleaseEventType.PROMOTED, recorded.getType());
+        assertEquals(Environment.UAT, recorded.getToEnvironment());
+        assertEquals(1L, recorded.getActorId());
+
+        ArgumentCaptor<ReleaseEventAppendedEvent> published = ArgumentCaptor.forClass(ReleaseEventAppendedEvent.class);
+        verify(eventPublisher).publishEvent(published.capture());
+        assertSame(recorded, published.getValue().getReleaseEvent());
+    }
+
+    @Test
+    void rebuild_FoldsTailOntoLatestSnapshot() {
+        ReleaseSnapshot snapshot = new ReleaseSnapshot(7L);
+        snapshot.apply(event(1, ReleaseEventType.CREATED, null, Environment.DEV));
+        snapshot.apply(event(2, ReleaseEventType.PROMOTED, Environment.DEV, Environment.QA));
+        when(releaseSnapshotRepository.findById(7L)).thenReturn(Optional.of(snapshot));
+        when(releaseEventRepository.findByReleaseIdAndSequenceGreaterThanOrderBySequenceAsc(7L, 2L)).thenReturn(Arrays.asList(
+                event(3, ReleaseEventType.PROMOTED, Environment.QA, Environment.UAT),
+                event(4, ReleaseEventType.ROLLED_BACK, Environment.UAT, Environment.QA)));
+
+        ReleaseSnapshot state = releaseEventStore.rebuild(7L);
+
+        assertEquals(4, state.getSequence());
+        assertEquals(Environment.QA, state.getCurrentEnvironment());
+        assertEquals("1.0.0", state.getVersionNumber());
+        assertEquals(2, snapshot.getSequence());
+    }
+
+    @Test
+    void rebuild_ThrowsException_WhenNoEventsRecorded() {
+        when(releaseSnapshotRepository.findById(7L)).thenReturn(Optional.empty());
+        when(releaseEventRepository.findByReleaseIdAndSequenceGreaterThanOrderBySequenceAsc(7L, 0L)).thenReturn(Collections.emptyList());
+
+        assertThrows(ReleaseNotFoundException.class, () -> releaseEventStore.rebuild(7L));
+    }
+
+    private ReleaseEvent event(long sequence, ReleaseEventType type, Environment from, Environment to) {
+        return new ReleaseEvent(7L, sequence, type, from, to, "1.0.0", "Initial release", 1L, 1L,
+                LocalDateTime.of(2024, 1, 1, 12, 0).plusMinutes(sequence));
+    }
+}
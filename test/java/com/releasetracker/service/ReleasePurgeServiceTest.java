@@ -0,0 +1,141 @@
+package com.releasetracker.service;
+
+import com.releasetracker.exception.ReleaseNotFoundException;
+import com.releasetracker.model.DeploymentLog;
+import com.releasetracker.model.Environment;
+import com.releasetracker.model.Release;
+import com.releasetracker.model.ReleasePurgeProgress;
+import com.releasetracker.model.User;
+import com.releasetracker.model.UserRole;
+import com.releasetracker.repository.DeploymentLogRepository;
+import com.releasetracker.repository.ReleaseRepository;
+import com.releasetracker.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {"spring.datasource.url=jdbc:h2:mem:release-purge",
+        "releasetracker.releases.purge.min-chunk-size=50",
+        "releasetracker.releases.purge.max-chunk-size=500",
+        "releasetracker.releases.purge.max-pause-ms=5"})
+@ActiveProfiles("test")
+class ReleasePurgeServiceTest {
+
+    private static final int LOGS = 2_500;
+
+    @Autowired
+    private ReleaseService releaseService;
+
+    @Autowired
+    private ReleasePurgeService releasePurgeService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReleaseRepository releaseRepository;
+
+    @Autowired
+    private DeploymentLogRepository deploymentLogRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void deleteRelease_HidesReleaseAndItsDeploymentLogs() {
+        User owner = owner("purge.hidden");
+        Release deleted = releaseWithLogs(owner, "8.0.1", 20);
+        Release kept = releaseWithLogs(owner, "8.0.2", 5);
+
+        releaseService.deleteRelease(deleted.getId());
+
+        assertTrue(releaseRepository.findById(deleted.getId()).isEmpty());
+        assertFalse(releaseRepository.findByOwnerOrderByCreatedAtDesc(owner).stream()
+                .anyMatch(release -> release.getId().equals(deleted.getId())));
+        assertTrue(deploymentLogRepository.findByRelease_IdOrderByDeploymentTimestampDesc(deleted.getId()).isEmpty());
+        assertEquals(5, deploymentLogRepository.findByRelease_IdOrderByDeploymentTimestampDesc(kept.getId()).size());
+        assertThrows(ReleaseNotFoundException.class, () -> releaseService.deleteRelease(deleted.getId()));
+    }
+
+    @Test
+    void purgePending_RemovesHistoryInBoundedChunks() {
+        Release release = releaseWithLogs(owner("purge.chunks"), "8.1.0", LOGS);
+
+        releaseService.deleteRelease(release.getId());
+        releasePurgeService.purgePending();
+
+        assertEquals(0L, count("SELECT COUNT(*) FROM deployment_logs WHERE release_id = ?", release.getId()));
+        assertEquals(0L, count("SELECT COUNT(*) FROM releases WHERE id = ?", release.getId()));
+        ReleasePurgeProgress progress = releasePurgeService.getPurges().stream()
+                .filter(purge -> purge.getReleaseId() == release.getId())
+                .findFirst()
+                .orElseThrow();
+        assertNotNull(progress.getFinishedAt());
+        assertTrue(progress.getRowsRemoved() >= LOGS, "rows: " + progress.getRowsRemoved());
+        assertTrue(progress.getChunks() >= LOGS / 500, "chunks: " + progress.getChunks());
+    }
+
+    @Test
+    void purgePending_FreesVersionNumberOnceReleaseIsGone() {
+        User owner = owner("purge.version");
+        Release release = releaseWithLogs(owner, "8.2.0", 3);
+
+        releaseService.deleteRelease(release.getId());
+        releasePurgeService.purgePending();
+
+        Release recreated = releaseService.createRelease(new Release("8.2.0", "Recreated", owner));
+        assertNotEquals(release.getId(), recreated.getId());
+    }
+
+    @Test
+    void nextChunkSize_ShrinksWhenSlowAndGrowsWhenFast() {
+        ReleasePurgeService purger = new ReleasePurgeService(jdbcTemplate, null, 100, 5_000, 50, 2_000);
+
+        assertEquals(500, purger.nextChunkSize(1_000, 120));
+        assertEquals(100, purger.nextChunkSize(150, 120));
+        assertEquals(1_000, purger.nextChunkSize(1_000, 40));
+        assertEquals(1_250, purger.nextChunkSize(1_000, 10));
+        assertEquals(5_000, purger.nextChunkSize(4_500, 10));
+    }
+
+    @Test
+    void pauseMillis_GrowsFasterThanChunkLatency() {
+        ReleasePurgeService purger = new ReleasePurgeService(jdbcTemplate, null, 100, 5_000, 50, 2_000);
+
+        assertEquals(2, purger.pauseMillis(10));
+        assertEquals(50, purger.pauseMillis(50));
+        assertEquals(200, purger.pauseMillis(100));
+        assertEquals(2_000, purger.pauseMillis(1_000));
+    }
+
+    private User owner(String username) {
+        return userRepository.save(new User(username, username + "@example.com", "Purge Owner", UserRole.DEVELOPER));
+    }
+
+    private Release releaseWithLogs(User owner, String versionNumber, int logs) {
+        Release release = releaseRepository.save(new Release(versionNumber, "Purge test release", owner));
+        LocalDateTime timestamp = LocalDateTime.now().minusDays(1);
+        List<Object[]> rows = new ArrayList<>(logs);
+        for (int i = 0; i < logs; i++) {
+            LocalDateTime at = timestamp.plusSeconds(i);
+            rows.add(new Object[] {release.getId(), Environment.DEV.name(), owner.getId(), Timestamp.valueOf(at),
+                    DeploymentLog.monthOf(at), i % 10 != 0});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO deployment_logs (release_id, environment, deployed_by, " +
+                "deployment_timestamp, deployment_month, success) VALUES (?, ?, ?, ?, ?, ?)", rows);
+        return release;
+    }
+
+    private long count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+}
@@ -1,20 +1,31 @@
 package com.releasetracker.service;
 
+import com.releasetracker.analytics.DwellTimeTracker;
+import com.releasetracker.analytics.RollbackHotspotTracker;
+import com.releasetracker.event.ReleaseDeletedEvent;
 import com.releasetracker.exception.InvalidEnvironmentException;
 import com.releasetracker.exception.ReleaseNotFoundException;
 import com.releasetracker.exception.UserAlreadyExistsException;
+import com.releasetracker.exception.UserNotFoundException;
+import com.releasetracker.model.DeploymentAction;
 import com.releasetracker.model.Environment;
 import com.releasetracker.model.Release;
+import com.releasetracker.model.ReleaseEvent;
+import com.releasetracker.model.ReleaseEventType;
+import com.releasetracker.model.ReleaseSnapshot;
 import com.releasetracker.model.User;
 import com.releasetracker.model.UserRole;
 import com.releasetracker.repository.ReleaseRepository;
+import com.releasetracker.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -29,9 +40,27 @@ class ReleaseServiceTest {
     @Mock
     private ReleaseRepository releaseRepository;
 
+    @Mock
+    private UserRepository userRepository;
+
     @Mock
     private DeploymentLogService deploymentLogService;
 
+    @Mock
+    private ReleaseEventStore releaseEventStore;
+
+    @Mock
+    private ReleaseStateProjector releaseStateProjector;
+
+    @Mock
+    private RollbackHotspotTracker rollbackHotspotTracker;
+
+    @Mock
+    private DwellTimeTracker dwellTimeTracker;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ReleaseService releaseService;
 
@@ -96,6 +125,47 @@ class ReleaseServiceTest {
         verify(releaseRepository).findById(1L);
     }
 
+    @Test
+    void getReleaseById_WithEventSourcing_ServesProjectedState() {
+        LocalDateTime promotedAt = LocalDateTime.now();
+        ReleaseSnapshot state = new ReleaseSnapshot(1L);
+        state.apply(new ReleaseEvent(1L, 1L, ReleaseEventType.CREATED, null, Environment.DEV,
+                "1.0.0", "Initial release", 1L, null, promotedAt.minusHours(1)));
+        state.apply(new ReleaseEvent(1L, 2L, ReleaseEventType.PROMOTED, Environment.DEV, Environment.QA,
+                "1.0.0", "Initial release", 1L, 1L, promotedAt));
+        when(releaseEventStore.isEnabled()).thenReturn(true);
+        when(releaseRepository.findById(1L)).thenReturn(Optional.of(testRelease));
+        when(releaseStateProjector.findCurrentState(1L)).thenReturn(Optional.of(state));
+
+        Release foundRelease = releaseService.getReleaseById(1L);
+
+        assertEquals(Environment.QA, foundRelease.getCurrentEnvironment());
+        assertEquals(promotedAt, foundRelease.getEnvironmentEnteredAt());
+        assertSame(testUser, foundRelease.getOwner());
+        assertEquals(Environment.DEV, testRelease.getCurrentEnvironment(), "the managed entity must stay untouched");
+    }
+
+    @Test
+    void getReleasesByEnvironment_WithEventSourcing_FiltersOnProjectedState() {
+        Release unprojected = new Release("0.9.0", "Predates event sourcing", testUser);
+        unprojected.setId(2L);
+        unprojected.setCurrentEnvironment(Environment.QA);
+        ReleaseSnapshot state = new ReleaseSnapshot(1L);
+        state.apply(new ReleaseEvent(1L, 1L, ReleaseEventType.CREATED, null, Environment.DEV,
+                "1.0.0", "Initial release", 1L, null, LocalDateTime.now()));
+        state.apply(new ReleaseEvent(1L, 2L, ReleaseEventType.PROMOTED, Environment.DEV, Environment.QA,
+                "1.0.0", "Initial release", 1L, 1L, LocalDateTime.now()));
+        when(releaseEventStore.isEnabled()).thenReturn(true);
+        when(releaseRepository.findAllByOrderByCreatedAtDesc()).thenReturn(Arrays.asList(testRelease, unprojected));
+        when(releaseStateProjector.findCurrentState(1L)).thenReturn(Optional.of(state));
+        when(releaseStateProjector.findCurrentState(2L)).thenReturn(Optional.empty());
+
+        List<Release> inQa = releaseService.getReleasesByEnvironment(Environment.QA);
+
+        assertEquals(Arrays.asList(1L, 2L), Arrays.asList(inQa.get(0).getId(), inQa.get(1).getId()));
+        verify(releaseRepository, never()).findByCurrentEnvironment(any());
+    }
+
     @Test
     void getReleaseById_ThrowsException_WhenReleaseNotFound() {
         when(releaseRepository.findById(1L)).thenReturn(Optional.empty());
@@ -123,21 +193,46 @@ class ReleaseServiceTest {
 
     @Test
     void promoteRelease_Success() {
-        when(releaseRepository.findById(1L)).thenReturn(Optional.of(testRelease));
+        when(releaseRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testRelease));
         when(releaseRepository.save(any(Release.class))).thenReturn(testRelease);
 
         Release promotedRelease = releaseService.promoteRelease(1L, testUser);
 
         assertEquals(Environment.QA, promotedRelease.getCurrentEnvironment());
-        verify(releaseRepository).findById(1L);
+        verify(releaseRepository).findByIdForUpdate(1L);
         verify(releaseRepository).save(testRelease);
-        verify(deploymentLogService).logDeployment(any(Release.class), eq(Environment.QA), eq(testUser), eq(true), anyString());
+        verify(deploymentLogService).logTransition(testRelease, DeploymentAction.PROMOTED, Environment.DEV, Environment.QA, testUser);
+    }
+
+    @Test
+    void promoteRelease_RecordsDwellInPreviousEnvironment() {
+        LocalDateTime enteredDev = LocalDateTime.now().minusDays(2);
+        testRelease.setEnvironmentEnteredAt(enteredDev);
+        when(releaseRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testRelease));
+        when(releaseRepository.save(any(Release.class))).thenReturn(testRelease);
+
+        releaseService.promoteRelease(1L, testUser);
+
+        verify(dwellTimeTracker).recordExit(eq(1L), eq(1L), eq(Environment.DEV), eq(enteredDev),
+                any(LocalDateTime.class), eq(DeploymentAction.PROMOTED));
+        assertTrue(testRelease.getEnvironmentEnteredAt().isAfter(enteredDev));
+    }
+
+    @Test
+    void promoteRelease_AppendsEvent_WhenEventSourcingEnabled() {
+        when(releaseRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testRelease));
+        when(releaseRepository.save(any(Release.class))).thenReturn(testRelease);
+        when(releaseEventStore.isEnabled()).thenReturn(true);
+
+        releaseService.promoteRelease(1L, testUser);
+
+        verify(releaseEventStore).recordTransition(testRelease, ReleaseEventType.PROMOTED, Environment.DEV, Environment.QA, testUser);
     }
 
     @Test
     void promoteRelease_ThrowsException_WhenAlreadyInProduction() {
         testRelease.setCurrentEnvironment(Environment.PROD);
-        when(releaseRepository.findById(1L)).thenReturn(Optional.of(testRelease));
+        when(releaseRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testRelease));
 
         InvalidEnvironmentException exception = assertThrows(
             InvalidEnvironmentException.class,
@@ -151,20 +246,22 @@ class ReleaseServiceTest {
     @Test
     void rollbackRelease_Success() {
         testRelease.setCurrentEnvironment(Environment.QA);
-        when(releaseRepository.findById(1L)).thenReturn(Optional.of(testRelease));
+        when(releaseRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testRelease));
         when(releaseRepository.save(any(Release.class))).thenReturn(testRelease);
 
         Release rolledBackRelease = releaseService.rollbackRelease(1L, testUser);
 
         assertEquals(Environment.DEV, rolledBackRelease.getCurrentEnvironment());
-        verify(releaseRepository).findById(1L);
+        verify(releaseRepository).findByIdForUpdate(1L);
         verify(releaseRepository).save(testRelease);
-        verify(deploymentLogService).logDeployment(any(Release.class), eq(Environment.DEV), eq(testUser), eq(true), anyString());
+        verify(deploymentLogService).logTransition(testRelease, DeploymentAction.ROLLED_BACK, Environment.QA, Environment.DEV, testUser);
+        verify(rollbackHotspotTracker).recordRollback(eq(testRelease.getId()), eq(testUser.getId()),
+                eq(Environment.QA), eq(Environment.DEV), any(LocalDateTime.class));
     }
 
     @Test
     void rollbackRelease_ThrowsException_WhenInDevelopment() {
-        when(releaseRepository.findById(1L)).thenReturn(Optional.of(testRelease));
+        when(releaseRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testRelease));
 
         InvalidEnvironmentException exception = assertThrows(
             InvalidEnvironmentException.class,
@@ -176,18 +273,45 @@ class ReleaseServiceTest {
     }
 
     @Test
-    void deleteRelease_Success() {
-        when(releaseRepository.existsById(1L)).thenReturn(true);
+    void getReleasesByOwnerId_SkipsOwnerLookup_WhenReleasesFound() {
+        when(releaseRepository.findWithOwnerByOwner_IdOrderByCreatedAtDesc(1L)).thenReturn(Arrays.asList(testRelease));
+
+        List<Release> releases = releaseService.getReleasesByOwnerId(1L);
+
+        assertEquals(Arrays.asList(testRelease), releases);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void getReleasesByOwnerId_ReturnsEmpty_WhenOwnerHasNoReleases() {
+        when(releaseRepository.findWithOwnerByOwner_IdOrderByCreatedAtDesc(1L)).thenReturn(List.of());
+        when(userRepository.existsById(1L)).thenReturn(true);
+
+        assertTrue(releaseService.getReleasesByOwnerId(1L).isEmpty());
+    }
+
+    @Test
+    void getReleasesByOwnerId_ThrowsException_WhenOwnerNotFound() {
+        when(releaseRepository.findWithOwnerByOwner_IdOrderByCreatedAtDesc(1L)).thenReturn(List.of());
+        when(userRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(UserNotFoundException.class, () -> releaseService.getReleasesByOwnerId(1L));
+    }
+
+    @Test
+    void deleteRelease_SoftDeletesAndSchedulesPurge() {
+        when(releaseRepository.softDeleteById(eq(1L), any(LocalDateTime.class))).thenReturn(1);
 
         assertDoesNotThrow(() -> releaseService.deleteRelease(1L));
 
-        verify(releaseRepository).existsById(1L);
-        verify(releaseRepository).deleteById(1L);
+        verify(releaseRepository).softDeleteById(eq(1L), any(LocalDateTime.class));
+        verify(releaseRepository, never()).deleteById(1L);
+        verify(eventPublisher).publishEvent(any(ReleaseDeletedEvent.class));
     }
 
     @Test
     void deleteRelease_ThrowsException_WhenReleaseNotFound() {
-        when(releaseRepository.existsById(1L)).thenReturn(false);
+        when(releaseRepository.softDeleteById(eq(1L), any(LocalDateTime.class))).thenReturn(0);
 
         ReleaseNotFoundException exception = assertThrows(
             ReleaseNotFoundException.class,
@@ -195,6 +319,6 @@ class ReleaseServiceTest {
         );
 
         assertTrue(exception.getMessage().contains("Release not found with id"));
-        verify(releaseRepository, never()).deleteById(1L);
+        verifyNoInteractions(eventPublisher);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,214 @@
+package com.releasetracker.service;
+
+import com.releasetracker.exception.InvalidEnvironmentException;
+import com.releasetracker.exception.ReleaseNotFoundException;
+import com.releasetracker.model.DeploymentLog;
+import com.releasetracker.model.Environment;
+import com.releasetracker.model.Release;
+import com.releasetracker.model.User;
+import com.releasetracker.model.UserRole;
+import com.releasetracker.repository.DeploymentLogRepository;
+import com.releasetracker.repository.ReleaseRepository;
+import com.releasetracker.repository.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Hammers promote/rollback/update on a handful of releases from many threads, then checks that every
+ * environment change has exactly one matching log and that the logs form an unbroken chain starting at DEV.
+ * A separate set of releases is also deleted mid-run: operations on them must either succeed or fail with
+ * ReleaseNotFoundException, and once purged nothing of them may be left behind.
+ * Scale with -Dstress.threads, -Dstress.operations, -Dstress.releases and -Dstress.deleted-releases.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:stress;LOCK_TIMEOUT=30000")
+@ActiveProfiles("test")
+@Tag("stress")
+class ReleaseTransitionStressTest {
+
+    private static final int THREADS = Integer.getInteger("stress.threads", 8);
+    private static final int OPERATIONS_PER_THREAD = Integer.getInteger("stress.operations", 250);
+    private static final int RELEASES = Integer.getInteger("stress.releases", 2);
+    private static final int DELETED_RELEASES = Integer.getInteger("stress.deleted-releases", 2);
+
+    @Autowired
+    private ReleaseService releaseService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReleaseRepository releaseRepository;
+
+    @Autowired
+    private DeploymentLogRepository deploymentLogRepository;
+
+    @Autowired
+    private ReleasePurgeService releasePurgeService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final AtomicInteger transitions = new AtomicInteger();
+    private final AtomicInteger updates = new AtomicInteger();
+    private final AtomicInteger rejected = new AtomicInteger();
+    private final AtomicInteger deletes = new AtomicInteger();
+    private final AtomicInteger notFound = new AtomicInteger();
+    private final AtomicInteger deletedReleaseOperations = new AtomicInteger();
+
+    @Test
+    void concurrentTransitions_KeepEnvironmentAndLogHistoryConsistent() throws Exception {
+        User user = userRepository.save(new User("stress.user", "stress.user@example.com", "Stress User", UserRole.DEVELOPER));
+        List<Release> releases = new ArrayList<>();
+        for (int i = 0; i < RELEASES; i++) {
+            Release release = releaseService.createRelease(new Release("9.9." + i, "Stress " + i, user));
+            releaseService.promoteRelease(release.getId(), user);
+            transitions.incrementAndGet();
+            releases.add(release);
+        }
+        List<Release> deletedReleases = new ArrayList<>();
+        for (int i = 0; i < DELETED_RELEASES; i++) {
+            Release release = releaseService.createRelease(new Release("9.8." + i, "Stress deleted " + i, user));
+            releaseService.promoteRelease(release.getId(), user);
+            deletedReleases.add(release);
+        }
+        List<Release> targets = new ArrayList<>(releases);
+        targets.addAll(deletedReleases);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            workers.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    int target = ThreadLocalRandom.current().nextInt(targets.size());
+                    if (target < releases.size()) {
+                        apply(targets.get(target), user, ThreadLocalRandom.current().nextInt(20));
+                    } else {
+                        applyToDeleted(targets.get(target), user, ThreadLocalRandom.current().nextInt(20));
+                    }
+                }
+                return null;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get(5, TimeUnit.MINUTES);
+        }
+        double seconds = (System.nanoTime() - begin) / 1e9;
+        pool.shutdown();
+
+        System.out.printf("%-32s %,8.0f ops/s  %d threads  %d transitions  %d updates  %d rejected  %d deletes  %d not found%n",
+                "release transitions", THREADS * OPERATIONS_PER_THREAD / seconds, THREADS,
+                transitions.get(), updates.get(), rejected.get(), deletes.get(), notFound.get());
+
+        long logged = 0;
+        for (Release release : releases) {
+            logged += assertConsistentHistory(release.getId());
+        }
+        assertEquals(transitions.get(), logged);
+        assertEquals(THREADS * OPERATIONS_PER_THREAD + RELEASES,
+                transitions.get() + updates.get() + rejected.get() + deletedReleaseOperations.get());
+
+        // Releases the random mix never deleted are deleted now; then nothing of any of them may remain
+        for (Release release : deletedReleases) {
+            try {
+                releaseService.deleteRelease(release.getId());
+            } catch (ReleaseNotFoundException e) {
+                // Already deleted by a worker
+            }
+        }
+        releasePurgeService.purgePending();
+        for (Release release : deletedReleases) {
+            assertFullyPurged(release.getId(), user);
+        }
+    }
+
+    private void apply(Release release, User user, int operation) {
+        try {
+            if (operation < 9) {
+                releaseService.promoteRelease(release.getId(), user);
+                transitions.incrementAndGet();
+            } else if (operation < 18) {
+                releaseService.rollbackRelease(release.getId(), user);
+                transitions.incrementAndGet();
+            } else {
+                releaseService.updateRelease(release.getId(),
+                        new Release(release.getVersionNumber(), "Updated by " + Thread.currentThread().getName(), user));
+                updates.incrementAndGet();
+            }
+        } catch (InvalidEnvironmentException | DataIntegrityViolationException e) {
+            rejected.incrementAndGet();
+        }
+    }
+
+    // Any operation may race the delete; once it has committed, each must fail with ReleaseNotFoundException
+    private void applyToDeleted(Release release, User user, int operation) {
+        deletedReleaseOperations.incrementAndGet();
+        try {
+            if (operation < 8) {
+                releaseService.promoteRelease(release.getId(), user);
+            } else if (operation < 16) {
+                releaseService.rollbackRelease(release.getId(), user);
+            } else if (operation < 18) {
+                releaseService.updateRelease(release.getId(),
+                        new Release(release.getVersionNumber(), "Updated by " + Thread.currentThread().getName(), user));
+            } else {
+                releaseService.deleteRelease(release.getId());
+                deletes.incrementAndGet();
+            }
+        } catch (ReleaseNotFoundException e) {
+            notFound.incrementAndGet();
+        } catch (InvalidEnvironmentException | DataIntegrityViolationException e) {
+            rejected.incrementAndGet();
+            deletedReleaseOperations.decrementAndGet();
+        }
+    }
+
+    private void assertFullyPurged(Long releaseId, User user) {
+        assertThrows(ReleaseNotFoundException.class, () -> releaseService.promoteRelease(releaseId, user));
+        assertFalse(releaseRepository.findById(releaseId).isPresent());
+        for (String table : new String[] {"releases", "deployment_logs", "environment_dwells", "release_events", "release_snapshots"}) {
+            String column = table.equals("releases") ? "id" : "release_id";
+            Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE " + column + " = ?", Integer.class, releaseId);
+            assertEquals(0, rows.intValue(), table + " still holds rows of purged release " + releaseId);
+        }
+    }
+
+    private int assertConsistentHistory(Long releaseId) {
+        Optional<Release> release = releaseRepository.findById(releaseId);
+        assertTrue(release.isPresent(), "Release " + releaseId + " disappeared");
+        List<DeploymentLog> logs = new ArrayList<>(deploymentLogRepository.findByReleaseOrderByDeploymentTimestampDesc(release.get()));
+        logs.sort(Comparator.comparing(DeploymentLog::getId));
+
+        Environment environment = Environment.DEV;
+        for (DeploymentLog log : logs) {
+            assertEquals(environment, log.getFromEnvironment(), "Log " + log.getId() + " does not start where the previous one ended");
+            assertTrue(log.getToEnvironment() == environment.getNext() || log.getToEnvironment() == environment.getPrevious(),
+                    "Log " + log.getId() + " skips from " + environment + " to " + log.getToEnvironment());
+            environment = log.getToEnvironment();
+        }
+        assertEquals(environment, release.get().getCurrentEnvironment());
+        return logs.size();
+    }
+}
@@ -155,18 +155,37 @@ class UserServiceTest {
     }
 
     @Test
-    void deleteUser_Success() {
+    void getUserReference_ReturnsReference_WithoutLoadingUser() {
         when(userRepository.existsById(1L)).thenReturn(true);
+        when(userRepository.getReferenceById(1L)).thenReturn(testUser);
+
+        assertSame(testUser, userService.getUserReference(1L));
+
+        verify(userRepository, never()).findById(1L);
+    }
+
+    @Test
+    void getUserReference_ThrowsException_WhenUserNotFound() {
+        when(userRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(UserNotFoundException.class, () -> userService.getUserReference(1L));
+
+        verify(userRepository, never()).getReferenceById(1L);
+    }
+
+    @Test
+    void deleteUser_Success() {
+        when(userRepository.deleteUserById(1L)).thenReturn(1);
 
         assertDoesNotThrow(() -> userService.deleteUser(1L));
 
-        verify(userRepository).existsById(1L);
-        verify(userRepository).deleteById(1L);
+        verify(userRepository).deleteUserById(1L);
+        verify(userRepository, never()).existsById(1L);
     }
 
     @Test
     void deleteUser_ThrowsException_WhenUserNotFound() {
-        when(userRepository.existsById(1L)).thenReturn(false);
+        when(userRepository.deleteUserById(1L)).thenReturn(0);
 
         UserNotFoundException exception = assertThrows(
             UserNotFoundException.class,
@@ -174,6 +193,5 @@ class UserServiceTest {
         );
 
         assertTrue(exception.getMessage().contains("User not found with id"));
-        verify(userRepository, never()).deleteById(1L);
     }
 }
\ No newline at end of file
@@ -0,0 +1,320 @@
+package com.releasetracker.support;
+
+import com.releasetracker.model.DeploymentAction;
+import com.releasetracker.model.DeploymentLog;
+import com.releasetracker.model.Environment;
+import com.releasetracker.model.UserRole;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Bulk-loads users, releases and deployment logs with production-like shapes: a few owners hold most releases,
+ * releases thin out as they move through the environments, deployments fail and get rolled back, and activity
+ * clusters into weekly release trains during working hours. Rows go straight through JDBC batches, one
+ * transaction per batch, so millions of rows load in seconds on H2.
+ *
+ * <p>The same seed produces the same data set. Generated ids are read back in insertion order, so the loader
+ * expects to be the only writer while it runs.
+ */
+public class SyntheticDataGenerator {
+
+    private static final String INSERT_USER_SQL = "INSERT INTO users (username, email, full_name, role) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_RELEASE_SQL = "INSERT INTO releases (version_number, description, owner_id, " +
+            "current_environment, created_at, updated_at, environment_entered_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_DEPLOYMENT_LOG_SQL = "INSERT INTO deployment_logs (release_id, environment, " +
+            "deployed_by, deployment_timestamp, deployment_month, notes, success, action, from_environment, to_environment) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final Environment[] ENVIRONMENTS = Environment.values();
+    // Chance that a release which reached an environment is ever promoted out of it (DEV, QA, UAT)
+    private static final double[] PROMOTION_RATE = {0.75, 0.60, 0.80};
+    // Mean time spent in an environment before the next promotion, in hours
+    private static final double[] MEAN_DWELL_HOURS = {20, 70, 120};
+    // Chance that a single deployment attempt into an environment fails (DEV, QA, UAT, PROD)
+    private static final double[] FAILURE_RATE = {0.12, 0.08, 0.05, 0.03};
+    private static final double ROLLBACK_RATE = 0.06;
+    private static final double RELEASE_TRAIN_SHARE = 0.4;
+    private static final double OWNER_SKEW = 3.0;
+    private static final double DEPLOYER_SKEW = 2.0;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SplittableRandom random;
+    private int batchSize = 10_000;
+    private int historyDays = 365;
+    private LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, long seed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.random = new SplittableRandom(seed);
+    }
+
+    public SyntheticDataGenerator batchSize(int batchSize) {
+        this.batchSize = Math.max(1, batchSize);
+        return this;
+    }
+
+    public SyntheticDataGenerator historyDays(int historyDays) {
+        this.historyDays = Math.max(1, historyDays);
+        return this;
+    }
+
+    public SyntheticDataGenerator now(LocalDateTime now) {
+        this.now = now.truncatedTo(ChronoUnit.SECONDS);
+        return this;
+    }
+
+    /**
+     * Loads {@code users} users and {@code releases} releases, plus at least {@code deploymentLogs} deployment logs.
+     * Every release gets its full promotion history, and releases that have already used up their share of the
+     * requested log volume are padded with redeployments, so the total can only exceed the target when the
+     * promotion histories alone need more rows.
+     */
+    public SyntheticDataset generate(int users, int releases, long deploymentLogs) {
+        if (users < 1 && releases > 0) {
+            throw new IllegalArgumentException("Releases need at least one owner");
+        }
+        long start = System.nanoTime();
+        long[] userIds = loadUsers(users);
+
+        LocalDateTime[] trains = releaseTrains();
+        int versionMajor = nextVersionMajor();
+        long[] releaseIds = new long[releases];
+        long logs = 0;
+        List<Object[]> releaseRows = new ArrayList<>(batchSize);
+        List<PendingLog> pendingLogs = new ArrayList<>();
+
+        for (int i = 0; i < releases; i++) {
+            long logBudget = deploymentLogs * (i + 1) / releases - logs;
+            int logCount = planRelease(i, versionMajor, userIds, trains, logBudget, releaseRows, pendingLogs);
+            logs += logCount;
+            if (releaseRows.size() == batchSize || i == releases - 1) {
+                flushReleases(i + 1 - releaseRows.size(), releaseRows, pendingLogs, releaseIds);
+            }
+        }
+        return new SyntheticDataset(userIds, releaseIds, logs, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private long[] loadUsers(int users) {
+        long firstId = maxId("users") + 1;
+        List<Object[]> rows = new ArrayList<>(Math.min(users, batchSize));
+        for (int i = 0; i < users; i++) {
+            String username = "synthetic.user" + (firstId + i);
+            rows.add(new Object[] {username, username + "@example.com", "Synthetic User " + (firstId + i), role().name()});
+            if (rows.size() == batchSize || i == users - 1) {
+                insert(INSERT_USER_SQL, rows);
+            }
+        }
+        return idsAfter("users", firstId - 1, users);
+    }
+
+    private int planRelease(int index, int versionMajor, long[] userIds, LocalDateTime[] trains, long logBudget,
+                            List<Object[]> releaseRows, List<PendingLog> pendingLogs) {
+        long ownerId = userIds[skewed(userIds.length, OWNER_SKEW)];
+        LocalDateTime createdAt = activityTime(trains);
+        String versionNumber = (versionMajor + index / 1_000_000) + "." + (index / 1000 % 1000) + "." + (index % 1000);
+        int releaseSlot = releaseRows.size();
+        int firstLog = pendingLogs.size();
+
+        // Walk the promotion funnel: every stage deploys (retrying failed attempts), then maybe promotes
+        int stage = 0;
+        LocalDateTime time = deploy(releaseSlot, Environment.DEV, null, DeploymentAction.DEPLOYED, ownerId, userIds,
+                createdAt, pendingLogs);
+        LocalDateTime enteredAt = time;
+        while (stage < PROMOTION_RATE.length && random.nextDouble() < PROMOTION_RATE[stage]) {
+            LocalDateTime promotedAt = time.plusMinutes((long) exponential(MEAN_DWELL_HOURS[stage] * 60));
+            if (promotedAt.isAfter(now)) {
+                break;
+            }
+            time = deploy(releaseSlot, ENVIRONMENTS[stage + 1], ENVIRONMENTS[stage], DeploymentAction.PROMOTED, ownerId,
+                    userIds, workingHours(promotedAt), pendingLogs);
+            stage++;
+            enteredAt = time;
+            if (random.nextDouble() < ROLLBACK_RATE) {
+                LocalDateTime rolledBackAt = time.plusMinutes(5 + (long) exponential(180));
+                if (rolledBackAt.isBefore(now)) {
+                    pendingLogs.add(new PendingLog(releaseSlot, ENVIRONMENTS[stage - 1], ENVIRONMENTS[stage],
+                            DeploymentAction.ROLLED_BACK, deployer(ownerId, userIds), rolledBackAt, true));
+                    stage--;
+                    time = rolledBackAt;
+                    enteredAt = rolledBackAt;
+                    break;
+                }
+            }
+        }
+
+        // Pad with redeployments of environments this release had already reached
+        int funnelLogs = pendingLogs.size() - firstLog;
+        for (long extra = logBudget - funnelLogs; extra > 0; extra--) {
+            PendingLog reached = pendingLogs.get(firstLog + random.nextInt(funnelLogs));
+            LocalDateTime redeployedAt = reached.timestamp.plusMinutes(1 + (long) exponential(24 * 60));
+            if (redeployedAt.isAfter(now)) {
+                redeployedAt = now;
+            }
+            Environment environment = reached.environment;
+            pendingLogs.add(new PendingLog(releaseSlot, environment, null, DeploymentAction.DEPLOYED,
+                    deployer(ownerId, userIds), redeployedAt, random.nextDouble() >= FAILURE_RATE[environment.ordinal()]));
+        }
+
+        releaseRows.add(new Object[] {versionNumber, "Synthetic release " + versionNumber, ownerId,
+                ENVIRONMENTS[stage].name(), Timestamp.valueOf(createdAt), Timestamp.valueOf(time),
+                Timestamp.valueOf(enteredAt)});
+        return pendingLogs.size() - firstLog;
+    }
+
+    private LocalDateTime deploy(int releaseSlot, Environment environment, Environment from, DeploymentAction action,
+                                 long ownerId, long[] userIds, LocalDateTime time, List<PendingLog> pendingLogs) {
+        while (random.nextDouble() < FAILURE_RATE[environment.ordinal()]) {
+            pendingLogs.add(new PendingLog(releaseSlot, environment, null, DeploymentAction.DEPLOYED,
+                    deployer(ownerId, userIds), time, false));
+            LocalDateTime retryAt = time.plusMinutes(10 + (long) exponential(45));
+            time = retryAt.isAfter(now) ? now : retryAt;
+        }
+        pendingLogs.add(new PendingLog(releaseSlot, environment, from, action, deployer(ownerId, userIds), time, true));
+        return time;
+    }
+
+    private void flushReleases(int firstIndex, List<Object[]> releaseRows, List<PendingLog> pendingLogs, long[] releaseIds) {
+        long lastId = maxId("releases");
+        int count = releaseRows.size();
+        insert(INSERT_RELEASE_SQL, releaseRows);
+        long[] ids = idsAfter("releases", lastId, count);
+        System.arraycopy(ids, 0, releaseIds, firstIndex, count);
+
+        List<Object[]> logRows = new ArrayList<>(Math.min(pendingLogs.size(), batchSize));
+        for (PendingLog log : pendingLogs) {
+            logRows.add(log.toRow(ids[log.releaseSlot]));
+            if (logRows.size() == batchSize) {
+                insert(INSERT_DEPLOYMENT_LOG_SQL, logRows);
+            }
+        }
+        if (!logRows.isEmpty()) {
+            insert(INSERT_DEPLOYMENT_LOG_SQL, logRows);
+        }
+        pendingLogs.clear();
+    }
+
+    private void insert(String sql, List<Object[]> rows) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, rows));
+        rows.clear();
+    }
+
+    private long maxId(String table) {
+        Long id = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return id != null ? id : 0;
+    }
+
+    private long[] idsAfter(String table, long lastId, int count) {
+        long[] ids = new long[count];
+        int[] next = {0};
+        jdbcTemplate.query("SELECT id FROM " + table + " WHERE id > ? ORDER BY id",
+                rs -> {
+                    if (next[0] < count) {
+                        ids[next[0]++] = rs.getLong(1);
+                    }
+                }, lastId);
+        if (next[0] != count) {
+            throw new IllegalStateException("Expected " + count + " new " + table + " rows but found " + next[0]);
+        }
+        return ids;
+    }
+
+    private int nextVersionMajor() {
+        Integer major = jdbcTemplate.queryForObject("SELECT MAX(CAST(SUBSTRING(version_number, 1, " +
+                "LOCATE('.', version_number) - 1) AS INT)) FROM releases", Integer.class);
+        return major != null ? major + 1 : 1;
+    }
+
+    private UserRole role() {
+        double roll = random.nextDouble();
+        return roll < 0.1 ? UserRole.ADMIN : roll < 0.8 ? UserRole.DEVELOPER : UserRole.QA;
+    }
+
+    private long deployer(long ownerId, long[] userIds) {
+        return random.nextDouble() < 0.6 ? ownerId : userIds[skewed(userIds.length, DEPLOYER_SKEW)];
+    }
+
+    // Power-law rank: with skew 3 the top 10% of users own close to half of the releases
+    private int skewed(int size, double skew) {
+        return Math.min(size - 1, (int) (size * Math.pow(random.nextDouble(), skew)));
+    }
+
+    private double exponential(double mean) {
+        return -mean * Math.log(1 - random.nextDouble());
+    }
+
+    // One release train per week on a Tuesday or Thursday afternoon
+    private LocalDateTime[] releaseTrains() {
+        LocalDateTime start = now.minusDays(historyDays).truncatedTo(ChronoUnit.DAYS);
+        List<LocalDateTime> trains = new ArrayList<>();
+        for (LocalDateTime day = start; day.isBefore(now); day = day.plusDays(1)) {
+            if (day.getDayOfWeek() == DayOfWeek.TUESDAY || day.getDayOfWeek() == DayOfWeek.THURSDAY) {
+                if (random.nextBoolean()) {
+                    trains.add(day.plusHours(14));
+                }
+            }
+        }
+        return trains.toArray(new LocalDateTime[0]);
+    }
+
+    private LocalDateTime activityTime(LocalDateTime[] trains) {
+        if (trains.length > 0 && random.nextDouble() < RELEASE_TRAIN_SHARE) {
+            LocalDateTime train = trains[random.nextInt(trains.length)];
+            LocalDateTime time = workingHours(train.plusMinutes((long) exponential(90)));
+            return time.isAfter(now) ? now : time;
+        }
+        LocalDateTime time = now.minusSeconds(random.nextLong((long) historyDays * 86_400));
+        return workingHours(time);
+    }
+
+    // Moves weekend and night-time activity to 08:00-19:00 on the next working day
+    private LocalDateTime workingHours(LocalDateTime time) {
+        LocalDateTime moved = time;
+        if (moved.getHour() < 8 || moved.getHour() >= 19) {
+            LocalDateTime day = moved.getHour() >= 19 ? moved.plusDays(1) : moved;
+            moved = day.truncatedTo(ChronoUnit.DAYS).plusHours(8).plusSeconds(random.nextInt(11 * 3600));
+        }
+        while (moved.getDayOfWeek() == DayOfWeek.SATURDAY || moved.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            moved = moved.plusDays(1);
+        }
+        return moved.isAfter(now) ? now : moved;
+    }
+
+    private static class PendingLog {
+        private final int releaseSlot;
+        private final Environment environment;
+        private final Environment fromEnvironment;
+        private final DeploymentAction action;
+        private final long deployedBy;
+        private final LocalDateTime timestamp;
+        private final boolean success;
+
+        PendingLog(int releaseSlot, Environment environment, Environment fromEnvironment, DeploymentAction action,
+                   long deployedBy, LocalDateTime timestamp, boolean success) {
+            this.releaseSlot = releaseSlot;
+            this.environment = environment;
+            this.fromEnvironment = fromEnvironment;
+            this.action = action;
+            this.deployedBy = deployedBy;
+            this.timestamp = timestamp;
+            this.success = success;
+        }
+
+        Object[] toRow(long releaseId) {
+            boolean transition = action != DeploymentAction.DEPLOYED;
+            return new Object[] {releaseId, environment.name(), deployedBy, Timestamp.valueOf(timestamp),
+                    DeploymentLog.monthOf(timestamp), "Synthetic " + action.name().toLowerCase(), success, action.name(),
+                    transition ? fromEnvironment.name() : null, transition ? environment.name() : null};
+        }
+    }
+}
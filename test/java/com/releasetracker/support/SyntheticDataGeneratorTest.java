@@ -0,0 +1,117 @@
+package com.releasetracker.support;
+
+import com.releasetracker.model.Environment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:synthetic")
+@ActiveProfiles("test")
+class SyntheticDataGeneratorTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 3, 12, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private static SyntheticDataset dataset;
+
+    @BeforeEach
+    void generate() {
+        if (dataset != null) {
+            return;
+        }
+        dataset = new SyntheticDataGenerator(jdbcTemplate, transactionManager, 42)
+                .batchSize(500)
+                .historyDays(180)
+                .now(NOW)
+                .generate(50, 4_000, 20_000);
+    }
+
+    @Test
+    void generate_LoadsRequestedVolumes() {
+        assertEquals(50, dataset.getUsers());
+        assertEquals(4_000, dataset.getReleases());
+        assertTrue(dataset.getDeploymentLogs() >= 20_000);
+        assertEquals(50L, count("SELECT COUNT(*) FROM users"));
+        assertEquals(4_000L, count("SELECT COUNT(*) FROM releases"));
+        assertEquals(dataset.getDeploymentLogs(), count("SELECT COUNT(*) FROM deployment_logs"));
+        assertEquals(0L, count("SELECT COUNT(*) FROM deployment_logs WHERE deployment_timestamp > ?", NOW));
+    }
+
+    @Test
+    void generate_CurrentEnvironmentMatchesLastTransition() {
+        Map<Long, String> lastTransition = new HashMap<>();
+        jdbcTemplate.query("SELECT release_id, to_environment FROM deployment_logs WHERE action <> 'DEPLOYED' " +
+                "ORDER BY deployment_timestamp, id", rs -> {
+                    lastTransition.put(rs.getLong(1), rs.getString(2));
+                });
+
+        List<Map<String, Object>> releases = jdbcTemplate.queryForList("SELECT id, current_environment FROM releases");
+        for (Map<String, Object> release : releases) {
+            String expected = lastTransition.getOrDefault(((Number) release.get("id")).longValue(), Environment.DEV.name());
+            assertEquals(expected, release.get("current_environment"), "release " + release.get("id"));
+        }
+    }
+
+    @Test
+    void generate_ThinsReleasesOutThroughThePromotionFunnel() {
+        long reachedQa = reached(Environment.QA);
+        long reachedUat = reached(Environment.UAT);
+        long reachedProd = reached(Environment.PROD);
+
+        assertTrue(reachedQa > 2_000 && reachedQa < 3_500, "reached QA: " + reachedQa);
+        assertTrue(reachedUat < reachedQa * 0.8, "reached UAT: " + reachedUat);
+        assertTrue(reachedProd < reachedUat, "reached PROD: " + reachedProd);
+        assertTrue(count("SELECT COUNT(*) FROM deployment_logs WHERE action = 'ROLLED_BACK'") > 0);
+    }
+
+    @Test
+    void generate_SkewsOwnershipTowardsFewUsers() {
+        List<Long> perOwner = jdbcTemplate.queryForList(
+                "SELECT COUNT(*) FROM releases GROUP BY owner_id ORDER BY COUNT(*) DESC", Long.class);
+
+        long topFive = perOwner.stream().limit(5).mapToLong(Long::longValue).sum();
+        assertTrue(topFive > 4_000 * 0.3, "top 10% of owners hold " + topFive + " releases");
+    }
+
+    @Test
+    void generate_FailsSomeDeployments() {
+        double failureRate = (double) count("SELECT COUNT(*) FROM deployment_logs WHERE success = FALSE")
+                / dataset.getDeploymentLogs();
+
+        assertTrue(failureRate > 0.02 && failureRate < 0.2, "failure rate " + failureRate);
+    }
+
+    @Test
+    void generate_ClustersActivityIntoWorkingHours() {
+        long weekend = count("SELECT COUNT(*) FROM releases WHERE ISO_DAY_OF_WEEK(created_at) > 5");
+        long nightly = count("SELECT COUNT(*) FROM releases WHERE HOUR(created_at) < 8");
+
+        assertEquals(0L, weekend);
+        assertEquals(0L, nightly);
+    }
+
+    private long reached(Environment environment) {
+        return count("SELECT COUNT(DISTINCT release_id) FROM deployment_logs WHERE action = 'PROMOTED' " +
+                "AND to_environment = ?", environment.name());
+    }
+
+    private long count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+}
@@ -0,0 +1,39 @@
+package com.releasetracker.support;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:synthetic-bench")
+@ActiveProfiles("test")
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SyntheticDataLoadBenchmarkTest {
+
+    private static final int USERS = Integer.getInteger("synthetic.users", 10_000);
+    private static final int RELEASES = Integer.getInteger("synthetic.releases", 1_000_000);
+    private static final long DEPLOYMENT_LOGS = Long.getLong("synthetic.deployment-logs", 5_000_000L);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void loadSyntheticDataset() {
+        SyntheticDataset dataset = new SyntheticDataGenerator(jdbcTemplate, transactionManager, 1L)
+                .generate(USERS, RELEASES, DEPLOYMENT_LOGS);
+
+        System.out.printf("synthetic load: %s%n", dataset);
+        assertEquals(dataset.getDeploymentLogs(),
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM deployment_logs", Long.class));
+    }
+}
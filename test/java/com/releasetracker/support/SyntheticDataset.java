@@ -0,0 +1,64 @@
+package com.releasetracker.support;
+
+import java.util.SplittableRandom;
+
+/**
+ * Ids and row counts of one {@link SyntheticDataGenerator} run, for benchmarks and load tests that need to address
+ * the generated rows.
+ */
+public class SyntheticDataset {
+
+    private final long[] userIds;
+    private final long[] releaseIds;
+    private final long deploymentLogs;
+    private final long elapsedMillis;
+
+    SyntheticDataset(long[] userIds, long[] releaseIds, long deploymentLogs, long elapsedMillis) {
+        this.userIds = userIds;
+        this.releaseIds = releaseIds;
+        this.deploymentLogs = deploymentLogs;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public long[] getUserIds() {
+        return userIds;
+    }
+
+    public long[] getReleaseIds() {
+        return releaseIds;
+    }
+
+    public long randomReleaseId(SplittableRandom random) {
+        return releaseIds[random.nextInt(releaseIds.length)];
+    }
+
+    public int getUsers() {
+        return userIds.length;
+    }
+
+    public int getReleases() {
+        return releaseIds.length;
+    }
+
+    public long getDeploymentLogs() {
+        return deploymentLogs;
+    }
+
+    public long getRows() {
+        return userIds.length + releaseIds.length + deploymentLogs;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public double getRowsPerSecond() {
+        return elapsedMillis > 0 ? getRows() * 1000.0 / elapsedMillis : getRows();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%,d users, %,d releases, %,d deployment logs in %,d ms (%,.0f rows/s)",
+                getUsers(), getReleases(), deploymentLogs, elapsedMillis, getRowsPerSecond());
+    }
+}